@@ -1,13 +1,56 @@
 package tetris;
 
+import tetris.data.leaderboard.FileLeaderboardRepository;
+import tetris.data.stats.FileMatchHistoryRepository;
 import tetris.domain.GameModel;
 import tetris.infrastructure.GameModelFactory;
+import tetris.metrics.MetricsExporter;
+import tetris.metrics.jfr.ContinuousRecording;
+import tetris.network.server.BattleServer;
+import tetris.network.server.DedicatedServer;
+import tetris.replay.ReplayStore;
+import tetris.simulation.SelfPlay;
 import tetris.view.TetrisFrame;
 
 public class App {
 
-    public static void main(String[] args) {
-        GameModel gameModel = GameModelFactory.createDefault();
-        new TetrisFrame(gameModel);
+    public static void main(String[] args) throws java.io.IOException {
+        // JMX 등록 + (--metrics-port 지정 시) Prometheus 엔드포인트
+        MetricsExporter.install(args);
+        // --jfr[=디렉터리] 지정 시 상시 JFR 녹화 (jcmd <pid> JFR.dump name=tetris 로 덤프)
+        ContinuousRecording.startFromArgs(args);
+        // --simulate=N 지정 시 헤드리스 셀프 플레이 배치만 돌리고 종료
+        if (SelfPlay.isRequested(args)) {
+            SelfPlay.run(args);
+            return;
+        }
+        // --server --players=N(3명 이상) 지정 시 여러 명 대전 전용 서버로 동작
+        if (BattleServer.isRequested(args)) {
+            BattleServer.launch(args);
+            return;
+        }
+        // --server[=포트] 지정 시 화면 없이 전용 대전 서버로만 동작
+        if (DedicatedServer.isRequested(args)) {
+            DedicatedServer.launch(args);
+            return;
+        }
+        // --replay=파일 지정 시 리플레이를 헤드리스로 재생/검증하고 종료
+        if (ReplayStore.isPlaybackRequested(args)) {
+            ReplayStore.playBack(args);
+            return;
+        }
+        // --leaderboard-dir=경로 지정 시 모든 기록을 모드별 파일에 보관 (기본은 Preferences 상위 10개)
+        java.nio.file.Path leaderboardDir = FileLeaderboardRepository.resolveDirectory(args);
+        GameModel gameModel = leaderboardDir == null
+                ? GameModelFactory.createDefault()
+                : GameModelFactory.createDefault(new FileLeaderboardRepository(leaderboardDir));
+        // 판마다 결과를 --stats-dir(기본 ~/.se-tetris/stats)에 남겨 스코어보드의 통계 화면에서 보여 준다.
+        gameModel.setMatchHistory(new FileMatchHistoryRepository(FileMatchHistoryRepository.resolveDirectory(args)));
+        TetrisFrame frame = new TetrisFrame(gameModel);
+        // --record-replays=디렉터리 지정 시 싱글/로컬 대전을 판마다 리플레이 파일로 저장
+        java.nio.file.Path replayDir = ReplayStore.resolveDirectory(args);
+        if (replayDir != null) {
+            frame.getGameController().setReplayStore(new ReplayStore(replayDir));
+        }
     }
 }
@@ -0,0 +1,71 @@
+package tetris.ai;
+
+/**
+ * 놓은 뒤의 보드를 가중 휴리스틱으로 점수화한다. 높을수록 좋은 보드.
+ * <p>
+ * 지표: 열 높이 합, 구멍(위가 막힌 빈칸) 수, 이웃 열 높이 차 합(울퉁불퉁함), 우물 깊이 합, 지운 줄 수.
+ * </p>
+ */
+public final class BoardEvaluator {
+
+    /** 지표별 가중치. 줄 수 외에는 보통 음수다. */
+    public record Weights(double aggregateHeight, double holes, double bumpiness, double wells, double lines) {
+        /** 널리 쓰이는 4지표 가중치에 우물 항을 약하게 더한 기본값. */
+        public static Weights defaults() {
+            return new Weights(-0.510066, -0.35663, -0.184483, -0.1, 0.760666);
+        }
+    }
+
+    private final Weights weights;
+
+    public BoardEvaluator() {
+        this(Weights.defaults());
+    }
+
+    public BoardEvaluator(Weights weights) {
+        this.weights = weights;
+    }
+
+    public Weights weights() {
+        return weights;
+    }
+
+    /** rows는 {@link SearchBoard} 표현. linesCleared는 이 보드가 되기까지 지운 줄 수. */
+    double evaluate(int[] rows, int linesCleared) {
+        int[] heights = new int[SearchBoard.WIDTH];
+        int holes = 0;
+        for (int x = 0; x < SearchBoard.WIDTH; x++) {
+            int bit = 1 << x;
+            int y = 0;
+            while (y < SearchBoard.HEIGHT && (rows[y] & bit) == 0) {
+                y++;
+            }
+            heights[x] = SearchBoard.HEIGHT - y;
+            for (y = y + 1; y < SearchBoard.HEIGHT; y++) {
+                if ((rows[y] & bit) == 0) {
+                    holes++;
+                }
+            }
+        }
+        int aggregate = 0;
+        int bumpiness = 0;
+        int wells = 0;
+        for (int x = 0; x < SearchBoard.WIDTH; x++) {
+            aggregate += heights[x];
+            if (x > 0) {
+                bumpiness += Math.abs(heights[x] - heights[x - 1]);
+            }
+            int left = x == 0 ? SearchBoard.HEIGHT : heights[x - 1];
+            int right = x == SearchBoard.WIDTH - 1 ? SearchBoard.HEIGHT : heights[x + 1];
+            int depth = Math.min(left, right) - heights[x];
+            if (depth > 0) {
+                wells += depth;
+            }
+        }
+        return weights.aggregateHeight() * aggregate
+                + weights.holes() * holes
+                + weights.bumpiness() * bumpiness
+                + weights.wells() * wells
+                + weights.lines() * linesCleared;
+    }
+}
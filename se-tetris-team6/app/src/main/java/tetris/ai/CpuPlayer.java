@@ -0,0 +1,95 @@
+package tetris.ai;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import tetris.domain.GameModel;
+import tetris.domain.model.Block;
+import tetris.domain.model.GameState;
+import tetris.network.protocol.InputType;
+
+/**
+ * CPU 플레이어. 블록마다 {@link PlacementSearch} 로 착지를 정하고, 사람처럼 일정 간격으로 입력을 하나씩 내보낸다.
+ * <p>
+ * - 입력은 {@link InputType} 으로 sink에 넘긴다. 로컬 대전은 해당 플레이어 모델에 직접 적용하고,
+ *   네트워크 대전은 키 입력과 같은 PlayerInput 경로로 보내므로 한 구현이 두 모드에서 그대로 동작한다.<br>
+ * - 새 계획은 보드 내용이 바뀌었을 때(블록 고정/줄 삭제/공격 줄) 세운다. 블록 객체 동일성에 기대지 않으므로
+ *   스냅샷으로 모델이 계속 갈아끼워지는 네트워크 클라이언트에서도, 이미 보낸 입력을 다시 보내지 않는다.<br>
+ * - {@link #update(GameModel, long)} 는 모델을 소유한 스레드에서 호출해야 한다.
+ * </p>
+ */
+public final class CpuPlayer {
+
+    /** 입력 사이 기본 간격(ms). 사람 상급자 수준의 속도. */
+    public static final long DEFAULT_ACTION_INTERVAL_MS = 120L;
+
+    private final PlacementSearch search;
+    private final long actionIntervalMs;
+    private final Consumer<InputType> sink;
+    private final Deque<InputType> pending = new ArrayDeque<>();
+
+    private int[] plannedBoard;
+    private long sinceLastAction;
+
+    public CpuPlayer(PlacementSearch search, long actionIntervalMs, Consumer<InputType> sink) {
+        this.search = Objects.requireNonNull(search, "search");
+        this.actionIntervalMs = Math.max(0L, actionIntervalMs);
+        this.sink = Objects.requireNonNull(sink, "sink");
+    }
+
+    /** 한 틱 진행. 필요하면 계획을 세우고, 간격이 찼으면 입력 하나를 내보낸다. */
+    public void update(GameModel model, long elapsedMs) {
+        if (model == null || model.getCurrentState() != GameState.PLAYING) {
+            reset();
+            return;
+        }
+        sinceLastAction += Math.max(0L, elapsedMs);
+        Block active = model.getActiveBlock();
+        if (active == null) {
+            return;
+        }
+        int[][] grid = model.getBoard().gridView();
+        int[] board = SearchBoard.fromGrid(grid);
+        if (plannedBoard == null || !Arrays.equals(board, plannedBoard)) {
+            plan(model, active, grid, board);
+        }
+        while (!pending.isEmpty() && sinceLastAction >= actionIntervalMs) {
+            sinceLastAction -= actionIntervalMs;
+            sink.accept(pending.poll());
+            if (actionIntervalMs > 0) {
+                break;
+            }
+        }
+        if (pending.isEmpty()) {
+            // 다음 블록의 첫 입력도 간격을 지키도록 누적 시간을 버리지 않되, 한 간격을 넘겨 쌓이지는 않게 한다.
+            sinceLastAction = Math.min(sinceLastAction, actionIntervalMs);
+        }
+    }
+
+    /** 메뉴/게임 오버 등으로 대국이 끊기면 남은 계획을 버린다. */
+    public void reset() {
+        pending.clear();
+        plannedBoard = null;
+        sinceLastAction = 0;
+    }
+
+    int pendingInputs() {
+        return pending.size();
+    }
+
+    private void plan(GameModel model, Block active, int[][] grid, int[] board) {
+        pending.clear();
+        plannedBoard = board;
+        Placement best = search.findBest(grid, active.getShape(), active.getKind(),
+                active.getX(), active.getY(), model.getNextBlockKind());
+        if (best == null) {
+            // 모양을 모르거나 놓을 곳이 없으면 그냥 떨어뜨린다.
+            pending.add(InputType.HARD_DROP);
+            return;
+        }
+        pending.addAll(best.inputs());
+    }
+}
@@ -0,0 +1,36 @@
+package tetris.ai;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import tetris.network.protocol.InputType;
+
+/**
+ * 탐색이 고른 착지 위치와, 현재 위치에서 그곳까지 가는 입력 정보.
+ *
+ * @param turns      착지 시 회전 인덱스 (기본 모양 기준, {@link PlacementTable.Orientation#turns()})
+ * @param rotations  현재 회전에서 시계 방향으로 돌릴 횟수
+ * @param x          착지 원점 x
+ * @param shift      가로 이동 칸 수 (음수면 왼쪽)
+ * @param y          착지 원점 y
+ * @param linesCleared 이 블록으로 지워지는 줄 수
+ * @param score      평가 점수 (높을수록 좋음)
+ * @param lookahead  다음 블록까지 보고 매긴 점수면 true
+ */
+public record Placement(int turns, int rotations, int x, int shift, int y, int linesCleared,
+                        double score, boolean lookahead) {
+
+    /** 회전 → 가로 이동 → 하드 드롭 순서의 입력. 엔진은 회전 시 벽 차기가 없으므로 이 순서로만 도달 가능성을 보장한다. */
+    public List<InputType> inputs() {
+        List<InputType> inputs = new ArrayList<>(rotations + Math.abs(shift) + 1);
+        for (int i = 0; i < rotations; i++) {
+            inputs.add(InputType.ROTATE);
+        }
+        InputType step = shift < 0 ? InputType.MOVE_LEFT : InputType.MOVE_RIGHT;
+        for (int i = 0; i < Math.abs(shift); i++) {
+            inputs.add(step);
+        }
+        inputs.add(InputType.HARD_DROP);
+        return inputs;
+    }
+}
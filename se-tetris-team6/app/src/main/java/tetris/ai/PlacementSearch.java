@@ -0,0 +1,191 @@
+package tetris.ai;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import tetris.domain.Board;
+import tetris.domain.BlockKind;
+import tetris.domain.ShapeView;
+
+/**
+ * 현재 블록이 도달할 수 있는 모든 (회전, x) 착지를 나열하고 가장 좋은 것을 고른다.
+ * <p>
+ * - 도달 가능: 현재 위치에서 제자리 시계 회전(중간 회전도 모두 놓일 수 있어야 함) → 같은 높이에서 한 칸씩 가로 이동 → 하드 드롭.
+ *   엔진에 벽 차기가 없으므로 실제 입력으로 재현 가능한 착지만 후보가 된다.<br>
+ * - 다음 블록을 알면 각 후보 보드에서 다음 블록의 최선 착지까지 본 점수(2수)를 쓴다. 이 단계는 후보별로 독립이라
+ *   fork-join 풀에서 병렬로 계산한다.<br>
+ * - 시간 예산을 넘기면 남은 후보의 2수 계산을 건너뛴다. 깊이가 섞인 점수는 비교할 수 없으므로,
+ *   한 후보라도 2수를 못 봤으면 모든 후보를 1수 점수로 비교한다.<br>
+ * - 따라서 2수 점수와 1수 대체 중 무엇을 쓸지는 예산 안에 끝났는지가 정한다. 같은 보드라도 부하가 걸리면
+ *   다른 착지를 고를 수 있으니, 재현이 필요하면 예산을 0(제한 없음)으로 준다.
+ * </p>
+ * 인스턴스는 상태가 없어 여러 스레드가 공유해도 된다.
+ */
+public final class PlacementSearch {
+
+    /** 다음 블록이 스폰조차 못 하는 보드의 점수. */
+    static final double TOP_OUT_SCORE = -1e9;
+    private static final int SPAWN_X = Board.W / 2 - 1;
+    private static final int SPAWN_Y = 0;
+
+    private final BoardEvaluator evaluator;
+    private final ForkJoinPool pool;
+    private final long budgetNanos;
+    private final boolean lookahead;
+
+    /** 공용 풀, 2수 탐색, 수당 10ms 예산. */
+    public PlacementSearch() {
+        this(new BoardEvaluator(), ForkJoinPool.commonPool(), 10, true);
+    }
+
+    /**
+     * @param pool           null이면 호출 스레드에서 순차 계산한다
+     * @param budgetMillis   한 수의 시간 예산. 0 이하면 제한 없음
+     * @param lookahead      다음 블록까지 볼지 여부
+     */
+    public PlacementSearch(BoardEvaluator evaluator, ForkJoinPool pool, long budgetMillis, boolean lookahead) {
+        this.evaluator = evaluator == null ? new BoardEvaluator() : evaluator;
+        this.pool = pool;
+        this.budgetNanos = budgetMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(budgetMillis) : Long.MAX_VALUE;
+        this.lookahead = lookahead;
+    }
+
+    /**
+     * @param grid    현재 보드 (grid[y][x], 0이면 빈칸)
+     * @param shape   현재 블록 모양 (회전이 반영된 상태)
+     * @param x       현재 블록 원점 x
+     * @param y       현재 블록 원점 y
+     * @param next    다음 블록 종류. 모르면 null (1수만 본다)
+     * @return 최선 착지. 모양을 알 수 없거나 놓을 곳이 없으면 null
+     */
+    public Placement findBest(int[][] grid, ShapeView shape, BlockKind kind, int x, int y, BlockKind next) {
+        int currentTurns = PlacementTable.turnsOf(kind, shape);
+        if (currentTurns < 0) {
+            return null;
+        }
+        long deadline = budgetNanos == Long.MAX_VALUE ? Long.MAX_VALUE : System.nanoTime() + budgetNanos;
+        int[] rows = SearchBoard.fromGrid(grid);
+        List<Candidate> candidates = new ArrayList<>(40);
+        enumerate(rows, kind, currentTurns, x, y, (o, rotations, tx, ty) -> {
+            Candidate c = new Candidate(o.turns(), rotations, tx, tx - x, ty);
+            c.lines = SearchBoard.placeAndClear(rows, o, tx, ty, c.rowsAfter);
+            c.shallow = evaluator.evaluate(c.rowsAfter, c.lines);
+            candidates.add(c);
+        });
+        if (candidates.isEmpty()) {
+            return null;
+        }
+
+        boolean deep = lookahead && next != null;
+        if (deep) {
+            deep = scoreLookahead(candidates, next, deadline);
+        }
+        Candidate best = null;
+        double bestScore = 0;
+        for (Candidate c : candidates) {
+            double score = deep ? c.deep : c.shallow;
+            // 동점이면 먼저 나온(덜 움직이는) 후보를 유지해 결과가 항상 같다.
+            if (best == null || score > bestScore) {
+                best = c;
+                bestScore = score;
+            }
+        }
+        return new Placement(best.turns, best.rotations, best.x, best.shift, best.y, best.lines, bestScore, deep);
+    }
+
+    /** @return 모든 후보의 2수 점수를 예산 안에 계산했으면 true */
+    private boolean scoreLookahead(List<Candidate> candidates, BlockKind next, long deadline) {
+        Runnable all = () -> stream(candidates.size()).forEach(i -> {
+            if (System.nanoTime() > deadline) {
+                return;
+            }
+            Candidate c = candidates.get(i);
+            c.deep = bestFollowUp(c.rowsAfter, c.lines, next);
+            c.deepDone = true;
+        });
+        if (pool != null) {
+            // 병렬 스트림은 제출된 풀의 워커로 나뉘어 실행된다.
+            pool.submit(all).join();
+        } else {
+            all.run();
+        }
+        for (Candidate c : candidates) {
+            if (!c.deepDone) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private IntStream stream(int n) {
+        IntStream range = IntStream.range(0, n);
+        return pool != null ? range.parallel() : range;
+    }
+
+    private double bestFollowUp(int[] rows, int linesSoFar, BlockKind next) {
+        double[] best = { TOP_OUT_SCORE };
+        int[] scratch = new int[SearchBoard.HEIGHT];
+        enumerate(rows, next, 0, SPAWN_X, SPAWN_Y, (o, rotations, tx, ty) -> {
+            int lines = SearchBoard.placeAndClear(rows, o, tx, ty, scratch);
+            double score = evaluator.evaluate(scratch, linesSoFar + lines);
+            if (score > best[0]) {
+                best[0] = score;
+            }
+        });
+        return best[0];
+    }
+
+    @FunctionalInterface
+    private interface PlacementVisitor {
+        void visit(PlacementTable.Orientation o, int rotations, int x, int y);
+    }
+
+    /** (x, y)에 currentTurns 회전으로 있는 블록이 도달할 수 있는 착지를 모두 방문한다. 같은 모양은 한 번만. */
+    static void enumerate(int[] rows, BlockKind kind, int currentTurns, int x, int y, PlacementVisitor visitor) {
+        boolean[] seenClass = new boolean[4];
+        for (int rotations = 0; rotations < 4; rotations++) {
+            PlacementTable.Orientation o = PlacementTable.orientation(kind, currentTurns + rotations);
+            if (!SearchBoard.fits(rows, o, x, y)) {
+                // 이 회전이 막히면 그 다음 회전도 입력으로는 만들 수 없다.
+                return;
+            }
+            int shapeClass = PlacementTable.shapeClassOf(kind, o.turns());
+            if (seenClass[shapeClass]) {
+                continue;
+            }
+            seenClass[shapeClass] = true;
+            visitor.visit(o, rotations, x, SearchBoard.dropY(rows, o, x, y));
+            for (int tx = x - 1; tx >= 0 && SearchBoard.fits(rows, o, tx, y); tx--) {
+                visitor.visit(o, rotations, tx, SearchBoard.dropY(rows, o, tx, y));
+            }
+            for (int tx = x + 1; tx <= o.maxX() && SearchBoard.fits(rows, o, tx, y); tx++) {
+                visitor.visit(o, rotations, tx, SearchBoard.dropY(rows, o, tx, y));
+            }
+        }
+    }
+
+    private static final class Candidate {
+        final int turns;
+        final int rotations;
+        final int x;
+        final int shift;
+        final int y;
+        final int[] rowsAfter = new int[SearchBoard.HEIGHT];
+        int lines;
+        double shallow;
+        // 병렬 단계에서 후보마다 한 워커만 쓰고, join 이후에만 읽는다.
+        double deep;
+        boolean deepDone;
+
+        Candidate(int turns, int rotations, int x, int shift, int y) {
+            this.turns = turns;
+            this.rotations = rotations;
+            this.x = x;
+            this.shift = shift;
+            this.y = y;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package tetris.ai;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import tetris.domain.BlockKind;
+import tetris.domain.BlockShape;
+import tetris.domain.ShapeView;
+
+/**
+ * 블록 종류별 회전 모양을 미리 비트마스크로 계산해 둔 표.
+ * <p>
+ * - 회전 인덱스 i는 {@link BlockShape#of(BlockKind)} 를 시계 방향으로 i번 돌린 모양이다. (엔진의 회전과 같다)<br>
+ * - 각 행은 열 x가 비트 x인 마스크로 저장하므로, 보드 행 마스크와 시프트/AND 한 번으로 충돌을 판정한다.<br>
+ * - O처럼 돌려도 같은 모양은 {@link #distinctTurns(BlockKind)} 에서 한 번만 나온다. (탐색 후보 중복 제거)
+ * </p>
+ * 모양은 불변이고 클래스 로드 시 한 번만 만들므로 여러 탐색 스레드가 그대로 공유한다.
+ */
+public final class PlacementTable {
+
+    /** 한 회전 상태의 모양. */
+    public static final class Orientation {
+        private final BlockKind kind;
+        private final int turns;
+        private final int width;
+        private final int height;
+        private final int[] rowMasks;
+
+        Orientation(BlockKind kind, int turns, ShapeView shape) {
+            this.kind = kind;
+            this.turns = turns;
+            this.width = shape.width();
+            this.height = shape.height();
+            this.rowMasks = masksOf(shape);
+        }
+
+        public BlockKind kind() { return kind; }
+        /** 기본 모양에서 시계 방향으로 돈 횟수 (0~3). */
+        public int turns() { return turns; }
+        public int width() { return width; }
+        public int height() { return height; }
+        /** 놓을 수 있는 가장 오른쪽 원점 x. (모양에 빈 열이 없으므로 가장 왼쪽은 0) */
+        public int maxX() { return SearchBoard.WIDTH - width; }
+
+        int rowMask(int row) {
+            return rowMasks[row];
+        }
+    }
+
+    private static final Map<BlockKind, Orientation[]> ROTATIONS = new EnumMap<>(BlockKind.class);
+    private static final Map<BlockKind, int[]> DISTINCT = new EnumMap<>(BlockKind.class);
+    // 회전 인덱스 → 같은 모양 중 가장 작은 회전 인덱스
+    private static final Map<BlockKind, int[]> SHAPE_CLASS = new EnumMap<>(BlockKind.class);
+
+    static {
+        for (BlockKind kind : BlockKind.values()) {
+            Orientation[] rotations = new Orientation[4];
+            BlockShape shape = BlockShape.of(kind);
+            List<Integer> distinct = new ArrayList<>(4);
+            int[] shapeClass = new int[4];
+            for (int turns = 0; turns < 4; turns++) {
+                rotations[turns] = new Orientation(kind, turns, shape);
+                shapeClass[turns] = turns;
+                for (int earlier : distinct) {
+                    if (sameShape(rotations[earlier], rotations[turns])) {
+                        shapeClass[turns] = earlier;
+                        break;
+                    }
+                }
+                if (shapeClass[turns] == turns) {
+                    distinct.add(turns);
+                }
+                shape = shape.rotatedCW();
+            }
+            ROTATIONS.put(kind, rotations);
+            DISTINCT.put(kind, distinct.stream().mapToInt(Integer::intValue).toArray());
+            SHAPE_CLASS.put(kind, shapeClass);
+        }
+    }
+
+    private PlacementTable() {
+        // util class
+    }
+
+    public static Orientation orientation(BlockKind kind, int turns) {
+        return ROTATIONS.get(kind)[Math.floorMod(turns, 4)];
+    }
+
+    /** 서로 다른 모양을 내는 회전 인덱스들. 호출자가 고치지 않도록 복사본을 준다. */
+    public static int[] distinctTurns(BlockKind kind) {
+        return DISTINCT.get(kind).clone();
+    }
+
+    /** 주어진 모양이 kind의 몇 번째 회전인지. 어느 것과도 같지 않으면 -1. */
+    public static int turnsOf(BlockKind kind, ShapeView shape) {
+        int[] masks = masksOf(shape);
+        Orientation[] rotations = ROTATIONS.get(kind);
+        for (Orientation o : rotations) {
+            if (o.width == shape.width() && Arrays.equals(o.rowMasks, masks)) {
+                return o.turns;
+            }
+        }
+        return -1;
+    }
+
+    /** 같은 모양을 내는 회전들 중 가장 작은 인덱스. 두 회전이 같은 모양인지 비교할 때 쓴다. */
+    static int shapeClassOf(BlockKind kind, int turns) {
+        return SHAPE_CLASS.get(kind)[Math.floorMod(turns, 4)];
+    }
+
+    private static boolean sameShape(Orientation a, Orientation b) {
+        return a.width == b.width && Arrays.equals(a.rowMasks, b.rowMasks);
+    }
+
+    private static int[] masksOf(ShapeView shape) {
+        int[] masks = new int[shape.height()];
+        for (int y = 0; y < shape.height(); y++) {
+            int mask = 0;
+            for (int x = 0; x < shape.width(); x++) {
+                if (shape.filled(x, y)) {
+                    mask |= 1 << x;
+                }
+            }
+            masks[y] = mask;
+        }
+        return masks;
+    }
+}
@@ -0,0 +1,81 @@
+package tetris.ai;
+
+import tetris.domain.Board;
+
+/**
+ * 탐색용 보드 표현. 행 y의 점유 칸을 비트마스크 하나(int)로 담는다. (열 x = 비트 x)
+ * 후보 하나를 시험할 때 20개 int만 복사하면 되므로 Board(int[][])를 복사하는 것보다 훨씬 싸다.
+ * 모든 메서드는 상태 없는 정적 함수다.
+ */
+final class SearchBoard {
+
+    static final int WIDTH = Board.W;
+    static final int HEIGHT = Board.H;
+    static final int FULL_ROW = (1 << WIDTH) - 1;
+
+    private SearchBoard() {
+        // util class
+    }
+
+    static int[] fromGrid(int[][] grid) {
+        int[] rows = new int[HEIGHT];
+        for (int y = 0; y < HEIGHT && y < grid.length; y++) {
+            int mask = 0;
+            for (int x = 0; x < WIDTH && x < grid[y].length; x++) {
+                if (grid[y][x] != 0) {
+                    mask |= 1 << x;
+                }
+            }
+            rows[y] = mask;
+        }
+        return rows;
+    }
+
+    /** Board.canPlace와 같은 규칙: 보드 밖(위쪽 포함)이나 점유 칸과 겹치면 false. */
+    static boolean fits(int[] rows, PlacementTable.Orientation o, int x, int y) {
+        if (x < 0 || x > o.maxX() || y < 0 || y + o.height() > HEIGHT) {
+            return false;
+        }
+        for (int r = 0; r < o.height(); r++) {
+            if ((rows[y + r] & (o.rowMask(r) << x)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** (x, y)에서 하드 드롭했을 때 멈추는 y. (x, y) 자체가 막혀 있으면 -1. */
+    static int dropY(int[] rows, PlacementTable.Orientation o, int x, int y) {
+        if (!fits(rows, o, x, y)) {
+            return -1;
+        }
+        while (fits(rows, o, x, y + 1)) {
+            y++;
+        }
+        return y;
+    }
+
+    /**
+     * 블록을 놓고 가득 찬 줄을 지운 새 보드를 out에 쓴다. (rows는 그대로)
+     * @return 지운 줄 수
+     */
+    static int placeAndClear(int[] rows, PlacementTable.Orientation o, int x, int y, int[] out) {
+        System.arraycopy(rows, 0, out, 0, HEIGHT);
+        for (int r = 0; r < o.height(); r++) {
+            out[y + r] |= o.rowMask(r) << x;
+        }
+        int write = HEIGHT - 1;
+        int cleared = 0;
+        for (int read = HEIGHT - 1; read >= 0; read--) {
+            if (out[read] == FULL_ROW) {
+                cleared++;
+                continue;
+            }
+            out[write--] = out[read];
+        }
+        while (write >= 0) {
+            out[write--] = 0;
+        }
+        return cleared;
+    }
+}
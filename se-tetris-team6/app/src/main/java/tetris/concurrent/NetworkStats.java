@@ -5,11 +5,22 @@ public final class NetworkStats {
     private final long messagesSent;
     private final long messagesReceived;
     private final long currentLatency;
+    private final long bytesSent;
+    private final long bytesReceived;
+    private final long latencyJitter;
 
     public NetworkStats(long messagesSent, long messagesReceived, long currentLatency) {
+        this(messagesSent, messagesReceived, currentLatency, 0L, 0L, 0L);
+    }
+
+    public NetworkStats(long messagesSent, long messagesReceived, long currentLatency,
+            long bytesSent, long bytesReceived, long latencyJitter) {
         this.messagesSent = messagesSent;
         this.messagesReceived = messagesReceived;
         this.currentLatency = currentLatency;
+        this.bytesSent = bytesSent;
+        this.bytesReceived = bytesReceived;
+        this.latencyJitter = latencyJitter;
     }
 
     public long getMessagesSent() {
@@ -23,4 +34,17 @@ public final class NetworkStats {
     public long getCurrentLatency() {
         return currentLatency;
     }
+
+    public long getBytesSent() {
+        return bytesSent;
+    }
+
+    public long getBytesReceived() {
+        return bytesReceived;
+    }
+
+    /** Smoothed round-trip jitter in milliseconds. */
+    public long getLatencyJitter() {
+        return latencyJitter;
+    }
 }
@@ -4,15 +4,21 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.net.Socket;
-import java.util.Queue;
-import java.util.LinkedList;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import tetris.network.protocol.GameMessage;
 import tetris.network.protocol.MessageType;
+import tetris.network.protocol.PingPayload;
 import tetris.network.INetworkThreadCallback; 
+import tetris.network.LinkQualityEstimator;
+import tetris.metrics.GameMetrics;
+import tetris.metrics.MeteredInputStream;
+import tetris.metrics.MeteredOutputStream;
+import tetris.metrics.PerfRecorders;
+import tetris.metrics.TrafficCounter;
+import tetris.metrics.jfr.NetworkSendEvent;
 
 // =================================================================
 // NetworkThread 구현 시작
@@ -51,15 +57,15 @@ public class NetworkThread implements Runnable {
     private long lastSyncTime;                          // 마지막 동기화 시간
     private final long syncInterval = GAME_SYNC_INTERVAL; // 동기화 간격
 
+    // === 통계 관리 ===
+    // 메시지/바이트 수와 RTT 지터 (프로세스 전역 카운터에도 함께 누적)
+    private final TrafficCounter traffic = new TrafficCounter(PerfRecorders.NETWORK);
+
     // === 지연시간 관리 ===
     private volatile long currentLatency = 0;               // 현재 지연시간
-    private final Queue<Long> latencyHistory = new LinkedList<>(); // 지연시간 히스토리
+    private final LinkQualityEstimator linkQuality = new LinkQualityEstimator(traffic); // RTT/손실률 (고정 링 기록)
     private long lastPingTime;                 // 마지막 핑 시간
 
-    // === 통계 관리 ===
-    private volatile long messagesSent = 0;        // 전송한 메시지 수
-    private volatile long messagesReceived = 0;    // 수신한 메시지 수
-
     // === 재연결 관리 ===
     private int reconnectAttempts = 0;             // 재연결 시도 횟수
     private long lastReconnectTime;            // 마지막 재연결 시도 시간
@@ -122,9 +128,9 @@ public class NetworkThread implements Runnable {
             socket = new Socket(host, port);
 
             // 출력 스트림은 입력 스트림보다 먼저 초기화되어야 함 (Java Object Stream 특성)
-            outputStream = new ObjectOutputStream(socket.getOutputStream());
+            outputStream = new ObjectOutputStream(new MeteredOutputStream(socket.getOutputStream(), traffic));
             outputStream.flush();
-            inputStream = new ObjectInputStream(socket.getInputStream());
+            inputStream = new ObjectInputStream(new MeteredInputStream(socket.getInputStream(), traffic));
 
             isConnected.set(true);
 
@@ -144,11 +150,20 @@ public class NetworkThread implements Runnable {
     private void processSendQueue() {
         GameMessage message;
         while ((message = outgoingQueue.poll()) != null) {
+            GameMetrics.CLIENT_SEND_QUEUE_DEPTH.decrement();
             try {
                 if (outputStream != null) {
+                    NetworkSendEvent event = new NetworkSendEvent();
+                    event.begin();
+                    long bytesBefore = traffic.getBytesSent();
                     // 실제 소켓 outputStream.writeObject(message) 호출
                     outputStream.writeObject(message);
                     outputStream.flush();
+                    traffic.messageSent();
+                    if (event.shouldCommit()) {
+                        event.describe("client", host + ":" + port, message, traffic.getBytesSent() - bytesBefore);
+                        event.commit();
+                    }
                     try {
                         System.out.println("[NetworkThread] SENT: type=" + message.getType() + " seq=" + message.getSequenceNumber() + " identity=" + System.identityHashCode(message));
                     } catch (Exception ignore) {
@@ -179,17 +194,17 @@ public class NetworkThread implements Runnable {
         while ((message = priorityQueue.poll()) != null) {
             switch (message.getType()) {
                 case PING:
-                    // PING을 받으면 PONG으로 응답
-                    sendPriorityMessage(new GameMessage(MessageType.PONG, "CLIENT", message.getPayload()));
+                    // PING을 받으면 PONG으로 응답 (받은/보낸 시각을 채워 돌려준다)
+                    sendPriorityMessage(new GameMessage(MessageType.PONG, "CLIENT", PingPayload.replyTo(message.getPayload())));
                     break;
                 case PONG:
-                    // PONG을 받으면 지연시간 계산
-                    long pingTime = (Long) message.getPayload();
-                    long latency = System.currentTimeMillis() - pingTime;
-                    currentLatency = latency;
-                    latencyHistory.offer(latency);
-                    if (latency > MAX_LAG_THRESHOLD) {
-                        onLatencyWarning(latency);
+                    // PONG을 받으면 같은 순번의 PING으로 지연시간 계산
+                    if (linkQuality.onPong(message.getPayload())) {
+                        long latency = linkQuality.lastRttMillis();
+                        currentLatency = latency;
+                        if (latency > MAX_LAG_THRESHOLD) {
+                            onLatencyWarning(latency);
+                        }
                     }
                     break;
                 case ERROR:
@@ -220,7 +235,7 @@ public class NetworkThread implements Runnable {
                     try {
                         System.out.println("[NetworkThread] READ: type=" + message.getType() + " seq=" + message.getSequenceNumber() + " identity=" + System.identityHashCode(message));
                     } catch (Exception ignore) {}
-                    messagesReceived++;
+                    traffic.messageReceived();
                     
                     // 메시지 타입에 따라 큐에 분배
                     if (message.getType() == MessageType.PING || 
@@ -256,8 +271,9 @@ public class NetworkThread implements Runnable {
     private void measureLatency() {
         long currentTime = System.currentTimeMillis();
         if (currentTime - lastPingTime >= PING_INTERVAL) {
-            // PING 메시지 전송 (페이로드에 현재 시간 포함)
-            sendPriorityMessage(new GameMessage(MessageType.PING, "CLIENT", currentTime));
+            // 순번 붙은 PING 전송 (응답을 기다리지 않는다)
+            linkQuality.expire();
+            sendPriorityMessage(new GameMessage(MessageType.PING, "CLIENT", linkQuality.newPing()));
             lastPingTime = currentTime;
         }
     }
@@ -295,7 +311,9 @@ public class NetworkThread implements Runnable {
     // === 외부 인터페이스 ===
 
     public void sendMessage(GameMessage message) {
-        outgoingQueue.offer(message);
+        if (outgoingQueue.offer(message)) {
+            GameMetrics.CLIENT_SEND_QUEUE_DEPTH.increment();
+        }
     }
 
     public void sendPriorityMessage(GameMessage message) {
@@ -317,8 +335,13 @@ public class NetworkThread implements Runnable {
         return isConnected.get();
     }
 
+    public LinkQualityEstimator getLinkQuality() {
+        return linkQuality;
+    }
+
     public NetworkStats getNetworkStats() {
-        return new NetworkStats(messagesSent, messagesReceived, currentLatency);
+        return new NetworkStats(traffic.getMessagesSent(), traffic.getMessagesReceived(), currentLatency,
+                traffic.getBytesSent(), traffic.getBytesReceived(), traffic.getJitterMicros() / 1000L);
     }
 
     public void shutdown() {
@@ -386,7 +409,9 @@ public class NetworkThread implements Runnable {
     
     private void cleanup() {
         closeStreamsAndSocket();
-        outgoingQueue.clear();
+        while (outgoingQueue.poll() != null) {
+            GameMetrics.CLIENT_SEND_QUEUE_DEPTH.decrement();
+        }
         incomingQueue.clear();
         priorityQueue.clear();
     }
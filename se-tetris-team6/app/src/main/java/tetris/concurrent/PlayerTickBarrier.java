@@ -0,0 +1,178 @@
+package tetris.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * 멀티플레이 한 틱을 "플레이어별 스텝(병렬) → 배리어 → 병합(직렬)" 두 단계로 실행한다.
+ * <p>
+ * - 스텝 단계: 각 플레이어의 GameModel은 서로 독립적이므로 작은 워커 풀에서 동시에 진행한다.
+ *   호출 스레드(보통 EDT)는 1번 플레이어를 직접 처리하고, 나머지가 끝날 때까지 기다린다.<br>
+ * - 병합 단계: 스텝 중 {@link #deferIfStepping(int, Runnable)}로 미뤄 둔 플레이어 간 상호작용
+ *   (공격 전송, 탈락 처리 등)을 플레이어 번호 순, 같은 플레이어 안에서는 발생 순으로 적용한다.
+ *   따라서 스레드 실행 순서와 무관하게 결과가 항상 같다.
+ * </p>
+ * 스텝 단계 동안 호출 스레드가 막혀 있으므로 같은 스레드의 Swing 타이머가 모델을 동시에 건드리지 않는다.
+ */
+public final class PlayerTickBarrier {
+
+    private static final int MAX_WORKERS = 4;
+
+    /** 프로세스 전체에서 공유하는 데몬 워커 풀 (처음 병렬 틱이 필요할 때 생성). */
+    private static final class SharedPool {
+        static final ExecutorService INSTANCE = Executors.newFixedThreadPool(workerCount(), new ThreadFactory() {
+            private final AtomicInteger seq = new AtomicInteger(1);
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "PlayerTick-" + seq.getAndIncrement());
+                t.setDaemon(true);
+                return t;
+            }
+        });
+    }
+
+    private final int playerCount;
+    private final ExecutorService pool;
+    private final List<List<Runnable>> deferred;
+    private volatile boolean stepping;
+
+    /** 코어가 하나뿐이면 병렬화 이득이 없으므로 같은 스레드에서 순서대로 실행한다. */
+    public PlayerTickBarrier(int playerCount) {
+        this(playerCount, Runtime.getRuntime().availableProcessors() > 1 ? SharedPool.INSTANCE : null);
+    }
+
+    /** @param pool null이면 스텝도 호출 스레드에서 순차 실행한다. (병합 규칙은 동일) */
+    public PlayerTickBarrier(int playerCount, ExecutorService pool) {
+        if (playerCount < 1) {
+            throw new IllegalArgumentException("playerCount must be >= 1: " + playerCount);
+        }
+        this.playerCount = playerCount;
+        this.pool = pool;
+        this.deferred = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            // 각 리스트는 해당 플레이어의 스텝을 실행하는 스레드 하나만 추가하므로 동기화가 필요 없다.
+            deferred.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * 플레이어 1..n에 대해 step을 실행하고(배리어로 전부 대기), 이후 미뤄 둔 작업을 결정적 순서로 적용한다.
+     * 스텝에서 예외가 나도 나머지 스텝과 병합은 끝까지 수행한 뒤 첫 예외를 다시 던진다.
+     */
+    public void tick(IntConsumer step) {
+        RuntimeException failure = null;
+        stepping = true;
+        try {
+            failure = runSteps(step);
+        } finally {
+            stepping = false;
+        }
+        mergeDeferred();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * 스텝 단계 중이면 action을 병합 단계로 미루고 true를 반환한다.
+     * 스텝 밖(예: 중력 타이머 콜백)에서 호출되면 false를 반환하며, 호출자는 즉시 처리하면 된다.
+     */
+    public boolean deferIfStepping(int playerId, Runnable action) {
+        if (!stepping) {
+            return false;
+        }
+        if (playerId < 1 || playerId > playerCount) {
+            throw new IllegalArgumentException("playerId out of range: " + playerId);
+        }
+        deferred.get(playerId - 1).add(action);
+        return true;
+    }
+
+    public boolean isStepping() {
+        return stepping;
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    private RuntimeException runSteps(IntConsumer step) {
+        if (pool == null || playerCount == 1) {
+            RuntimeException failure = null;
+            for (int pid = 1; pid <= playerCount; pid++) {
+                failure = firstFailure(failure, runQuietly(step, pid));
+            }
+            return failure;
+        }
+        List<Future<?>> futures = new ArrayList<>(playerCount - 1);
+        for (int pid = 2; pid <= playerCount; pid++) {
+            final int playerId = pid;
+            futures.add(pool.submit(() -> step.accept(playerId)));
+        }
+        RuntimeException failure = runQuietly(step, 1);
+        boolean interrupted = false;
+        for (Future<?> future : futures) {
+            while (true) {
+                try {
+                    future.get();
+                    break;
+                } catch (InterruptedException e) {
+                    // 배리어를 깨면 워커가 모델을 만지는 중에 병합이 시작되므로 끝까지 기다린 뒤 인터럽트를 복원한다.
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    failure = firstFailure(failure, asRuntime(e.getCause()));
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return failure;
+    }
+
+    private void mergeDeferred() {
+        for (List<Runnable> actions : deferred) {
+            // 병합 중 새로 추가되는 작업은 없지만(stepping=false), 인덱스 순회로 안전하게 처리한다.
+            for (int i = 0; i < actions.size(); i++) {
+                actions.get(i).run();
+            }
+            actions.clear();
+        }
+    }
+
+    private static RuntimeException runQuietly(IntConsumer step, int playerId) {
+        try {
+            step.accept(playerId);
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private static RuntimeException firstFailure(RuntimeException current, RuntimeException next) {
+        return current != null ? current : next;
+    }
+
+    private static RuntimeException asRuntime(Throwable cause) {
+        if (cause instanceof RuntimeException re) {
+            return re;
+        }
+        if (cause instanceof Error err) {
+            throw err;
+        }
+        return new IllegalStateException("Player step failed", cause);
+    }
+
+    private static int workerCount() {
+        return Math.max(1, Math.min(MAX_WORKERS, Runtime.getRuntime().availableProcessors() - 1));
+    }
+}
@@ -0,0 +1,150 @@
+package tetris.concurrent;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전용 스레드 하나에서 고정 주기로 시뮬레이션 틱을 돌리는 루프.
+ * <p>
+ * - 틱 대상(GameModel 등)은 이 스레드만 변경한다. 다른 스레드(EDT, 소켓 수신 스레드)는
+ *   {@link #submit(Runnable)} 으로 명령을 큐에 넣고, 루프가 다음 틱 시작 시 순서대로 실행한다.<br>
+ * - 매 틱은 "명령 큐 비우기 → tick(경과 ms)" 순서로 진행된다. 명령이 루프를 멈췄으면(판 정리 등) 그 틱은 건너뛴다.<br>
+ * - 틱에서 예외가 나도 루프는 멈추지 않는다. (ScheduledExecutorService는 예외 시 이후 실행을 취소하므로 직접 잡는다)
+ *   잡은 예외 수는 {@link #getFailureCount()}로 본다.
+ * </p>
+ */
+public final class SimulationLoop {
+
+    /** 한 틱에서 진행할 로직. elapsedMs는 직전 틱 이후 실제 경과 시간. */
+    @FunctionalInterface
+    public interface Tick {
+        void run(long elapsedMs);
+    }
+
+    /** 긴 GC/절전 뒤 한 번에 너무 많은 시간을 몰아 진행하지 않도록 상한을 둔다. */
+    static final long MAX_STEP_MS = 250L;
+
+    private final String name;
+    private final long periodMillis;
+    private final Tick tick;
+    private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+
+    private ScheduledExecutorService executor;
+    private volatile Thread simulationThread;
+    private volatile boolean running;
+    private long lastTickNanos;
+    private final AtomicLong failures = new AtomicLong();
+
+    public SimulationLoop(String name, long periodMillis, Tick tick) {
+        if (periodMillis <= 0) {
+            throw new IllegalArgumentException("periodMillis must be > 0: " + periodMillis);
+        }
+        this.name = Objects.requireNonNull(name, "name");
+        this.periodMillis = periodMillis;
+        this.tick = Objects.requireNonNull(tick, "tick");
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, name);
+            t.setDaemon(true);
+            simulationThread = t;
+            return t;
+        });
+        lastTickNanos = System.nanoTime();
+        running = true;
+        executor.scheduleAtFixedRate(this::runOnce, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 루프를 멈추고 진행 중인 틱이 끝날 때까지 기다린다. 반환 후에는 다른 스레드가 틱 대상을 안전하게 만질 수 있다.
+     * 시뮬레이션 스레드 자신이 호출하면 기다리지 않는다. (자기 자신을 join 하면 교착)
+     */
+    public void stop() {
+        ScheduledExecutorService toStop;
+        synchronized (this) {
+            if (!running) {
+                return;
+            }
+            running = false;
+            toStop = executor;
+            executor = null;
+        }
+        toStop.shutdownNow();
+        if (!isSimulationThread()) {
+            try {
+                if (!toStop.awaitTermination(1, TimeUnit.SECONDS)) {
+                    System.err.println("[SimulationLoop] " + name + " did not stop within 1s");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        commands.clear();
+    }
+
+    /**
+     * 다음 틱 시작 시 시뮬레이션 스레드에서 실행할 명령을 넣는다.
+     * @return 루프가 멈춰 있어 명령을 받지 않았으면 false
+     */
+    public boolean submit(Runnable command) {
+        Objects.requireNonNull(command, "command");
+        if (!running) {
+            return false;
+        }
+        commands.offer(command);
+        return true;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public boolean isSimulationThread() {
+        return Thread.currentThread() == simulationThread;
+    }
+
+    public long getPeriodMillis() {
+        return periodMillis;
+    }
+
+    /** 명령/틱에서 잡아 기록만 한 예외 수. */
+    public long getFailureCount() {
+        return failures.get();
+    }
+
+    /** 한 틱을 실행한다. 스케줄러가 호출하며, 테스트에서는 직접 호출해 동기적으로 검증한다. */
+    void runOnce() {
+        long now = System.nanoTime();
+        long elapsedMs = Math.min(MAX_STEP_MS, Math.max(0L, TimeUnit.NANOSECONDS.toMillis(now - lastTickNanos)));
+        // 나머지 ns는 다음 틱으로 넘겨 장기적으로 누적 오차가 없게 한다.
+        lastTickNanos = elapsedMs == MAX_STEP_MS ? now : lastTickNanos + TimeUnit.MILLISECONDS.toNanos(elapsedMs);
+        boolean wasRunning = running;
+        Runnable command;
+        while ((command = commands.poll()) != null) {
+            runGuarded(command, "command");
+        }
+        if (wasRunning && !running) {
+            return; // 명령이 루프를 멈췄다: 정리된 틱 대상을 건드리지 않는다.
+        }
+        runGuarded(() -> tick.run(elapsedMs), "tick");
+    }
+
+    private void runGuarded(Runnable action, String what) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            failures.incrementAndGet();
+            System.err.println("[SimulationLoop] " + name + " " + what + " failed: " + e);
+            e.printStackTrace();
+        }
+    }
+}
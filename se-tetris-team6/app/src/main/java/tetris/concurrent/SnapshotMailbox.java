@@ -0,0 +1,91 @@
+package tetris.concurrent;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import javax.swing.SwingUtilities;
+
+import tetris.metrics.GameMetrics;
+import tetris.network.protocol.GameSnapshot;
+
+/**
+ * 플레이어별 "최신 값 하나"만 보관하는 스냅샷 우편함.
+ * <p>
+ * - 네트워크 스레드는 {@link #offer(GameSnapshot)}로 플레이어 칸을 원자적으로 덮어쓴다. 아직 적용되지 않은
+ *   이전 스냅샷은 버려지고 개수만 센다.<br>
+ * - 적용 작업은 한 번에 하나만 예약된다. 예약된 작업(기본 EDT)이 돌 때 칸마다 가장 최신 스냅샷 하나씩만 적용한다.
+ *   EDT가 잠시 밀려도 낡은 스냅샷을 줄줄이 적용하며 따라잡느라 늦어지지 않는다.<br>
+ * - 적용 직전에 예약 표시를 먼저 내리므로, 적용 중에 도착한 스냅샷은 다음 작업에서 빠짐없이 적용된다.
+ * </p>
+ * 범위를 벗어난 플레이어 번호의 스냅샷은 적용하지 않고 버린 것으로 센다.
+ */
+public final class SnapshotMailbox {
+
+    private final AtomicReferenceArray<GameSnapshot> slots;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final Consumer<GameSnapshot> applier;
+    private final Executor executor;
+    private final LongAdder dropped = new LongAdder();
+
+    /** EDT에서 적용한다. */
+    public SnapshotMailbox(int maxPlayerId, Consumer<GameSnapshot> applier) {
+        this(maxPlayerId, applier, SwingUtilities::invokeLater);
+    }
+
+    /** @param executor 적용 작업을 실행할 곳 (테스트에서는 직접 모아 두었다가 실행) */
+    public SnapshotMailbox(int maxPlayerId, Consumer<GameSnapshot> applier, Executor executor) {
+        if (maxPlayerId < 1) {
+            throw new IllegalArgumentException("maxPlayerId must be >= 1: " + maxPlayerId);
+        }
+        this.slots = new AtomicReferenceArray<>(maxPlayerId + 1);
+        this.applier = Objects.requireNonNull(applier, "applier");
+        this.executor = Objects.requireNonNull(executor, "executor");
+    }
+
+    /** 아무 스레드에서나 호출한다. 같은 플레이어의 적용 전 스냅샷을 덮어쓴다. */
+    public void offer(GameSnapshot snapshot) {
+        if (snapshot == null) {
+            return;
+        }
+        int playerId = snapshot.playerId();
+        if (playerId < 0 || playerId >= slots.length()) {
+            drop();
+            return;
+        }
+        if (slots.getAndSet(playerId, snapshot) != null) {
+            drop();
+        }
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    /** 덮어써서 적용하지 않고 버린 스냅샷 수 (누적). */
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    private void drain() {
+        scheduled.set(false);
+        for (int playerId = 0; playerId < slots.length(); playerId++) {
+            GameSnapshot latest = slots.getAndSet(playerId, null);
+            if (latest == null) {
+                continue;
+            }
+            try {
+                applier.accept(latest);
+            } catch (RuntimeException e) {
+                System.err.println("[SnapshotMailbox] Failed to apply snapshot for player " + playerId + ": " + e);
+            }
+        }
+    }
+
+    private void drop() {
+        dropped.increment();
+        GameMetrics.SNAPSHOTS_DROPPED.increment();
+    }
+}
@@ -0,0 +1,149 @@
+package tetris.concurrent;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 저장소 쓰기를 호출 스레드(EDT)에서 떼어 내 단일 작성 스레드에서 나중에 실행한다. (write-behind)
+ * <p>
+ * - 호출자는 자신의 메모리 캐시를 먼저 갱신하고, 저장 작업만 {@link #submit(Object, Runnable)} 으로 넘긴다.<br>
+ * - 같은 키로 아직 실행되지 않은 작업이 있으면 새 작업으로 바꾼다. 각 작업은 그 시점 상태 전체를 쓰므로
+ *   마지막 것만 실행해도 결과가 같다. (연속 저장 → flush 한 번)<br>
+ * - 작업은 제출 순서대로 실행되며, 예외가 나도 로그만 남기고 다음 작업을 계속한다.<br>
+ * - {@link #awaitFlush(long, TimeUnit)} 는 호출 시점까지 제출된 작업이 끝날 때까지 기다린다. 종료 직전에 사용한다.
+ * </p>
+ */
+public final class WriteBehindExecutor {
+
+    private static final long SHUTDOWN_FLUSH_TIMEOUT_MS = 2_000L;
+
+    /** 프로세스 전체에서 공유하는 작성기. 처음 쓰일 때 만들고, JVM 종료 시 남은 쓰기를 기다린다. */
+    private static final class Shared {
+        static final WriteBehindExecutor INSTANCE = create();
+
+        private static WriteBehindExecutor create() {
+            WriteBehindExecutor executor = new WriteBehindExecutor("PersistenceWriter");
+            Runtime.getRuntime().addShutdownHook(new Thread(
+                    () -> executor.awaitFlush(SHUTDOWN_FLUSH_TIMEOUT_MS, TimeUnit.MILLISECONDS),
+                    "PersistenceWriter-Shutdown"));
+            return executor;
+        }
+    }
+
+    private final String name;
+    private final ExecutorService writer;
+    private final Object lock = new Object();
+    private final Map<Object, Runnable> pending = new LinkedHashMap<>();
+    private volatile Thread writerThread;
+    private boolean drainScheduled;
+    private long submitted;
+    private long completed;
+
+    public WriteBehindExecutor(String name) {
+        this.name = Objects.requireNonNull(name, "name");
+        this.writer = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, name);
+            t.setDaemon(true);
+            writerThread = t;
+            return t;
+        });
+    }
+
+    public static WriteBehindExecutor shared() {
+        return Shared.INSTANCE;
+    }
+
+    /** key가 같은 대기 중 작업을 write로 바꾸거나, 없으면 큐 끝에 넣는다. */
+    public void submit(Object key, Runnable write) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(write, "write");
+        synchronized (lock) {
+            // 기존 작업을 지우고 다시 넣어, 바뀐 작업이 다른 키의 이전 쓰기보다 뒤에 실행되게 한다.
+            pending.remove(key);
+            pending.put(key, write);
+            submitted++;
+            if (!drainScheduled) {
+                drainScheduled = true;
+                writer.execute(this::drain);
+            }
+        }
+    }
+
+    /**
+     * 지금까지 제출된 쓰기가 모두 끝날 때까지 기다린다.
+     * @return 시간 안에 끝났으면 true. 작성 스레드 자신이 호출하면 기다리지 않고 false
+     */
+    public boolean awaitFlush(long timeout, TimeUnit unit) {
+        if (Thread.currentThread() == writerThread) {
+            return false;
+        }
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        boolean interrupted = false;
+        try {
+            synchronized (lock) {
+                long target = submitted;
+                while (completed < target) {
+                    long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                    if (remainingMs <= 0) {
+                        return false;
+                    }
+                    try {
+                        lock.wait(remainingMs);
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+                return true;
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /** 기본 제한 시간(2초)으로 {@link #awaitFlush(long, TimeUnit)}. */
+    public boolean awaitFlush() {
+        return awaitFlush(SHUTDOWN_FLUSH_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /** 아직 실행되지 않은 작업 수 (같은 키로 합쳐진 것은 하나로 센다). */
+    public int pendingCount() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            List<Runnable> batch;
+            long upTo;
+            synchronized (lock) {
+                if (pending.isEmpty()) {
+                    drainScheduled = false;
+                    return;
+                }
+                batch = new ArrayList<>(pending.values());
+                pending.clear();
+                upTo = submitted;
+            }
+            for (Runnable write : batch) {
+                try {
+                    write.run();
+                } catch (RuntimeException e) {
+                    System.err.println("[" + name + "] write failed: " + e);
+                }
+            }
+            synchronized (lock) {
+                completed = upTo;
+                lock.notifyAll();
+            }
+        }
+    }
+}
@@ -3,17 +3,26 @@ package tetris.controller;
 import java.awt.event.KeyEvent;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Consumer;
+import javax.swing.SwingUtilities;
 import javax.swing.Timer;
+import tetris.ai.CpuPlayer;
+import tetris.ai.PlacementSearch;
+import tetris.concurrent.SimulationLoop;
 import tetris.domain.BlockGenerator;
 import tetris.domain.GameDifficulty;
 import tetris.domain.GameMode;
 import tetris.domain.GameModel;
 import tetris.domain.model.GameState;
 import tetris.domain.setting.Setting;
+import tetris.multiplayer.controller.PlayerInputs;
 import tetris.multiplayer.handler.MultiplayerHandler;
+import tetris.multiplayer.handler.NetworkedMultiplayerHandler;
 import tetris.multiplayer.session.LocalMultiplayerSession;
 import tetris.multiplayer.session.MultiplayerSessionFactory;
 import tetris.multiplayer.session.NetworkMultiplayerSession;
+import tetris.replay.ReplayRecorder;
+import tetris.replay.ReplayStore;
 // 이제부터 모델의 좌우 움직임이 안 되는 이유를 해결합니다.
 
 /**
@@ -28,6 +37,7 @@ public class GameController {
     private Map<Integer, Long> lastKeyPressTime;
     private static final long KEY_REPEAT_DELAY = 15; // 15ms
     private static final long MOVEMENT_REPEAT_DELAY = 30; // 이동키는 조금 더 느리게
+    private static final long MULTIPLAYER_TICK_MS = 16;
 
     // 게임 일시정지 토글을 위한 상태
     private boolean pauseKeyPressed = false;
@@ -38,8 +48,18 @@ public class GameController {
     private NetworkMultiplayerSession networkSession;
     private Timer localMultiplayerTimer;
     private Timer networkMultiplayerTimer;
+    // 호스트(P1) 전용: 두 플레이어 모델을 소유하고 진행/브로드캐스트하는 시뮬레이션 스레드
+    private SimulationLoop hostSimulation;
+    // 로컬 CPU 대전에서 2P를 조작하는 CPU (사람끼리 대전이면 null)
+    private CpuPlayer localCpu;
+    // 온라인 대전에서 로컬 플레이어를 대신 조작하는 CPU (F4로 켜고 끔). 호스트는 시뮬레이션 스레드에서 읽는다.
+    private volatile CpuPlayer networkAutopilot;
     private tetris.network.client.GameClient networkClient; // 네트워크 클라이언트 참조
     private tetris.network.server.GameServer networkServer; // 네트워크 서버 참조 (호스트용)
+    // 리플레이 저장소가 설정되어 있으면 싱글/로컬 대전을 판마다 기록한다.
+    private ReplayStore replayStore;
+    private ReplayRecorder replayRecorder;
+    private GameDifficulty currentDifficulty = GameDifficulty.NORMAL;
 
     // 생성자에서 View와 Model을 주입받습니다.
     public GameController(GameModel gameModel) {
@@ -62,6 +82,7 @@ public class GameController {
     }
 
     public void applyDifficulty(GameDifficulty difficulty) {
+        currentDifficulty = difficulty == null ? GameDifficulty.NORMAL : difficulty;
         BlockGenerator generator = gameModel.getBlockGenerator();
         if (generator != null) {
             generator.setDifficulty(difficulty == null ? GameDifficulty.NORMAL : difficulty);
@@ -383,6 +404,7 @@ public class GameController {
         deactivateLocalMultiplayer();
         pauseKeyPressed = false;
         lastKeyPressTime.clear();
+        startReplayRecording(gameModel);
         gameModel.startGame(mode);
     }
 
@@ -402,10 +424,68 @@ public class GameController {
         startLocalMultiplayerTick();
         pauseKeyPressed = false;
         lastKeyPressTime.clear();
+        startReplayRecording(session.playerOneModel(), session.playerTwoModel());
         gameModel.startGame(mode);
         return session;
     }
 
+    /**
+     * 로컬 멀티플레이를 2P = CPU로 시작한다. P2 키 입력은 무시된다.
+     */
+    public LocalMultiplayerSession startCpuMultiplayerGame(GameMode mode) {
+        LocalMultiplayerSession session = startLocalMultiplayerGame(mode);
+        MultiplayerHandler handler = session.handler();
+        localCpu = new CpuPlayer(new PlacementSearch(), CpuPlayer.DEFAULT_ACTION_INTERVAL_MS,
+                input -> handler.dispatchToPlayer(2, model -> PlayerInputs.apply(model, input)));
+        return session;
+    }
+
+    public boolean isCpuOpponentActive() {
+        return localCpu != null && localSession != null;
+    }
+
+    /**
+     * 온라인 대전에서 로컬 플레이어를 CPU가 대신 조작하도록 켜고 끈다. 입력은 키 입력과 같은 경로로 전송된다.
+     * @return 토글 후 켜져 있으면 true
+     */
+    public boolean toggleNetworkAutopilot() {
+        if (networkAutopilot != null) {
+            networkAutopilot = null;
+            return false;
+        }
+        networkAutopilot = new CpuPlayer(new PlacementSearch(), CpuPlayer.DEFAULT_ACTION_INTERVAL_MS,
+                type -> dispatchNetworkInput(model -> PlayerInputs.apply(model, type), type));
+        return true;
+    }
+
+    public boolean isNetworkAutopilotActive() {
+        return networkAutopilot != null;
+    }
+
+    /** 리플레이를 저장할 곳을 지정한다. null이면 기록하지 않는다. 다음 게임 시작부터 적용된다. */
+    public void setReplayStore(ReplayStore store) {
+        this.replayStore = store;
+    }
+
+    /** 진행 중인 기록을 마무리하고, 저장소가 있으면 주어진 플레이어 모델(1P, 2P 순)을 새로 기록한다. */
+    private void startReplayRecording(GameModel... players) {
+        finishReplayRecording();
+        if (replayStore == null) {
+            return;
+        }
+        replayRecorder = new ReplayRecorder(currentDifficulty, replayStore::save);
+        for (int i = 0; i < players.length; i++) {
+            replayRecorder.attach(i + 1, players[i]);
+        }
+    }
+
+    private void finishReplayRecording() {
+        if (replayRecorder != null) {
+            replayRecorder.finish();
+            replayRecorder = null;
+        }
+    }
+
     /**
      * Start a networked multiplayer session where only one side is local.
      * @param mode game mode
@@ -414,6 +494,8 @@ public class GameController {
     public NetworkMultiplayerSession startNetworkedMultiplayerGame(GameMode mode, boolean localIsPlayerOne) {
         System.out.println("[GameController] Starting networked multiplayer - localIsPlayerOne=" + localIsPlayerOne);
         deactivateLocalMultiplayer();
+        stopNetworkMultiplayerTick();
+        finishReplayRecording();
         
         // Create callback to send GAME_END message when local player loses
         Runnable sendGameEndCallback = () -> {
@@ -459,15 +541,20 @@ public class GameController {
             // attach available transport so controller can send messages directly
             networkController.attachTransport(networkClient, networkServer);
         }
+        if (localIsPlayerOne) {
+            // 호스트 화면은 시뮬레이션 스레드가 틱마다 발행한 스냅샷만 그린다.
+            session.enableSnapshotDisplay();
+        }
         
         System.out.println("[GameController] Enabling network multiplayer in GameModel");
         gameModel.enableNetworkMultiplayer(session);
-        System.out.println("[GameController] Starting authoritative network multiplayer tick");
-        startNetworkMultiplayerTick();
         pauseKeyPressed = false;
         lastKeyPressTime.clear();
         System.out.println("[GameController] Starting game with mode: " + mode);
         gameModel.startGame(mode);
+        // 호스트 시뮬레이션 스레드가 모델을 넘겨받기 전에 EDT에서 게임 시작(모델 초기화)을 끝낸다.
+        System.out.println("[GameController] Starting authoritative network multiplayer tick");
+        startNetworkMultiplayerTick();
         System.out.println("[GameController] Networked multiplayer setup complete");
         return session;
     }
@@ -477,6 +564,8 @@ public class GameController {
      */
     public NetworkMultiplayerSession startNetworkedMultiplayerGame(GameMode mode, boolean localIsPlayerOne, long seed) {
         deactivateLocalMultiplayer();
+        stopNetworkMultiplayerTick();
+        finishReplayRecording();
 
         Runnable sendGameEndCallback = () -> {
             try {
@@ -509,15 +598,19 @@ public class GameController {
         if (networkController != null) {
             networkController.attachTransport(networkClient, networkServer);
         }
+        if (localIsPlayerOne) {
+            session.enableSnapshotDisplay();
+        }
 
         System.out.println("[GameController] Enabling network multiplayer in GameModel (seed)");
         gameModel.enableNetworkMultiplayer(session);
-        System.out.println("[GameController] Starting authoritative network multiplayer tick");
-        startNetworkMultiplayerTick();
         pauseKeyPressed = false;
         lastKeyPressTime.clear();
         System.out.println("[GameController] Starting game with mode: " + mode);
         gameModel.startGame(mode);
+        // 호스트 시뮬레이션 스레드가 모델을 넘겨받기 전에 EDT에서 게임 시작(모델 초기화)을 끝낸다.
+        System.out.println("[GameController] Starting authoritative network multiplayer tick");
+        startNetworkMultiplayerTick();
         System.out.println("[GameController] Networked multiplayer setup complete");
         return session;
     }
@@ -596,7 +689,10 @@ public class GameController {
             return true;
         }
 
-        // P2 입력 처리
+        // P2 입력 처리 (CPU 대전이면 2P는 CPU가 조작)
+        if (localCpu != null) {
+            return false;
+        }
         if (keyCode == keyFor("P2_MOVE_LEFT")) {
             handler.dispatchToPlayer(2, GameModel::moveBlockLeft);
             return true;
@@ -626,119 +722,86 @@ public class GameController {
         * - 클라이언트(P2): 네트워크 전송만 (로컬 처리 안 함)
      */
     private boolean routeNetworkMultiplayerInput(int keyCode) {
-        if (networkSession == null) {
-            return false;
-        }
-        MultiplayerHandler handler = networkSession.handler();
-        if (handler == null) {
-            return false;
-        }
-
-        // NetworkedMultiplayerHandler에서 로컬 플레이어 ID 가져오기
-        int localPlayerId = 0;
-            boolean isServer = false;
-        if (handler instanceof tetris.multiplayer.handler.NetworkedMultiplayerHandler) {
-            localPlayerId = ((tetris.multiplayer.handler.NetworkedMultiplayerHandler) handler).getLocalPlayerId();
-            isServer = (localPlayerId == 1);
-        } else {
+        if (networkSession == null || !(networkSession.handler() instanceof NetworkedMultiplayerHandler)) {
             return false;
         }
 
         // 싱글 플레이 키 바인딩 사용하여 입력 처리 및 네트워크 전송
         if (keyCode == keyBindings.get("MOVE_LEFT")) {
-            if (isServer) {
-                handler.dispatchToPlayer(localPlayerId, GameModel::moveBlockLeft);
-            }
-            if (networkSession != null && networkSession.networkController() != null) {
-                networkSession.networkController().sendPlayerInput(new tetris.network.protocol.PlayerInput(tetris.network.protocol.InputType.MOVE_LEFT));
-            } else {
-                sendNetworkInput(new tetris.network.protocol.PlayerInput(tetris.network.protocol.InputType.MOVE_LEFT));
-            }
-            notifyNetworkControllerInput();
-            return true;
+            return dispatchNetworkInput(GameModel::moveBlockLeft, tetris.network.protocol.InputType.MOVE_LEFT);
         }
         if (keyCode == keyBindings.get("MOVE_RIGHT")) {
-            if (isServer) {
-                handler.dispatchToPlayer(localPlayerId, GameModel::moveBlockRight);
-            }
-            if (networkSession != null && networkSession.networkController() != null) {
-                networkSession.networkController().sendPlayerInput(new tetris.network.protocol.PlayerInput(tetris.network.protocol.InputType.MOVE_RIGHT));
-            } else {
-                sendNetworkInput(new tetris.network.protocol.PlayerInput(tetris.network.protocol.InputType.MOVE_RIGHT));
-            }
-            notifyNetworkControllerInput();
-            return true;
+            return dispatchNetworkInput(GameModel::moveBlockRight, tetris.network.protocol.InputType.MOVE_RIGHT);
         }
         if (keyCode == keyBindings.get("SOFT_DROP")) {
-            if (isServer) {
-                handler.dispatchToPlayer(localPlayerId, GameModel::moveBlockDown);
-            }
-            if (networkSession != null && networkSession.networkController() != null) {
-                networkSession.networkController().sendPlayerInput(new tetris.network.protocol.PlayerInput(tetris.network.protocol.InputType.SOFT_DROP));
-            } else {
-                sendNetworkInput(new tetris.network.protocol.PlayerInput(tetris.network.protocol.InputType.SOFT_DROP));
-            }
-            notifyNetworkControllerInput();
-            return true;
+            return dispatchNetworkInput(GameModel::moveBlockDown, tetris.network.protocol.InputType.SOFT_DROP);
         }
         if (keyCode == keyBindings.get("ROTATE_CW")) {
-            if (isServer) {
-                handler.dispatchToPlayer(localPlayerId, GameModel::rotateBlockClockwise);
-            }
-            if (networkSession != null && networkSession.networkController() != null) {
-                networkSession.networkController().sendPlayerInput(new tetris.network.protocol.PlayerInput(tetris.network.protocol.InputType.ROTATE));
-            } else {
-                sendNetworkInput(new tetris.network.protocol.PlayerInput(tetris.network.protocol.InputType.ROTATE));
-            }
-            notifyNetworkControllerInput();
-            return true;
+            return dispatchNetworkInput(GameModel::rotateBlockClockwise, tetris.network.protocol.InputType.ROTATE);
         }
         if (keyCode == keyBindings.get("ROTATE_CCW")) {
-            if (isServer) {
-                handler.dispatchToPlayer(localPlayerId, GameModel::rotateBlockCounterClockwise);
-            }
-            if (networkSession != null && networkSession.networkController() != null) {
-                networkSession.networkController().sendPlayerInput(new tetris.network.protocol.PlayerInput(tetris.network.protocol.InputType.ROTATE));
-            } else {
-                sendNetworkInput(new tetris.network.protocol.PlayerInput(tetris.network.protocol.InputType.ROTATE));
-            }
-            notifyNetworkControllerInput();
-            return true;
+            return dispatchNetworkInput(GameModel::rotateBlockCounterClockwise, tetris.network.protocol.InputType.ROTATE);
         }
         if (keyCode == keyBindings.get("HARD_DROP")) {
-            if (isServer) {
-                handler.dispatchToPlayer(localPlayerId, GameModel::hardDropBlock);
-            }
-            if (networkSession != null && networkSession.networkController() != null) {
-                networkSession.networkController().sendPlayerInput(new tetris.network.protocol.PlayerInput(tetris.network.protocol.InputType.HARD_DROP));
-            } else {
-                sendNetworkInput(new tetris.network.protocol.PlayerInput(tetris.network.protocol.InputType.HARD_DROP));
-            }
-            notifyNetworkControllerInput();
-            return true;
+            return dispatchNetworkInput(GameModel::hardDropBlock, tetris.network.protocol.InputType.HARD_DROP);
         }
         if (keyCode == keyBindings.get("HOLD")) {
-            if (isServer) {
-                handler.dispatchToPlayer(localPlayerId, GameModel::holdCurrentBlock);
-            }
-            if (networkSession != null && networkSession.networkController() != null) {
-                networkSession.networkController().sendPlayerInput(new tetris.network.protocol.PlayerInput(tetris.network.protocol.InputType.HOLD));
-            } else {
-                sendNetworkInput(new tetris.network.protocol.PlayerInput(tetris.network.protocol.InputType.HOLD));
-            }
-            notifyNetworkControllerInput();
-            return true;
+            return dispatchNetworkInput(GameModel::holdCurrentBlock, tetris.network.protocol.InputType.HOLD);
         }
         return false;
     }
 
+    /**
+     * 로컬 플레이어 입력 하나를 온라인 대전에 반영한다. (키 입력과 CPU 자동 조작이 공유)
+     * - 서버(P1): 로컬 모델에 적용(시뮬레이션 스레드) + 네트워크 전송
+     * - 클라이언트(P2): 네트워크 전송만
+     */
+    private boolean dispatchNetworkInput(Consumer<GameModel> hostAction, tetris.network.protocol.InputType wireType) {
+        NetworkMultiplayerSession session = networkSession;
+        if (session == null || !(session.handler() instanceof NetworkedMultiplayerHandler handler)) {
+            return false;
+        }
+        int localPlayerId = handler.getLocalPlayerId();
+        if (localPlayerId == 1) {
+            dispatchHostInput(handler, localPlayerId, hostAction);
+        }
+        tetris.network.protocol.PlayerInput input = new tetris.network.protocol.PlayerInput(wireType);
+        if (session.networkController() != null) {
+            session.networkController().sendPlayerInput(input);
+        } else {
+            sendNetworkInput(input);
+        }
+        notifyNetworkControllerInput();
+        return true;
+    }
+
     /**
      * 호스트가 키 입력 후 즉시 스냅샷을 브로드캐스트하도록 통지합니다.
      */
     private void notifyNetworkControllerInput() {
         if (networkSession != null && networkSession.networkController() != null) {
-            networkSession.networkController().onLocalInput();
+            tetris.multiplayer.controller.NetworkMultiPlayerController controller = networkSession.networkController();
+            runOnHostSimulation(controller::onLocalInput);
+        }
+    }
+
+    /**
+     * 호스트의 로컬 입력은 모델을 직접 만지지 않고 시뮬레이션 스레드 큐로 넘긴다.
+     */
+    private void dispatchHostInput(MultiplayerHandler handler, int playerId, Consumer<GameModel> action) {
+        runOnHostSimulation(() -> handler.dispatchToPlayer(playerId, action));
+    }
+
+    /**
+     * 호스트 시뮬레이션 스레드가 돌고 있으면 다음 틱에 그 스레드에서 실행하고, 아니면 호출 스레드에서 바로 실행한다.
+     * 소켓 수신 스레드가 받은 상대 입력/공격도 이 경로로 플레이어 모델에 적용해야 한다.
+     */
+    public void runOnHostSimulation(Runnable action) {
+        SimulationLoop loop = hostSimulation;
+        if (loop != null && loop.submit(action)) {
+            return;
         }
+        action.run();
     }
 
     /**
@@ -761,6 +824,7 @@ public class GameController {
     }
 
     private void deactivateLocalMultiplayer() {
+        localCpu = null;
         if (localSession == null) {
             return;
         }
@@ -774,34 +838,100 @@ public class GameController {
             networkMultiplayerTimer.stop();
             networkMultiplayerTimer = null;
         }
+        stopHostSimulation();
+        networkAutopilot = null;
     }
 
     private void startNetworkMultiplayerTick() {
         stopNetworkMultiplayerTick();
         if (networkSession == null) return;
-        networkMultiplayerTimer = new Timer(16, e -> {
+        MultiplayerHandler sessionHandler = networkSession.handler();
+        if (sessionHandler instanceof NetworkedMultiplayerHandler networked && networked.getLocalPlayerId() == 1) {
+            // 서버 권한 로직은 EDT가 아닌 전용 스레드에서 진행한다.
+            startHostSimulation(networked);
+            return;
+        }
+        networkMultiplayerTimer = new Timer((int) MULTIPLAYER_TICK_MS, e -> {
             if (networkSession == null) { stopNetworkMultiplayerTick(); return; }
             MultiplayerHandler handler = networkSession.handler();
             if (handler == null) return;
-            // 서버만 로직 실행 (localPlayerId==1) - handler.update 내부 분기
+            tickNetworkAutopilot(MULTIPLAYER_TICK_MS);
+            // 클라이언트는 게임 종료 확인만 수행 - handler.update 내부 분기
             handler.update(gameModel);
         });
         networkMultiplayerTimer.setRepeats(true);
         networkMultiplayerTimer.start();
     }
 
+    /**
+     * 호스트 권한 시뮬레이션을 전용 고정 주기 스레드로 옮긴다.
+     * - 두 플레이어 모델의 중력/잠금 지연은 Swing 타이머 대신 시뮬레이션 틱의 경과 시간으로 진행된다.
+     * - 화면(EDT)은 플레이어 모델을 읽지 않는다. 틱마다 발행한 스냅샷이 EDT에서 거울 모델에 적용되고
+     *   ({@link NetworkMultiplayerSession#enableSnapshotDisplay()}), 프레임 스케줄러가 그 dirty 플래그로 다시 그린다.
+     *   결과 화면 전환은 handler가 EDT로 넘긴다.
+     */
+    private void startHostSimulation(NetworkedMultiplayerHandler handler) {
+        NetworkMultiplayerSession session = networkSession;
+        setHostClockDrive(session, true);
+        handler.setUiExecutor(SwingUtilities::invokeLater);
+        hostSimulation = new SimulationLoop("HostSimulation", MULTIPLAYER_TICK_MS,
+                elapsedMs -> {
+                    tickNetworkAutopilot(elapsedMs);
+                    handler.update(gameModel, elapsedMs);
+                });
+        hostSimulation.start();
+    }
+
+    /** 자동 조작이 켜져 있으면 로컬 플레이어 모델을 보고 다음 입력을 낸다. (호스트: 시뮬레이션 스레드, 클라이언트: EDT) */
+    private void tickNetworkAutopilot(long elapsedMs) {
+        CpuPlayer autopilot = networkAutopilot;
+        NetworkMultiplayerSession session = networkSession;
+        if (autopilot == null || session == null
+                || !(session.handler() instanceof NetworkedMultiplayerHandler handler)) {
+            return;
+        }
+        GameModel local = handler.getLocalPlayerId() == 1 ? session.playerOneModel() : session.playerTwoModel();
+        if (local != null) {
+            autopilot.update(local, elapsedMs);
+        }
+    }
+
+    private void stopHostSimulation() {
+        SimulationLoop loop = hostSimulation;
+        if (loop == null) {
+            return;
+        }
+        hostSimulation = null;
+        // 진행 중인 틱이 끝난 뒤에만 EDT가 모델을 정리하도록 기다린다.
+        loop.stop();
+        setHostClockDrive(networkSession, false);
+    }
+
+    private static void setHostClockDrive(NetworkMultiplayerSession session, boolean driven) {
+        if (session == null) {
+            return;
+        }
+        GameModel p1 = session.playerOneModel();
+        GameModel p2 = session.playerTwoModel();
+        if (p1 != null) p1.setExternalClockDrive(driven);
+        if (p2 != null) p2.setExternalClockDrive(driven);
+    }
+
     /**
      * 로컬 멀티 모드에서 두 플레이어 GameModel을 동시에 진행시키기 위한 전용 틱 타이머.
      * - GAME CLOCK와 분리되어 LocalMultiplayerHandler.update()를 주기적으로 호출한다.
      */
     private void startLocalMultiplayerTick() {
         stopLocalMultiplayerTick();
-        localMultiplayerTimer = new Timer(16, e -> {
+        localMultiplayerTimer = new Timer((int) MULTIPLAYER_TICK_MS, e -> {
             if (localSession == null || !gameModel.isLocalMultiplayerActive()) {
                 stopLocalMultiplayerTick();
                 return;
             }
             MultiplayerHandler handler = localSession.handler();
+            if (localCpu != null) {
+                localCpu.update(localSession.playerTwoModel(), MULTIPLAYER_TICK_MS);
+            }
             if (handler != null) {
                 handler.update(gameModel);
             }
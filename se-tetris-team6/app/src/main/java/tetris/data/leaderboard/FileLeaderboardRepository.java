@@ -0,0 +1,243 @@
+package tetris.data.leaderboard;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import tetris.domain.GameMode;
+import tetris.domain.leaderboard.LeaderboardEntry;
+import tetris.domain.leaderboard.LeaderboardRepository;
+import tetris.domain.leaderboard.LeaderboardResult;
+
+/**
+ * 모든 기록을 보관하는 파일 기반 리더보드. 실행: {@code --leaderboard-dir=경로} (또는 -Dtetris.leaderboard.dir)
+ * <p>
+ * - 모드마다 추가 전용 메모리 매핑 파일({@link LeaderboardFile}) 하나에 기록을 덧붙인다. 저장은 레코드 하나 쓰기다.<br>
+ * - 열 때 파일을 한 번 훑어 메모리 순위 색인({@link RankIndex})을 만든다. 색인은 점수와 파일 오프셋만 들고,
+ *   이름은 화면에 보여 줄 상위 n개만 매핑에서 읽는다. 따라서 상위 n개는 O(n), 순위 조회는 O(log N).<br>
+ * - retainPerMode가 0보다 크면 기록 수가 그 두 배를 넘을 때 상위 기록만 남기도록 압축한다. (0이면 무제한 보관)<br>
+ * - 모드 파일은 처음 쓰일 때 연다. 입출력 오류는 기존 저장소처럼 로그만 남기고 빈 결과로 넘어간다.
+ * </p>
+ */
+public final class FileLeaderboardRepository implements LeaderboardRepository, Closeable {
+
+    public static final String DIR_ARG_PREFIX = "--leaderboard-dir=";
+    public static final String DIR_PROPERTY = "tetris.leaderboard.dir";
+    private static final int DEFAULT_DISPLAY_CAPACITY = 10;
+
+    /** 한 모드의 파일과 색인. 기록 번호 i의 파일 위치가 offsets[i]. */
+    private static final class ModeStore {
+        final RankIndex index = new RankIndex();
+        LeaderboardFile file;
+        int[] offsets = new int[16];
+
+        void onRecord(int offset, int points) {
+            int id = index.size();
+            if (id == offsets.length) {
+                offsets = Arrays.copyOf(offsets, id * 2);
+            }
+            offsets[id] = offset;
+            index.add(points);
+        }
+
+        void clear() {
+            index.clear();
+        }
+    }
+
+    private final Path directory;
+    private final int displayCapacity;
+    private final int retainPerMode;
+    private final Map<GameMode, ModeStore> stores = new EnumMap<>(GameMode.class);
+
+    public FileLeaderboardRepository(Path directory) {
+        this(directory, DEFAULT_DISPLAY_CAPACITY, 0);
+    }
+
+    /**
+     * @param displayCapacity saveAndHighlight가 돌려주는 목록 길이 (강조 인덱스도 이 안에서만 유효)
+     * @param retainPerMode   모드별 보관 상한. 0 이하면 모든 기록을 보관한다
+     */
+    public FileLeaderboardRepository(Path directory, int displayCapacity, int retainPerMode) {
+        this.directory = directory;
+        this.displayCapacity = Math.max(1, displayCapacity);
+        this.retainPerMode = Math.max(0, retainPerMode);
+    }
+
+    /** 실행 인자 또는 시스템 속성에 저장 경로가 있으면 반환하고, 없으면 null. */
+    public static Path resolveDirectory(String[] args) {
+        String value = null;
+        if (args != null) {
+            for (String arg : args) {
+                if (arg != null && arg.startsWith(DIR_ARG_PREFIX)) {
+                    value = arg.substring(DIR_ARG_PREFIX.length());
+                }
+            }
+        }
+        if (value == null) {
+            value = System.getProperty(DIR_PROPERTY);
+        }
+        return value == null || value.isBlank() ? null : Path.of(value.trim());
+    }
+
+    @Override
+    public synchronized List<LeaderboardEntry> loadTop(int n, GameMode mode) {
+        ModeStore store = store(mode);
+        if (store == null || n <= 0) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(top(store, n, mode));
+    }
+
+    @Override
+    public synchronized void saveEntry(LeaderboardEntry entry) {
+        saveAndHighlight(entry);
+    }
+
+    @Override
+    public synchronized LeaderboardResult saveAndHighlight(LeaderboardEntry entry) {
+        GameMode mode = entry.getMode();
+        ModeStore store = store(mode);
+        if (store == null) {
+            return new LeaderboardResult(Collections.emptyList(), -1);
+        }
+        int rank;
+        try {
+            int offset = store.file.append(entry.getName(), entry.getPoints(), true);
+            store.onRecord(offset, entry.getPoints());
+            rank = store.index.rankOf(store.index.size() - 1);
+        } catch (IOException e) {
+            System.err.println("[LB][File] Failed to append to " + store.file.path() + ": " + e.getMessage());
+            return new LeaderboardResult(Collections.unmodifiableList(top(store, displayCapacity, mode)), -1);
+        }
+        List<LeaderboardEntry> target = top(store, displayCapacity, mode);
+        int highlight = rank < displayCapacity ? rank : -1;
+        if (retainPerMode > 0 && store.index.size() >= retainPerMode * 2) {
+            compact(store, mode);
+        }
+        System.out.printf("[LB][File] mode=%s total=%d rank=%d highlight=%d name=%s pts=%d%n",
+                mode, store.index.size(), rank, highlight, entry.getName(), entry.getPoints());
+        return new LeaderboardResult(Collections.unmodifiableList(target), highlight);
+    }
+
+    /** 이 점수로 지금 기록하면 몇 위가 되는지 (1부터). 같은 점수의 기존 기록이 앞선다. */
+    public synchronized int rankOf(int points, GameMode mode) {
+        ModeStore store = store(mode);
+        return store == null ? -1 : store.index.countAtLeast(points) + 1;
+    }
+
+    /** 모드에 보관된 기록 수. */
+    public synchronized int size(GameMode mode) {
+        ModeStore store = store(mode);
+        return store == null ? 0 : store.index.size();
+    }
+
+    /** 보관 상한 밖 기록과 파일 여유 공간을 정리한다. 상한이 없으면 파일만 다시 쓴다. */
+    public synchronized void compact(GameMode mode) {
+        ModeStore store = store(mode);
+        if (store != null) {
+            compact(store, mode);
+        }
+    }
+
+    @Override
+    public synchronized void reset() {
+        for (GameMode mode : GameMode.values()) {
+            ModeStore store = store(mode);
+            if (store == null) {
+                continue;
+            }
+            store.clear();
+            try {
+                store.file.truncate(store::onRecord);
+            } catch (IOException e) {
+                System.err.println("[LB][File] Failed to reset " + store.file.path() + ": " + e.getMessage());
+                stores.remove(mode);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        for (ModeStore store : stores.values()) {
+            try {
+                store.file.close();
+            } catch (IOException ignore) {
+                // best-effort
+            }
+        }
+        stores.clear();
+    }
+
+    private List<LeaderboardEntry> top(ModeStore store, int n, GameMode mode) {
+        List<LeaderboardEntry> out = new ArrayList<>(Math.min(n, store.index.size()));
+        store.index.forEachInRankOrder(id -> {
+            int offset = store.offsets[id];
+            out.add(new LeaderboardEntry(store.file.nameAt(offset), store.index.pointsOf(id), mode));
+            return out.size() < n;
+        });
+        return out;
+    }
+
+    private void compact(ModeStore store, GameMode mode) {
+        int keep = retainPerMode > 0 ? Math.min(retainPerMode, store.index.size()) : store.index.size();
+        int[] ids = new int[keep];
+        int[] filled = { 0 };
+        store.index.forEachInRankOrder(id -> {
+            ids[filled[0]++] = id;
+            return filled[0] < keep;
+        });
+        // 원래 기록 순서를 지켜야 동점 순위(먼저 기록한 쪽이 앞)가 유지된다.
+        Arrays.sort(ids);
+        int[] keepOffsets = new int[keep];
+        for (int i = 0; i < keep; i++) {
+            keepOffsets[i] = store.offsets[ids[i]];
+        }
+        int before = store.index.size();
+        store.clear();
+        try {
+            store.file.compact(keepOffsets, store::onRecord);
+        } catch (IOException e) {
+            // 교체 전에 실패했으면 원본이 그대로 있으므로 다시 열어 색인을 복구한다.
+            System.err.println("[LB][File] Compaction failed for " + store.file.path() + ": " + e.getMessage());
+            try {
+                store.file.close();
+            } catch (IOException ignore) {
+                // best-effort
+            }
+            stores.remove(mode);
+            return;
+        }
+        System.out.printf("[LB][File] compacted mode=%s %d -> %d records%n", mode, before, store.index.size());
+    }
+
+    private ModeStore store(GameMode mode) {
+        GameMode key = mode == null ? GameMode.STANDARD : mode;
+        ModeStore store = stores.get(key);
+        if (store != null) {
+            return store;
+        }
+        store = new ModeStore();
+        try {
+            Files.createDirectories(directory);
+            store.file = LeaderboardFile.open(fileFor(key), store::onRecord);
+        } catch (IOException e) {
+            System.err.println("[LB][File] Cannot open leaderboard for " + key + ": " + e.getMessage());
+            return null;
+        }
+        stores.put(key, store);
+        return store;
+    }
+
+    Path fileFor(GameMode mode) {
+        return directory.resolve("leaderboard-" + mode.name().toLowerCase(Locale.ROOT) + ".dat");
+    }
+}
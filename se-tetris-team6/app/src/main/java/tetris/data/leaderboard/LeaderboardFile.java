@@ -0,0 +1,256 @@
+package tetris.data.leaderboard;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * 한 모드의 기록을 담는 추가 전용(append-only) 메모리 매핑 파일.
+ * <p>
+ * 파일 구조: 헤더(MAGIC, VERSION) 뒤에 레코드가 이어진다.
+ * 레코드 = [int 길이][int CRC32][int 점수][UTF-8 이름]. 길이는 점수+이름 바이트 수이며, 0이면 데이터 끝이다.
+ * <br>
+ * - 추가 시 CRC/본문을 먼저 쓰고 길이를 마지막에 써서, 중간에 죽어도 반쯤 쓴 레코드가 보이지 않는다.
+ *   전원 차단으로 페이지 순서가 뒤섞여도 CRC가 맞지 않는 꼬리는 열 때 잘라낸다.<br>
+ * - 매핑은 부족할 때 두 배로 다시 잡는다. 매핑 뒤쪽은 0으로 채워진 여유 공간이다.<br>
+ * - 압축(compact)은 임시 파일에 새로 쓰고 fsync 한 뒤 원자적 이름 변경으로 교체한다.
+ *   어느 시점에 죽어도 원본 또는 완성된 새 파일 중 하나만 남고, 남은 임시 파일은 다음 열 때 지운다.
+ * </p>
+ */
+final class LeaderboardFile implements Closeable {
+
+    static final int MAGIC = 0x544C4231; // "TLB1"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 8;
+    static final int RECORD_HEADER_BYTES = 8;
+    private static final int MIN_MAPPING_BYTES = 64 * 1024;
+    /** 비정상 길이로 버퍼 끝을 넘어 읽지 않도록 두는 이름 상한. */
+    static final int MAX_NAME_BYTES = 1024;
+
+    /** 파일을 열며 찾은 유효 레코드를 알려 준다. (색인 재구성용) */
+    @FunctionalInterface
+    interface RecordVisitor {
+        void visit(int offset, int points);
+    }
+
+    private final Path path;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int writePosition;
+    private final CRC32 crc = new CRC32();
+
+    private LeaderboardFile(Path path) {
+        this.path = path;
+    }
+
+    /** 파일을 열어(없으면 만든다) 유효 레코드를 순서대로 visitor에 넘긴다. */
+    static LeaderboardFile open(Path path, RecordVisitor visitor) throws IOException {
+        Files.deleteIfExists(compactionTemp(path));
+        LeaderboardFile file = new LeaderboardFile(path);
+        file.map(visitor);
+        return file;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    /** 레코드 하나를 덧붙이고 그 오프셋을 반환한다. force가 true면 디스크까지 내린다. */
+    int append(String name, int points, boolean force) throws IOException {
+        byte[] nameBytes = encodeName(name);
+        int length = 4 + nameBytes.length;
+        ensureMapped(writePosition + RECORD_HEADER_BYTES + length + 4);
+        int offset = writePosition;
+        ByteBuffer payload = ByteBuffer.allocate(length).putInt(points).put(nameBytes);
+        crc.reset();
+        crc.update(payload.array(), 0, length);
+        buffer.putInt(offset + 4, (int) crc.getValue());
+        buffer.put(offset + RECORD_HEADER_BYTES, payload.array(), 0, length);
+        // 길이를 마지막에 기록해야 레코드가 "보이게" 된다.
+        buffer.putInt(offset, length);
+        writePosition = offset + RECORD_HEADER_BYTES + length;
+        if (force) {
+            buffer.force();
+        }
+        return offset;
+    }
+
+    int pointsAt(int offset) {
+        return buffer.getInt(offset + RECORD_HEADER_BYTES);
+    }
+
+    String nameAt(int offset) {
+        int length = buffer.getInt(offset);
+        byte[] nameBytes = new byte[length - 4];
+        buffer.get(offset + RECORD_HEADER_BYTES + 4, nameBytes);
+        return new String(nameBytes, StandardCharsets.UTF_8);
+    }
+
+    /** 지금까지 사용한 바이트 수 (헤더 포함, 여유 공간 제외). */
+    int usedBytes() {
+        return writePosition;
+    }
+
+    /**
+     * 주어진 오프셋의 레코드만(그 순서대로) 새 파일로 옮겨 원본을 교체하고 다시 연다.
+     * @return 새 파일에서의 오프셋 (입력 순서와 같은 인덱스)
+     */
+    int[] compact(int[] keepOffsets, RecordVisitor visitor) throws IOException {
+        Path temp = compactionTemp(path);
+        int[] newOffsets = new int[keepOffsets.length];
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE)) {
+            ByteBuffer block = ByteBuffer.allocate(64 * 1024);
+            block.putInt(MAGIC).putInt(VERSION);
+            int position = HEADER_BYTES;
+            for (int i = 0; i < keepOffsets.length; i++) {
+                int offset = keepOffsets[i];
+                int recordBytes = RECORD_HEADER_BYTES + buffer.getInt(offset);
+                if (block.remaining() < recordBytes) {
+                    drain(out, block);
+                }
+                newOffsets[i] = position;
+                // CRC까지 포함해 레코드를 그대로 복사한다.
+                ByteBuffer record = buffer.duplicate();
+                record.limit(offset + recordBytes).position(offset);
+                block.put(record);
+                position += recordBytes;
+            }
+            drain(out, block);
+            out.force(true);
+        }
+        close();
+        try {
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+        forceDirectory(path.toAbsolutePath().getParent());
+        map(visitor);
+        return newOffsets;
+    }
+
+    /** 모든 레코드를 지운다. */
+    void truncate(RecordVisitor visitor) throws IOException {
+        close();
+        Files.deleteIfExists(path);
+        map(visitor);
+    }
+
+    @Override
+    public void close() throws IOException {
+        buffer = null;
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private void map(RecordVisitor visitor) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long fileSize = channel.size();
+        if (fileSize > Integer.MAX_VALUE) {
+            throw new IOException("Leaderboard file too large: " + path);
+        }
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(MIN_MAPPING_BYTES, fileSize));
+        if (fileSize < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+            if (fileSize >= HEADER_BYTES && buffer.getInt(0) != 0) {
+                throw new IOException("Not a leaderboard file: " + path);
+            }
+            buffer.putInt(0, MAGIC).putInt(4, VERSION);
+            writePosition = HEADER_BYTES;
+            return;
+        }
+        writePosition = scan(visitor);
+    }
+
+    /** 유효 레코드를 읽어 visitor에 넘기고, 첫 빈/손상 레코드 위치를 반환한다. 손상 꼬리는 0으로 지운다. */
+    private int scan(RecordVisitor visitor) {
+        int position = HEADER_BYTES;
+        int limit = buffer.capacity();
+        while (position + RECORD_HEADER_BYTES <= limit) {
+            int length = buffer.getInt(position);
+            if (length == 0) {
+                return position;
+            }
+            if (length < 4 || length > 4 + MAX_NAME_BYTES || position + RECORD_HEADER_BYTES + length > limit
+                    || !checksumMatches(position, length)) {
+                System.err.println("[LB][File] Discarding torn tail at " + position + " in " + path);
+                byte[] zeros = new byte[limit - position];
+                buffer.put(position, zeros);
+                buffer.force();
+                return position;
+            }
+            visitor.visit(position, pointsAt(position));
+            position += RECORD_HEADER_BYTES + length;
+        }
+        return position;
+    }
+
+    private boolean checksumMatches(int offset, int length) {
+        ByteBuffer payload = buffer.duplicate();
+        payload.limit(offset + RECORD_HEADER_BYTES + length).position(offset + RECORD_HEADER_BYTES);
+        crc.reset();
+        crc.update(payload);
+        return (int) crc.getValue() == buffer.getInt(offset + 4);
+    }
+
+    private void ensureMapped(int needed) throws IOException {
+        if (needed <= buffer.capacity()) {
+            return;
+        }
+        long capacity = Math.max((long) needed, (long) buffer.capacity() * 2);
+        if (capacity > Integer.MAX_VALUE) {
+            throw new IOException("Leaderboard file full: " + path);
+        }
+        // 파일 범위를 넘는 매핑은 파일을 그 크기로 늘린다. 늘어난 부분은 0이므로 "데이터 끝"으로 읽힌다.
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+    }
+
+    private static byte[] encodeName(String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= MAX_NAME_BYTES) {
+            return bytes;
+        }
+        // 문자 중간에서 자르지 않도록 UTF-8 연속 바이트(10xxxxxx)를 건너뛴다.
+        int end = MAX_NAME_BYTES;
+        while (end > 0 && (bytes[end] & 0xC0) == 0x80) {
+            end--;
+        }
+        return Arrays.copyOf(bytes, end);
+    }
+
+    private static void drain(FileChannel out, ByteBuffer block) throws IOException {
+        block.flip();
+        while (block.hasRemaining()) {
+            out.write(block);
+        }
+        block.clear();
+    }
+
+    private static void forceDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        // 이름 변경을 디스크에 확정한다. 디렉터리를 열 수 없는 플랫폼(Windows)에서는 건너뛴다.
+        try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException | UnsupportedOperationException ignore) {
+            // best-effort
+        }
+    }
+
+    static Path compactionTemp(Path path) {
+        return path.resolveSibling(path.getFileName() + ".compact");
+    }
+}
@@ -9,6 +9,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.prefs.Preferences;
 
+import tetris.concurrent.WriteBehindExecutor;
 import tetris.domain.GameMode;
 import tetris.domain.leaderboard.LeaderboardEntry;
 import tetris.domain.leaderboard.LeaderboardRepository;
@@ -17,6 +18,10 @@ import tetris.domain.leaderboard.LeaderboardResult;
 /**
  * Preferences-backed leaderboard. Stores entries as encoded lines under a single
  * Preferences key. Each line is: urlencoded(name)|points
+ * <p>
+ * 처음 조회할 때 한 번만 Preferences를 읽어 메모리 캐시에 두고, 이후 조회/저장은 캐시로 처리한다.
+ * 실제 put/flush는 {@link WriteBehindExecutor} 작성 스레드에서 나중에 실행되므로 EDT가 디스크를 기다리지 않는다.
+ * </p>
  */
 public final class PreferencesLeaderboardRepository implements LeaderboardRepository {
 
@@ -24,20 +29,30 @@ public final class PreferencesLeaderboardRepository implements LeaderboardReposi
     private static final String KEY_ENTRIES = "entries";
     private final Preferences prefs;
     private final int capacity;
+    private final WriteBehindExecutor writer;
+    private final String writeKey;
+    // 저장된 내용의 메모리 사본. null이면 아직 Preferences에서 읽지 않음
+    private List<LeaderboardEntry> cache;
 
     public PreferencesLeaderboardRepository() {
         this(Preferences.userRoot().node(NODE), 10);
     }
 
     public PreferencesLeaderboardRepository(Preferences prefs, int capacity) {
+        this(prefs, capacity, WriteBehindExecutor.shared());
+    }
+
+    public PreferencesLeaderboardRepository(Preferences prefs, int capacity, WriteBehindExecutor writer) {
         this.prefs = prefs;
         this.capacity = Math.max(1, capacity);
+        this.writer = writer;
+        this.writeKey = prefs.absolutePath() + "#" + KEY_ENTRIES;
     }
 
     @Override
     public synchronized List<LeaderboardEntry> loadTop(int n, GameMode mode) {
         List<LeaderboardEntry> filtered = new ArrayList<>();
-        for (LeaderboardEntry entry : readAllEntries()) {
+        for (LeaderboardEntry entry : entries()) {
             if (entry.getMode() == mode) {
                 filtered.add(entry);
             }
@@ -56,7 +71,7 @@ public final class PreferencesLeaderboardRepository implements LeaderboardReposi
     public synchronized LeaderboardResult saveAndHighlight(LeaderboardEntry entry) {
         List<LeaderboardEntry> standard = new ArrayList<>();
         List<LeaderboardEntry> item = new ArrayList<>();
-        for (LeaderboardEntry existing : readAllEntries()) {
+        for (LeaderboardEntry existing : entries()) {
             if (existing.getMode() == GameMode.ITEM) {
                 item.add(existing);
             } else {
@@ -79,12 +94,19 @@ public final class PreferencesLeaderboardRepository implements LeaderboardReposi
         List<LeaderboardEntry> target = entry.getMode() == GameMode.ITEM ? item : standard;
         int highlight = target.indexOf(entry.getMode() == GameMode.ITEM ? entry : entry.withMode(GameMode.STANDARD));
 
+        List<LeaderboardEntry> updated = new ArrayList<>(standard);
+        updated.addAll(item);
+        cache = updated;
+
         StringBuilder sb = new StringBuilder();
         writeEntries(sb, standard);
         if (!standard.isEmpty() && !item.isEmpty()) sb.append('\n');
         writeEntries(sb, item);
-        prefs.put(KEY_ENTRIES, sb.toString());
-        try { prefs.flush(); } catch (Exception ex) { /* best-effort */ }
+        String encoded = sb.toString();
+        writer.submit(writeKey, () -> {
+            prefs.put(KEY_ENTRIES, encoded);
+            flushQuietly();
+        });
 
         System.out.printf("[LB][Prefs] mode=%s size=%d highlight=%d name=%s pts=%d%n",
                 entry.getMode(),
@@ -97,7 +119,21 @@ public final class PreferencesLeaderboardRepository implements LeaderboardReposi
 
     @Override
     public synchronized void reset() {
-        prefs.remove(KEY_ENTRIES);
+        cache = new ArrayList<>();
+        writer.submit(writeKey, () -> {
+            prefs.remove(KEY_ENTRIES);
+            flushQuietly();
+        });
+    }
+
+    private List<LeaderboardEntry> entries() {
+        if (cache == null) {
+            cache = readAllEntries();
+        }
+        return cache;
+    }
+
+    private void flushQuietly() {
         try { prefs.flush(); } catch (Exception ex) { /* best-effort */ }
     }
 
@@ -0,0 +1,180 @@
+package tetris.data.leaderboard;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * 기록 번호(0..N-1)를 점수 내림차순으로 유지하는 순위 통계 트리(treap).
+ * <p>
+ * - 같은 점수면 먼저 들어온 기록(번호가 작은 쪽)이 앞선다. 기존 리더보드의 안정 정렬과 같은 규칙이다.<br>
+ * - 노드는 기록 번호 자체이고 자식/크기/우선순위는 배열에 둔다. 기록 수십만 건에서도 객체를 만들지 않는다.<br>
+ * - 삽입과 순위 조회는 O(log N), 상위 n개 순회는 O(n + log N) (기대값).<br>
+ * - 우선순위는 번호의 해시라 같은 기록 순서면 트리 모양도 항상 같다.
+ * </p>
+ * 스레드 안전하지 않다. 소유자(저장소)가 동기화한다.
+ */
+final class RankIndex {
+
+    private static final int NIL = -1;
+
+    private int[] points = new int[16];
+    private int[] left = new int[16];
+    private int[] right = new int[16];
+    private int[] size = new int[16];
+    private int[] priority = new int[16];
+    private int count;
+    private int root = NIL;
+    private int[] stack = new int[64];
+
+    int size() {
+        return count;
+    }
+
+    int pointsOf(int id) {
+        return points[id];
+    }
+
+    /** 다음 기록 번호(= 현재 개수)로 점수를 추가하고, 그 기록의 0부터 시작하는 순위를 반환한다. */
+    int add(int score) {
+        int id = count;
+        ensureCapacity(id + 1);
+        points[id] = score;
+        left[id] = NIL;
+        right[id] = NIL;
+        size[id] = 1;
+        priority[id] = mix(id);
+        count++;
+        root = insert(root, id);
+        return rankOf(id);
+    }
+
+    /** 기록 id 앞에 있는 기록 수. */
+    int rankOf(int id) {
+        int rank = 0;
+        int t = root;
+        while (t != id) {
+            if (before(id, t)) {
+                t = left[t];
+            } else {
+                rank += sizeOf(left[t]) + 1;
+                t = right[t];
+            }
+        }
+        return rank + sizeOf(left[id]);
+    }
+
+    /** 지금 이 점수로 새 기록을 추가하면 앞에 서게 될 기록 수 (점수가 같거나 높은 기록 수). */
+    int countAtLeast(int score) {
+        int result = 0;
+        int t = root;
+        while (t != NIL) {
+            if (points[t] >= score) {
+                result += sizeOf(left[t]) + 1;
+                t = right[t];
+            } else {
+                t = left[t];
+            }
+        }
+        return result;
+    }
+
+    /** 순위 순서대로 기록 번호를 넘긴다. visitor가 false를 반환하면 멈춘다. */
+    void forEachInRankOrder(IntPredicate visitor) {
+        int depth = 0;
+        int t = root;
+        while (t != NIL || depth > 0) {
+            while (t != NIL) {
+                if (depth == stack.length) {
+                    stack = Arrays.copyOf(stack, depth * 2);
+                }
+                stack[depth++] = t;
+                t = left[t];
+            }
+            t = stack[--depth];
+            if (!visitor.test(t)) {
+                return;
+            }
+            t = right[t];
+        }
+    }
+
+    void clear() {
+        count = 0;
+        root = NIL;
+    }
+
+    private boolean before(int a, int b) {
+        return points[a] > points[b] || (points[a] == points[b] && a < b);
+    }
+
+    private int insert(int t, int id) {
+        if (t == NIL) {
+            return id;
+        }
+        if (priority[id] > priority[t]) {
+            split(t, id);
+            left[id] = splitLeft;
+            right[id] = splitRight;
+            update(id);
+            return id;
+        }
+        if (before(id, t)) {
+            left[t] = insert(left[t], id);
+        } else {
+            right[t] = insert(right[t], id);
+        }
+        update(t);
+        return t;
+    }
+
+    // split 결과 (재귀 반환값 두 개를 배열 할당 없이 전달)
+    private int splitLeft;
+    private int splitRight;
+
+    /** t를 pivot 앞/뒤 두 트리로 나눈다. */
+    private void split(int t, int pivot) {
+        if (t == NIL) {
+            splitLeft = NIL;
+            splitRight = NIL;
+            return;
+        }
+        if (before(t, pivot)) {
+            split(right[t], pivot);
+            right[t] = splitLeft;
+            update(t);
+            splitLeft = t;
+        } else {
+            split(left[t], pivot);
+            left[t] = splitRight;
+            update(t);
+            splitRight = t;
+        }
+    }
+
+    private void update(int t) {
+        size[t] = sizeOf(left[t]) + sizeOf(right[t]) + 1;
+    }
+
+    private int sizeOf(int t) {
+        return t == NIL ? 0 : size[t];
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed <= points.length) {
+            return;
+        }
+        int capacity = Math.max(needed, points.length * 2);
+        points = Arrays.copyOf(points, capacity);
+        left = Arrays.copyOf(left, capacity);
+        right = Arrays.copyOf(right, capacity);
+        size = Arrays.copyOf(size, capacity);
+        priority = Arrays.copyOf(priority, capacity);
+    }
+
+    private static int mix(int id) {
+        long z = (id + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return (int) (z ^ (z >>> 31));
+    }
+}
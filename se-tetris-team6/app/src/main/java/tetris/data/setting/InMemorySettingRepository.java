@@ -0,0 +1,30 @@
+package tetris.data.setting;
+
+import tetris.domain.setting.Setting;
+import tetris.domain.setting.SettingRepository;
+
+/**
+ * 저장소를 건드리지 않는 설정 저장소. 헤드리스 시뮬레이션처럼 사용자 설정과 무관하게
+ * 기본값으로 여러 게임을 동시에 돌릴 때 사용한다.
+ */
+public final class InMemorySettingRepository implements SettingRepository {
+
+    private Setting settings = Setting.defaults();
+
+    @Override
+    public synchronized Setting load() {
+        return settings;
+    }
+
+    @Override
+    public synchronized void save(Setting settings) {
+        if (settings != null) {
+            this.settings = settings;
+        }
+    }
+
+    @Override
+    public synchronized void resetToDefaults() {
+        this.settings = Setting.defaults();
+    }
+}
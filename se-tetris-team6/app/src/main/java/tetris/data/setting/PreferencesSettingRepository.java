@@ -4,6 +4,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.prefs.Preferences;
 
+import tetris.concurrent.WriteBehindExecutor;
 import tetris.domain.setting.Setting;
 import tetris.domain.setting.SettingRepository;
 
@@ -11,18 +12,32 @@ import tetris.domain.setting.SettingRepository;
  * Simple Preferences-based implementation of SettingRepository.
  * Uses java.util.prefs.Preferences to persist primitive values; keys are stored
  * under node /se-tetris-team6/settings.
+ * <p>
+ * 처음 load 때 한 번만 Preferences를 읽어 키/값 사본을 메모리에 두고, 이후 load/save는 사본으로 처리한다.
+ * 키별 put과 flush는 {@link WriteBehindExecutor} 작성 스레드에서 한 번에 실행된다. (연속 저장은 하나로 합쳐짐)
+ * </p>
  */
 public class PreferencesSettingRepository implements SettingRepository {
 
     private static final String NODE = "se-tetris-team6/settings";
     private Preferences prefs;
+    private final WriteBehindExecutor writer;
+    private final String writeKey;
+    // Preferences에 저장된(또는 저장될) 값의 사본. null이면 아직 읽지 않음
+    private Map<String, String> cache;
 
     public PreferencesSettingRepository() {
         this(Preferences.userRoot().node(NODE));
     }
 
     public PreferencesSettingRepository(Preferences prefs) {
+        this(prefs, WriteBehindExecutor.shared());
+    }
+
+    public PreferencesSettingRepository(Preferences prefs, WriteBehindExecutor writer) {
         this.prefs = prefs;
+        this.writer = writer;
+        this.writeKey = prefs.absolutePath();
     }
 
     // keys
@@ -38,9 +53,10 @@ public class PreferencesSettingRepository implements SettingRepository {
      };
 
     @Override
-    public Setting load() {
+    public synchronized Setting load() {
+        Map<String, String> values = values();
         Setting s = new Setting();
-        String screen = prefs.get(KEY_SCREEN, null);
+        String screen = values.get(KEY_SCREEN);
         if (screen != null) {
             try {
                 s.setScreenSize(Setting.ScreenSize.valueOf(screen));
@@ -51,9 +67,9 @@ public class PreferencesSettingRepository implements SettingRepository {
             s.setScreenSize(Setting.defaults().getScreenSize());
         }
 
-        s.setColorBlindMode(prefs.getBoolean(KEY_COLORBLIND, Setting.defaults().isColorBlindMode()));
+        s.setColorBlindMode(parseBoolean(values.get(KEY_COLORBLIND), Setting.defaults().isColorBlindMode()));
 
-        String difficulty = prefs.get(KEY_DIFFICULTY, Setting.defaults().getDifficulty().name());
+        String difficulty = values.getOrDefault(KEY_DIFFICULTY, Setting.defaults().getDifficulty().name());
         try {
             s.setDifficulty(tetris.domain.GameDifficulty.valueOf(difficulty));
         } catch (IllegalArgumentException e) {
@@ -63,7 +79,7 @@ public class PreferencesSettingRepository implements SettingRepository {
         Map<String, Integer> kb = new HashMap<>();
         for (String a : ACTIONS) {
             int defaultCode = Setting.defaults().getKeyBinding(a);
-            int v = prefs.getInt(KEY_PREFIX_KB + a, defaultCode);
+            int v = parseInt(values.get(KEY_PREFIX_KB + a), defaultCode);
             kb.put(a, v);
         }
         s.setKeyBindings(kb);
@@ -71,22 +87,29 @@ public class PreferencesSettingRepository implements SettingRepository {
     }
 
     @Override
-    public void save(Setting settings) {
+    public synchronized void save(Setting settings) {
+        Map<String, String> values = values();
         if (settings.getScreenSize() != null) {
-            prefs.put(KEY_SCREEN, settings.getScreenSize().name());
+            values.put(KEY_SCREEN, settings.getScreenSize().name());
         }
-        prefs.putBoolean(KEY_COLORBLIND, settings.isColorBlindMode());
+        values.put(KEY_COLORBLIND, Boolean.toString(settings.isColorBlindMode()));
         if (settings.getDifficulty() != null) {
-            prefs.put(KEY_DIFFICULTY, settings.getDifficulty().name());
+            values.put(KEY_DIFFICULTY, settings.getDifficulty().name());
         }
         for (Map.Entry<String, Integer> e : settings.getKeyBindings().entrySet()) {
-            prefs.putInt(KEY_PREFIX_KB + e.getKey(), e.getValue());
-        }
-        try {
-            prefs.flush();
-        } catch (Exception ex) {
-            // best-effort persistence; swallow but could log
+            values.put(KEY_PREFIX_KB + e.getKey(), Integer.toString(e.getValue()));
         }
+        Map<String, String> snapshot = new HashMap<>(values);
+        writer.submit(writeKey, () -> {
+            for (Map.Entry<String, String> e : snapshot.entrySet()) {
+                prefs.put(e.getKey(), e.getValue());
+            }
+            try {
+                prefs.flush();
+            } catch (Exception ex) {
+                // best-effort persistence; swallow but could log
+            }
+        });
     }
 
     @Override
@@ -94,4 +117,38 @@ public class PreferencesSettingRepository implements SettingRepository {
         Setting d = Setting.defaults();
         save(d);
     }
+
+    /** 캐시를 처음 쓸 때 Preferences에서 이 저장소가 다루는 키를 전부 읽어 온다. */
+    private Map<String, String> values() {
+        if (cache == null) {
+            cache = new HashMap<>();
+            try {
+                for (String key : prefs.keys()) {
+                    String value = prefs.get(key, null);
+                    if (value != null) {
+                        cache.put(key, value);
+                    }
+                }
+            } catch (Exception ex) {
+                // 읽기 실패 시 기본값으로 시작
+            }
+        }
+        return cache;
+    }
+
+    /** Preferences.getBoolean 과 같은 규칙: "true"/"false"(대소문자 무시) 외에는 기본값. */
+    private static boolean parseBoolean(String value, boolean def) {
+        if ("true".equalsIgnoreCase(value)) return true;
+        if ("false".equalsIgnoreCase(value)) return false;
+        return def;
+    }
+
+    private static int parseInt(String value, int def) {
+        if (value == null) return def;
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return def;
+        }
+    }
 }
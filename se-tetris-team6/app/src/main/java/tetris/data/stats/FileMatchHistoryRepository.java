@@ -0,0 +1,328 @@
+package tetris.data.stats;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import tetris.concurrent.WriteBehindExecutor;
+import tetris.domain.GameMode;
+import tetris.domain.stats.MatchHistoryRepository;
+import tetris.domain.stats.MatchRecord;
+import tetris.domain.stats.MatchStats;
+
+/**
+ * 모든 판을 남기는 파일 기반 기록 보관소. 실행: {@code --stats-dir=경로} (또는 -Dtetris.stats.dir, 기본 ~/.se-tetris/stats)
+ * <p>
+ * 파일 구조: 헤더(MAGIC, VERSION, RECORD_BYTES, 예약) 뒤에 고정 길이 레코드가 이어진다.
+ * 레코드 = [long 종료 시각][long 플레이 시간][int 점수][int 줄][int 블록 수][short 레벨][byte 모드][byte 예약].
+ * <br>
+ * - 기록은 메모리 대기열에 넣고 {@link WriteBehindExecutor} 작성 스레드가 파일 끝에 덧붙인다. 같은 키로 합쳐지므로
+ *   여러 판이 쌓여도 쓰기 한 번에 모두 내린다.<br>
+ * - 레코드 길이가 고정이라 중간에 죽어 반쯤 쓴 꼬리는 파일 크기로 알아내고, 열 때 잘라낸다.<br>
+ * - 조회 전까지는 파일을 읽지 않는다. 처음 조회할 때 한 번 읽어 {@link MatchColumns} 캐시를 만들고,
+ *   모드별 집계 결과는 그 모드에 새 판이 기록될 때까지 재사용한다.<br>
+ * - 객체 잠금은 메모리 상태만 지킨다. 파일은 따로 {@code ioLock}으로 지키고, 작성 스레드는 대기열을 새 목록으로 바꿔 든 뒤
+ *   객체 잠금 없이 쓰므로 기록/조회가 fsync를 기다리지 않는다. (잠금 순서: ioLock → this)<br>
+ * - 입출력 오류는 리더보드처럼 로그만 남기고 넘어간다. 못 쓴 기록은 대기열 앞에 되돌려 다음 쓰기 때 다시 시도한다.
+ * </p>
+ */
+public final class FileMatchHistoryRepository implements MatchHistoryRepository, Closeable {
+
+    public static final String DIR_ARG_PREFIX = "--stats-dir=";
+    public static final String DIR_PROPERTY = "tetris.stats.dir";
+    static final String FILE_NAME = "matches.dat";
+    static final int MAGIC = 0x54535431; // "TST1"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 16;
+    static final int RECORD_BYTES = 32;
+    private static final int TOP_RUNS = 5;
+    private static final GameMode[] MODES = GameMode.values();
+
+    private final Path file;
+    private final WriteBehindExecutor writer;
+    private final ZoneId zone;
+    // 파일 채널과 파일 내용을 지킨다.
+    private final Object ioLock = new Object();
+    private List<MatchRecord> pending = new ArrayList<>();
+    private final Map<GameMode, MatchStats> memo = new EnumMap<>(GameMode.class);
+    private MatchColumns columns;
+    private boolean truncatePending;
+    // reset 횟수. 초기화 전에 꺼낸 기록이 쓰기에 실패해도 되살리지 않는다.
+    private int generation;
+    private FileChannel channel;
+
+    public FileMatchHistoryRepository(Path directory) {
+        this(directory, WriteBehindExecutor.shared(), ZoneId.systemDefault());
+    }
+
+    /** @param zone 일별 집계에 쓰는 시간대 */
+    public FileMatchHistoryRepository(Path directory, WriteBehindExecutor writer, ZoneId zone) {
+        this.file = Objects.requireNonNull(directory, "directory").resolve(FILE_NAME);
+        this.writer = Objects.requireNonNull(writer, "writer");
+        this.zone = Objects.requireNonNull(zone, "zone");
+    }
+
+    /** 실행 인자 → 시스템 속성 → 사용자 홈 아래 기본 경로 순으로 저장 경로를 정한다. */
+    public static Path resolveDirectory(String[] args) {
+        String value = null;
+        if (args != null) {
+            for (String arg : args) {
+                if (arg != null && arg.startsWith(DIR_ARG_PREFIX)) {
+                    value = arg.substring(DIR_ARG_PREFIX.length());
+                }
+            }
+        }
+        if (value == null) {
+            value = System.getProperty(DIR_PROPERTY);
+        }
+        if (value == null || value.isBlank()) {
+            return Path.of(System.getProperty("user.home"), ".se-tetris", "stats");
+        }
+        return Path.of(value.trim());
+    }
+
+    @Override
+    public synchronized void record(MatchRecord record) {
+        Objects.requireNonNull(record, "record");
+        pending.add(record);
+        if (columns != null) {
+            columns.add(record);
+            memo.remove(record.mode());
+        }
+        writer.submit(this, this::flushPending);
+    }
+
+    @Override
+    public MatchStats stats(GameMode mode) {
+        GameMode key = mode == null ? GameMode.STANDARD : mode;
+        ensureLoaded();
+        synchronized (this) {
+            MatchStats cached = memo.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            MatchStats computed = columns.aggregate(key, zone, TOP_RUNS);
+            memo.put(key, computed);
+            return computed;
+        }
+    }
+
+    /** 보관된 판 수 (모든 모드). */
+    public int size() {
+        ensureLoaded();
+        synchronized (this) {
+            return columns.size();
+        }
+    }
+
+    @Override
+    public synchronized void reset() {
+        pending.clear();
+        columns = new MatchColumns();
+        memo.clear();
+        truncatePending = true;
+        generation++;
+        writer.submit(this, this::flushPending);
+    }
+
+    /** 대기 중인 기록을 지금 내리고 파일을 닫는다. */
+    @Override
+    public void close() {
+        flushPending();
+        synchronized (ioLock) {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException ignore) {
+                    // best-effort
+                }
+                channel = null;
+            }
+        }
+    }
+
+    /**
+     * 작성 스레드에서 실행된다. 대기열은 객체 잠금 안에서 새 목록과 바꾸기만 하고, 파일 쓰기와 fsync는 ioLock만 쥐고 한다.
+     * 쓰기에 실패하면 이번에 덧붙인 부분을 잘라 내고 기록을 대기열 앞에 되돌린다.
+     */
+    private void flushPending() {
+        synchronized (ioLock) {
+            List<MatchRecord> batch;
+            boolean truncate;
+            int batchGeneration;
+            synchronized (this) {
+                if (pending.isEmpty() && !truncatePending) {
+                    return;
+                }
+                batch = pending;
+                pending = new ArrayList<>();
+                truncate = truncatePending;
+                truncatePending = false;
+                batchGeneration = generation;
+            }
+            long start = -1;
+            try {
+                FileChannel out = channel();
+                if (truncate) {
+                    out.truncate(HEADER_BYTES);
+                }
+                start = out.size();
+                ByteBuffer buffer = ByteBuffer.allocate(batch.size() * RECORD_BYTES);
+                for (MatchRecord record : batch) {
+                    encode(record, buffer);
+                }
+                buffer.flip();
+                long position = start;
+                while (buffer.hasRemaining()) {
+                    position += out.write(buffer, position);
+                }
+                out.force(false);
+            } catch (IOException e) {
+                System.err.println("[Stats][File] Failed to write " + file + ": " + e.getMessage());
+                discardPartialWrite(start);
+                synchronized (this) {
+                    if (generation == batchGeneration) {
+                        pending.addAll(0, batch);
+                        truncatePending |= truncate;
+                    }
+                }
+            }
+        }
+    }
+
+    /** 실패한 쓰기가 남긴 꼬리를 잘라 다시 쓸 때 겹치지 않게 한다. */
+    private void discardPartialWrite(long start) {
+        if (start < 0 || channel == null) {
+            return;
+        }
+        try {
+            channel.truncate(start);
+        } catch (IOException ignore) {
+            // 남은 꼬리가 레코드 길이로 나눠떨어지지 않으면 다음에 열 때 잘린다.
+        }
+    }
+
+    /**
+     * 처음 조회할 때 파일을 한 번 읽어 캐시를 만든다. ioLock을 쥐므로 쓰는 중인 파일을 읽지 않고,
+     * 그동안 파일에 없는 기록은 모두 대기열에 있다.
+     */
+    private void ensureLoaded() {
+        synchronized (this) {
+            if (columns != null) {
+                return;
+            }
+        }
+        synchronized (ioLock) {
+            synchronized (this) {
+                if (columns != null) {
+                    return;
+                }
+                MatchColumns loaded = new MatchColumns();
+                try {
+                    if (Files.exists(file)) {
+                        readAll(channel(), loaded);
+                    }
+                } catch (IOException e) {
+                    System.err.println("[Stats][File] Cannot read " + file + ": " + e.getMessage());
+                }
+                // 아직 파일에 내리지 못한 기록도 조회에는 보여야 한다.
+                for (MatchRecord record : pending) {
+                    loaded.add(record);
+                }
+                columns = loaded;
+            }
+        }
+    }
+
+    private void readAll(FileChannel in, MatchColumns into) throws IOException {
+        long size = in.size();
+        int records = (int) Math.min(Integer.MAX_VALUE / RECORD_BYTES, (size - HEADER_BYTES) / RECORD_BYTES);
+        long end = HEADER_BYTES + (long) records * RECORD_BYTES;
+        if (end < size) {
+            System.err.println("[Stats][File] Discarding torn tail at " + end + " in " + file);
+            in.truncate(end);
+        }
+        ByteBuffer block = ByteBuffer.allocate(RECORD_BYTES * 1024);
+        long position = HEADER_BYTES;
+        while (position < end) {
+            block.clear();
+            block.limit((int) Math.min(block.capacity(), end - position));
+            while (block.hasRemaining()) {
+                int read = in.read(block, position + block.position());
+                if (read < 0) {
+                    throw new IOException("Unexpected end of " + file);
+                }
+            }
+            block.flip();
+            while (block.remaining() >= RECORD_BYTES) {
+                MatchRecord record = decode(block);
+                if (record != null) {
+                    into.add(record);
+                }
+            }
+            position += block.limit();
+        }
+    }
+
+    /** 파일을 열고(없으면 만든다) 헤더를 확인한다. ioLock 안에서 부른다. */
+    private FileChannel channel() throws IOException {
+        if (channel != null) {
+            return channel;
+        }
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        FileChannel opened = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        if (opened.size() < HEADER_BYTES) {
+            header.putInt(MAGIC).putInt(VERSION).putInt(RECORD_BYTES).putInt(0).flip();
+            opened.truncate(0);
+            opened.write(header, 0);
+        } else {
+            opened.read(header, 0);
+            header.flip();
+            if (header.getInt() != MAGIC || header.getInt() > VERSION || header.getInt() != RECORD_BYTES) {
+                opened.close();
+                throw new IOException("Not a match history file: " + file);
+            }
+        }
+        channel = opened;
+        return opened;
+    }
+
+    static void encode(MatchRecord record, ByteBuffer out) {
+        out.putLong(record.endedAtMillis())
+                .putLong(record.durationMs())
+                .putInt(record.points())
+                .putInt(record.clearedLines())
+                .putInt(record.pieces())
+                .putShort((short) Math.min(Short.MAX_VALUE, Math.max(0, record.level())))
+                .put((byte) record.mode().ordinal())
+                .put((byte) 0);
+    }
+
+    /** 레코드 하나를 읽는다. 모르는 모드 번호면 null (다음 레코드로 넘어간다). */
+    static MatchRecord decode(ByteBuffer in) {
+        long endedAt = in.getLong();
+        long duration = in.getLong();
+        int points = in.getInt();
+        int lines = in.getInt();
+        int pieces = in.getInt();
+        int level = in.getShort();
+        int mode = in.get();
+        in.get();
+        if (mode < 0 || mode >= MODES.length) {
+            return null;
+        }
+        return new MatchRecord(endedAt, MODES[mode], points, lines, pieces, duration, level);
+    }
+}
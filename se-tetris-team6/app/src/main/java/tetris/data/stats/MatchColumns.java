@@ -0,0 +1,117 @@
+package tetris.data.stats;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import tetris.domain.GameMode;
+import tetris.domain.stats.DayBucket;
+import tetris.domain.stats.MatchRecord;
+import tetris.domain.stats.MatchStats;
+
+/**
+ * 판 기록의 열 단위(columnar) 메모리 캐시.
+ * <p>
+ * - 필드마다 기본형 배열 하나를 두고 기록 번호로 색인한다. 집계는 필요한 열만 훑으므로 기록 객체를 만들지 않는다.<br>
+ * - 집계는 모드 필터 → 합계/백분위/일별 묶음 순으로 병렬 스트림을 쓴다. 결과 보관(memo)은 소유자가 한다.
+ * </p>
+ * 스레드 안전하지 않다. 소유자(저장소)가 동기화한다.
+ */
+final class MatchColumns {
+
+    private static final GameMode[] MODES = GameMode.values();
+
+    private long[] endedAt = new long[64];
+    private long[] duration = new long[64];
+    private int[] points = new int[64];
+    private int[] lines = new int[64];
+    private int[] pieces = new int[64];
+    private int[] level = new int[64];
+    private byte[] mode = new byte[64];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    void add(MatchRecord record) {
+        if (size == points.length) {
+            int capacity = size * 2;
+            endedAt = Arrays.copyOf(endedAt, capacity);
+            duration = Arrays.copyOf(duration, capacity);
+            points = Arrays.copyOf(points, capacity);
+            lines = Arrays.copyOf(lines, capacity);
+            pieces = Arrays.copyOf(pieces, capacity);
+            level = Arrays.copyOf(level, capacity);
+            mode = Arrays.copyOf(mode, capacity);
+        }
+        endedAt[size] = record.endedAtMillis();
+        duration[size] = record.durationMs();
+        points[size] = record.points();
+        lines[size] = record.clearedLines();
+        pieces[size] = record.pieces();
+        level[size] = record.level();
+        mode[size] = (byte) record.mode().ordinal();
+        size++;
+    }
+
+    MatchRecord recordAt(int row) {
+        return new MatchRecord(endedAt[row], MODES[mode[row]], points[row], lines[row], pieces[row],
+                duration[row], level[row]);
+    }
+
+    MatchStats aggregate(GameMode target, ZoneId zone, int topRuns) {
+        // 람다가 배열을 붙잡으므로 지역 변수로 고정한다. (소유자가 잠근 동안 add가 배열을 바꾸지 않는다)
+        long[] endedAt = this.endedAt;
+        long[] duration = this.duration;
+        int[] points = this.points;
+        int[] lines = this.lines;
+        byte[] mode = this.mode;
+        byte code = (byte) target.ordinal();
+
+        int[] rows = IntStream.range(0, size).parallel().filter(i -> mode[i] == code).toArray();
+        if (rows.length == 0) {
+            return MatchStats.empty(target);
+        }
+        long totalPoints = Arrays.stream(rows).parallel().mapToLong(i -> points[i]).sum();
+        long totalLines = Arrays.stream(rows).parallel().mapToLong(i -> lines[i]).sum();
+        long totalDuration = Arrays.stream(rows).parallel().mapToLong(i -> duration[i]).sum();
+        int[] sorted = Arrays.stream(rows).parallel().map(i -> points[i]).sorted().toArray();
+
+        List<MatchRecord> top = Arrays.stream(rows).boxed().parallel()
+                .sorted(Comparator.<Integer>comparingInt(i -> points[i]).reversed()
+                        .thenComparingInt(i -> i))
+                .limit(topRuns)
+                .map(this::recordAt)
+                .collect(Collectors.toList());
+
+        Map<Long, IntSummaryStatistics> byDay = Arrays.stream(rows).boxed().parallel()
+                .collect(Collectors.groupingByConcurrent(
+                        i -> Instant.ofEpochMilli(endedAt[i]).atZone(zone).toLocalDate().toEpochDay(),
+                        ConcurrentSkipListMap::new,
+                        Collectors.summarizingInt(i -> points[i])));
+        List<DayBucket> days = new ArrayList<>(byDay.size());
+        byDay.forEach((day, s) -> days.add(new DayBucket(LocalDate.ofEpochDay(day), (int) s.getCount(),
+                s.getSum(), s.getMax())));
+
+        double linesPerMinute = totalDuration > 0 ? totalLines * 60_000.0 / totalDuration : 0.0;
+        return new MatchStats(target, rows.length, totalPoints, (double) totalPoints / rows.length,
+                sorted[sorted.length - 1], percentile(sorted, 50), percentile(sorted, 90), totalLines,
+                totalDuration, linesPerMinute, List.copyOf(top), List.copyOf(days));
+    }
+
+    /** 가장 가까운 순위(nearest-rank) 백분위. sorted는 오름차순. */
+    static int percentile(int[] sorted, int p) {
+        int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+}
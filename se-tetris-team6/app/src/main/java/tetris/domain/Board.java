@@ -1,35 +1,89 @@
 package tetris.domain;
 
-import java.util.ArrayList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.List;
 
 /**
  * 순수 도메인 보드(격자/충돌/배치/줄삭제만 담당).
  * - 크기: 20 x 10
  * - 좌표계: (0,0)=좌상단, x→오른쪽, y→아래
  * - 값: 0=빈칸, >0=blockId (색상/표현은 UI에서)
+ * - 행은 고리(ring)로 둔다. 논리 행 y는 rows[(top + y) % H]. 바닥에 쓰레기 줄을 밀어 넣을 때는 top만 옮기고,
+ *   줄 삭제는 행 참조만 재배치한다. 셀 데이터를 통째로 복사하지 않는다.
  */
 public final class Board {
     public static final int H = 20;
     public static final int W = 10;
 
-    private final int[][] grid; // grid[y][x]
+    private final int[][] rows; // 물리 행. 논리 행 y = rows[(top + y) % rows.length]
+    private int top;
 
     public Board() {
-        this.grid = new int[H][W];
+        this.rows = new int[H][W];
     }
 
     /** 외부 배열로부터 깊은 복사 생성자(테스트/리플레이용) */
     public Board(int[][] gridCopy) {
-        this.grid = deepCopy(gridCopy);
+        this.rows = deepCopy(gridCopy);
     }
 
-    /** 보드 스냅샷(깊은 복사) */
+    /** 보드 스냅샷(깊은 복사, 논리 행 순서) */
     public int[][] gridView() {
-        return deepCopy(grid);
+        int[][] cp = new int[rows.length][];
+        for (int y = 0; y < rows.length; y++) {
+            int[] row = row(y);
+            cp[y] = Arrays.copyOf(row, row.length);
+        }
+        return cp;
+    }
+
+    /** 격자를 행 우선(y*W + x) 1차원 배열에 복사한다. 상태 저장용이라 새 배열을 만들지 않는다. */
+    public void copyTo(int[] cells) {
+        for (int y = 0; y < H; y++) {
+            System.arraycopy(row(y), 0, cells, y * W, W);
+        }
+    }
+
+    /** {@link #copyTo(int[])} 로 저장한 배열을 격자에 덮어쓴다. */
+    public void copyFrom(int[] cells) {
+        for (int y = 0; y < H; y++) {
+            System.arraycopy(cells, y * W, row(y), 0, W);
+        }
+    }
+
+    /** 행 우선 byte 배열(부호 없는 셀 값, 네트워크 스냅샷)을 격자에 덮어쓴다. */
+    public void copyFrom(byte[] cells) {
+        for (int y = 0; y < H; y++) {
+            int[] row = row(y);
+            int base = y * W;
+            for (int x = 0; x < W; x++) {
+                row[x] = cells[base + x] & 0xFF;
+            }
+        }
+    }
+
+    /** 가장 위에 있는 블록부터 바닥까지의 높이(행 수). 빈 보드는 0. */
+    public int stackHeight() {
+        for (int y = 0; y < H; y++) {
+            int[] row = row(y);
+            for (int x = 0; x < W; x++) {
+                if (row[x] != 0) {
+                    return H - y;
+                }
+            }
+        }
+        return 0;
+    }
+
+    /** x열에서 가장 위에 있는 블록부터 바닥까지의 높이. 빈 열은 0. */
+    public int columnHeight(int x) {
+        for (int y = 0; y < H; y++) {
+            if (row(y)[x] != 0) {
+                return H - y;
+            }
+        }
+        return 0;
     }
 
     /** 경계+충돌 판정 */
@@ -39,7 +93,7 @@ public final class Board {
                 if (!shape.filled(x, y)) continue;
                 int gx = originX + x, gy = originY + y;
                 if (gx < 0 || gx >= W || gy < 0 || gy >= H) return false;
-                if (grid[gy][gx] != 0) return false;
+                if (row(gy)[gx] != 0) return false;
             }
         }
         return true;
@@ -52,7 +106,7 @@ public final class Board {
                 if (!shape.filled(x, y)) continue;
                 int gx = originX + x, gy = originY + y;
                 if (gx < 0 || gx >= W || gy < 0 || gy >= H) continue; // 방어
-                grid[gy][gx] = blockId;
+                row(gy)[gx] = blockId;
             }
         }
     }
@@ -70,24 +124,37 @@ public final class Board {
      */
     public List<Integer> clearLinesAndGetRows() {
         List<Integer> clearedRows = new ArrayList<>();
-        int writeRow = H - 1;
-        for (int y = H - 1; y >= 0; y--) {
-            if (isFullRow(y)) {
-                clearedRows.add(y);
+        int write = H - 1;
+        for (int read = H - 1; read >= 0; read--) {
+            if (isFullRow(read)) {
+                clearedRows.add(read);
                 continue;
             }
-            if (writeRow != y) {
-                System.arraycopy(grid[y], 0, grid[writeRow], 0, W);
-            }
-            writeRow--;
-        }
-        while (writeRow >= 0) {
-            Arrays.fill(grid[writeRow], 0);
-            writeRow--;
+            swapRows(read, write--);
         }
+        clearTopRows(write);
         return clearedRows;
     }
 
+    /**
+     * 바닥에 쓰레기 줄 하나를 밀어 넣고 나머지를 한 줄 올린다. 맨 위 행 슬롯을 바닥으로 돌려 재사용한다.
+     * @param holeMask 비워 둘 열 비트마스크 (bit x = 열 x)
+     * @param value 채울 셀 값
+     * @return 맨 위 줄에 블록이 있어 밀려 나갔으면 true
+     */
+    public boolean pushGarbageRow(int holeMask, int value) {
+        int[] recycled = row(0);
+        boolean overflow = false;
+        for (int x = 0; x < W; x++) {
+            if (recycled[x] != 0) {
+                overflow = true;
+            }
+            recycled[x] = ((holeMask >>> x) & 1) != 0 ? 0 : value;
+        }
+        top = top + 1 == rows.length ? 0 : top + 1;
+        return overflow;
+    }
+
     /** 스폰 가능 여부(초기 배치 가능?) */
     public boolean canSpawn(ShapeView shape, int spawnX, int spawnY) {
         return canPlace(shape, spawnX, spawnY);
@@ -95,8 +162,8 @@ public final class Board {
 
     /** 전체 격자를 비웁니다. */
     public void clear() {
-        for (int y = 0; y < H; y++) {
-            Arrays.fill(grid[y], 0);
+        for (int[] row : rows) {
+            Arrays.fill(row, 0);
         }
     }
 
@@ -115,7 +182,7 @@ public final class Board {
         int minY = Math.max(0, Math.min(y0, y1));
         int maxY = Math.min(H - 1, Math.max(y0, y1));
         for (int yy = minY; yy <= maxY; yy++) {
-            Arrays.fill(grid[yy], minX, maxX + 1, 0);
+            Arrays.fill(row(yy), minX, maxX + 1, 0);
         }
     }
 
@@ -123,7 +190,7 @@ public final class Board {
         if (x < 0 || x >= W || y < 0 || y >= H) {
             return;
         }
-        grid[y][x] = value;
+        row(y)[x] = value;
     }
 
     /** 주어진 줄들을 삭제하고 위 줄을 아래로 내립니다. */
@@ -142,15 +209,9 @@ public final class Board {
             if (toClear[read]) {
                 continue;
             }
-            if (write != read) {
-                System.arraycopy(grid[read], 0, grid[write], 0, W);
-            }
-            write--;
-        }
-        while (write >= 0) {
-            Arrays.fill(grid[write], 0);
-            write--;
+            swapRows(read, write--);
         }
+        clearTopRows(write);
     }
 
     /** 현재 가득 찬 줄을 아래(큰 y) -> 위 순으로 반환합니다. */
@@ -165,16 +226,37 @@ public final class Board {
     }
 
     // 내부 유틸
-    private boolean isFullRow(int y) {
-        for (int x = 0; x < W; x++) if (grid[y][x] == 0) return false;
-        return true;
+    private int[] row(int y) {
+        return rows[slot(y)];
     }
 
-    private void clearRow(int y) {
-        for (int r = y; r > 0; r--) {
-            System.arraycopy(grid[r - 1], 0, grid[r], 0, W);
+    private int slot(int y) {
+        int index = top + y;
+        return index >= rows.length ? index - rows.length : index;
+    }
+
+    /** 남길 줄을 아래로 모으며 행 참조만 맞바꾼다. 삭제된 줄의 슬롯은 위쪽으로 밀려 올라간다. */
+    private void swapRows(int from, int to) {
+        if (from == to) {
+            return;
         }
-        Arrays.fill(grid[0], 0);
+        int a = slot(from), b = slot(to);
+        int[] tmp = rows[a];
+        rows[a] = rows[b];
+        rows[b] = tmp;
+    }
+
+    /** 0..lastRow 논리 행을 비운다. (삭제된 줄 슬롯 재사용) */
+    private void clearTopRows(int lastRow) {
+        for (int y = lastRow; y >= 0; y--) {
+            Arrays.fill(row(y), 0);
+        }
+    }
+
+    private boolean isFullRow(int y) {
+        int[] row = row(y);
+        for (int x = 0; x < W; x++) if (row[x] == 0) return false;
+        return true;
     }
 
     private static int[][] deepCopy(int[][] src) {
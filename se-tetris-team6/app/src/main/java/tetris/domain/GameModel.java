@@ -8,8 +8,8 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Random;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
 import tetris.domain.BlockGenerator;
@@ -43,6 +43,13 @@ import tetris.domain.model.InputState;
 import tetris.domain.score.Score;
 import tetris.domain.score.ScoreRepository;
 import tetris.domain.score.ScoreRuleEngine;
+import tetris.domain.stats.MatchHistoryRepository;
+import tetris.domain.stats.MatchRecord;
+import tetris.metrics.GameMetrics;
+import tetris.metrics.jfr.SnapshotApplyEvent;
+import tetris.metrics.jfr.SnapshotEncodeEvent;
+import tetris.network.protocol.InputType;
+import tetris.multiplayer.model.AttackLine;
 import tetris.multiplayer.model.Cell;
 import tetris.multiplayer.model.LockedPieceSnapshot;
 import tetris.multiplayer.session.LocalMultiplayerSession;
@@ -61,12 +68,31 @@ public final class GameModel implements tetris.domain.engine.GameplayEngine.Game
      * 뷰에서 필요한 오버레이 제어만 위임받습니다.
      */
     public interface UiBridge {
+        /** 고정된 보드 셀이 바뀜 (잠금, 줄 삭제, 아이템 효과 등). */
+        int DIRTY_BOARD = 1;
+        /** 활성 블록의 위치/회전이 바뀜. */
+        int DIRTY_ACTIVE_BLOCK = 1 << 1;
+        /** 점수/레벨 등 HUD 수치가 바뀜. */
+        int DIRTY_SCORE = 1 << 2;
+        /** 다음 블록/공격 대기열 등 보조 패널이 바뀜. */
+        int DIRTY_SIDE_PANEL = 1 << 3;
+        /** 원인을 특정하지 않는 전체 갱신. */
+        int DIRTY_ALL = DIRTY_BOARD | DIRTY_ACTIVE_BLOCK | DIRTY_SCORE | DIRTY_SIDE_PANEL;
+
         void showPauseOverlay();
 
         void hidePauseOverlay();
 
         void refreshBoard();
 
+        /**
+         * 갱신 원인(DIRTY_* 비트 마스크)과 함께 화면 갱신을 요청한다.
+         * 뷰 구현은 같은 프레임 안의 요청을 하나의 repaint로 합칠 수 있다.
+         */
+        default void markDirty(int reasons) {
+            refreshBoard();
+        }
+
         /**
          * Show the Game Over overlay. If canEnterName is true the UI should
          * provide a name entry flow to persist to the leaderboard.
@@ -142,7 +168,7 @@ public final class GameModel implements tetris.domain.engine.GameplayEngine.Game
     private GameMode currentMode = GameMode.STANDARD;
     private GameMode lastMode = GameMode.STANDARD;
     private final ItemManager itemManager = new ItemManager();
-    private final Random itemRandom = new Random();
+    private final StatefulRandom itemRandom = new StatefulRandom();
     private final List<Supplier<ItemBehavior>> behaviorFactories = List.of(
             DoubleScoreBehavior::new,
             TimeSlowBehavior::new,
@@ -150,8 +176,11 @@ public final class GameModel implements tetris.domain.engine.GameplayEngine.Game
             () -> new LineClearBehavior(),
             WeightBehavior::new);
     private final List<MultiplayerHook> multiplayerHooks = new CopyOnWriteArrayList<>();
-    // 네트워크 멀티플레이어에서 스냅샷으로 받은 공격 대기열 데이터 (클라이언트 렌더링용)
-    private java.util.List<tetris.multiplayer.model.AttackLine> snapshotAttackLines = new java.util.ArrayList<>();
+    // 네트워크 멀티플레이어에서 마지막으로 받은 스냅샷의 공격 대기열 보기 (클라이언트 렌더링용, 스냅샷 마스크를 그대로 읽음)
+    private volatile tetris.multiplayer.model.AttackQueueView snapshotAttackView = tetris.multiplayer.model.AttackQueueView.EMPTY;
+    // 네트워크 스냅샷 생성용 재사용 버퍼
+    private final tetris.network.protocol.GameSnapshot.Builder snapshotBuilder = new tetris.network.protocol.GameSnapshot.Builder();
+    private final int[] snapshotCells = new int[Board.W * Board.H];
 
     public static final class ActiveItemInfo {
         private final BlockLike block;
@@ -203,11 +232,82 @@ public final class GameModel implements tetris.domain.engine.GameplayEngine.Game
         void beforeNextSpawn();
     }
 
+    /**
+     * 리플레이 기록용 훅. 모델 상태를 바꾸는 외부 사건(입력, 중력, 줄 삭제 확정, 일시정지, 쓰레기 줄)을
+     * 적용 직전에 같은 스레드에서 알린다. 이 사건들을 같은 순서로 다시 적용하면 같은 판이 재현된다.
+     */
+    public interface ReplayTap {
+        void onGameStarted(GameMode mode);
+
+        void onInput(InputType type);
+
+        /** InputState 기반 한 스텝. 입력이 하나도 없는 스텝은 알리지 않는다. */
+        void onStep(int inputMask);
+
+        void onGravityTick();
+
+        void onLineClearCommit();
+
+        void onPauseChanged(boolean paused);
+
+        /** @param beforeSpawn 스폰 직전 훅(beforeNextSpawn) 안에서 주입됐으면 true */
+        void onGarbage(tetris.multiplayer.model.AttackQueueView lines, boolean beforeSpawn);
+
+        void onGameOver();
+    }
+
+    /**
+     * {@link #saveState(Memento)} / {@link #restoreState(Memento)} 용 상태 그릇.
+     * <p>
+     * 보드 셀, 활성 블록 자세, 블록/아이템 난수 위치, 점수, 활성 아이템, 버프 타이머, 속도/무입력/시간 제한
+     * 진행도를 담는다. 배열은 처음 만들 때 잡아 두고 덮어쓰므로 같은 인스턴스를 재사용하면 할당이 없다.
+     * (아이템이 배열 용량보다 많이 쌓이는 드문 경우에만 늘린다. 점수는 저장소가 돌려준 불변 Score를 참조한다)
+     * </p>
+     * 롤백, 탐색, 리플레이 되감기처럼 같은 모델 안에서 되돌리는 용도다. 다른 모델에 복원하면 안 된다.
+     */
+    public static final class Memento {
+        private final tetris.domain.engine.GameplayEngine.Memento engine = new tetris.domain.engine.GameplayEngine.Memento();
+        private long generatorState;
+        private BlockKind generatorBuffered;
+        private long itemRandomState;
+        private Score score;
+        private ItemBlockModel[] items = new ItemBlockModel[2];
+        private int itemCount;
+        private int[] itemCells = new int[4];
+        private int[] behaviorStates = new int[2];
+        private ItemBlockModel activeItemBlock;
+        private boolean nextBlockIsItem;
+        private int totalClearedLines;
+        private int totalSpawnedBlocks;
+        private long currentTick;
+        private double scoreMultiplier;
+        private long doubleScoreBuffExpiresAtMs;
+        private int slowLevelOffset;
+        private long slowBuffExpiresAtMs;
+        private int currentGravityLevel;
+        private long lastInputMillis;
+        private int inactivityPenaltyStage;
+        private long pauseStartedAt;
+        private long gameplayStartedAtMillis;
+        private long accumulatedPauseMillis;
+        private long timeLimitMillis;
+        private int pendingGarbageLines;
+        private LockedPieceSnapshot lastLockedPieceSnapshot;
+        private GameMode currentMode;
+        private GameState state;
+
+        /** 저장된 적이 있으면 true. */
+        public boolean isCaptured() {
+            return state != null;
+        }
+    }
+
     private static final int DEFAULT_ITEM_SPAWN_INTERVAL = 10;
     private static final int BLOCKS_PER_SPEED_STEP = 12;
     private static final int LINES_PER_SPEED_STEP = 4;
     private static final int MAX_SPEED_LEVEL = 20;
     private static final int LINE_CLEAR_HIGHLIGHT_DELAY_MS = 250;
+    private static final int GARBAGE_CELL = 8;
     private static final long SLOW_ITEM_DURATION_MS = 15_000L;
     private static final long INACTIVITY_STAGE1_MS = 2000;
     private static final long INACTIVITY_STAGE2_MS = 5000;
@@ -237,6 +337,11 @@ public final class GameModel implements tetris.domain.engine.GameplayEngine.Game
     private long accumulatedPauseMillis;
     private long timeLimitMillis;
     private LockedPieceSnapshot lastLockedPieceSnapshot;
+    // 버프/무입력/일시정지 계산에 쓰는 시각. 리플레이 기록·재생 시 사건 시각으로 바꿔 끼운다.
+    private LongSupplier timeSource = System::currentTimeMillis;
+    private ReplayTap replayTap;
+    private boolean notifyingBeforeSpawn;
+    private MatchHistoryRepository matchHistory;
 
     private UiBridge uiBridge = NO_OP_UI_BRIDGE;
     private GameState currentState;
@@ -285,6 +390,12 @@ public final class GameModel implements tetris.domain.engine.GameplayEngine.Game
         if (currentHandler != null) {
             currentHandler.exit(this);
         }
+        if (next == GameState.GAME_OVER && currentState != GameState.GAME_OVER) {
+            if (replayTap != null) {
+                replayTap.onGameOver();
+            }
+            recordMatch();
+        }
         currentState = next;
         currentHandler = Optional.ofNullable(handlers.get(next))
                 .orElseThrow(() -> new IllegalStateException("No handler for state: " + next));
@@ -475,7 +586,7 @@ public final class GameModel implements tetris.domain.engine.GameplayEngine.Game
             Object factorObj = data.getOrDefault("factor", Double.valueOf(2.0));
             double factor = factorObj instanceof Number ? ((Number) factorObj).doubleValue() : 2.0;
             scoreMultiplier = Math.max(0.0, factor);
-            doubleScoreBuffExpiresAtMs = System.currentTimeMillis() + durationMs;
+            doubleScoreBuffExpiresAtMs = now() + durationMs;
             scoreEngine.setMultiplier(scoreMultiplier);
         } else if ("slow".equals(buffId)) {
             Object durationObj = data.get("durationMs");
@@ -485,7 +596,7 @@ public final class GameModel implements tetris.domain.engine.GameplayEngine.Game
             Object levelDeltaObj = data.getOrDefault("levelDelta", Integer.valueOf(-1));
             int levelDelta = levelDeltaObj instanceof Number ? ((Number) levelDeltaObj).intValue() : -1;
             slowLevelOffset = Math.min(0, levelDelta);
-            slowBuffExpiresAtMs = System.currentTimeMillis() + durationMs;
+            slowBuffExpiresAtMs = now() + durationMs;
             applyGravityLevel();
         }
     }
@@ -609,6 +720,11 @@ public final class GameModel implements tetris.domain.engine.GameplayEngine.Game
         this.itemSpawnIntervalLines = interval;
     }
 
+    /** 아이템 종류/아이템 칸 선택 난수를 고정한다. (시뮬레이션 재현용) */
+    public void setItemRandomSeed(long seed) {
+        itemRandom.setSeed(seed);
+    }
+
     public void setItemBehaviorOverride(String behaviorId) {
         if (behaviorId == null || behaviorId.isBlank()) {
             this.behaviorOverride = null;
@@ -650,6 +766,9 @@ public final class GameModel implements tetris.domain.engine.GameplayEngine.Game
         } else if (defaultPlayHandler != null) {
             handlers.put(GameState.PLAYING, defaultPlayHandler);
         }
+        if (replayTap != null) {
+            replayTap.onGameStarted(selected);
+        }
         resetGameplayState();
         changeState(GameState.PLAYING);
     }
@@ -672,6 +791,218 @@ public final class GameModel implements tetris.domain.engine.GameplayEngine.Game
         gameplayEngine.pauseClock();
     }
 
+    /**
+     * 게임 시계를 Swing 타이머 대신 소유 스레드가 {@link #advanceClock(long)} 로 구동하도록 전환한다.
+     * 네트워크 호스트의 시뮬레이션 스레드가 플레이어 모델을 EDT 밖에서 진행할 때 사용한다.
+     */
+    public void setExternalClockDrive(boolean driven) {
+        gameplayEngine.setExternalClockDrive(driven);
+    }
+
+    public void advanceClock(long elapsedMs) {
+        gameplayEngine.advanceClock(elapsedMs);
+    }
+
+    /** 시계를 거치지 않고 중력 한 칸을 적용한다. (리플레이 재생용) */
+    public void applyGravityTick() {
+        gameplayEngine.onGravityTick();
+    }
+
+    /** 줄 삭제 연출 대기를 건너뛰고 삭제를 확정한다. (리플레이 재생용) */
+    public void commitLineClear() {
+        gameplayEngine.commitLineClearNow();
+    }
+
+    /**
+     * 버프 만료/무입력 패널티/일시정지 계산에 쓰는 시각 공급원을 바꾼다. null이면 시스템 시각.
+     * 표시용 남은 시간 계산은 계속 시스템 시각을 쓴다.
+     */
+    public void setTimeSource(LongSupplier source) {
+        this.timeSource = source == null ? System::currentTimeMillis : source;
+    }
+
+    public void setReplayTap(ReplayTap tap) {
+        this.replayTap = tap;
+    }
+
+    /** 싱글 플레이 판이 끝날 때마다 결과를 남길 보관소. null이면 남기지 않는다. */
+    public void setMatchHistory(MatchHistoryRepository history) {
+        this.matchHistory = history;
+    }
+
+    public MatchHistoryRepository getMatchHistory() {
+        return matchHistory;
+    }
+
+    /** 싱글 플레이 판의 결과를 기록한다. 대전 중이거나 판이 시작된 적 없으면 건너뛴다. */
+    private void recordMatch() {
+        if (matchHistory == null || gameplayStartedAtMillis <= 0
+                || activeLocalSession != null || activeNetworkSession != null) {
+            return;
+        }
+        scoreEngine.flush();
+        Score score = scoreRepository.load();
+        long paused = accumulatedPauseMillis + (pauseStartedAt > 0 ? Math.max(0L, now() - pauseStartedAt) : 0L);
+        long durationMs = Math.max(0L, now() - gameplayStartedAtMillis - paused);
+        matchHistory.record(new MatchRecord(System.currentTimeMillis(), currentMode, score.getPoints(),
+                score.getClearedLines(), totalSpawnedBlocks, durationMs, currentGravityLevel));
+    }
+
+    private long now() {
+        return timeSource.getAsLong();
+    }
+
+    /**
+     * 현재 시뮬레이션 상태를 memento에 복사한다. 블록 생성기는 {@link StatefulRandom} 기반
+     * {@link RandomBlockGenerator} 여야 한다.
+     * @throws IllegalStateException 생성기 상태를 꺼낼 수 없는 경우
+     */
+    public void saveState(Memento m) {
+        if (!(blockGenerator instanceof RandomBlockGenerator generator)) {
+            throw new IllegalStateException("Block generator state is not capturable: " + blockGenerator.getClass().getName());
+        }
+        gameplayEngine.saveState(m.engine);
+        m.generatorState = generator.getRandomState();
+        m.generatorBuffered = generator.getBufferedKind();
+        m.itemRandomState = itemRandom.getState();
+        scoreEngine.flush();
+        m.score = scoreRepository.load();
+        saveItems(m);
+        m.activeItemBlock = activeItemBlock;
+        m.nextBlockIsItem = nextBlockIsItem;
+        m.totalClearedLines = totalClearedLines;
+        m.totalSpawnedBlocks = totalSpawnedBlocks;
+        m.currentTick = currentTick;
+        m.scoreMultiplier = scoreMultiplier;
+        m.doubleScoreBuffExpiresAtMs = doubleScoreBuffExpiresAtMs;
+        m.slowLevelOffset = slowLevelOffset;
+        m.slowBuffExpiresAtMs = slowBuffExpiresAtMs;
+        m.currentGravityLevel = currentGravityLevel;
+        m.lastInputMillis = lastInputMillis;
+        m.inactivityPenaltyStage = inactivityPenaltyStage;
+        m.pauseStartedAt = pauseStartedAt;
+        m.gameplayStartedAtMillis = gameplayStartedAtMillis;
+        m.accumulatedPauseMillis = accumulatedPauseMillis;
+        m.timeLimitMillis = timeLimitMillis;
+        m.pendingGarbageLines = pendingGarbageLines;
+        m.lastLockedPieceSnapshot = lastLockedPieceSnapshot;
+        m.currentMode = currentMode;
+        m.state = currentState;
+    }
+
+    /**
+     * memento 상태로 제자리 복원한다. 상태 머신은 핸들러 enter/exit 없이 바꾼다.
+     * (enter가 스폰/시계 재개를 하면 복원한 상태가 달라지기 때문. 오버레이는 호출자가 정리한다)
+     */
+    public void restoreState(Memento m) {
+        if (!m.isCaptured()) {
+            throw new IllegalArgumentException("Memento was never saved");
+        }
+        if (!(blockGenerator instanceof RandomBlockGenerator generator)) {
+            throw new IllegalStateException("Block generator state is not capturable: " + blockGenerator.getClass().getName());
+        }
+        if (currentState != m.state) {
+            currentState = m.state;
+            currentHandler = handlers.get(m.state);
+        }
+        generator.restoreState(m.generatorState, m.generatorBuffered);
+        itemRandom.setState(m.itemRandomState);
+        restoreItems(m);
+        activeItemBlock = m.activeItemBlock;
+        nextBlockIsItem = m.nextBlockIsItem;
+        totalClearedLines = m.totalClearedLines;
+        totalSpawnedBlocks = m.totalSpawnedBlocks;
+        currentTick = m.currentTick;
+        scoreMultiplier = m.scoreMultiplier;
+        doubleScoreBuffExpiresAtMs = m.doubleScoreBuffExpiresAtMs;
+        slowLevelOffset = m.slowLevelOffset;
+        slowBuffExpiresAtMs = m.slowBuffExpiresAtMs;
+        currentGravityLevel = m.currentGravityLevel;
+        lastInputMillis = m.lastInputMillis;
+        inactivityPenaltyStage = m.inactivityPenaltyStage;
+        pauseStartedAt = m.pauseStartedAt;
+        gameplayStartedAtMillis = m.gameplayStartedAtMillis;
+        accumulatedPauseMillis = m.accumulatedPauseMillis;
+        timeLimitMillis = m.timeLimitMillis;
+        pendingGarbageLines = m.pendingGarbageLines;
+        lastLockedPieceSnapshot = m.lastLockedPieceSnapshot;
+        currentMode = m.currentMode;
+        snapshotItemInfo = null;
+        scoreEngine.setMultiplier(scoreMultiplier);
+        scoreEngine.restoreScore(m.score);
+        applyGravityLevel();
+        // 시계 레벨을 맞춘 뒤 엔진을 복원해야 중력 누적 시간이 새 지연값 기준으로 남는다.
+        gameplayEngine.restoreState(m.engine);
+    }
+
+    private void saveItems(Memento m) {
+        int count = itemManager.size();
+        if (m.items.length < count) {
+            m.items = new ItemBlockModel[count];
+            m.itemCells = new int[count * 2];
+        }
+        int behaviors = 0;
+        for (int i = 0; i < count; i++) {
+            ItemBlockModel item = itemManager.get(i);
+            m.items[i] = item;
+            m.itemCells[i * 2] = item.getItemCellX();
+            m.itemCells[i * 2 + 1] = item.getItemCellY();
+            behaviors += item.behaviorCount();
+        }
+        if (m.behaviorStates.length < behaviors) {
+            m.behaviorStates = new int[behaviors];
+        }
+        int k = 0;
+        for (int i = 0; i < count; i++) {
+            ItemBlockModel item = m.items[i];
+            for (int b = 0; b < item.behaviorCount(); b++) {
+                m.behaviorStates[k++] = item.behaviorAt(b).saveState();
+            }
+        }
+        // 지난 저장에서 남은 참조를 놓아 준다.
+        for (int i = count; i < m.itemCount; i++) {
+            m.items[i] = null;
+        }
+        m.itemCount = count;
+    }
+
+    private void restoreItems(Memento m) {
+        int k = 0;
+        for (int i = 0; i < m.itemCount; i++) {
+            ItemBlockModel item = m.items[i];
+            item.setItemCell(m.itemCells[i * 2], m.itemCells[i * 2 + 1]);
+            for (int b = 0; b < item.behaviorCount(); b++) {
+                item.behaviorAt(b).restoreState(m.behaviorStates[k++]);
+            }
+        }
+        itemManager.restore(m.items, m.itemCount);
+    }
+
+    /** 플레이 중이면 입력을 리플레이 훅에 알리고 true. 입력이 무시되는 상태면 false. */
+    private boolean tapInput(InputType type) {
+        if (!isPlayingState()) {
+            return false;
+        }
+        if (replayTap != null) {
+            replayTap.onInput(type);
+        }
+        return true;
+    }
+
+    @Override
+    public void beforeGravityTick() {
+        if (replayTap != null) {
+            replayTap.onGravityTick();
+        }
+    }
+
+    @Override
+    public void beforeLineClearCommit() {
+        if (replayTap != null) {
+            replayTap.onLineClearCommit();
+        }
+    }
+
     private boolean isPlayingState() {
         return currentState == GameState.PLAYING;
     }
@@ -849,12 +1180,12 @@ public final class GameModel implements tetris.domain.engine.GameplayEngine.Game
     }
 
     private void refreshBuffs(long tick) {
-        if (doubleScoreBuffExpiresAtMs > 0 && System.currentTimeMillis() >= doubleScoreBuffExpiresAtMs) {
+        if (doubleScoreBuffExpiresAtMs > 0 && now() >= doubleScoreBuffExpiresAtMs) {
             doubleScoreBuffExpiresAtMs = 0;
             scoreMultiplier = 1.0;
             scoreEngine.setMultiplier(scoreMultiplier);
         }
-        if (slowBuffExpiresAtMs > 0 && System.currentTimeMillis() >= slowBuffExpiresAtMs) {
+        if (slowBuffExpiresAtMs > 0 && now() >= slowBuffExpiresAtMs) {
             slowBuffExpiresAtMs = 0;
             slowLevelOffset = 0;
             applyGravityLevel();
@@ -865,7 +1196,7 @@ public final class GameModel implements tetris.domain.engine.GameplayEngine.Game
         if (currentState != GameState.PLAYING) {
             return; // 일시정지/메뉴 등에서는 패널티를 계산하지 않는다.
         }
-        long elapsed = System.currentTimeMillis() - lastInputMillis;
+        long elapsed = now() - lastInputMillis;
         if (inactivityPenaltyStage < 1 && elapsed >= INACTIVITY_STAGE1_MS) {
             applyInactivityPenaltyStage(1);
         }
@@ -922,7 +1253,7 @@ public final class GameModel implements tetris.domain.engine.GameplayEngine.Game
 
     private void recordPlayerInput() {
         inactivityPenaltyStage = 0;
-        lastInputMillis = System.currentTimeMillis();
+        lastInputMillis = now();
     }
 
     /**
@@ -931,7 +1262,7 @@ public final class GameModel implements tetris.domain.engine.GameplayEngine.Game
     private void resetRuntimeForMenu() {
         resetInputAxes();
         inactivityPenaltyStage = 0;
-        lastInputMillis = System.currentTimeMillis();
+        lastInputMillis = now();
         pauseStartedAt = -1;
         currentTick = 0;
         scoreMultiplier = 1.0;
@@ -962,7 +1293,7 @@ public final class GameModel implements tetris.domain.engine.GameplayEngine.Game
         totalSpawnedBlocks = 0;
         currentGravityLevel = 0;
         inactivityPenaltyStage = 0;
-        lastInputMillis = System.currentTimeMillis();
+        lastInputMillis = now();
         gameplayStartedAtMillis = lastInputMillis;
         accumulatedPauseMillis = 0;
         timeLimitMillis = currentMode == GameMode.TIME_LIMIT ? DEFAULT_TIME_LIMIT_MS : 0L;
@@ -1057,128 +1388,104 @@ public final class GameModel implements tetris.domain.engine.GameplayEngine.Game
 
     /** 네트워크 전송용 스냅샷 생성 */
     public tetris.network.protocol.GameSnapshot toSnapshot(int playerId) {
-        int[][] copy = board.gridView(); // 이미 깊은 복사 반환
-        // 현재/다음 블록 타입 식별자 계산
-        Block active = gameplayEngine != null ? gameplayEngine.getActiveBlock() : null;
-        int currentId = 0;
-        int blockX = -1;
-        int blockY = -1;
-        int blockRotation = 0;
-        
-        if (active != null && active.getShape() != null && active.getShape().kind() != null) {
-            currentId = active.getShape().kind().ordinal() + 1; // 1..7 등
-            blockX = active.getX();
-            blockY = active.getY();
-            blockRotation = active.getRotation();
-        }
-        
-        BlockKind nextKind = getNextBlockKind();
-        int nextId = nextKind != null ? (nextKind.ordinal() + 1) : 0;
-        int pts = 0;
+        SnapshotEncodeEvent event = new SnapshotEncodeEvent();
+        event.begin();
+        long startedAt = System.nanoTime();
         try {
-            tetris.domain.score.Score sc = scoreRepository != null ? scoreRepository.load() : null;
-            pts = sc != null ? sc.getPoints() : 0;
-        } catch (Exception ignore) {
-            pts = 0;
-        }
-        int elapsed = (int) (getElapsedMillis() / 1000L);
-        int pending = pendingGarbageLines;
-        
-        // 아이템 정보 (호스트/로컬 모델에서만 채워짐)
-        String itemLabel = null;
-        int itemCellX = -1;
-        int itemCellY = -1;
-        if (isItemMode()) {
-            ActiveItemInfo info = getActiveItemInfo();
-            if (info != null) {
-                itemLabel = info.label();
-                itemCellX = info.itemCellX();
-                itemCellY = info.itemCellY();
+            return buildSnapshot(playerId, null);
+        } finally {
+            GameMetrics.SNAPSHOT_ENCODE.recordNanos(System.nanoTime() - startedAt);
+            if (event.shouldCommit()) {
+                event.playerId = playerId;
+                event.commit();
             }
         }
-        
-        // 라인 클리어 하이라이트용
-        int[] clearedLinesArray = null;
-        if (gameplayEngine != null) {
-            java.util.List<Integer> clearedList = gameplayEngine.getLastClearedRows();
-            if (clearedList != null && !clearedList.isEmpty()) {
-                clearedLinesArray = clearedList.stream().mapToInt(Integer::intValue).toArray();
-            }
-        }
-        
-        // 게임 모드 정보 포함
-        String gameModeStr = currentMode != null ? currentMode.name() : "STANDARD";
-        
-        return new tetris.network.protocol.GameSnapshot(playerId, copy, currentId, nextId, pts, elapsed, pending, blockX, blockY, blockRotation, null, gameModeStr, itemLabel, itemCellX, itemCellY, clearedLinesArray);
     }
-    
+
     /**
      * 네트워크 스냅샷 생성 (공격 대기열 포함)
      * @param playerId 플레이어 ID
      * @param attackLines 공격 대기열 (서버가 전달)
      */
     public tetris.network.protocol.GameSnapshot toSnapshot(int playerId, java.util.List<tetris.multiplayer.model.AttackLine> attackLines) {
-        int[][] copy = board.gridView();
-        Block active = gameplayEngine != null ? gameplayEngine.getActiveBlock() : null;
-        int currentId = 0;
-        int blockX = -1;
-        int blockY = -1;
-        int blockRotation = 0;
-        
-        if (active != null && active.getShape() != null && active.getShape().kind() != null) {
-            currentId = active.getShape().kind().ordinal() + 1;
-            blockX = active.getX();
-            blockY = active.getY();
-            blockRotation = active.getRotation();
-        }
-        
-        BlockKind nextKind = getNextBlockKind();
-        int nextId = nextKind != null ? (nextKind.ordinal() + 1) : 0;
-        int pts = 0;
+        return toSnapshot(playerId, attackLines == null ? null : tetris.multiplayer.model.AttackQueueView.of(attackLines));
+    }
+
+    /**
+     * 네트워크 스냅샷 생성 (공격 대기열 보기를 복사 없이 읽음)
+     * @param playerId 플레이어 ID
+     * @param attackLines 공격 대기열 보기 (서버가 전달, null 가능)
+     */
+    public tetris.network.protocol.GameSnapshot toSnapshot(int playerId, tetris.multiplayer.model.AttackQueueView attackLines) {
+        SnapshotEncodeEvent event = new SnapshotEncodeEvent();
+        event.begin();
+        long startedAt = System.nanoTime();
         try {
-            tetris.domain.score.Score sc = scoreRepository != null ? scoreRepository.load() : null;
-            pts = sc != null ? sc.getPoints() : 0;
-        } catch (Exception ignore) {
-            pts = 0;
-        }
-        int elapsed = (int) (getElapsedMillis() / 1000L);
-        int pending = pendingGarbageLines;
-        
-        // 공격 대기열 정보 변환
-        boolean[][] attackLinesData = null;
-        if (attackLines != null && !attackLines.isEmpty()) {
-            attackLinesData = new boolean[attackLines.size()][];
-            for (int i = 0; i < attackLines.size(); i++) {
-                attackLinesData[i] = attackLines.get(i).copyHoles();
+            return buildSnapshot(playerId, attackLines);
+        } finally {
+            GameMetrics.SNAPSHOT_ENCODE.recordNanos(System.nanoTime() - startedAt);
+            if (event.shouldCommit()) {
+                event.playerId = playerId;
+                event.attackLines = attackLines == null ? 0 : attackLines.size();
+                event.commit();
             }
         }
-        
-        // 아이템 정보 (호스트/로컬 모델에서만 채워짐)
-        String itemLabel = null;
-        int itemCellX = -1;
-        int itemCellY = -1;
-        if (isItemMode()) {
-            ActiveItemInfo info = getActiveItemInfo();
+    }
+
+    private tetris.network.protocol.GameSnapshot buildSnapshot(int playerId, tetris.multiplayer.model.AttackQueueView attackLines) {
+        // 호스트는 스텝 스레드와 화면 스레드에서 모두 부를 수 있으므로 재사용 버퍼를 잠근다.
+        synchronized (snapshotBuilder) {
+            board.copyTo(snapshotCells);
+            snapshotBuilder.board(snapshotCells, Board.W).clearLists();
+
+            // 현재/다음 블록 타입 식별자 계산
+            Block active = gameplayEngine != null ? gameplayEngine.getActiveBlock() : null;
+            if (active != null && active.getShape() != null && active.getShape().kind() != null) {
+                snapshotBuilder.block(active.getShape().kind().ordinal() + 1, active.getX(), active.getY(), active.getRotation());
+            } else {
+                snapshotBuilder.block(0, -1, -1, 0);
+            }
+            BlockKind nextKind = getNextBlockKind();
+            snapshotBuilder.nextBlock(nextKind != null ? (nextKind.ordinal() + 1) : 0);
+
+            int pts = 0;
+            try {
+                tetris.domain.score.Score sc = scoreRepository != null ? scoreRepository.load() : null;
+                pts = sc != null ? sc.getPoints() : 0;
+            } catch (Exception ignore) {
+                pts = 0;
+            }
+            snapshotBuilder.progress(pts, (int) (getElapsedMillis() / 1000L), pendingGarbageLines);
+
+            // 공격 대기열 정보 변환 (줄마다 구멍 비트마스크)
+            if (attackLines != null) {
+                for (int i = 0; i < attackLines.size(); i++) {
+                    snapshotBuilder.addAttackLine(attackLines.holeMask(i), attackLines.width(i));
+                }
+            }
+
+            // 아이템 정보 (호스트/로컬 모델에서만 채워짐)
+            ActiveItemInfo info = isItemMode() ? getActiveItemInfo() : null;
             if (info != null) {
-                itemLabel = info.label();
-                itemCellX = info.itemCellX();
-                itemCellY = info.itemCellY();
+                snapshotBuilder.item(info.label(), info.itemCellX(), info.itemCellY());
+            } else {
+                snapshotBuilder.item(null, -1, -1);
             }
-        }
-        
-        // 라인 클리어 하이라이트용
-        int[] clearedLinesArray = null;
-        if (gameplayEngine != null) {
-            java.util.List<Integer> clearedList = gameplayEngine.getLastClearedRows();
-            if (clearedList != null && !clearedList.isEmpty()) {
-                clearedLinesArray = clearedList.stream().mapToInt(Integer::intValue).toArray();
+
+            // 라인 클리어 하이라이트용
+            if (gameplayEngine != null) {
+                java.util.List<Integer> clearedList = gameplayEngine.getLastClearedRows();
+                if (clearedList != null) {
+                    for (int i = 0; i < clearedList.size(); i++) {
+                        snapshotBuilder.addClearedLine(clearedList.get(i));
+                    }
+                }
             }
+
+            // 게임 모드 정보 포함
+            snapshotBuilder.mode(currentMode != null ? currentMode : GameMode.STANDARD);
+            return snapshotBuilder.build(playerId);
         }
-        
-        // 게임 모드 정보 포함
-        String gameModeStr = currentMode != null ? currentMode.name() : "STANDARD";
-        
-        return new tetris.network.protocol.GameSnapshot(playerId, copy, currentId, nextId, pts, elapsed, pending, blockX, blockY, blockRotation, attackLinesData, gameModeStr, itemLabel, itemCellX, itemCellY, clearedLinesArray);
     }
 
     /** 스냅샷을 적용 (클라이언트 렌더링 전용) */
@@ -1199,24 +1506,34 @@ public final class GameModel implements tetris.domain.engine.GameplayEngine.Game
      */
     private void applySnapshotImpl(tetris.network.protocol.GameSnapshot snapshot) {
         if (snapshot == null) return;
+        SnapshotApplyEvent event = new SnapshotApplyEvent();
+        event.begin();
+        long startedAt = System.nanoTime();
+        try {
+            restoreFromSnapshot(snapshot);
+        } finally {
+            GameMetrics.SNAPSHOT_APPLY.recordNanos(System.nanoTime() - startedAt);
+            if (event.shouldCommit()) {
+                event.playerId = snapshot.playerId();
+                event.attackLines = snapshot.attackLineCount();
+                event.commit();
+            }
+        }
+    }
+
+    private void restoreFromSnapshot(tetris.network.protocol.GameSnapshot snapshot) {
         // 스냅샷에서 받은 아이템 정보 초기화
         snapshotItemInfo = null;
         
         // 게임 모드 동기화 - 스냅샷에 모드 정보가 있으면 적용
-        if (snapshot.gameMode() != null && !snapshot.gameMode().isEmpty()) {
-            try {
-                GameMode snapshotMode = GameMode.valueOf(snapshot.gameMode());
-                if (this.currentMode != snapshotMode) {
-                    System.out.println("[GameModel] Syncing game mode from snapshot: " + this.currentMode + " -> " + snapshotMode);
-                    this.currentMode = snapshotMode;
-                }
-            } catch (IllegalArgumentException e) {
-                System.err.println("[GameModel] Invalid game mode in snapshot: " + snapshot.gameMode());
-            }
+        GameMode snapshotMode = snapshot.mode();
+        if (snapshotMode != null && this.currentMode != snapshotMode) {
+            System.out.println("[GameModel] Syncing game mode from snapshot: " + this.currentMode + " -> " + snapshotMode);
+            this.currentMode = snapshotMode;
         }
         
         // 공격 대기열 정보 로깅
-        int attackLineCount = snapshot.attackLines() != null ? snapshot.attackLines().length : 0;
+        int attackLineCount = snapshot.attackLineCount();
         try {
             System.out.println("[GameModel] Applying snapshot -> player=" + snapshot.playerId() 
                 + ", currentId=" + snapshot.currentBlockId() 
@@ -1227,14 +1544,18 @@ public final class GameModel implements tetris.domain.engine.GameplayEngine.Game
         } catch (Exception ignore) {}
         
         // 보드 상태 적용
-        int[][] b = snapshot.board();
-        if (b != null) {
-            board.clear();
-            int h = Math.min(Board.H, b.length);
-            int w = Math.min(Board.W, b[0].length);
-            for (int y = 0; y < h; y++) {
-                for (int x = 0; x < w; x++) {
-                    board.setCell(x, y, b[y][x]);
+        byte[] cells = snapshot.cells();
+        if (cells != null) {
+            if (snapshot.boardWidth() == Board.W && snapshot.boardHeight() == Board.H) {
+                board.copyFrom(cells);
+            } else {
+                board.clear();
+                int h = Math.min(Board.H, snapshot.boardHeight());
+                int w = Math.min(Board.W, snapshot.boardWidth());
+                for (int y = 0; y < h; y++) {
+                    for (int x = 0; x < w; x++) {
+                        board.setCell(x, y, cells[y * snapshot.boardWidth() + x] & 0xFF);
+                    }
                 }
             }
         }
@@ -1311,12 +1632,10 @@ public final class GameModel implements tetris.domain.engine.GameplayEngine.Game
         }
         
         // 공격 대기열 데이터 저장 (클라이언트 렌더링용)
-        snapshotAttackLines.clear();
-        if (snapshot.attackLines() != null && snapshot.attackLines().length > 0) {
-            for (boolean[] holes : snapshot.attackLines()) {
-                snapshotAttackLines.add(new tetris.multiplayer.model.AttackLine(holes));
-            }
-        }
+        // 스냅샷은 불변이므로 마스크를 복사하지 않고 보기로 감싼다.
+        snapshotAttackView = snapshot.attackLineCount() == 0
+                ? tetris.multiplayer.model.AttackQueueView.EMPTY
+                : new SnapshotAttackView(snapshot);
         
         if (uiBridge != null) uiBridge.refreshBoard();
         try {
@@ -1325,9 +1644,24 @@ public final class GameModel implements tetris.domain.engine.GameplayEngine.Game
     }
 
     public void stepGameplay() {
+        if (replayTap != null) {
+            int mask = inputState.toMask();
+            if (mask != 0 && gameplayEngine.getActiveBlock() != null) {
+                replayTap.onStep(mask);
+            }
+        }
         gameplayEngine.stepGameplay();
     }
 
+    /** 멀티플레이에서 이 모델이 맡은 플레이어 번호 (진단 이벤트 구분용, 싱글은 0). */
+    public void setPlayerId(int playerId) {
+        gameplayEngine.setPlayerId(playerId);
+    }
+
+    public int getPlayerId() {
+        return gameplayEngine.getPlayerId();
+    }
+
     public void bindUiBridge(UiBridge bridge) {
         this.uiBridge = Objects.requireNonNull(bridge, "bridge");
         this.gameplayEngine.setUiBridge(this.uiBridge);
@@ -1406,15 +1740,21 @@ public final class GameModel implements tetris.domain.engine.GameplayEngine.Game
 
     public void pauseGame() {
         if (currentState == GameState.PLAYING) {
-            pauseStartedAt = System.currentTimeMillis();
+            if (replayTap != null) {
+                replayTap.onPauseChanged(true);
+            }
+            pauseStartedAt = now();
             changeState(GameState.PAUSED);
         }
     }
 
     public void resumeGame() {
         if (currentState == GameState.PAUSED) {
+            if (replayTap != null) {
+                replayTap.onPauseChanged(false);
+            }
             if (pauseStartedAt > 0) {
-                long pausedDuration = System.currentTimeMillis() - pauseStartedAt;
+                long pausedDuration = now() - pauseStartedAt;
                 lastInputMillis += pausedDuration;
                 accumulatedPauseMillis += Math.max(0L, pausedDuration);
                 pauseStartedAt = -1;
@@ -1436,7 +1776,7 @@ public final class GameModel implements tetris.domain.engine.GameplayEngine.Game
     }
 
     public void moveBlockLeft() {
-        if (!isPlayingState() || !ensureActiveBlockPresent()) {
+        if (!tapInput(InputType.MOVE_LEFT) || !ensureActiveBlockPresent()) {
             return;
         }
         recordPlayerInput();
@@ -1444,7 +1784,7 @@ public final class GameModel implements tetris.domain.engine.GameplayEngine.Game
     }
 
     public void moveBlockRight() {
-        if (!isPlayingState() || !ensureActiveBlockPresent()) {
+        if (!tapInput(InputType.MOVE_RIGHT) || !ensureActiveBlockPresent()) {
             return;
         }
         recordPlayerInput();
@@ -1452,7 +1792,7 @@ public final class GameModel implements tetris.domain.engine.GameplayEngine.Game
     }
 
     public void moveBlockDown() {
-        if (!isPlayingState() || !ensureActiveBlockPresent()) {
+        if (!tapInput(InputType.SOFT_DROP) || !ensureActiveBlockPresent()) {
             return;
         }
         recordPlayerInput();
@@ -1460,7 +1800,7 @@ public final class GameModel implements tetris.domain.engine.GameplayEngine.Game
     }
 
     public void rotateBlockClockwise() {
-        if (!isPlayingState() || !ensureActiveBlockPresent()) {
+        if (!tapInput(InputType.ROTATE) || !ensureActiveBlockPresent()) {
             return;
         }
         // weight 아이템일 때 회전 무시
@@ -1490,7 +1830,7 @@ public final class GameModel implements tetris.domain.engine.GameplayEngine.Game
     }
 
     public void rotateBlockCounterClockwise() {
-        if (!isPlayingState() || !ensureActiveBlockPresent()) {
+        if (!tapInput(InputType.ROTATE_CCW) || !ensureActiveBlockPresent()) {
             return;
         }
         // weight 아이템일 때 회전 무시
@@ -1505,7 +1845,7 @@ public final class GameModel implements tetris.domain.engine.GameplayEngine.Game
     }
 
     public void hardDropBlock() {
-        if (!isPlayingState() || !ensureActiveBlockPresent()) {
+        if (!tapInput(InputType.HARD_DROP) || !ensureActiveBlockPresent()) {
             return;
         }
         recordPlayerInput();
@@ -1513,7 +1853,7 @@ public final class GameModel implements tetris.domain.engine.GameplayEngine.Game
     }
 
     public void holdCurrentBlock() {
-        if (!isPlayingState()) {
+        if (!tapInput(InputType.HOLD)) {
             return;
         }
         recordPlayerInput();
@@ -1626,8 +1966,42 @@ public final class GameModel implements tetris.domain.engine.GameplayEngine.Game
         if (multiplayerHooks.isEmpty()) {
             return;
         }
-        for (MultiplayerHook hook : multiplayerHooks) {
-            hook.beforeNextSpawn();
+        notifyingBeforeSpawn = true;
+        try {
+            for (MultiplayerHook hook : multiplayerHooks) {
+                hook.beforeNextSpawn();
+            }
+        } finally {
+            notifyingBeforeSpawn = false;
+        }
+    }
+
+    /**
+     * 보드를 lines 수만큼 위로 밀어 올리고 바닥에 공격 줄을 채운다. 구멍 칸만 비워 둔다.
+     * 로컬/네트워크 멀티 컨트롤러가 대기 공격을 주입할 때 쓰는 유일한 경로다.
+     */
+    public void insertGarbageRows(List<AttackLine> lines) {
+        if (lines == null || lines.isEmpty()) {
+            return;
+        }
+        insertGarbageRows(tetris.multiplayer.model.AttackQueueView.of(lines));
+    }
+
+    /**
+     * 대기 공격 버퍼 같은 보기에서 구멍 마스크를 바로 읽어 주입한다. 보드는 폭 밖의 비트를 보지 않는다.
+     * 멀티 컨트롤러는 이 경로로 버퍼를 비우므로 줄 객체를 만들지 않는다.
+     */
+    public void insertGarbageRows(tetris.multiplayer.model.AttackQueueView attacks) {
+        if (attacks == null || attacks.isEmpty()) {
+            return;
+        }
+        if (replayTap != null) {
+            replayTap.onGarbage(attacks, notifyingBeforeSpawn);
+        }
+        // 바닥부터 한 줄씩 밀어 넣는다: 먼저 넣은 줄이 위, 마지막 줄이 맨 바닥. (행 고리만 돌리므로 줄 수에 비례)
+        int attackCount = Math.min(attacks.size(), Board.H);
+        for (int index = 0; index < attackCount; index++) {
+            board.pushGarbageRow(attacks.holeMask(index), GARBAGE_CELL);
         }
     }
 
@@ -1636,6 +2010,12 @@ public final class GameModel implements tetris.domain.engine.GameplayEngine.Game
             lastLockedPieceSnapshot = null;
             return;
         }
+        if (gameplayEngine != null && gameplayEngine.getLastLockedBlock() == block) {
+            // 엔진이 잠글 때 계산해 둔 행 마스크를 그대로 쓴다. (셀 객체를 만들지 않음)
+            lastLockedPieceSnapshot = LockedPieceSnapshot.ofRowMasks(
+                    gameplayEngine.getLockedTopY(), gameplayEngine.getLockedRowMasks());
+            return;
+        }
         BlockShape shape = block.getShape();
         List<Cell> cells = new ArrayList<>();
         for (int y = 0; y < shape.height(); y++) {
@@ -1671,9 +2051,8 @@ public final class GameModel implements tetris.domain.engine.GameplayEngine.Game
 
     public void commitPendingGarbageLines() {
         if (this.pendingGarbageLines > 0) {
-            // 1. 보드에 쓰레기 줄 추가
-            // board.addGarbageLines() 메서드가 Board 클래스에 구현되어야 함
-            //board.addGarbageLines(this.pendingGarbageLines); 
+            // 1. 실제 쓰레기 줄은 VersusRules 대기 공격이 insertGarbageRows 로 넣는다.
+            //    이 경로(줄 수만 오는 예전 프로토콜)에서 또 넣으면 같은 공격이 두 번 들어가므로 개수만 비운다.
 
             System.out.printf("[LOG] GameModel: 대기열 %d줄 보드에 적용됨.%n", this.pendingGarbageLines);
             
@@ -1700,7 +2079,43 @@ public final class GameModel implements tetris.domain.engine.GameplayEngine.Game
      * 스냅샷에서 받은 공격 대기열 데이터를 반환합니다 (클라이언트 렌더링용).
      */
     public java.util.List<tetris.multiplayer.model.AttackLine> getSnapshotAttackLines() {
-        return new java.util.ArrayList<>(snapshotAttackLines);
+        tetris.multiplayer.model.AttackQueueView view = snapshotAttackView;
+        java.util.List<tetris.multiplayer.model.AttackLine> lines = new java.util.ArrayList<>(view.size());
+        for (int i = 0; i < view.size(); i++) {
+            lines.add(new tetris.multiplayer.model.AttackLine(view.holeMask(i), view.width(i)));
+        }
+        return lines;
+    }
+
+    /**
+     * 스냅샷에서 받은 공격 대기열을 복사 없이 반환합니다 (클라이언트 렌더링용).
+     */
+    public tetris.multiplayer.model.AttackQueueView getSnapshotAttackView() {
+        return snapshotAttackView;
+    }
+
+    /** 받은 스냅샷의 공격 마스크를 그대로 읽는 보기. */
+    private static final class SnapshotAttackView implements tetris.multiplayer.model.AttackQueueView {
+        private final tetris.network.protocol.GameSnapshot snapshot;
+
+        SnapshotAttackView(tetris.network.protocol.GameSnapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public int size() {
+            return snapshot.attackLineCount();
+        }
+
+        @Override
+        public int holeMask(int index) {
+            return snapshot.attackMask(index);
+        }
+
+        @Override
+        public int width(int index) {
+            return snapshot.attackWidth();
+        }
     }
     
     /**
@@ -33,7 +33,7 @@ public final class RandomBlockGenerator implements BlockGenerator {
     private boolean forceIOnly = false;
 
     public RandomBlockGenerator() {
-        this(new Random());
+        this(new StatefulRandom());
     }
 
     public RandomBlockGenerator(Random random) {
@@ -76,6 +76,32 @@ public final class RandomBlockGenerator implements BlockGenerator {
         this.nextKind = kind;
     }
 
+    /**
+     * 상태 저장용: 난수 생성기 위치. 생성기가 {@link StatefulRandom} 이 아니면 꺼낼 수 없다.
+     * @throws IllegalStateException 일반 Random으로 만든 경우
+     */
+    public long getRandomState() {
+        return statefulRandom().getState();
+    }
+
+    /** 미리 뽑아 둔 다음 블록. 아직 뽑지 않았으면 null (peekNext와 달리 생성기를 움직이지 않는다). */
+    public BlockKind getBufferedKind() {
+        return nextKind;
+    }
+
+    /** {@link #getRandomState()} / {@link #getBufferedKind()} 로 저장한 위치로 되돌린다. */
+    public void restoreState(long randomState, BlockKind bufferedKind) {
+        statefulRandom().setState(randomState);
+        this.nextKind = bufferedKind;
+    }
+
+    private StatefulRandom statefulRandom() {
+        if (random instanceof StatefulRandom stateful) {
+            return stateful;
+        }
+        throw new IllegalStateException("Generator state is not capturable; construct it with StatefulRandom");
+    }
+
     private void ensureBuffered() {
         if (nextKind == null) {
             if (dirty) recomputeWeights();
@@ -0,0 +1,53 @@
+package tetris.domain;
+
+import java.util.Random;
+
+/**
+ * 내부 상태를 꺼내고 되돌릴 수 있는 {@link Random}.
+ * <p>
+ * java.util.Random과 같은 48비트 선형 합동 생성기를 그대로 구현하므로, 같은 시드면 같은 수열을 낸다.
+ * (기존 시드로 만든 리플레이/시뮬레이션 결과가 바뀌지 않는다)<br>
+ * 상태 저장/복원({@link GameModel#saveState(GameModel.Memento)})에서 생성기 위치를 long 하나로 옮기는 데 쓴다.
+ * nextGaussian의 보관값은 상태에 포함되지 않는다.
+ * </p>
+ * 스레드 안전하지 않다. 한 모델을 소유한 스레드에서만 사용한다.
+ */
+public final class StatefulRandom extends Random {
+
+    private static final long serialVersionUID = 1L;
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long ADDEND = 0xBL;
+    private static final long MASK = (1L << 48) - 1;
+
+    // 초기값을 두지 않는다: 상위 생성자가 setSeed를 먼저 부르고, 필드 초기화가 그 값을 덮어쓰면 안 된다.
+    private long state;
+
+    public StatefulRandom() {
+        super();
+    }
+
+    public StatefulRandom(long seed) {
+        super(seed);
+    }
+
+    @Override
+    public synchronized void setSeed(long seed) {
+        super.setSeed(seed);
+        state = (seed ^ MULTIPLIER) & MASK;
+    }
+
+    @Override
+    protected int next(int bits) {
+        state = (state * MULTIPLIER + ADDEND) & MASK;
+        return (int) (state >>> (48 - bits));
+    }
+
+    /** 현재 생성기 위치. {@link #setState(long)} 로 되돌릴 수 있다. */
+    public long getState() {
+        return state;
+    }
+
+    public void setState(long state) {
+        this.state = state & MASK;
+    }
+}
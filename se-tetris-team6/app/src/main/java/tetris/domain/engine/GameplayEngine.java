@@ -9,6 +9,10 @@ import tetris.domain.model.GameClock;
 import tetris.domain.model.InputState;
 import tetris.domain.score.ScoreRuleEngine;
 import tetris.domain.GameModel.UiBridge;
+import tetris.metrics.GameMetrics;
+import tetris.metrics.PerfRecorders;
+import tetris.metrics.jfr.BlockLockEvent;
+import tetris.metrics.jfr.GravityTickEvent;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -30,8 +34,42 @@ public class GameplayEngine implements GameClock.Listener {
         void onTick(long tick);
         void onBlockRotated(Block block, int times); // times: 시계방향 회전 횟수
         default void onGameOver() {} // 스폰 불가 등 즉시 게임오버 알림
+        default void beforeGravityTick() {} // 중력 한 칸 적용 직전 (리플레이 기록용)
+        default void beforeLineClearCommit() {} // 대기 중인 줄 삭제 확정 직전 (리플레이 기록용)
     }
 
+    /**
+     * 엔진 상태 저장용 그릇. {@link #saveState(Memento)} 가 미리 잡아 둔 배열/필드에 덮어쓰므로
+     * 같은 인스턴스를 재사용하면 저장/복원에 할당이 없다.
+     * <p>
+     * 활성 블록은 객체 참조와 자세(모양, 위치, 회전)를 함께 보관한다. 잠긴 블록은 다시 바뀌지 않으므로
+     * 참조를 되살려도 안전하고, 아이템 블록의 delegate 비교도 그대로 맞는다.
+     * 삭제 대기 줄 목록도 만든 뒤 바뀌지 않는 목록이라 참조만 보관한다.
+     * </p>
+     */
+    public static final class Memento {
+        private final int[] cells = new int[Board.H * Board.W];
+        private Block block;
+        private BlockShape shape;
+        private int x;
+        private int y;
+        private int rotation;
+        private long tickCounter;
+        private List<Integer> lastClearedRows = Collections.emptyList();
+        private List<Integer> pendingClearRows = Collections.emptyList();
+        private boolean awaitingLineClearCommit;
+        private long lineClearRemainingMs;
+        private boolean clockRunning;
+        private long gravityElapsedMs;
+        private int inputMask;
+        private Block lastLockedBlock;
+        private int lockedTopY;
+        private long lockedRowMasks;
+    }
+
+    private static final int LOCKED_ROWS = 4;
+    private static final int LOCKED_ROW_BITS = 16;
+
     private final Board board;
     private final InputState inputState;
     private final ScoreRuleEngine scoreEngine;
@@ -44,8 +82,16 @@ public class GameplayEngine implements GameClock.Listener {
     private long tickCounter;
     private List<Integer> lastClearedRows = Collections.emptyList();
     private Timer lineClearPauseTimer;
+    // 외부 구동 모드에서 줄 삭제 연출이 끝나기까지 남은 시간(ms). 0이면 대기 중이 아님.
+    private long lineClearRemainingMs;
     private List<Integer> pendingClearRows = Collections.emptyList();
     private boolean awaitingLineClearCommit;
+    // 진단(JFR) 이벤트에 남길 플레이어 번호. 싱글 플레이는 0.
+    private int playerId;
+    // 마지막으로 잠긴 블록이 차지한 행의 열 비트마스크 (행 i = lockedTopY + i 는 bit 16*i부터, 최대 4행)
+    private Block lastLockedBlock;
+    private int lockedTopY;
+    private long lockedRowMasks;
 
     public GameplayEngine(Board board, InputState inputState, BlockGenerator generator, ScoreRuleEngine scoreEngine, UiBridge uiBridge) {
         this.board = Objects.requireNonNull(board);
@@ -98,6 +144,21 @@ public class GameplayEngine implements GameClock.Listener {
         lastClearedRows = Collections.emptyList();
     }
 
+    /** 마지막으로 잠긴 블록. 잠긴 적이 없으면 null. */
+    public Block getLastLockedBlock() {
+        return lastLockedBlock;
+    }
+
+    /** 마지막으로 잠긴 블록의 첫 행 y. */
+    public int getLockedTopY() {
+        return lockedTopY;
+    }
+
+    /** 마지막으로 잠긴 블록의 행별 열 비트마스크. 행 i(= {@link #getLockedTopY()} + i)는 bit 16*i부터 16비트. */
+    public long getLockedRowMasks() {
+        return lockedRowMasks;
+    }
+
     public void pauseForLineClear(int durationMs) {
         if (!clockStarted) {
             return;
@@ -107,6 +168,10 @@ public class GameplayEngine implements GameClock.Listener {
             lineClearPauseTimer.stop();
         }
         int delay = Math.max(50, durationMs);
+        if (clock.isExternallyDriven()) {
+            lineClearRemainingMs = delay;
+            return;
+        }
         lineClearPauseTimer = new Timer(delay, e -> {
             ((Timer) e.getSource()).stop();
             commitPendingLineClear();
@@ -115,21 +180,117 @@ public class GameplayEngine implements GameClock.Listener {
         lineClearPauseTimer.start();
     }
 
+    /**
+     * 줄 삭제 연출 대기를 기다리지 않고 바로 확정한다. (리플레이 재생처럼 시계 대신 기록된 사건으로 진행할 때)
+     */
+    public void commitLineClearNow() {
+        lineClearRemainingMs = 0;
+        if (lineClearPauseTimer != null && lineClearPauseTimer.isRunning()) {
+            lineClearPauseTimer.stop();
+        }
+        commitPendingLineClear();
+    }
+
     private void commitPendingLineClear() {
         if (awaitingLineClearCommit) {
+            if (events != null) {
+                events.beforeLineClearCommit();
+            }
             board.clearRows(pendingClearRows);
             pendingClearRows = Collections.emptyList();
             awaitingLineClearCommit = false;
             boolean spawned = spawnNewBlock();
             if (!spawned && events != null) {
                 System.out.println("[LOG][Game] commitPendingLineClear(): spawn failed after clear → game over");
-                events.onGameOver();
+                fireGameOver();
             }
-            uiBridge.refreshBoard();
+            uiBridge.markDirty(UiBridge.DIRTY_BOARD | UiBridge.DIRTY_ACTIVE_BLOCK);
         }
         clock.resume();
     }
 
+    /**
+     * 중력/잠금 지연/줄 삭제 대기를 Swing 타이머 대신 {@link #advanceClock(long)} 호출로 진행할지 정한다.
+     */
+    public void setExternalClockDrive(boolean driven) {
+        clock.setExternallyDriven(driven);
+    }
+
+    /** 외부 구동 모드에서 소유 스레드가 매 틱 경과 시간을 넘겨 준다. */
+    public void advanceClock(long elapsedMs) {
+        if (lineClearRemainingMs > 0) {
+            lineClearRemainingMs -= elapsedMs;
+            if (lineClearRemainingMs <= 0) {
+                lineClearRemainingMs = 0;
+                commitPendingLineClear();
+            }
+            return;
+        }
+        clock.advance(elapsedMs);
+    }
+
+    /** 보드, 활성 블록, 틱/줄 삭제 대기, 시계 진행 위치, 입력 상태를 memento에 복사한다. */
+    public void saveState(Memento m) {
+        board.copyTo(m.cells);
+        m.block = activeBlock;
+        if (activeBlock != null) {
+            m.shape = activeBlock.getShape();
+            m.x = activeBlock.getX();
+            m.y = activeBlock.getY();
+            m.rotation = activeBlock.getRotation();
+        }
+        m.tickCounter = tickCounter;
+        m.lastClearedRows = lastClearedRows;
+        m.pendingClearRows = pendingClearRows;
+        m.awaitingLineClearCommit = awaitingLineClearCommit;
+        m.lineClearRemainingMs = lineClearRemainingMs;
+        m.clockRunning = clock.isRunning();
+        m.gravityElapsedMs = clock.getGravityElapsedMs();
+        m.inputMask = inputState.toMask();
+        m.lastLockedBlock = lastLockedBlock;
+        m.lockedTopY = lockedTopY;
+        m.lockedRowMasks = lockedRowMasks;
+    }
+
+    /**
+     * memento 상태로 제자리 복원한다. 진행 중이던 Swing 줄 삭제 타이머는 멈추고, 남은 대기 시간은
+     * 외부 구동 모드의 {@link #advanceClock(long)} 값으로만 되살린다.
+     */
+    public void restoreState(Memento m) {
+        board.copyFrom(m.cells);
+        activeBlock = m.block;
+        if (activeBlock != null) {
+            activeBlock.setShape(m.shape);
+            activeBlock.setPosition(m.x, m.y);
+            activeBlock.setRotation(m.rotation);
+        }
+        tickCounter = m.tickCounter;
+        lastClearedRows = m.lastClearedRows;
+        pendingClearRows = m.pendingClearRows;
+        awaitingLineClearCommit = m.awaitingLineClearCommit;
+        lineClearRemainingMs = m.lineClearRemainingMs;
+        lastLockedBlock = m.lastLockedBlock;
+        lockedTopY = m.lockedTopY;
+        lockedRowMasks = m.lockedRowMasks;
+        if (lineClearPauseTimer != null && lineClearPauseTimer.isRunning()) {
+            lineClearPauseTimer.stop();
+        }
+        if (clockStarted) {
+            if (m.clockRunning) {
+                clock.resume();
+            } else {
+                clock.pause();
+            }
+        }
+        clock.setGravityElapsedMs(m.gravityElapsedMs);
+        inputState.restoreMask(m.inputMask);
+        clock.setSoftDrop(inputState.isSoftDrop());
+        uiBridge.markDirty(UiBridge.DIRTY_ALL);
+    }
+
+    public void setPlayerId(int playerId) { this.playerId = playerId; }
+    public int getPlayerId() { return playerId; }
+
     public Block getActiveBlock() { return activeBlock; }
     public void setActiveBlock(Block b) { this.activeBlock = b; }
 
@@ -137,10 +298,10 @@ public class GameplayEngine implements GameClock.Listener {
         if (activeBlock == null && !spawnNewBlock()) {
             System.out.println("[LOG][Game] spawnIfNeeded(): spawn failed → game over");
             if (events != null) {
-                events.onGameOver();
+                fireGameOver();
             }
         }
-        uiBridge.refreshBoard();
+        uiBridge.markDirty(UiBridge.DIRTY_ACTIVE_BLOCK | UiBridge.DIRTY_SIDE_PANEL);
     }
 
     public void resumeClock() {
@@ -163,6 +324,7 @@ public class GameplayEngine implements GameClock.Listener {
             clock.stop();
             clockStarted = false;
         }
+        lineClearRemainingMs = 0;
         if (lineClearPauseTimer != null && lineClearPauseTimer.isRunning()) {
             lineClearPauseTimer.stop();
         }
@@ -176,7 +338,7 @@ public class GameplayEngine implements GameClock.Listener {
             System.out.printf("[LOG][Game] Spawn failed for %s at (%d,%d) — cannot place at spawn%n",
                     nextKind, next.getX(), next.getY());
             if (events != null) {
-                events.onGameOver();
+                fireGameOver();
             }
             return false;
         }
@@ -187,14 +349,35 @@ public class GameplayEngine implements GameClock.Listener {
         return true;
     }
 
+    /** 묶음 중인 점수를 먼저 반영해, 게임 오버 처리에서 읽는 점수가 최종값이 되게 한다. */
+    private void fireGameOver() {
+        scoreEngine.flush();
+        events.onGameOver();
+    }
+
     private void lockActiveBlock() {
         if (activeBlock == null) return;
+        BlockLockEvent event = new BlockLockEvent();
+        event.begin();
         Block current = activeBlock;
+        int cleared = placeActiveBlock(current);
+        if (event.shouldCommit()) {
+            event.playerId = playerId;
+            event.blockKind = current.getShape().kind().name();
+            event.linesCleared = cleared;
+            event.commit();
+        }
+    }
+
+    /** 블록을 보드에 고정하고 지울 줄 수를 반환한다. */
+    private int placeActiveBlock(Block current) {
         BlockShape shape = current.getShape();
         int blockId = shape.kind().ordinal() + 1;
         board.place(shape, current.getX(), current.getY(), blockId);
+        recordLockedRows(current, shape);
         List<Integer> rowsToClear = board.fullRowsSnapshot();
         activeBlock = null;
+        GameMetrics.ENGINE_LOCKS.increment();
         if (rowsToClear.isEmpty()) {
             lastClearedRows = Collections.emptyList();
             if (events != null) {
@@ -202,18 +385,37 @@ public class GameplayEngine implements GameClock.Listener {
             }
             boolean spawned = spawnNewBlock();
             if (!spawned && events != null) {
-                events.onGameOver();
+                fireGameOver();
             }
-            return;
+            return 0;
         }
         lastClearedRows = rowsToClear;
         pendingClearRows = new ArrayList<>(rowsToClear);
         awaitingLineClearCommit = true;
+        GameMetrics.ENGINE_LINES_CLEARED.add(rowsToClear.size());
         scoreEngine.onLinesCleared(rowsToClear.size());
         if (events != null) {
             events.onBlockLocked(current);
             events.onLinesCleared(rowsToClear.size());
         }
+        return rowsToClear.size();
+    }
+
+    /** 잠긴 블록의 행별 열 마스크를 한 번만 계산해 둔다. (공격 구멍 계산용) */
+    private void recordLockedRows(Block current, BlockShape shape) {
+        long masks = 0L;
+        int rows = Math.min(shape.height(), LOCKED_ROWS);
+        for (int y = 0; y < rows; y++) {
+            for (int x = 0; x < shape.width(); x++) {
+                int column = current.getX() + x;
+                if (shape.filled(x, y) && column >= 0 && column < LOCKED_ROW_BITS) {
+                    masks |= 1L << (y * LOCKED_ROW_BITS + column);
+                }
+            }
+        }
+        lastLockedBlock = current;
+        lockedTopY = current.getY();
+        lockedRowMasks = masks;
     }
 
     public void stepGameplay() {
@@ -222,7 +424,7 @@ public class GameplayEngine implements GameClock.Listener {
             System.out.printf("[LOG][Game] Active block overlap detected at (%d,%d), triggering game over%n",
                     activeBlock.getX(), activeBlock.getY());
             if (events != null) {
-                events.onGameOver(); // 스폰 영역 침범 등 배치 불가 상태 → 즉시 게임오버
+                fireGameOver(); // 스폰 영역 침범 등 배치 불가 상태 → 즉시 게임오버
             }
             return;
         }
@@ -271,20 +473,42 @@ public class GameplayEngine implements GameClock.Listener {
 
     @Override
     public void onGravityTick() {
+        if (events != null) {
+            events.beforeGravityTick();
+        }
+        GravityTickEvent event = new GravityTickEvent();
+        event.begin();
+        long startedAt = System.nanoTime();
+        scoreEngine.beginBatch();
+        try {
+            advanceGravity();
+        } finally {
+            scoreEngine.endBatch();
+            PerfRecorders.SIMULATION_TICK.recordNanos(System.nanoTime() - startedAt);
+            GameMetrics.ENGINE_TICKS.increment();
+            if (event.shouldCommit()) {
+                event.playerId = playerId;
+                event.tick = tickCounter;
+                event.commit();
+            }
+        }
+    }
+
+    private void advanceGravity() {
         tickCounter++;
         if (events != null) {
             events.onTick(tickCounter);
         }
         if (activeBlock == null) return;
-        uiBridge.refreshBoard();
 
         if (board.canPlace(activeBlock.getShape(), activeBlock.getX(), activeBlock.getY() + 1)) {
             activeBlock.moveBy(0, 1);
             scoreEngine.onBlockDescend();
+            uiBridge.markDirty(UiBridge.DIRTY_ACTIVE_BLOCK | UiBridge.DIRTY_SCORE);
         } else {
             lockActiveBlock();
+            uiBridge.markDirty(UiBridge.DIRTY_ALL);
         }
-        uiBridge.refreshBoard();
     }
 
     @Override
@@ -297,7 +521,7 @@ public class GameplayEngine implements GameClock.Listener {
         if (activeBlock == null) return;
         if (board.canPlace(activeBlock.getShape(), activeBlock.getX() - 1, activeBlock.getY())) {
             activeBlock.moveBy(-1, 0);
-            uiBridge.refreshBoard();
+            uiBridge.markDirty(UiBridge.DIRTY_ACTIVE_BLOCK);
         }
     }
 
@@ -305,7 +529,7 @@ public class GameplayEngine implements GameClock.Listener {
         if (activeBlock == null) return;
         if (board.canPlace(activeBlock.getShape(), activeBlock.getX() + 1, activeBlock.getY())) {
             activeBlock.moveBy(1, 0);
-            uiBridge.refreshBoard();
+            uiBridge.markDirty(UiBridge.DIRTY_ACTIVE_BLOCK);
         }
     }
 
@@ -314,7 +538,7 @@ public class GameplayEngine implements GameClock.Listener {
         if (board.canPlace(activeBlock.getShape(), activeBlock.getX(), activeBlock.getY() + 1)) {
             activeBlock.moveBy(0, 1);
             scoreEngine.onBlockDescend();
-            uiBridge.refreshBoard();
+            uiBridge.markDirty(UiBridge.DIRTY_ACTIVE_BLOCK | UiBridge.DIRTY_SCORE);
         }
     }
 
@@ -339,7 +563,7 @@ public class GameplayEngine implements GameClock.Listener {
         } catch (Exception ex) {
             System.out.println("[LOG][Engine] rotateBlockClockwise() exception: " + ex);
         } finally {
-            uiBridge.refreshBoard();
+            uiBridge.markDirty(UiBridge.DIRTY_ACTIVE_BLOCK);
         }
     }
 
@@ -355,21 +579,27 @@ public class GameplayEngine implements GameClock.Listener {
         } else {
             System.out.println("[LOG][Engine] rotateBlockCounterClockwise() blocked: rotation not applied due to collision or out-of-bounds");
         }
-        uiBridge.refreshBoard();
+        uiBridge.markDirty(UiBridge.DIRTY_ACTIVE_BLOCK);
     }
 
     public void hardDropBlock() {
         if (activeBlock == null) return;
-        while (board.canPlace(activeBlock.getShape(), activeBlock.getX(), activeBlock.getY() + 1)) {
-            activeBlock.moveBy(0, 1);
-            scoreEngine.onBlockDescend();
+        // 칸마다 저장/알림하지 않고 낙하 점수와 잠금 후 줄 삭제 점수를 한 번에 반영한다.
+        scoreEngine.beginBatch();
+        try {
+            while (board.canPlace(activeBlock.getShape(), activeBlock.getX(), activeBlock.getY() + 1)) {
+                activeBlock.moveBy(0, 1);
+                scoreEngine.onBlockDescend();
+            }
+            lockActiveBlock();
+        } finally {
+            scoreEngine.endBatch();
         }
-        lockActiveBlock();
-        uiBridge.refreshBoard();
+        uiBridge.markDirty(UiBridge.DIRTY_ALL);
     }
 
     public void holdCurrentBlock() {
         inputState.pressHold();
-        uiBridge.refreshBoard();
+        uiBridge.markDirty(UiBridge.DIRTY_ACTIVE_BLOCK | UiBridge.DIRTY_SIDE_PANEL);
     }
 }
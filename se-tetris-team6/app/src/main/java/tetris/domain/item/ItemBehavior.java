@@ -20,4 +20,10 @@ public interface ItemBehavior {
     default void onLineClear(ItemContext ctx, ItemBlockModel block, int[] clearedRows) {}
 
     default boolean isExpired() { return false; }
+
+    /** 상태 저장용: 발동 여부 같은 가변 상태를 int로 돌려준다. 상태가 없으면 0. */
+    default int saveState() { return 0; }
+
+    /** {@link #saveState()} 값으로 되돌린다. */
+    default void restoreState(int state) {}
 }
@@ -27,6 +27,22 @@ public final class ItemManager {
         return Collections.unmodifiableList(active);
     }
 
+    public int size() {
+        return active.size();
+    }
+
+    public ItemBlockModel get(int index) {
+        return active.get(index);
+    }
+
+    /** 상태 복원용: 활성 목록을 items 앞 count개로 바꾼다. */
+    public void restore(ItemBlockModel[] items, int count) {
+        active.clear();
+        for (int i = 0; i < count; i++) {
+            active.add(items[i]);
+        }
+    }
+
     public void tick(ItemContext context, long tick) {
         for (ItemBlockModel model : new ArrayList<>(active)) {
             model.onTick(context, tick);
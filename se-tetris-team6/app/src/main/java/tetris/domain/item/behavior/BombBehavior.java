@@ -26,6 +26,16 @@ public final class BombBehavior implements ItemBehavior {
         return "bomb";
     }
 
+    @Override
+    public int saveState() {
+        return triggered ? 1 : 0;
+    }
+
+    @Override
+    public void restoreState(int state) {
+        triggered = state != 0;
+    }
+
     @Override
     public ItemType type() {
         return ItemType.INSTANT;
@@ -33,6 +33,16 @@ public final class DoubleScoreBehavior implements ItemBehavior {
         return "double_score";
     }
 
+    @Override
+    public int saveState() {
+        return triggered ? 1 : 0;
+    }
+
+    @Override
+    public void restoreState(int state) {
+        triggered = state != 0;
+    }
+
     @Override
     public ItemType type() {
         return ItemType.TIMED;
@@ -27,6 +27,16 @@ public final class LineClearBehavior implements ItemBehavior {
         return "line_clear";
     }
 
+    @Override
+    public int saveState() {
+        return triggered ? 1 : 0;
+    }
+
+    @Override
+    public void restoreState(int state) {
+        triggered = state != 0;
+    }
+
     @Override
     public ItemType type() {
         return ItemType.INSTANT;
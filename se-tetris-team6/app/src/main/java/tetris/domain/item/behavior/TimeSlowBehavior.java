@@ -31,6 +31,16 @@ public final class TimeSlowBehavior implements ItemBehavior {
         return "slow";
     }
 
+    @Override
+    public int saveState() {
+        return triggered ? 1 : 0;
+    }
+
+    @Override
+    public void restoreState(int state) {
+        triggered = state != 0;
+    }
+
     @Override
     public ItemType type() {
         return ItemType.TIMED;
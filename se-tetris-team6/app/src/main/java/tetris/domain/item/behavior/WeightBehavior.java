@@ -28,6 +28,16 @@ public final class WeightBehavior implements ItemBehavior {
         return "weight";
     }
 
+    @Override
+    public int saveState() {
+        return triggered ? 1 : 0;
+    }
+
+    @Override
+    public void restoreState(int state) {
+        triggered = state != 0;
+    }
+
     @Override
     public ItemType type() {
         return ItemType.INSTANT;
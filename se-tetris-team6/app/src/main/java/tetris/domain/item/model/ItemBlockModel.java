@@ -69,6 +69,14 @@ public final class ItemBlockModel implements BlockLike {
         return Collections.unmodifiableList(behaviors);
     }
 
+    public int behaviorCount() {
+        return behaviors.size();
+    }
+
+    public ItemBehavior behaviorAt(int index) {
+        return behaviors.get(index);
+    }
+
     public void onSpawn(ItemContext context) {
         for (ItemBehavior behavior : behaviors) {
             behavior.onSpawn(context, this);
@@ -11,7 +11,10 @@ import javax.swing.Timer;
  * <p>
  * - 중력 틱을 발생시켜 {@link Listener#onGravityTick()} 으로 미노 낙하를 통보합니다.<br>
  * - 잠금 지연 타이머를 제공해 {@link #armLockDelay(int)} / {@link #cancelLockDelay()} 로 고정 유예를 제어합니다.<br>
- * - 레벨과 소프트 드롭 여부에 따라 중력 속도를 재계산합니다.
+ * - 레벨과 소프트 드롭 여부에 따라 중력 속도를 재계산합니다.<br>
+ * - {@link #setExternallyDriven(boolean)} 로 외부 구동 모드를 켜면 Swing 타이머 대신
+ *   소유 스레드가 {@link #advance(long)} 로 경과 시간을 넘겨 주며 같은 콜백을 발생시킵니다.
+ *   (호스트 시뮬레이션 스레드처럼 EDT 밖에서 모델을 돌릴 때 사용)
  * </p>
  */
 public final class GameClock {
@@ -53,8 +56,12 @@ public final class GameClock {
         4     // Level 20+ (cap)
     };
 
+    // 헤드리스 서버처럼 Swing을 쓰지 않는 프로세스는 모델 생성 전에 켜 둔다. (새 시계가 외부 구동 모드로 시작)
+    private static volatile boolean defaultExternallyDriven;
+
     private final Listener listener;
-    private final Timer gravityTimer;
+    // Swing 타이머는 실제로 필요할 때 만든다. 외부 구동 모드로만 쓰이면 AWT/Swing 클래스를 로드하지 않는다.
+    private Timer gravityTimer;
     private Timer lockDelayTimer;
 
     private int level;
@@ -62,23 +69,28 @@ public final class GameClock {
     private boolean running;
     private double externalSpeedModifier = 1.0;
 
+    // 외부 구동 모드 상태: 소유 스레드 하나만 advance()를 호출한다.
+    private volatile boolean externallyDriven;
+    private int gravityDelayMs;
+    private long gravityElapsedMs;
+    private long lockDelayRemainingMs = -1L;
+
     public GameClock(Listener listener) {
         this(listener, LEVEL_GRAVITY_TABLE[0]);
     }
 
     public GameClock(Listener listener, int initialGravityDelayMs) {
         this.listener = Objects.requireNonNull(listener, "listener");
-        gravityTimer = new Timer(
-            Math.max(MIN_GRAVITY_DELAY, initialGravityDelayMs),
-            new ActionListener() {
-                @Override
-                public void actionPerformed(ActionEvent e) {
-                    listener.onGravityTick();
-                }
-            }
-        );
-        gravityTimer.setRepeats(true);
-        gravityTimer.setCoalesce(true);
+        gravityDelayMs = Math.max(MIN_GRAVITY_DELAY, initialGravityDelayMs);
+        externallyDriven = defaultExternallyDriven;
+        if (!externallyDriven) {
+            ensureGravityTimer();
+        }
+    }
+
+    /** 이후 생성되는 시계의 기본 구동 모드를 정한다. 이미 만든 시계에는 영향이 없다. */
+    public static void setDefaultExternallyDriven(boolean driven) {
+        defaultExternallyDriven = driven;
     }
 
     public void start() {
@@ -86,12 +98,15 @@ public final class GameClock {
             return;
         }
         System.out.println("[LOG] GameClock.start()");
-        gravityTimer.start();
+        gravityElapsedMs = 0L;
+        if (!externallyDriven) {
+            ensureGravityTimer().start();
+        }
         running = true;
     }
 
     public void stop() {
-        gravityTimer.stop();
+        stopGravityTimer();
         cancelLockDelay();
         running = false;
     }
@@ -100,7 +115,7 @@ public final class GameClock {
         if (!running) {
             return;
         }
-        gravityTimer.stop();
+        stopGravityTimer();
         if (lockDelayTimer != null) {
             lockDelayTimer.stop();
         }
@@ -112,13 +127,82 @@ public final class GameClock {
             return;
         }
         System.out.println("[LOG] GameClock.resume()");
-        gravityTimer.start();
-        if (lockDelayTimer != null && !lockDelayTimer.isRunning()) {
-            lockDelayTimer.start();
+        if (!externallyDriven) {
+            ensureGravityTimer().start();
+            if (lockDelayTimer != null && !lockDelayTimer.isRunning()) {
+                lockDelayTimer.start();
+            }
         }
         running = true;
     }
 
+    /**
+     * 외부 구동 모드를 켜거나 끈다. 켜면 Swing 타이머를 멈추고 이후 콜백은 {@link #advance(long)} 에서만 발생한다.
+     * 끄면 실행 중인 경우 Swing 타이머를 다시 시작한다. (남은 잠금 지연은 새로 arm 될 때까지 버린다)
+     */
+    public void setExternallyDriven(boolean driven) {
+        if (externallyDriven == driven) {
+            return;
+        }
+        externallyDriven = driven;
+        gravityElapsedMs = 0L;
+        if (driven) {
+            stopGravityTimer();
+            if (lockDelayTimer != null) {
+                lockDelayTimer.stop();
+            }
+        } else {
+            lockDelayRemainingMs = -1L;
+            Timer timer = ensureGravityTimer();
+            if (running) {
+                timer.start();
+            }
+        }
+    }
+
+    public boolean isExternallyDriven() {
+        return externallyDriven;
+    }
+
+    /**
+     * 외부 구동 모드에서 elapsedMs 만큼 시간을 진행한다.
+     * Swing 타이머의 coalesce 동작과 같게, 한 번 호출에 중력 틱은 최대 한 번만 발생한다.
+     */
+    public void advance(long elapsedMs) {
+        if (!externallyDriven || !running || elapsedMs <= 0) {
+            return;
+        }
+        if (lockDelayRemainingMs >= 0) {
+            lockDelayRemainingMs -= elapsedMs;
+            if (lockDelayRemainingMs <= 0) {
+                lockDelayRemainingMs = -1L;
+                listener.onLockDelayTimeout();
+            }
+        }
+        // 잠금 콜백이 pause()를 호출했을 수 있다.
+        if (!running) {
+            return;
+        }
+        gravityElapsedMs += elapsedMs;
+        if (gravityElapsedMs >= gravityDelayMs) {
+            gravityElapsedMs %= gravityDelayMs;
+            listener.onGravityTick();
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** 외부 구동 모드에서 다음 중력 틱까지 누적된 시간. (상태 저장/복원용) */
+    public long getGravityElapsedMs() {
+        return gravityElapsedMs;
+    }
+
+    public void setGravityElapsedMs(long elapsedMs) {
+        this.gravityElapsedMs = Math.max(0L, elapsedMs);
+    }
+
     public void setLevel(int level) {
         this.level = Math.max(0, level);
         updateGravityDelay();
@@ -151,6 +235,10 @@ public final class GameClock {
             return;
         }
 
+        if (externallyDriven) {
+            lockDelayRemainingMs = delayMs;
+            return;
+        }
         ensureLockTimer();
         lockDelayTimer.setInitialDelay(delayMs);
         lockDelayTimer.setDelay(delayMs);
@@ -162,11 +250,35 @@ public final class GameClock {
     }
 
     public void cancelLockDelay() {
+        lockDelayRemainingMs = -1L;
         if (lockDelayTimer != null) {
             lockDelayTimer.stop();
         }
     }
 
+    private Timer ensureGravityTimer() {
+        if (gravityTimer == null) {
+            gravityTimer = new Timer(
+                gravityDelayMs,
+                new ActionListener() {
+                    @Override
+                    public void actionPerformed(ActionEvent e) {
+                        listener.onGravityTick();
+                    }
+                }
+            );
+            gravityTimer.setRepeats(true);
+            gravityTimer.setCoalesce(true);
+        }
+        return gravityTimer;
+    }
+
+    private void stopGravityTimer() {
+        if (gravityTimer != null) {
+            gravityTimer.stop();
+        }
+    }
+
     private void ensureLockTimer() {
         if (lockDelayTimer != null) {
             return;
@@ -189,8 +301,11 @@ public final class GameClock {
             : base;
         adjusted = Math.max(MIN_GRAVITY_DELAY, adjusted * externalSpeedModifier);
         int delay = (int) Math.round(adjusted);
-        gravityTimer.setDelay(delay);
-        gravityTimer.setInitialDelay(delay);
+        gravityDelayMs = delay;
+        if (gravityTimer != null) {
+            gravityTimer.setDelay(delay);
+            gravityTimer.setInitialDelay(delay);
+        }
     }
 
     private int computeDelayForLevel(int level) {
@@ -5,6 +5,14 @@ package tetris.domain.model;
  * 지속 입력(좌/우/소프트드랍)과 1회성 입력(회전/하드드랍/홀드)을 구분합니다.
  */
 public final class InputState {
+    public static final int LEFT = 1;
+    public static final int RIGHT = 1 << 1;
+    public static final int SOFT_DROP = 1 << 2;
+    public static final int ROTATE_CW = 1 << 3;
+    public static final int ROTATE_CCW = 1 << 4;
+    public static final int HARD_DROP = 1 << 5;
+    public static final int HOLD = 1 << 6;
+
     private boolean left;
     private boolean right;
     private boolean softDrop;
@@ -83,4 +91,22 @@ public final class InputState {
         hardDrop = false;
         hold = false;
     }
+
+    /** 현재 입력 상태를 비트 마스크로 읽는다. (1회성 입력을 소비하지 않는다) */
+    public int toMask() {
+        return (left ? LEFT : 0) | (right ? RIGHT : 0) | (softDrop ? SOFT_DROP : 0)
+                | (rotateCW ? ROTATE_CW : 0) | (rotateCCW ? ROTATE_CCW : 0)
+                | (hardDrop ? HARD_DROP : 0) | (hold ? HOLD : 0);
+    }
+
+    /** {@link #toMask()} 로 읽은 상태를 그대로 되돌린다. */
+    public void restoreMask(int mask) {
+        left = (mask & LEFT) != 0;
+        right = (mask & RIGHT) != 0;
+        softDrop = (mask & SOFT_DROP) != 0;
+        rotateCW = (mask & ROTATE_CW) != 0;
+        rotateCCW = (mask & ROTATE_CCW) != 0;
+        hardDrop = (mask & HARD_DROP) != 0;
+        hold = (mask & HOLD) != 0;
+    }
 }
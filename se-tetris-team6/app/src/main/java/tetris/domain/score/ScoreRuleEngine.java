@@ -10,6 +10,9 @@ import java.util.function.UnaryOperator;
  * 점수 규칙 집계기.
  * - 블록 하강/라인 삭제 이벤트 등을 받아 점수를 계산합니다.
  * - 계산된 결과는 {@link ScoreRepository}를 통해 저장하며, 리스너에게 알립니다.
+ * - {@link #beginBatch()} ~ {@link #endBatch()} 사이의 하강/줄 삭제 점수는 정수 누적기에 모았다가
+ *   끝날 때 저장소에 한 번 반영하고 리스너에도 한 번만 알립니다. (하드 드롭 20칸 → 갱신 1회)
+ *   감점은 0점 하한 때문에 순서가 결과를 바꿀 수 있어, 모아 둔 가산점을 먼저 반영한 뒤 바로 적용합니다.
  */
 public final class ScoreRuleEngine {
 
@@ -18,6 +21,9 @@ public final class ScoreRuleEngine {
     private final ScoreRepository repository;
     private double multiplier = 1.0;
     private final List<Consumer<Score>> listeners = new CopyOnWriteArrayList<>();
+    private int batchDepth;
+    private long pendingPoints;
+    private int pendingLines;
 
     public ScoreRuleEngine(ScoreRepository repository) {
         this.repository = Objects.requireNonNull(repository, "repository");
@@ -37,7 +43,7 @@ public final class ScoreRuleEngine {
         if (delta <= 0) {
             return;
         }
-        apply(score -> score.withAdditionalPoints(delta));
+        accumulate(delta, 0);
     }
 
     public void onBlockLocked() {
@@ -56,9 +62,7 @@ public final class ScoreRuleEngine {
             default -> 1200;
         };
         int delta = applyMultiplier(base);
-        apply(score -> score
-            .withClearedLinesAdded(clearedLines)
-            .withAdditionalPoints(delta));
+        accumulate(delta, clearedLines);
     }
 
     public void applyPenalty(int penalty) {
@@ -66,14 +70,64 @@ public final class ScoreRuleEngine {
         if (delta <= 0) {
             return;
         }
+        flush();
         apply(score -> score.minusPoints(delta));
     }
 
+    /** 점수 묶음을 연다. 중첩할 수 있고, 가장 바깥 {@link #endBatch()} 에서 반영된다. */
+    public void beginBatch() {
+        batchDepth++;
+    }
+
+    public void endBatch() {
+        if (batchDepth > 0 && --batchDepth == 0) {
+            flush();
+        }
+    }
+
+    /** 묶음 안에서 모아 둔 점수를 지금 반영한다. (게임 오버 화면처럼 묶음 중간에 점수를 읽어야 할 때) */
+    public void flush() {
+        if (pendingPoints == 0 && pendingLines == 0) {
+            return;
+        }
+        long points = pendingPoints;
+        int lines = pendingLines;
+        pendingPoints = 0;
+        pendingLines = 0;
+        Score current = repository.load();
+        int total = (int) Math.min(Integer.MAX_VALUE, current.getPoints() + points);
+        Score updated = Score.of(total, current.getLevel(), current.getClearedLines() + lines);
+        repository.save(updated);
+        notifyListeners(updated);
+    }
+
     public void resetScore() {
+        discardPending();
         repository.reset();
         notifyListeners(repository.load());
     }
 
+    /** 저장해 둔 점수로 되돌리고 리스너에 알린다. (상태 복원용) */
+    public void restoreScore(Score score) {
+        Objects.requireNonNull(score, "score");
+        discardPending();
+        repository.save(score);
+        notifyListeners(score);
+    }
+
+    private void accumulate(int points, int lines) {
+        pendingPoints += points;
+        pendingLines += lines;
+        if (batchDepth == 0) {
+            flush();
+        }
+    }
+
+    private void discardPending() {
+        pendingPoints = 0;
+        pendingLines = 0;
+    }
+
     private void apply(UnaryOperator<Score> operator) {
         Score current = repository.load();
         Score updated = operator.apply(current);
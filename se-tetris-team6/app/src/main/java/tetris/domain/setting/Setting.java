@@ -13,18 +13,21 @@ import tetris.domain.GameDifficulty;
 public class Setting {
 
     public enum ScreenSize {
-        SMALL(new Dimension(1120, 720)),
-        MEDIUM(new Dimension(1400, 900)),
-        LARGE(new Dimension(1560, 1000));
+        SMALL(1120, 720),
+        MEDIUM(1400, 900),
+        LARGE(1560, 1000);
 
-        private final Dimension dimension;
+        // Dimension은 화면을 띄울 때만 만든다. (헤드리스 서버가 설정을 읽어도 AWT 클래스를 로드하지 않게)
+        private final int width;
+        private final int height;
 
-        ScreenSize(Dimension d) {
-            this.dimension = d;
+        ScreenSize(int width, int height) {
+            this.width = width;
+            this.height = height;
         }
 
         public Dimension getDimension() {
-            return new Dimension(dimension);
+            return new Dimension(width, height);
         }
     }
 
@@ -0,0 +1,7 @@
+package tetris.domain.stats;
+
+import java.time.LocalDate;
+
+/** 하루 단위 집계 (로컬 시간대 기준). */
+public record DayBucket(LocalDate day, int games, long points, int bestPoints) {
+}
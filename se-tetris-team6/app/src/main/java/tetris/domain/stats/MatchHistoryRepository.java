@@ -0,0 +1,16 @@
+package tetris.domain.stats;
+
+import tetris.domain.GameMode;
+
+/** 판 기록 보관소. 리더보드와 달리 모든 판을 남기고 집계만 돌려준다. */
+public interface MatchHistoryRepository {
+
+    /** 한 판을 기록한다. 호출 스레드에서 디스크를 기다리지 않는다. */
+    void record(MatchRecord record);
+
+    /** 모드별 누적 통계. 기록이 없으면 {@link MatchStats#empty(GameMode)}. */
+    MatchStats stats(GameMode mode);
+
+    /** 모든 기록을 지운다. */
+    void reset();
+}
@@ -0,0 +1,14 @@
+package tetris.domain.stats;
+
+import tetris.domain.GameMode;
+
+/**
+ * 한 판의 결과. 게임 오버 시점에 GameModel이 만들어 {@link MatchHistoryRepository}에 남긴다.
+ *
+ * @param endedAtMillis 게임 오버 시각 (epoch ms, 일별 집계 기준)
+ * @param durationMs    일시정지를 뺀 플레이 시간
+ * @param level         마지막 속도 레벨
+ */
+public record MatchRecord(long endedAtMillis, GameMode mode, int points, int clearedLines, int pieces,
+        long durationMs, int level) {
+}
@@ -0,0 +1,21 @@
+package tetris.domain.stats;
+
+import java.util.List;
+
+import tetris.domain.GameMode;
+
+/**
+ * 한 모드의 누적 통계.
+ *
+ * @param linesPerMinute 전체 삭제 줄 수 / 전체 플레이 시간(분). 플레이 시간이 0이면 0
+ * @param topRuns        점수 상위 판 (같은 점수면 먼저 끝난 판이 앞)
+ * @param days           판이 있었던 날만, 날짜 오름차순
+ */
+public record MatchStats(GameMode mode, int games, long totalPoints, double averagePoints, int bestPoints,
+        int medianPoints, int p90Points, long totalLines, long totalDurationMs, double linesPerMinute,
+        List<MatchRecord> topRuns, List<DayBucket> days) {
+
+    public static MatchStats empty(GameMode mode) {
+        return new MatchStats(mode, 0, 0L, 0.0, 0, 0, 0, 0L, 0L, 0.0, List.of(), List.of());
+    }
+}
@@ -1,7 +1,9 @@
 package tetris.infrastructure;
 
+import tetris.data.leaderboard.InMemoryLeaderboardRepository;
 import tetris.data.leaderboard.PreferencesLeaderboardRepository;
 import tetris.data.score.InMemoryScoreRepository;
+import tetris.data.setting.InMemorySettingRepository;
 import tetris.data.setting.PreferencesSettingRepository;
 import tetris.domain.BlockGenerator;
 import tetris.domain.GameModel;
@@ -21,8 +23,14 @@ public final class GameModelFactory {
     }
 
     public static GameModel createDefault() {
+        return createDefault(new PreferencesLeaderboardRepository());
+    }
+
+    /**
+     * 리더보드 저장소만 바꿔 끼운 기본 GameModel을 만듭니다. (예: 전체 기록을 보관하는 파일 저장소)
+     */
+    public static GameModel createDefault(LeaderboardRepository leaderboardRepository) {
         ScoreRepository scoreRepository = new InMemoryScoreRepository();
-        LeaderboardRepository leaderboardRepository = new PreferencesLeaderboardRepository();
         SettingRepository settingRepository = new PreferencesSettingRepository();
         SettingService settingService = new SettingService(settingRepository, scoreRepository);
         BlockGenerator generator = new RandomBlockGenerator();
@@ -37,8 +45,18 @@ public final class GameModelFactory {
         LeaderboardRepository leaderboardRepository = new PreferencesLeaderboardRepository();
         SettingRepository settingRepository = new PreferencesSettingRepository();
         SettingService settingService = new SettingService(settingRepository, scoreRepository);
-        java.util.Random rng = new java.util.Random(seed);
+        java.util.Random rng = new tetris.domain.StatefulRandom(seed);
         BlockGenerator generator = new RandomBlockGenerator(rng);
         return new GameModel(generator, scoreRepository, leaderboardRepository, settingService);
     }
+
+    /**
+     * 사용자 설정/리더보드를 읽거나 쓰지 않는 GameModel을 만듭니다. (셀프 플레이 시뮬레이션용)
+     * 모든 저장소가 인스턴스별이므로 여러 스레드에서 각각 만든 모델을 동시에 돌려도 됩니다.
+     */
+    public static GameModel createHeadless(BlockGenerator generator) {
+        ScoreRepository scoreRepository = new InMemoryScoreRepository();
+        SettingService settingService = new SettingService(new InMemorySettingRepository(), scoreRepository);
+        return new GameModel(generator, scoreRepository, new InMemoryLeaderboardRepository(), settingService);
+    }
 }
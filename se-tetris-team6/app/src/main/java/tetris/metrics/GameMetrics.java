@@ -0,0 +1,85 @@
+package tetris.metrics;
+
+/**
+ * 게임/서버 계측 지점에서 쓰는 전역 메트릭 핸들.
+ * 클래스 로딩 시 {@link MetricsRegistry#global()}에 한 번 등록되고, 이후에는 필드를 통해 바로 기록한다.
+ */
+public final class GameMetrics {
+
+    private static final MetricsRegistry REGISTRY = MetricsRegistry.global();
+
+    // === GameplayEngine ===
+    public static final MetricsRegistry.Counter ENGINE_TICKS =
+            REGISTRY.counter("tetris_engine_ticks_total", "Gravity ticks processed by GameplayEngine");
+    public static final MetricsRegistry.Counter ENGINE_LOCKS =
+            REGISTRY.counter("tetris_engine_block_locks_total", "Blocks locked onto the board");
+    public static final MetricsRegistry.Counter ENGINE_LINES_CLEARED =
+            REGISTRY.counter("tetris_engine_lines_cleared_total", "Rows cleared by line clears");
+    public static final MetricsRegistry.Histogram ENGINE_TICK_DURATION =
+            REGISTRY.histogram("tetris_engine_tick_seconds", "Time spent in one gravity tick",
+                    PerfRecorders.SIMULATION_TICK);
+
+    // === GameModel 스냅샷 ===
+    public static final MetricsRegistry.Histogram SNAPSHOT_ENCODE =
+            REGISTRY.histogram("tetris_snapshot_encode_seconds", "GameModel.toSnapshot duration");
+    public static final MetricsRegistry.Histogram SNAPSHOT_APPLY =
+            REGISTRY.histogram("tetris_snapshot_apply_seconds", "GameModel snapshot apply duration on the EDT");
+    public static final MetricsRegistry.Counter SNAPSHOTS_DROPPED =
+            REGISTRY.counter("tetris_snapshot_dropped_total", "Received snapshots superseded before they were applied");
+
+    // === GameServer / ServerHandler ===
+    public static final MetricsRegistry.Counter SERVER_CONNECTIONS_ACCEPTED =
+            REGISTRY.counter("tetris_server_connections_accepted_total", "Client sockets accepted by GameServer");
+    public static final MetricsRegistry.Gauge SERVER_CONNECTIONS_ACTIVE =
+            REGISTRY.gauge("tetris_server_connections_active", "Clients that completed the handshake and are connected");
+    public static final MetricsRegistry.Gauge SERVER_SEND_QUEUE_DEPTH =
+            REGISTRY.gauge("tetris_server_send_queue_depth", "ServerHandler sends waiting for the socket writer");
+    public static final MetricsRegistry.Counter SERVER_SNAPSHOTS_COALESCED =
+            REGISTRY.counter("tetris_server_snapshot_coalesced_total", "Outgoing snapshots replaced by a newer one before being written");
+    public static final MetricsRegistry.Counter SERVER_SNAPSHOT_THROTTLES =
+            REGISTRY.counter("tetris_server_snapshot_throttle_total", "Times a slow connection had its snapshot interval raised");
+    public static final MetricsRegistry.Counter SERVER_BROADCAST_ENCODES =
+            REGISTRY.counter("tetris_server_broadcast_encode_total", "Broadcast messages serialized once and shared by several connections");
+    public static final MetricsRegistry.Counter SERVER_SPECTATOR_DROPS =
+            REGISTRY.counter("tetris_server_spectator_drop_total", "Messages dropped for slow spectators, who catch up from the next snapshot");
+    public static final MetricsRegistry.Gauge CLIENT_SEND_QUEUE_DEPTH =
+            REGISTRY.gauge("tetris_client_send_queue_depth", "Messages queued in NetworkThread outgoing queues");
+
+    // === 네트워크 합계 (PerfRecorders.NETWORK 재사용) ===
+    public static final MetricsRegistry.Counter NETWORK_BYTES_SENT =
+            REGISTRY.counter("tetris_network_sent_bytes_total", "Bytes written to game sockets",
+                    PerfRecorders.NETWORK::getBytesSent);
+    public static final MetricsRegistry.Counter NETWORK_BYTES_RECEIVED =
+            REGISTRY.counter("tetris_network_received_bytes_total", "Bytes read from game sockets",
+                    PerfRecorders.NETWORK::getBytesReceived);
+    public static final MetricsRegistry.Counter NETWORK_MESSAGES_SENT =
+            REGISTRY.counter("tetris_network_sent_messages_total", "Game messages written",
+                    PerfRecorders.NETWORK::getMessagesSent);
+    public static final MetricsRegistry.Counter NETWORK_MESSAGES_RECEIVED =
+            REGISTRY.counter("tetris_network_received_messages_total", "Game messages read",
+                    PerfRecorders.NETWORK::getMessagesReceived);
+    public static final MetricsRegistry.Gauge NETWORK_RTT_MICROS =
+            REGISTRY.gauge("tetris_network_rtt_microseconds", "Last measured ping round trip (-1 before the first pong)",
+                    PerfRecorders.NETWORK::getLastRttMicros);
+    public static final MetricsRegistry.Gauge NETWORK_JITTER_MICROS =
+            REGISTRY.gauge("tetris_network_rtt_jitter_microseconds", "Smoothed round trip jitter",
+                    PerfRecorders.NETWORK::getJitterMicros);
+    public static final MetricsRegistry.Counter NETWORK_PINGS_LOST =
+            REGISTRY.counter("tetris_network_ping_lost_total", "Pings that timed out or were overrun without a pong");
+
+    // === 렌더링 (성능 오버레이와 같은 기록기) ===
+    public static final MetricsRegistry.Histogram RENDER_FRAME =
+            REGISTRY.histogram("tetris_render_frame_seconds", "Swing paint pass duration", PerfRecorders.RENDER_FRAME);
+    public static final MetricsRegistry.Histogram EDT_QUEUE_LATENCY =
+            REGISTRY.histogram("tetris_edt_queue_latency_seconds", "Delay before an invokeLater task runs",
+                    PerfRecorders.EDT_QUEUE_LATENCY);
+
+    private GameMetrics() {
+        // util class
+    }
+
+    /** 모든 핸들이 등록된 전역 레지스트리. 내보내기 전에 호출해 클래스 초기화를 보장한다. */
+    public static MetricsRegistry registry() {
+        return REGISTRY;
+    }
+}
@@ -0,0 +1,147 @@
+package tetris.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 고정 버킷 지연시간 히스토그램 (마이크로초 단위, lock-free).
+ * - 2의 거듭제곱 구간을 4개의 하위 버킷으로 나눠 상대 오차를 25% 이내로 유지한다.
+ * - record는 원자적 증가 두세 번뿐이라 게임 루프/네트워크 스레드 같은 hot path에서 호출해도 된다.
+ * - 누적 카운트만 보관하며, 구간별 통계는 {@link Snapshot#since(Snapshot)}로 차이를 구해 얻는다.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /** 2^36µs(약 19시간)를 넘는 값은 마지막 버킷에 모은다. */
+    private static final int MAX_EXPONENT = 36;
+    static final int BUCKET_COUNT = SUB_BUCKETS + (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalMicros = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    public void recordNanos(long nanos) {
+        recordMicros(TimeUnit.NANOSECONDS.toMicros(Math.max(0L, nanos)));
+    }
+
+    public void recordMicros(long micros) {
+        long value = Math.max(0L, micros);
+        counts.incrementAndGet(bucketIndex(value));
+        totalMicros.addAndGet(value);
+        if (value > maxMicros.get()) {
+            maxMicros.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+        }
+        return new Snapshot(copy, totalMicros.get(), maxMicros.get());
+    }
+
+    static int bucketIndex(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int sub = (int) ((micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        return SUB_BUCKETS + (exponent - SUB_BUCKET_BITS) * SUB_BUCKETS + sub;
+    }
+
+    /** 버킷에 들어가는 가장 큰 값(µs, 포함). */
+    static long bucketUpperBoundMicros(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = (index - SUB_BUCKETS) / SUB_BUCKETS + SUB_BUCKET_BITS;
+        int sub = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        long lower = (long) (SUB_BUCKETS + sub) << (exponent - SUB_BUCKET_BITS);
+        return lower + width - 1;
+    }
+
+    /** 특정 시점의 누적 버킷 카운트 복사본. */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long totalMicros;
+        private final long maxMicros;
+        private final long count;
+
+        Snapshot(long[] counts, long totalMicros, long maxMicros) {
+            this.counts = counts;
+            this.totalMicros = totalMicros;
+            this.maxMicros = maxMicros;
+            long sum = 0;
+            for (long c : counts) {
+                sum += c;
+            }
+            this.count = sum;
+        }
+
+        /** earlier 이후에 기록된 값만 담은 스냅샷을 반환한다. max는 구간 값이 아닌 누적 최대값이다. */
+        public Snapshot since(Snapshot earlier) {
+            if (earlier == null) {
+                return this;
+            }
+            long[] diff = new long[counts.length];
+            for (int i = 0; i < counts.length; i++) {
+                diff[i] = Math.max(0L, counts[i] - earlier.counts[i]);
+            }
+            return new Snapshot(diff, Math.max(0L, totalMicros - earlier.totalMicros), maxMicros);
+        }
+
+        public long count() {
+            return count;
+        }
+
+        public long totalMicros() {
+            return totalMicros;
+        }
+
+        public long maxMicros() {
+            return maxMicros;
+        }
+
+        public double meanMicros() {
+            return count == 0 ? 0.0 : (double) totalMicros / count;
+        }
+
+        /**
+         * 분위수(0.0~1.0)에 해당하는 값을 버킷 상한으로 근사해 반환한다. 기록이 없으면 0.
+         */
+        public long percentileMicros(double quantile) {
+            if (count == 0) {
+                return 0L;
+            }
+            double q = Math.min(1.0, Math.max(0.0, quantile));
+            long rank = Math.max(1L, (long) Math.ceil(q * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return bucketUpperBoundMicros(i);
+                }
+            }
+            return bucketUpperBoundMicros(counts.length - 1);
+        }
+
+        public int bucketCount() {
+            return counts.length;
+        }
+
+        public long bucketCountAt(int index) {
+            return counts[index];
+        }
+
+        public long bucketUpperBoundMicrosAt(int index) {
+            return bucketUpperBoundMicros(index);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package tetris.metrics;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 소켓 입력 스트림을 감싸 실제로 읽은 바이트 수를 {@link TrafficCounter}에 더한다.
+ */
+public final class MeteredInputStream extends FilterInputStream {
+
+    private final TrafficCounter counter;
+
+    public MeteredInputStream(InputStream in, TrafficCounter counter) {
+        super(in);
+        this.counter = counter;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = in.read();
+        if (b >= 0) {
+            counter.addBytesReceived(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = in.read(b, off, len);
+        if (n > 0) {
+            counter.addBytesReceived(n);
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = in.skip(n);
+        if (skipped > 0) {
+            counter.addBytesReceived(skipped);
+        }
+        return skipped;
+    }
+}
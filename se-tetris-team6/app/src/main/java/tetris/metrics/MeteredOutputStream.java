@@ -0,0 +1,32 @@
+package tetris.metrics;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 소켓 출력 스트림을 감싸 실제로 내보낸 바이트 수를 {@link TrafficCounter}에 더한다.
+ * ObjectOutputStream 아래에 두면 직렬화 결과 크기가 그대로 집계된다.
+ */
+public final class MeteredOutputStream extends FilterOutputStream {
+
+    private final TrafficCounter counter;
+
+    public MeteredOutputStream(OutputStream out, TrafficCounter counter) {
+        super(out);
+        this.counter = counter;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        counter.addBytesSent(1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        // FilterOutputStream 기본 구현은 바이트 단위로 쪼개 쓰므로 그대로 위임한다.
+        out.write(b, off, len);
+        counter.addBytesSent(len);
+    }
+}
@@ -0,0 +1,86 @@
+package tetris.metrics;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * 전역 메트릭을 JMX와 (선택적으로) Prometheus HTTP 엔드포인트로 내보낸다.
+ * - JMX 등록은 비용이 거의 없어 항상 수행한다: tetris:type=Metrics
+ * - HTTP는 포트가 지정됐을 때만 연다. (실행 인자 --metrics-port=N 또는 -Dtetris.metrics.port=N)
+ */
+public final class MetricsExporter {
+
+    public static final String OBJECT_NAME = "tetris:type=Metrics";
+    public static final String PORT_PROPERTY = "tetris.metrics.port";
+    public static final String PORT_ARG_PREFIX = "--metrics-port=";
+
+    private static MetricsHttpServer httpServer;
+
+    private MetricsExporter() {
+        // util class
+    }
+
+    /** 실행 인자와 시스템 속성을 보고 필요한 내보내기를 시작한다. 실패해도 게임 실행은 계속된다. */
+    public static synchronized void install(String[] args) {
+        MetricsRegistry registry = GameMetrics.registry();
+        registerMBean(registry);
+        int port = resolvePort(args);
+        if (port >= 0 && httpServer == null) {
+            MetricsHttpServer server = new MetricsHttpServer(registry);
+            try {
+                server.start(port);
+                httpServer = server;
+            } catch (IOException e) {
+                System.err.println("[Metrics] Failed to start HTTP endpoint on port " + port + ": " + e.getMessage());
+            }
+        }
+    }
+
+    public static synchronized void shutdown() {
+        if (httpServer != null) {
+            httpServer.stop();
+            httpServer = null;
+        }
+    }
+
+    static void registerMBean(MetricsRegistry registry) {
+        MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+        try {
+            mbs.registerMBean(new MetricsMBean(registry), new ObjectName(OBJECT_NAME));
+        } catch (InstanceAlreadyExistsException ignore) {
+            // 이미 등록됨
+        } catch (JMException e) {
+            System.err.println("[Metrics] JMX registration failed: " + e.getMessage());
+        }
+    }
+
+    /** 포트가 지정되지 않았거나 형식이 잘못되면 -1. */
+    static int resolvePort(String[] args) {
+        String value = null;
+        if (args != null) {
+            for (String arg : args) {
+                if (arg != null && arg.startsWith(PORT_ARG_PREFIX)) {
+                    value = arg.substring(PORT_ARG_PREFIX.length());
+                }
+            }
+        }
+        if (value == null) {
+            value = System.getProperty(PORT_PROPERTY);
+        }
+        if (value == null || value.isBlank()) {
+            return -1;
+        }
+        try {
+            int port = Integer.parseInt(value.trim());
+            return port >= 0 && port <= 65535 ? port : -1;
+        } catch (NumberFormatException e) {
+            System.err.println("[Metrics] Ignoring invalid metrics port: " + value);
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package tetris.metrics;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * GET /metrics 요청에 Prometheus 텍스트를 돌려주는 작은 HTTP 서버.
+ * 외부 노출을 막기 위해 항상 루프백 주소에만 바인딩한다. (원격 수집은 SSH 터널 등으로)
+ */
+public final class MetricsHttpServer {
+
+    public static final String PATH = "/metrics";
+
+    private final MetricsRegistry registry;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public MetricsHttpServer(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    /** @param port 0이면 임의의 빈 포트 */
+    public synchronized void start(int port) throws IOException {
+        if (server != null) {
+            return;
+        }
+        HttpServer created = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        created.createContext(PATH, this::handle);
+        executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "MetricsHttpServer");
+            t.setDaemon(true);
+            return t;
+        });
+        created.setExecutor(executor);
+        created.start();
+        server = created;
+        System.out.println("[Metrics] Prometheus endpoint at http://127.0.0.1:" + getPort() + PATH);
+    }
+
+    public synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    public synchronized int getPort() {
+        return server == null ? -1 : server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equalsIgnoreCase(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = PrometheusTextFormat.format(registry).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", PrometheusTextFormat.CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+}
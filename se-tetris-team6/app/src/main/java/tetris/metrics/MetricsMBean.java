@@ -0,0 +1,112 @@
+package tetris.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.ReflectionException;
+
+/**
+ * 레지스트리의 모든 메트릭을 읽기 전용 JMX 속성으로 노출한다. (JConsole/VisualVM에서 확인)
+ * - 카운터/게이지는 이름 그대로 long 속성 하나.
+ * - 히스토그램은 _count, _p50_micros, _p99_micros, _max_micros 네 속성으로 펼친다.
+ * 메트릭은 나중에 등록될 수도 있으므로 MBeanInfo는 조회할 때마다 새로 만든다.
+ */
+final class MetricsMBean implements DynamicMBean {
+
+    private static final String[] HISTOGRAM_SUFFIXES = { "_count", "_p50_micros", "_p99_micros", "_max_micros" };
+
+    private final MetricsRegistry registry;
+
+    MetricsMBean(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Object getAttribute(String attribute) throws AttributeNotFoundException {
+        MetricsRegistry.Metric direct = registry.find(attribute);
+        if (direct instanceof MetricsRegistry.Counter counter) {
+            return counter.get();
+        }
+        if (direct instanceof MetricsRegistry.Gauge gauge) {
+            return gauge.get();
+        }
+        for (String suffix : HISTOGRAM_SUFFIXES) {
+            if (attribute.endsWith(suffix)) {
+                String base = attribute.substring(0, attribute.length() - suffix.length());
+                if (registry.find(base) instanceof MetricsRegistry.Histogram histogram) {
+                    return histogramValue(histogram.snapshot(), suffix);
+                }
+            }
+        }
+        throw new AttributeNotFoundException(attribute);
+    }
+
+    private static long histogramValue(LatencyHistogram.Snapshot s, String suffix) {
+        switch (suffix) {
+            case "_count":
+                return s.count();
+            case "_p50_micros":
+                return s.percentileMicros(0.50);
+            case "_p99_micros":
+                return s.percentileMicros(0.99);
+            default:
+                return s.maxMicros();
+        }
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] attributes) {
+        AttributeList list = new AttributeList();
+        for (String name : attributes) {
+            try {
+                list.add(new Attribute(name, getAttribute(name)));
+            } catch (AttributeNotFoundException ignore) {
+                // 없는 속성은 결과에서 빼는 것이 DynamicMBean 관례
+            }
+        }
+        return list;
+    }
+
+    @Override
+    public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+        throw new AttributeNotFoundException("Metrics are read-only: " + attribute.getName());
+    }
+
+    @Override
+    public AttributeList setAttributes(AttributeList attributes) {
+        return new AttributeList();
+    }
+
+    @Override
+    public Object invoke(String actionName, Object[] params, String[] signature) throws ReflectionException {
+        // 노출하는 연산이 없다: JMX 클라이언트가 알아듣는 방식으로 거절한다.
+        throw new ReflectionException(new NoSuchMethodException(actionName));
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        List<MBeanAttributeInfo> attrs = new ArrayList<>();
+        for (MetricsRegistry.Metric metric : registry.metrics()) {
+            if (metric instanceof MetricsRegistry.Histogram) {
+                for (String suffix : HISTOGRAM_SUFFIXES) {
+                    attrs.add(attribute(metric.getName() + suffix, metric.getHelp()));
+                }
+            } else {
+                attrs.add(attribute(metric.getName(), metric.getHelp()));
+            }
+        }
+        return new MBeanInfo(getClass().getName(), "Tetris runtime metrics",
+                attrs.toArray(new MBeanAttributeInfo[0]), null, new MBeanOperationInfo[0], null);
+    }
+
+    private static MBeanAttributeInfo attribute(String name, String help) {
+        return new MBeanAttributeInfo(name, "long", help, true, false, false);
+    }
+}
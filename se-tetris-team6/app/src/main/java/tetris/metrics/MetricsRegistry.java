@@ -0,0 +1,201 @@
+package tetris.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 이름으로 조회되는 카운터/게이지/히스토그램 모음.
+ * - 값 기록은 LongAdder/lock-free 히스토그램에만 닿으므로 게임 루프나 소켓 스레드에서 바로 호출해도 된다.
+ * - 등록은 보통 클래스 초기화 시점에 한 번 일어나며, 같은 이름을 다시 등록하면 기존 인스턴스를 돌려준다.
+ * - 내보내기(JMX, Prometheus 텍스트)는 {@link #metrics()}를 순회하는 쪽이 담당한다.
+ */
+public final class MetricsRegistry {
+
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+
+    /** 메트릭 종류. Prometheus TYPE 줄에 그대로 쓰인다. */
+    public enum Type {
+        COUNTER, GAUGE, SUMMARY
+    }
+
+    /** 등록된 메트릭 한 개의 공통 정보. */
+    public abstract static class Metric {
+        private final String name;
+        private final String help;
+
+        Metric(String name, String help) {
+            this.name = name;
+            this.help = help;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getHelp() {
+            return help;
+        }
+
+        public abstract Type getType();
+    }
+
+    /** 단조 증가 카운터. */
+    public static final class Counter extends Metric {
+        private final LongAdder adder = new LongAdder();
+        private final LongSupplier source;
+
+        Counter(String name, String help, LongSupplier source) {
+            super(name, help);
+            this.source = source;
+        }
+
+        public void increment() {
+            adder.increment();
+        }
+
+        public void add(long delta) {
+            if (delta > 0) {
+                adder.add(delta);
+            }
+        }
+
+        public long get() {
+            return source != null ? source.getAsLong() : adder.sum();
+        }
+
+        @Override
+        public Type getType() {
+            return Type.COUNTER;
+        }
+    }
+
+    /** 현재 값 게이지. 직접 증감하거나 등록 시 넘긴 함수로 읽는다. */
+    public static final class Gauge extends Metric {
+        private final LongAdder adder = new LongAdder();
+        private final LongSupplier source;
+
+        Gauge(String name, String help, LongSupplier source) {
+            super(name, help);
+            this.source = source;
+        }
+
+        public void increment() {
+            adder.increment();
+        }
+
+        public void decrement() {
+            adder.decrement();
+        }
+
+        public void add(long delta) {
+            adder.add(delta);
+        }
+
+        public long get() {
+            return source != null ? source.getAsLong() : adder.sum();
+        }
+
+        @Override
+        public Type getType() {
+            return Type.GAUGE;
+        }
+    }
+
+    /** 지연시간 분포. 내보낼 때 분위수/합계/개수로 요약된다. */
+    public static final class Histogram extends Metric {
+        private final LatencyHistogram histogram;
+
+        Histogram(String name, String help, LatencyHistogram histogram) {
+            super(name, help);
+            this.histogram = histogram;
+        }
+
+        public void recordNanos(long nanos) {
+            histogram.recordNanos(nanos);
+        }
+
+        public void recordMicros(long micros) {
+            histogram.recordMicros(micros);
+        }
+
+        public LatencyHistogram.Snapshot snapshot() {
+            return histogram.snapshot();
+        }
+
+        @Override
+        public Type getType() {
+            return Type.SUMMARY;
+        }
+    }
+
+    // 이름 순으로 정렬해 두면 내보내기 결과가 매번 같은 순서로 나온다.
+    private final ConcurrentSkipListMap<String, Metric> metrics = new ConcurrentSkipListMap<>();
+
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    public Counter counter(String name, String help) {
+        return register(Counter.class, new Counter(name, help, null));
+    }
+
+    /** 다른 곳에서 이미 누적 중인 값을 카운터로 노출한다. */
+    public Counter counter(String name, String help, LongSupplier source) {
+        return register(Counter.class, new Counter(name, help, Objects.requireNonNull(source, "source")));
+    }
+
+    public Gauge gauge(String name, String help) {
+        return register(Gauge.class, new Gauge(name, help, null));
+    }
+
+    public Gauge gauge(String name, String help, LongSupplier source) {
+        return register(Gauge.class, new Gauge(name, help, Objects.requireNonNull(source, "source")));
+    }
+
+    public Histogram histogram(String name, String help) {
+        return histogram(name, help, new LatencyHistogram());
+    }
+
+    /** 이미 기록 중인 히스토그램(예: {@link PerfRecorders})을 같은 데이터로 노출한다. */
+    public Histogram histogram(String name, String help, LatencyHistogram histogram) {
+        return register(Histogram.class, new Histogram(name, help, Objects.requireNonNull(histogram, "histogram")));
+    }
+
+    public List<Metric> metrics() {
+        return new ArrayList<>(metrics.values());
+    }
+
+    public Metric find(String name) {
+        return metrics.get(name);
+    }
+
+    private <T extends Metric> T register(Class<T> kind, T candidate) {
+        validateName(candidate.getName());
+        Metric existing = metrics.putIfAbsent(candidate.getName(), candidate);
+        if (existing == null) {
+            return candidate;
+        }
+        if (!kind.isInstance(existing)) {
+            throw new IllegalArgumentException("Metric '" + candidate.getName() + "' already registered as "
+                    + existing.getType());
+        }
+        return kind.cast(existing);
+    }
+
+    private static void validateName(String name) {
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("Metric name must not be empty");
+        }
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            boolean ok = c == '_' || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (i > 0 && c >= '0' && c <= '9');
+            if (!ok) {
+                throw new IllegalArgumentException("Invalid metric name: " + name);
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package tetris.metrics;
+
+/**
+ * 프로세스 전역 성능 기록기 모음.
+ * hot path(렌더링, 중력 틱, 소켓 I/O)는 여기의 기록기에 값만 넣고,
+ * 집계/표시는 성능 오버레이처럼 느린 주기의 소비자가 담당한다.
+ */
+public final class PerfRecorders {
+
+    /** 실제 화면 페인트 한 번(RepaintManager 패스)에 걸린 시간. */
+    public static final LatencyHistogram RENDER_FRAME = new LatencyHistogram();
+    /** GameplayEngine 중력 틱 한 번의 처리 시간. */
+    public static final LatencyHistogram SIMULATION_TICK = new LatencyHistogram();
+    /** invokeLater로 올린 작업이 EDT에서 실행되기까지 기다린 시간. */
+    public static final LatencyHistogram EDT_QUEUE_LATENCY = new LatencyHistogram();
+    /** 모든 소켓 연결의 송수신 합계. */
+    public static final TrafficCounter NETWORK = new TrafficCounter();
+
+    private PerfRecorders() {
+        // util class
+    }
+}
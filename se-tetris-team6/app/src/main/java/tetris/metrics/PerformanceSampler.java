@@ -0,0 +1,188 @@
+package tetris.metrics;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+
+/**
+ * 전역 기록기와 JVM MXBean을 주기적으로 읽어 구간별 성능 요약을 만든다.
+ * - hot path에는 관여하지 않고, 성능 오버레이처럼 느린 주기의 소비자가 sample()을 호출한다.
+ * - 각 값은 직전 sample() 이후 구간에 대한 값이다.
+ */
+public final class PerformanceSampler {
+
+    /** 한 구간의 성능 요약 (불변). */
+    public static final class Report {
+        private final double renderFps;
+        private final LatencyHistogram.Snapshot renderFrames;
+        private final LatencyHistogram.Snapshot simulationTicks;
+        private final LatencyHistogram.Snapshot edtLatency;
+        private final double gcPauseMillisPerSecond;
+        private final double allocatedBytesPerSecond;
+        private final double bytesSentPerSecond;
+        private final double bytesReceivedPerSecond;
+        private final double messagesSentPerSecond;
+        private final double messagesReceivedPerSecond;
+        private final long rttMicros;
+        private final long rttJitterMicros;
+
+        Report(double renderFps, LatencyHistogram.Snapshot renderFrames,
+                LatencyHistogram.Snapshot simulationTicks, LatencyHistogram.Snapshot edtLatency,
+                double gcPauseMillisPerSecond, double allocatedBytesPerSecond,
+                double bytesSentPerSecond, double bytesReceivedPerSecond,
+                double messagesSentPerSecond, double messagesReceivedPerSecond,
+                long rttMicros, long rttJitterMicros) {
+            this.renderFps = renderFps;
+            this.renderFrames = renderFrames;
+            this.simulationTicks = simulationTicks;
+            this.edtLatency = edtLatency;
+            this.gcPauseMillisPerSecond = gcPauseMillisPerSecond;
+            this.allocatedBytesPerSecond = allocatedBytesPerSecond;
+            this.bytesSentPerSecond = bytesSentPerSecond;
+            this.bytesReceivedPerSecond = bytesReceivedPerSecond;
+            this.messagesSentPerSecond = messagesSentPerSecond;
+            this.messagesReceivedPerSecond = messagesReceivedPerSecond;
+            this.rttMicros = rttMicros;
+            this.rttJitterMicros = rttJitterMicros;
+        }
+
+        public double renderFps() { return renderFps; }
+        public LatencyHistogram.Snapshot renderFrames() { return renderFrames; }
+        public LatencyHistogram.Snapshot simulationTicks() { return simulationTicks; }
+        public LatencyHistogram.Snapshot edtLatency() { return edtLatency; }
+        public double gcPauseMillisPerSecond() { return gcPauseMillisPerSecond; }
+        /** 측정 불가(JVM 미지원)면 음수. */
+        public double allocatedBytesPerSecond() { return allocatedBytesPerSecond; }
+        public double bytesSentPerSecond() { return bytesSentPerSecond; }
+        public double bytesReceivedPerSecond() { return bytesReceivedPerSecond; }
+        public double messagesSentPerSecond() { return messagesSentPerSecond; }
+        public double messagesReceivedPerSecond() { return messagesReceivedPerSecond; }
+        /** 마지막 RTT(µs), 측정 전이면 -1. */
+        public long rttMicros() { return rttMicros; }
+        public long rttJitterMicros() { return rttJitterMicros; }
+    }
+
+    private final LatencyHistogram renderHistogram;
+    private final LatencyHistogram tickHistogram;
+    private final LatencyHistogram edtHistogram;
+    private final TrafficCounter traffic;
+    private final List<GarbageCollectorMXBean> gcBeans = ManagementFactory.getGarbageCollectorMXBeans();
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+    private long lastSampleNanos;
+    private LatencyHistogram.Snapshot lastRender;
+    private LatencyHistogram.Snapshot lastTick;
+    private LatencyHistogram.Snapshot lastEdt;
+    private long lastGcMillis;
+    private long lastAllocatedBytes;
+    private long lastBytesSent;
+    private long lastBytesReceived;
+    private long lastMessagesSent;
+    private long lastMessagesReceived;
+
+    public PerformanceSampler() {
+        this(PerfRecorders.RENDER_FRAME, PerfRecorders.SIMULATION_TICK,
+                PerfRecorders.EDT_QUEUE_LATENCY, PerfRecorders.NETWORK);
+    }
+
+    public PerformanceSampler(LatencyHistogram renderHistogram, LatencyHistogram tickHistogram,
+            LatencyHistogram edtHistogram, TrafficCounter traffic) {
+        this.renderHistogram = renderHistogram;
+        this.tickHistogram = tickHistogram;
+        this.edtHistogram = edtHistogram;
+        this.traffic = traffic;
+        reset();
+    }
+
+    /** 기준점을 현재 값으로 옮긴다. (오버레이를 다시 켤 때 오래된 구간이 섞이지 않게) */
+    public synchronized void reset() {
+        lastSampleNanos = System.nanoTime();
+        lastRender = renderHistogram.snapshot();
+        lastTick = tickHistogram.snapshot();
+        lastEdt = edtHistogram.snapshot();
+        lastGcMillis = totalGcMillis();
+        lastAllocatedBytes = totalAllocatedBytes();
+        lastBytesSent = traffic.getBytesSent();
+        lastBytesReceived = traffic.getBytesReceived();
+        lastMessagesSent = traffic.getMessagesSent();
+        lastMessagesReceived = traffic.getMessagesReceived();
+    }
+
+    public synchronized Report sample() {
+        long now = System.nanoTime();
+        double seconds = Math.max(1e-3, (now - lastSampleNanos) / 1_000_000_000.0);
+        lastSampleNanos = now;
+
+        LatencyHistogram.Snapshot render = renderHistogram.snapshot();
+        LatencyHistogram.Snapshot tick = tickHistogram.snapshot();
+        LatencyHistogram.Snapshot edt = edtHistogram.snapshot();
+        LatencyHistogram.Snapshot renderWindow = render.since(lastRender);
+        LatencyHistogram.Snapshot tickWindow = tick.since(lastTick);
+        LatencyHistogram.Snapshot edtWindow = edt.since(lastEdt);
+        lastRender = render;
+        lastTick = tick;
+        lastEdt = edt;
+
+        long gcMillis = totalGcMillis();
+        double gcRate = (gcMillis - lastGcMillis) / seconds;
+        lastGcMillis = gcMillis;
+
+        long allocated = totalAllocatedBytes();
+        double allocRate = allocated < 0 ? -1.0 : Math.max(0L, allocated - lastAllocatedBytes) / seconds;
+        lastAllocatedBytes = allocated;
+
+        long sent = traffic.getBytesSent();
+        long received = traffic.getBytesReceived();
+        long msgSent = traffic.getMessagesSent();
+        long msgReceived = traffic.getMessagesReceived();
+        Report report = new Report(
+                renderWindow.count() / seconds,
+                renderWindow,
+                tickWindow,
+                edtWindow,
+                gcRate,
+                allocRate,
+                (sent - lastBytesSent) / seconds,
+                (received - lastBytesReceived) / seconds,
+                (msgSent - lastMessagesSent) / seconds,
+                (msgReceived - lastMessagesReceived) / seconds,
+                traffic.getLastRttMicros(),
+                traffic.getJitterMicros());
+        lastBytesSent = sent;
+        lastBytesReceived = received;
+        lastMessagesSent = msgSent;
+        lastMessagesReceived = msgReceived;
+        return report;
+    }
+
+    private long totalGcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean bean : gcBeans) {
+            long t = bean.getCollectionTime();
+            if (t > 0) {
+                total += t;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 살아있는 모든 스레드의 누적 할당 바이트 합계. HotSpot 확장 API가 없으면 -1.
+     * 종료된 스레드의 할당량은 빠지므로 구간 값이 음수가 되면 0으로 본다.
+     */
+    private long totalAllocatedBytes() {
+        if (!(threadBean instanceof com.sun.management.ThreadMXBean hotspot)
+                || !hotspot.isThreadAllocatedMemorySupported()
+                || !hotspot.isThreadAllocatedMemoryEnabled()) {
+            return -1L;
+        }
+        long total = 0;
+        for (long bytes : hotspot.getThreadAllocatedBytes(threadBean.getAllThreadIds())) {
+            if (bytes > 0) {
+                total += bytes;
+            }
+        }
+        return total;
+    }
+}
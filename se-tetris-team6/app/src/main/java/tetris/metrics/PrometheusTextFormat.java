@@ -0,0 +1,56 @@
+package tetris.metrics;
+
+import java.util.Locale;
+
+/**
+ * 레지스트리 내용을 Prometheus 텍스트 노출 형식(0.0.4)으로 직렬화한다.
+ * 히스토그램은 버킷 수가 많아 summary(분위수 + _sum + _count, 초 단위)로 내보낸다.
+ */
+public final class PrometheusTextFormat {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final double[] QUANTILES = { 0.5, 0.9, 0.99 };
+
+    private PrometheusTextFormat() {
+        // util class
+    }
+
+    public static String format(MetricsRegistry registry) {
+        StringBuilder sb = new StringBuilder(4096);
+        for (MetricsRegistry.Metric metric : registry.metrics()) {
+            write(metric, sb);
+        }
+        return sb.toString();
+    }
+
+    static void write(MetricsRegistry.Metric metric, StringBuilder sb) {
+        String name = metric.getName();
+        sb.append("# HELP ").append(name).append(' ').append(escapeHelp(metric.getHelp())).append('\n');
+        sb.append("# TYPE ").append(name).append(' ').append(metric.getType().name().toLowerCase(Locale.ROOT)).append('\n');
+        if (metric instanceof MetricsRegistry.Counter counter) {
+            sb.append(name).append(' ').append(counter.get()).append('\n');
+        } else if (metric instanceof MetricsRegistry.Gauge gauge) {
+            sb.append(name).append(' ').append(gauge.get()).append('\n');
+        } else if (metric instanceof MetricsRegistry.Histogram histogram) {
+            LatencyHistogram.Snapshot s = histogram.snapshot();
+            for (double q : QUANTILES) {
+                sb.append(name).append("{quantile=\"").append(q).append("\"} ")
+                        .append(seconds(s.percentileMicros(q))).append('\n');
+            }
+            sb.append(name).append("_sum ").append(seconds(s.totalMicros())).append('\n');
+            sb.append(name).append("_count ").append(s.count()).append('\n');
+        }
+    }
+
+    private static String seconds(long micros) {
+        return Double.toString(micros / 1_000_000.0);
+    }
+
+    private static String escapeHelp(String help) {
+        if (help == null) {
+            return "";
+        }
+        return help.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+}
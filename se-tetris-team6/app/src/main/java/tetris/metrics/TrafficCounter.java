@@ -0,0 +1,111 @@
+package tetris.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import tetris.concurrent.NetworkStats;
+
+/**
+ * 네트워크 송수신량과 RTT 지터를 모으는 lock-free 카운터.
+ * - 소켓 스트림/송신 루프에서 직접 호출되므로 LongAdder와 CAS만 사용한다.
+ * - parent를 지정하면 같은 값을 상위(프로세스 전체) 카운터에도 더한다.
+ */
+public final class TrafficCounter {
+
+    /** RFC 3550 방식의 지터 평활 계수 (1/16). */
+    private static final int JITTER_SMOOTHING_SHIFT = 4;
+
+    private final TrafficCounter parent;
+    private final LongAdder bytesSent = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final LongAdder messagesSent = new LongAdder();
+    private final LongAdder messagesReceived = new LongAdder();
+    private final AtomicLong lastRttMicros = new AtomicLong(-1L);
+    private final AtomicLong jitterMicros = new AtomicLong();
+
+    public TrafficCounter() {
+        this(null);
+    }
+
+    public TrafficCounter(TrafficCounter parent) {
+        this.parent = parent;
+    }
+
+    public void addBytesSent(long bytes) {
+        bytesSent.add(bytes);
+        if (parent != null) {
+            parent.addBytesSent(bytes);
+        }
+    }
+
+    public void addBytesReceived(long bytes) {
+        bytesReceived.add(bytes);
+        if (parent != null) {
+            parent.addBytesReceived(bytes);
+        }
+    }
+
+    public void messageSent() {
+        messagesSent.increment();
+        if (parent != null) {
+            parent.messageSent();
+        }
+    }
+
+    public void messageReceived() {
+        messagesReceived.increment();
+        if (parent != null) {
+            parent.messageReceived();
+        }
+    }
+
+    /** 측정된 왕복 시간을 기록하고 지터 추정치를 갱신한다. */
+    public void recordRttMicros(long rttMicros) {
+        if (rttMicros < 0) {
+            return;
+        }
+        long previous = lastRttMicros.getAndSet(rttMicros);
+        if (previous >= 0) {
+            long delta = Math.abs(rttMicros - previous);
+            jitterMicros.updateAndGet(j -> j + ((delta - j) >> JITTER_SMOOTHING_SHIFT));
+        }
+        if (parent != null) {
+            parent.recordRttMicros(rttMicros);
+        }
+    }
+
+    public void recordRttMillis(long rttMillis) {
+        recordRttMicros(rttMillis * 1000L);
+    }
+
+    public long getBytesSent() {
+        return bytesSent.sum();
+    }
+
+    public long getBytesReceived() {
+        return bytesReceived.sum();
+    }
+
+    public long getMessagesSent() {
+        return messagesSent.sum();
+    }
+
+    public long getMessagesReceived() {
+        return messagesReceived.sum();
+    }
+
+    /** 마지막 RTT(µs), 측정 전이면 -1. */
+    public long getLastRttMicros() {
+        return lastRttMicros.get();
+    }
+
+    public long getJitterMicros() {
+        return jitterMicros.get();
+    }
+
+    public NetworkStats toNetworkStats() {
+        long rtt = lastRttMicros.get();
+        return new NetworkStats(getMessagesSent(), getMessagesReceived(), rtt < 0 ? -1 : rtt / 1000L,
+                getBytesSent(), getBytesReceived(), getJitterMicros() / 1000L);
+    }
+}
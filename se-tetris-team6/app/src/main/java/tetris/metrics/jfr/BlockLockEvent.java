@@ -0,0 +1,25 @@
+package tetris.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** 활성 블록이 보드에 고정될 때 (줄 검사 포함). */
+@Name("tetris.BlockLock")
+@Label("Block Lock")
+@Category({ "Tetris", "Engine" })
+@Description("GameplayEngine.lockActiveBlock: place, full-row scan and spawn")
+@StackTrace(false)
+public class BlockLockEvent extends jdk.jfr.Event {
+
+    @Label("Player Id")
+    public int playerId;
+
+    @Label("Block Kind")
+    public String blockKind;
+
+    @Label("Lines Cleared")
+    public int linesCleared;
+}
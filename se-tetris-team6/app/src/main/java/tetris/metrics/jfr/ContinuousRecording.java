@@ -0,0 +1,131 @@
+package tetris.metrics.jfr;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+
+/**
+ * 실행 인자 --jfr[=디렉터리] 로 켜는 상시 JFR 녹화.
+ * - JDK "default" 설정에 tetris.jfc(게임 이벤트)를 덮어쓴 설정으로 최근 10분/64MB만 디스크에 유지한다.
+ * - 문제 상황 직후 {@code jcmd <pid> JFR.dump name=tetris filename=...} 또는 {@link #dump()}로 파일을 남긴다.
+ * - 종료 시에도 지정 디렉터리에 자동으로 덤프된다.
+ */
+public final class ContinuousRecording {
+
+    public static final String RECORDING_NAME = "tetris";
+    public static final String ARG = "--jfr";
+    static final String PROFILE_RESOURCE = "/tetris/jfr/tetris.jfc";
+
+    private static final Duration MAX_AGE = Duration.ofMinutes(10);
+    private static final long MAX_SIZE_BYTES = 64L * 1024 * 1024;
+    private static final DateTimeFormatter FILE_STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private static Recording recording;
+    private static Path dumpDirectory;
+
+    private ContinuousRecording() {
+        // util class
+    }
+
+    /** 인자에 --jfr 이 있으면 녹화를 시작한다. 실패해도 게임 실행은 계속된다. */
+    public static synchronized void startFromArgs(String[] args) {
+        String dir = resolveDirectory(args);
+        if (dir == null) {
+            return;
+        }
+        try {
+            start(Paths.get(dir));
+        } catch (IOException | ParseException | IllegalStateException | SecurityException e) {
+            System.err.println("[JFR] Failed to start continuous recording: " + e.getMessage());
+        }
+    }
+
+    public static synchronized void start(Path directory) throws IOException, ParseException {
+        if (recording != null) {
+            return;
+        }
+        if (!FlightRecorder.isAvailable()) {
+            throw new IllegalStateException("Flight Recorder is not available in this JVM");
+        }
+        Files.createDirectories(directory);
+        Recording r = new Recording(loadSettings());
+        r.setName(RECORDING_NAME);
+        r.setToDisk(true);
+        r.setMaxAge(MAX_AGE);
+        r.setMaxSize(MAX_SIZE_BYTES);
+        r.setDumpOnExit(true);
+        r.setDestination(directory.resolve("tetris-exit-" + LocalDateTime.now().format(FILE_STAMP) + ".jfr"));
+        r.start();
+        recording = r;
+        dumpDirectory = directory;
+        System.out.println("[JFR] Continuous recording '" + RECORDING_NAME + "' started, dumps go to "
+                + directory.toAbsolutePath());
+    }
+
+    /** 현재까지의 녹화 내용을 새 파일로 저장하고 경로를 돌려준다. 녹화 중이 아니면 null. */
+    public static synchronized Path dump() throws IOException {
+        if (recording == null) {
+            return null;
+        }
+        Path target = dumpDirectory.resolve("tetris-" + LocalDateTime.now().format(FILE_STAMP) + ".jfr");
+        recording.dump(target);
+        return target;
+    }
+
+    public static synchronized void stop() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    public static synchronized boolean isRunning() {
+        return recording != null;
+    }
+
+    /** JDK default 설정 + tetris.jfc. 같은 키는 tetris.jfc가 우선한다. */
+    static Map<String, String> loadSettings() throws IOException, ParseException {
+        Map<String, String> settings = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+        try (InputStream in = ContinuousRecording.class.getResourceAsStream(PROFILE_RESOURCE)) {
+            if (in == null) {
+                throw new IOException("Missing JFR profile " + PROFILE_RESOURCE);
+            }
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                settings.putAll(Configuration.create(reader).getSettings());
+            }
+        }
+        return settings;
+    }
+
+    /** --jfr 은 현재 디렉터리의 recordings/, --jfr=경로 는 그 경로. 없으면 null. */
+    static String resolveDirectory(String[] args) {
+        if (args == null) {
+            return null;
+        }
+        String dir = null;
+        for (String arg : args) {
+            if (ARG.equals(arg)) {
+                dir = "recordings";
+            } else if (arg != null && arg.startsWith(ARG + "=")) {
+                String value = arg.substring(ARG.length() + 1).trim();
+                dir = value.isEmpty() ? "recordings" : value;
+            }
+        }
+        return dir;
+    }
+}
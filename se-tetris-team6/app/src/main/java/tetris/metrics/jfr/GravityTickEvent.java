@@ -0,0 +1,23 @@
+package tetris.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** GameplayEngine 중력 틱 한 번. 지속시간이 곧 틱 처리 시간이다. */
+@Name("tetris.GravityTick")
+@Label("Gravity Tick")
+@Category({ "Tetris", "Engine" })
+@Description("One GameplayEngine gravity tick (move or lock)")
+@StackTrace(false)
+public class GravityTickEvent extends jdk.jfr.Event {
+
+    @Label("Player Id")
+    @Description("0 for single player, 1..n in multiplayer")
+    public int playerId;
+
+    @Label("Tick")
+    public long tick;
+}
@@ -0,0 +1,52 @@
+package tetris.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+import tetris.network.protocol.GameMessage;
+import tetris.network.protocol.GameSnapshot;
+
+/**
+ * 송수신 이벤트 공통 필드.
+ * 바이트 수는 계량 스트림 카운터의 차이라서 ObjectStream 버퍼링만큼 오차가 있을 수 있다.
+ */
+@Category({ "Tetris", "Network" })
+@StackTrace(false)
+abstract class NetworkMessageEvent extends jdk.jfr.Event {
+
+    @Label("Endpoint")
+    public String endpoint;
+
+    @Label("Peer")
+    public String peer;
+
+    @Label("Player Id")
+    public int playerId;
+
+    @Label("Message Type")
+    public String messageType;
+
+    @Label("Sequence")
+    public int sequence;
+
+    @Label("Size")
+    @DataAmount
+    public long bytes;
+
+    /** 메시지에서 타입/시퀀스/플레이어 정보를 채운다. 스냅샷이 아니면 playerId는 -1. */
+    public void describe(String endpoint, String peer, GameMessage message, long bytes) {
+        this.endpoint = endpoint;
+        this.peer = peer;
+        this.bytes = bytes;
+        if (message == null) {
+            this.playerId = -1;
+            return;
+        }
+        this.messageType = message.getType() == null ? null : message.getType().name();
+        this.sequence = message.getSequenceNumber();
+        Object payload = message.getPayload();
+        this.playerId = payload instanceof GameSnapshot snapshot ? snapshot.playerId() : -1;
+    }
+}
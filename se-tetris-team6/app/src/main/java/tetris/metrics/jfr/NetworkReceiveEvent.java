@@ -0,0 +1,14 @@
+package tetris.metrics.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 수신한 메시지 한 개. 블로킹 대기 시간은 빼고, 읽은 직후부터 처리가 끝날 때까지를 지속시간으로 잡는다.
+ */
+@Name("tetris.NetworkReceive")
+@Label("Network Receive")
+@Description("Handling of one GameMessage after readObject returned")
+public class NetworkReceiveEvent extends NetworkMessageEvent {
+}
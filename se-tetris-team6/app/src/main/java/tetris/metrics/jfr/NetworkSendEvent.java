@@ -0,0 +1,12 @@
+package tetris.metrics.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** 메시지 한 개를 직렬화해 소켓에 쓰는 구간 (락 대기 포함). */
+@Name("tetris.NetworkSend")
+@Label("Network Send")
+@Description("Serialize and flush one GameMessage to a socket")
+public class NetworkSendEvent extends NetworkMessageEvent {
+}
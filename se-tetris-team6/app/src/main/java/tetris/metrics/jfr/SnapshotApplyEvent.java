@@ -0,0 +1,22 @@
+package tetris.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** 수신한 스냅샷을 EDT에서 모델에 반영하는 한 번. */
+@Name("tetris.SnapshotApply")
+@Label("Snapshot Apply")
+@Category({ "Tetris", "Snapshot" })
+@Description("GameModel.applySnapshotImpl on the EDT")
+@StackTrace(false)
+public class SnapshotApplyEvent extends jdk.jfr.Event {
+
+    @Label("Player Id")
+    public int playerId;
+
+    @Label("Attack Lines")
+    public int attackLines;
+}
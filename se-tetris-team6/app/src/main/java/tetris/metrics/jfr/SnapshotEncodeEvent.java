@@ -0,0 +1,22 @@
+package tetris.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** GameModel.toSnapshot 한 번. */
+@Name("tetris.SnapshotEncode")
+@Label("Snapshot Encode")
+@Category({ "Tetris", "Snapshot" })
+@Description("GameModel.toSnapshot: copy board and state into a GameSnapshot")
+@StackTrace(false)
+public class SnapshotEncodeEvent extends jdk.jfr.Event {
+
+    @Label("Player Id")
+    public int playerId;
+
+    @Label("Attack Lines")
+    public int attackLines;
+}
@@ -2,11 +2,13 @@ package tetris.multiplayer.controller;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
+import tetris.concurrent.PlayerTickBarrier;
 import tetris.domain.Board;
 import tetris.domain.BlockKind;
 import tetris.domain.GameModel;
 import tetris.domain.model.Block;
 import tetris.multiplayer.model.AttackLine;
+import tetris.multiplayer.model.AttackQueueView;
 import tetris.multiplayer.model.LockedPieceSnapshot;
 import tetris.multiplayer.model.MultiPlayerGame;
 
@@ -17,9 +19,15 @@ import tetris.multiplayer.model.MultiPlayerGame;
 public final class LocalMultiPlayerController {
 
     private final MultiPlayerGame game;
+    private final PlayerTickBarrier tickBarrier;
 
     public LocalMultiPlayerController(MultiPlayerGame game) {
+        this(game, new PlayerTickBarrier(2));
+    }
+
+    public LocalMultiPlayerController(MultiPlayerGame game, PlayerTickBarrier tickBarrier) {
         this.game = Objects.requireNonNull(game, "game");
+        this.tickBarrier = Objects.requireNonNull(tickBarrier, "tickBarrier");
     }
 
     /**
@@ -39,34 +47,49 @@ public final class LocalMultiPlayerController {
     public void onPieceLocked(int playerId,
                                 LockedPieceSnapshot snapshot,
                                 int[] clearedYs) {
+        onPieceLocked(playerId, snapshot, clearedYs, Board.W);
+    }
+
+    /** 훅이 넘겨 준 보드 폭을 그대로 쓴다. */
+    public void onPieceLocked(int playerId,
+                                LockedPieceSnapshot snapshot,
+                                int[] clearedYs,
+                                int boardWidth) {
         if (snapshot == null || clearedYs == null || clearedYs.length == 0) {
             return;
         }
-        GameModel model = game.modelOf(playerId);
-        int boardWidth = determineBoardWidth(model);
-        game.onPieceLocked(playerId, snapshot, clearedYs, boardWidth);
+        if (!tickBarrier.isStepping()) {
+            game.onPieceLocked(playerId, snapshot, clearedYs, boardWidth);
+            return;
+        }
+        // 병렬 스텝 중: 내 대기 줄 상쇄는 자기 버퍼만 건드리므로 이어지는 스폰 직전 주입보다 먼저 바로 하고,
+        // 상대 버퍼와 공유 난수를 건드리는 공격 전송만 병합 단계로 미룬다.
+        int first = game.cancelIncomingAttack(playerId, snapshot, clearedYs, boardWidth);
+        tickBarrier.deferIfStepping(playerId, () -> game.sendAttack(playerId, snapshot, clearedYs, boardWidth, first));
     }
 
     /**
-     * 로컬 게임에서는 두 플레이어 모두 동시에 업데이트
+     * 로컬 게임에서는 두 플레이어 모두 동시에 업데이트.
+     * 각 모델은 워커 풀에서 병렬로 진행되고, 플레이어 간 상호작용은 배리어 이후 P1 → P2 순으로 적용된다.
      */
     public void tick() {
-        game.modelOf(1).update();
-        game.modelOf(2).update();
+        tickBarrier.tick(playerId -> game.modelOf(playerId).update());
     }
 
     /**
      * 스폰 직전 호출되어 대기 중인 공격 줄을 보드에 실제로 주입한다.
      * 주입 이후 스폰 불가 상태라면 해당 플레이어 패배로 처리한다.
+     * 주입과 스폰 판정은 자기 모델과 자기 대기 버퍼만 건드리므로 병렬 스텝 안에서도 바로 한다.
+     * (미루면 새 블록이 먼저 나와 그 밑으로 줄이 밀려 들어가고 스폰 판정도 빠진다) 탈락 처리만 병합 단계로 미룬다.
      */
     public void injectAttackBeforeNextSpawn(int playerId) {
-        List<AttackLine> lines = game.takeAttackLinesForNextSpawn(playerId);
-        if (lines.isEmpty()) {
+        if (game.injectAttackLinesForNextSpawn(playerId) == 0) {
+            return;
+        }
+        if (canSpawnNextPiece(game.modelOf(playerId))) {
             return;
         }
-        GameModel model = game.modelOf(playerId);
-        applyAttackLines(model, lines);
-        if (!canSpawnNextPiece(model)) {
+        if (!tickBarrier.deferIfStepping(playerId, () -> game.markLoser(playerId))) {
             game.markLoser(playerId);
         }
     }
@@ -79,47 +102,8 @@ public final class LocalMultiPlayerController {
         return game.getPendingAttackLines(playerId);
     }
 
-    private static int determineBoardWidth(GameModel model) {
-        int[][] snapshot = model.getBoard().gridView();
-        return snapshot.length == 0 ? Board.W : snapshot[0].length;
-    }
-
-    private static void applyAttackLines(GameModel model, List<AttackLine> lines) {
-        Board board = model.getBoard();
-        int[][] current = board.gridView();
-        int height = current.length;
-        if (height == 0) {
-            return;
-        }
-        int width = current[0].length;
-        int attackCount = Math.min(lines.size(), height);
-        int[][] next = new int[height][width];
-
-        // 기존 격자를 위로 밀어 올려 공격 줄이 들어갈 공간 확보.
-        for (int y = 0; y < height - attackCount; y++) {
-            System.arraycopy(current[y + attackCount], 0, next[y], 0, width);
-        }
-        int baseRow = height - attackCount;
-        // 새로 추가되는 공격 줄은 공격자가 남긴 구멍(holes)을 그대로 복사한다.
-        for (int index = 0; index < attackCount; index++) {
-            AttackLine attack = lines.get(index);
-            boolean[] holes = attack.copyHoles();
-            int rowIndex = baseRow + index;
-            for (int x = 0; x < width; x++) {
-                next[rowIndex][x] = holes[x] ? 0 : 8; // 8 is an arbitrary grey; adjust if needed.
-            }
-        }
-
-        // 계산된 격자를 실제 보드에 반영한다.
-        board.clear();
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                int value = next[y][x];
-                if (value > 0) {
-                    board.setCell(x, y, value);
-                }
-            }
-        }
+    public AttackQueueView getPendingAttackView(int playerId) {
+        return game.getPendingAttackView(playerId);
     }
 
     private static boolean canSpawnNextPiece(GameModel model) {
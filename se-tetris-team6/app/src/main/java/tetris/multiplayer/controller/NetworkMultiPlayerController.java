@@ -8,6 +8,7 @@ import tetris.domain.BlockKind;
 import tetris.domain.GameModel;
 import tetris.domain.model.Block;
 import tetris.multiplayer.model.AttackLine;
+import tetris.multiplayer.model.AttackQueueView;
 import tetris.multiplayer.model.LockedPieceSnapshot;
 import tetris.multiplayer.model.MultiPlayerGame;
 
@@ -23,6 +24,18 @@ public final class NetworkMultiPlayerController {
     // optional transport attached to this controller for direct sending
     private tetris.network.client.GameClient transportClient;
     private tetris.network.server.GameServer transportServer;
+    // 수신한 스냅샷은 플레이어별 최신 것만 남겨 EDT에서 한 번에 적용한다.
+    private final tetris.concurrent.SnapshotMailbox snapshotMailbox =
+            new tetris.concurrent.SnapshotMailbox(2, this::applyRemoteSnapshot);
+    // 상대 스냅샷은 지터 버퍼에서 일정한 지연 뒤에 꺼내 적용하고, 그 사이 떨어지는 블록 위치는 보간한다. (클라이언트 전용)
+    private final tetris.network.client.SnapshotJitterBuffer remoteBuffer = new tetris.network.client.SnapshotJitterBuffer();
+    private final tetris.network.client.SnapshotJitterBuffer.PiecePose remotePose = new tetris.network.client.SnapshotJitterBuffer.PiecePose();
+    private final java.util.concurrent.atomic.AtomicBoolean playoutRequested = new java.util.concurrent.atomic.AtomicBoolean();
+    private javax.swing.Timer playoutTimer;
+    // 호스트 화면용 거울 모델 (인덱스 = playerId). 켜져 있으면 화면은 발행된 틱 스냅샷만 그리고 플레이어 모델은 읽지 않는다.
+    private volatile GameModel[] displayModels;
+    private final tetris.concurrent.SnapshotMailbox displayMailbox =
+            new tetris.concurrent.SnapshotMailbox(2, this::applyDisplaySnapshot);
 
     public NetworkMultiPlayerController(MultiPlayerGame game, int localPlayerId) {
         this.game = Objects.requireNonNull(game, "game");
@@ -65,8 +78,7 @@ public final class NetworkMultiPlayerController {
             return;
         }
         GameModel model = game.modelOf(localPlayerId);
-        int boardWidth = determineBoardWidth(model);
-        game.onPieceLocked(localPlayerId, snapshot, clearedYs, boardWidth);
+        game.onPieceLocked(localPlayerId, snapshot, clearedYs, Board.W);
         
         // 네트워크로 이벤트 전송 (transport가 있으면 직접 전송)
         sendPieceLockedEvent(snapshot, clearedYs);
@@ -83,10 +95,7 @@ public final class NetworkMultiPlayerController {
         if (snapshot == null || clearedYs == null || clearedYs.length == 0) {
             return;
         }
-        int remotePlayerId = getRemotePlayerId();
-        GameModel model = game.modelOf(remotePlayerId);
-        int boardWidth = determineBoardWidth(model);
-        game.onPieceLocked(remotePlayerId, snapshot, clearedYs, boardWidth);
+        game.onPieceLocked(getRemotePlayerId(), snapshot, clearedYs, Board.W);
     }
 
     /**
@@ -137,19 +146,31 @@ public final class NetworkMultiPlayerController {
     }
 
     public void injectAttackBeforeNextSpawn(int playerId) {
-        List<AttackLine> lines = game.takeAttackLinesForNextSpawn(playerId);
-        if (lines.isEmpty()) {
+        injectAttackBeforeNextSpawn(playerId, null);
+    }
+
+    /**
+     * 병렬 스텝 중에 불릴 수 있는 주입. 줄 주입과 스폰 판정은 자기 모델과 자기 대기 버퍼만 건드리므로 스폰 전에 바로 하고,
+     * 상태 전송과 패배 처리만 tickBarrier의 병합 단계로 미룬다. tickBarrier가 null이면 모두 바로 한다.
+     */
+    public void injectAttackBeforeNextSpawn(int playerId, tetris.concurrent.PlayerTickBarrier tickBarrier) {
+        if (game.injectAttackLinesForNextSpawn(playerId) == 0) {
             return;
         }
+        boolean toppedOut = !canSpawnNextPiece(game.modelOf(playerId));
+        if (tickBarrier == null || !tickBarrier.deferIfStepping(playerId, () -> afterAttackInjected(playerId, toppedOut))) {
+            afterAttackInjected(playerId, toppedOut);
+        }
+    }
+
+    private void afterAttackInjected(int playerId, boolean toppedOut) {
         GameModel model = game.modelOf(playerId);
-        applyAttackLines(model, lines);
-        
         // 공격 라인이 주입되었으므로 모든 플레이어가 즉시 상태 동기화
         if (playerId == localPlayerId) {
             sendGameState(model);
         }
         
-        if (!canSpawnNextPiece(model)) {
+        if (toppedOut) {
             game.markLoser(playerId);
             
             // 게임 종료 이벤트 네트워크 전송
@@ -164,8 +185,12 @@ public final class NetworkMultiPlayerController {
     }
 
     public List<AttackLine> getPendingAttackLines(int playerId) {
-        // 서버: VersusRules에서 실제 공격 대기열 반환
+        // 서버: VersusRules에서 실제 공격 대기열 반환 (거울 모델로 그리는 중이면 그 스냅샷)
         // 클라이언트: 스냅샷에서 받은 공격 대기열 반환
+        GameModel[] views = displayModels;
+        if (views != null) {
+            return views[playerId].getSnapshotAttackLines();
+        }
         if (localPlayerId == 1) {
             // 서버: VersusRules 사용
             return game.getPendingAttackLines(playerId);
@@ -179,48 +204,22 @@ public final class NetworkMultiPlayerController {
         }
     }
 
-    private int getRemotePlayerId() {
-        return localPlayerId == 1 ? 2 : 1;
-    }
-
-    private static int determineBoardWidth(GameModel model) {
-        int[][] snapshot = model.getBoard().gridView();
-        return snapshot.length == 0 ? Board.W : snapshot[0].length;
-    }
-
-    private static void applyAttackLines(GameModel model, List<AttackLine> lines) {
-        Board board = model.getBoard();
-        int[][] current = board.gridView();
-        int height = current.length;
-        if (height == 0) {
-            return;
-        }
-        int width = current[0].length;
-        int attackCount = Math.min(lines.size(), height);
-        int[][] next = new int[height][width];
-
-        for (int y = 0; y < height - attackCount; y++) {
-            System.arraycopy(current[y + attackCount], 0, next[y], 0, width);
+    /** {@link #getPendingAttackLines(int)}와 같은 출처를 복사 없이 읽는 보기. */
+    public AttackQueueView getPendingAttackView(int playerId) {
+        GameModel[] views = displayModels;
+        if (views != null) {
+            // 호스트 화면: 시뮬레이션 스레드가 바꾸는 대기 버퍼 대신 마지막으로 적용한 스냅샷의 공격 줄을 읽는다.
+            return views[playerId].getSnapshotAttackView();
         }
-        int baseRow = height - attackCount;
-        for (int index = 0; index < attackCount; index++) {
-            AttackLine attack = lines.get(index);
-            boolean[] holes = attack.copyHoles();
-            int rowIndex = baseRow + index;
-            for (int x = 0; x < width; x++) {
-                next[rowIndex][x] = holes[x] ? 0 : 8;
-            }
+        if (localPlayerId == 1) {
+            return game.getPendingAttackView(playerId);
         }
+        GameModel model = game.modelOf(playerId);
+        return model != null ? model.getSnapshotAttackView() : AttackQueueView.EMPTY;
+    }
 
-        board.clear();
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                int value = next[y][x];
-                if (value > 0) {
-                    board.setCell(x, y, value);
-                }
-            }
-        }
+    private int getRemotePlayerId() {
+        return localPlayerId == 1 ? 2 : 1;
     }
 
     private static boolean canSpawnNextPiece(GameModel model) {
@@ -254,18 +253,7 @@ public final class NetworkMultiPlayerController {
      */
     public void applyRemotePlayerInput(int playerId, tetris.network.protocol.PlayerInput input) {
         if (input == null) return;
-        GameModel model = game.modelOf(playerId);
-        if (model == null) return;
-        switch (input.inputType()) {
-            case MOVE_LEFT -> model.moveBlockLeft();
-            case MOVE_RIGHT -> model.moveBlockRight();
-            case SOFT_DROP -> model.moveBlockDown();
-            case ROTATE -> model.rotateBlockClockwise();
-            case ROTATE_CCW -> model.rotateBlockCounterClockwise();
-            case HARD_DROP -> model.hardDropBlock();
-            case HOLD -> model.holdCurrentBlock();
-            default -> {}
-        }
+        PlayerInputs.apply(game.modelOf(playerId), input.inputType());
     }
 
     /**
@@ -296,6 +284,92 @@ public final class NetworkMultiPlayerController {
         model.applySnapshot(snapshot);
     }
 
+    /**
+     * 호스트 화면을 거울 모델로 그리게 한다. 이후 {@link #publishGameState}로 나가는 틱 스냅샷이 EDT에서 거울 모델에
+     * 적용되고, 화면과 공격 대기열 표시는 거울 모델만 읽는다. 시뮬레이션 스레드가 진행하는 플레이어 모델의 보드/대기 버퍼를
+     * EDT가 동시에 읽지 않게 하려는 것이다. 시뮬레이션 스레드를 띄우기 전에 EDT에서 호출한다. null이면 끈다.
+     */
+    public void useDisplayModels(GameModel playerOneView, GameModel playerTwoView) {
+        if (playerOneView == null || playerTwoView == null) {
+            displayModels = null;
+            return;
+        }
+        GameModel[] views = {null, playerOneView, playerTwoView};
+        // 아직 시뮬레이션 스레드가 없으므로 지금 상태를 바로 옮겨 둔다.
+        for (int pid = 1; pid <= 2; pid++) {
+            views[pid].applySnapshot(buildGameState(game.modelOf(pid)));
+        }
+        displayModels = views;
+    }
+
+    /** 화면이 그릴 모델. 거울 모델을 쓰지 않으면 플레이어 모델 그대로. */
+    public GameModel displayModelOf(int playerId) {
+        GameModel[] views = displayModels;
+        return views != null ? views[playerId] : game.modelOf(playerId);
+    }
+
+    private void applyDisplaySnapshot(tetris.network.protocol.GameSnapshot snapshot) {
+        GameModel[] views = displayModels;
+        int pid = snapshot.playerId();
+        if (views != null && (pid == 1 || pid == 2)) {
+            views[pid].applySnapshot(snapshot);
+        }
+    }
+
+    /**
+     * 상대 보드를 그릴 때 쓸 떨어지는 블록의 보간 위치. EDT에서만 읽는다.
+     * 지터 버퍼를 거치지 않는(호스트) 경우 valid=false 로 남는다.
+     */
+    public tetris.network.client.SnapshotJitterBuffer.PiecePose remotePiecePose() {
+        return remotePose;
+    }
+
+    /** 수신 스레드에서 호출된다. 로컬 플레이어 스냅샷은 바로, 상대 스냅샷은 지터 버퍼를 거쳐 적용한다. */
+    void acceptSnapshot(tetris.network.protocol.GameSnapshot snapshot, long sentAtMillis) {
+        if (snapshot.playerId() == localPlayerId) {
+            snapshotMailbox.offer(snapshot);
+            return;
+        }
+        if (transportClient != null) {
+            // RTT 평균 편차의 절반을 한쪽 방향 지터로 본다.
+            remoteBuffer.setLinkJitterMillis(transportClient.getLinkQuality().rttVarianceMillis() / 2.0);
+        }
+        remoteBuffer.offer(snapshot, sentAtMillis, System.currentTimeMillis());
+        if (playoutRequested.compareAndSet(false, true)) {
+            javax.swing.SwingUtilities.invokeLater(this::startPlayout);
+        }
+    }
+
+    private void startPlayout() {
+        if (playoutTimer == null) {
+            playoutTimer = new javax.swing.Timer(16, e -> pumpPlayout());
+        }
+        playoutTimer.start();
+    }
+
+    /** 화면 프레임마다(EDT) 재생 시각이 지난 최신 상대 스냅샷을 적용하고 블록 보간 위치를 갱신한다. */
+    private void pumpPlayout() {
+        long now = System.currentTimeMillis();
+        tetris.network.protocol.GameSnapshot due = remoteBuffer.advance(now);
+        if (due != null) {
+            applyRemoteSnapshot(due);
+        }
+        remoteBuffer.interpolate(now, remotePose);
+    }
+
+    /** 재생을 멈추고 쌓인 상대 스냅샷 중 최신 것을 바로 적용한다. (게임 종료/세션 종료, EDT) */
+    public void stopPlayout() {
+        if (playoutTimer != null) {
+            playoutTimer.stop();
+        }
+        playoutRequested.set(false);
+        tetris.network.protocol.GameSnapshot latest = remoteBuffer.drainLatest();
+        if (latest != null) {
+            applyRemoteSnapshot(latest);
+        }
+        remotePose.valid = false;
+    }
+
     /* ----------------- Transport (sending) helpers ----------------- */
     public void sendPlayerInput(tetris.network.protocol.PlayerInput input) {
         if (input == null) return;
@@ -342,14 +416,34 @@ public final class NetworkMultiPlayerController {
     public void sendGameState(GameModel model) {
         if (model == null) return;
         try {
-            int pid = determinePlayerIdForModel(model);
-            // 서버는 VersusRules에서 공격 대기열을 가져와 스냅샷에 포함
-            java.util.List<tetris.multiplayer.model.AttackLine> attackLines = null;
-            if (localPlayerId == 1) {
-                attackLines = game.getPendingAttackLines(pid);
-            }
-            tetris.network.protocol.GameSnapshot snapshot = model.toSnapshot(pid, attackLines);
-            // System.out.println("[NetCtrl] sendGameState: sending snapshot for playerId=" + pid + ", model=" + model);
+            publishGameState(buildGameState(model));
+        } catch (Exception e) {
+            System.err.println("Failed to send game state: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 모델의 스냅샷만 만든다. (전송 없음)
+     * 해당 플레이어의 모델과 공격 버퍼만 읽으므로 병렬 틱의 스텝 단계에서 플레이어별로 호출해도 된다.
+     */
+    public tetris.network.protocol.GameSnapshot buildGameState(GameModel model) {
+        if (model == null) return null;
+        int pid = determinePlayerIdForModel(model);
+        // 서버는 VersusRules에서 공격 대기열을 가져와 스냅샷에 포함
+        AttackQueueView attackLines = null;
+        if (localPlayerId == 1) {
+            attackLines = game.getPendingAttackView(pid);
+        }
+        return model.toSnapshot(pid, attackLines);
+    }
+
+    /** 미리 만든 스냅샷을 연결된 상대에게 전송한다. 호스트 화면이 거울 모델이면 그쪽에도 넘긴다. */
+    public void publishGameState(tetris.network.protocol.GameSnapshot snapshot) {
+        if (snapshot == null) return;
+        if (displayModels != null) {
+            displayMailbox.offer(snapshot);
+        }
+        try {
             if (transportClient != null) {
                 transportClient.sendGameStateSnapshot(snapshot);
             } else if (transportServer != null) {
@@ -377,6 +471,8 @@ public final class NetworkMultiPlayerController {
             // prefer explicit winner from game if available
             Integer winner = game.getWinnerId();
             if (winner != null) data.put("winnerId", winner);
+            Integer loser = game.getLoserId();
+            if (loser != null && loser > 0) data.put("loserId", loser);
             tetris.network.protocol.GameMessage message = new tetris.network.protocol.GameMessage(
                 tetris.network.protocol.MessageType.GAME_END,
                 transportClient != null ? "CLIENT" : "SERVER",
@@ -406,13 +502,15 @@ public final class NetworkMultiPlayerController {
                 if (snapshot == null) return;
                 // Debug log
                 System.out.println("[NetCtrl] onGameStateSnapshot received: playerId=" + snapshot.playerId() + ", currentThread=" + Thread.currentThread().getName());
-                // Apply snapshot to the actual player indicated inside the snapshot (authoritative id)
-                Runnable apply = () -> applyRemoteSnapshot(snapshot);
-                if (!javax.swing.SwingUtilities.isEventDispatchThread()) {
-                    javax.swing.SwingUtilities.invokeLater(apply);
-                } else {
-                    apply.run();
-                }
+                // Apply snapshot to the actual player indicated inside the snapshot (authoritative id).
+                // 밀린 스냅샷은 우편함에서 덮어써져 최신 것만 적용된다.
+                snapshotMailbox.offer(snapshot);
+            }
+
+            @Override
+            public void onGameStateSnapshot(tetris.network.protocol.GameSnapshot snapshot, long sentAtMillis) {
+                if (snapshot == null) return;
+                acceptSnapshot(snapshot, sentAtMillis);
             }
 
             @Override
@@ -436,6 +534,8 @@ public final class NetworkMultiPlayerController {
                     }
                     case GAME_END: {
                         Runnable handle = () -> {
+                            // 지연 재생 중인 상대 상태를 마지막 것으로 맞춘 뒤 종료 처리
+                            stopPlayout();
                             Object payloadObj = message.getPayload();
                             Integer winnerId = null;
                             Integer loserId = null;
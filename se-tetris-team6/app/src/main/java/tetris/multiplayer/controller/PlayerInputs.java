@@ -0,0 +1,31 @@
+package tetris.multiplayer.controller;
+
+import tetris.domain.GameModel;
+import tetris.network.protocol.InputType;
+
+/**
+ * 입력 종류를 GameModel 조작으로 옮기는 공용 매핑.
+ * 원격 플레이어 입력(PLAYER_INPUT)과 CPU 플레이어 입력이 같은 규칙으로 적용되도록 한 곳에 둔다.
+ */
+public final class PlayerInputs {
+
+    private PlayerInputs() {
+        // util class
+    }
+
+    public static void apply(GameModel model, InputType type) {
+        if (model == null || type == null) {
+            return;
+        }
+        switch (type) {
+            case MOVE_LEFT -> model.moveBlockLeft();
+            case MOVE_RIGHT -> model.moveBlockRight();
+            case SOFT_DROP -> model.moveBlockDown();
+            case ROTATE -> model.rotateBlockClockwise();
+            case ROTATE_CCW -> model.rotateBlockCounterClockwise();
+            case HARD_DROP -> model.hardDropBlock();
+            case HOLD -> model.holdCurrentBlock();
+            default -> {}
+        }
+    }
+}
@@ -92,6 +92,11 @@ public final class LocalMultiplayerHandler implements MultiplayerHandler {
         return controller.getPendingAttackLines(playerId);
     }
 
+    @Override
+    public tetris.multiplayer.model.AttackQueueView getPendingAttackView(int playerId) {
+        return controller.getPendingAttackView(playerId);
+    }
+
     private void maybeHandleTimeLimit() {
         GameModel reference = game.modelOf(1);
         if (reference == null || !reference.isTimeLimitMode()) {
@@ -137,7 +142,7 @@ public final class LocalMultiplayerHandler implements MultiplayerHandler {
                     int[] clearedRows,
                     int boardWidth) {
                 // 해당 플레이어가 줄을 삭제하면 VersusRules로 위임해 공격을 계산한다.
-                controller.onPieceLocked(playerId, snapshot, clearedRows);
+                controller.onPieceLocked(playerId, snapshot, clearedRows, boardWidth);
             }
 
             @Override
@@ -6,6 +6,7 @@ import tetris.domain.GameModel;
 // GameState import not required here
 import tetris.domain.handler.GameHandler;
 import tetris.multiplayer.model.AttackLine;
+import tetris.multiplayer.model.AttackQueueView;
 
 /**
  * Common contract for multiplayer handlers used by Local and Networked modes.
@@ -14,4 +15,9 @@ public interface MultiplayerHandler extends GameHandler {
     void dispatchToPlayer(int playerId, Consumer<GameModel> action);
     int getPendingLines(int playerId);
     List<AttackLine> getPendingAttackLines(int playerId);
+
+    /** 대기 공격 줄을 복사 없이 읽는 보기. 기본 구현은 목록을 감싼다. */
+    default AttackQueueView getPendingAttackView(int playerId) {
+        return AttackQueueView.of(getPendingAttackLines(playerId));
+    }
 }
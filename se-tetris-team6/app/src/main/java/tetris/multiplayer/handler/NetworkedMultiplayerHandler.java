@@ -1,8 +1,10 @@
 package tetris.multiplayer.handler;
 
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
+import tetris.concurrent.PlayerTickBarrier;
 import tetris.domain.GameModel;
 import tetris.domain.GameModel.MultiplayerHook;
 import tetris.domain.model.GameState;
@@ -24,6 +26,16 @@ public final class NetworkedMultiplayerHandler implements MultiplayerHandler {
     private boolean gameEndHandled = false;
     private MultiplayerHook p1Hook;
     private MultiplayerHook p2Hook;
+    // 서버: 두 플레이어 모델을 병렬로 진행하고 플레이어 간 상호작용은 배리어 뒤에 순서대로 적용
+    private final PlayerTickBarrier tickBarrier = new PlayerTickBarrier(2);
+    // 스텝 단계에서 플레이어별로 만든 스냅샷 (인덱스 = playerId)
+    private final tetris.network.protocol.GameSnapshot[] tickSnapshots = new tetris.network.protocol.GameSnapshot[3];
+    // 플레이어별로 GAME_OVER 직후의 마지막 스냅샷을 이미 발행했는지 (스텝 워커가 자기 칸만 쓴다)
+    private final boolean[] finalSnapshotPublished = new boolean[3];
+    // 외부 구동 시계를 이번 틱에 진행할 시간(ms). 시뮬레이션 스레드가 update(model, elapsedMs)로 넘긴다.
+    private long clockAdvanceMs;
+    // 화면용(프레임) GameModel 전환과 결과 표시를 실행할 곳. 호스트 시뮬레이션 스레드에서 돌 때는 EDT로 넘긴다.
+    private Executor uiExecutor = Runnable::run;
 
     public NetworkedMultiplayerHandler(MultiPlayerGame game,
                                        NetworkMultiPlayerController controller,
@@ -51,6 +63,27 @@ public final class NetworkedMultiplayerHandler implements MultiplayerHandler {
         // reset game end flags
         gameEndSent = false;
         gameEndHandled = false;
+        java.util.Arrays.fill(finalSnapshotPublished, false);
+    }
+
+    /**
+     * 호스트 시뮬레이션 스레드용: 플레이어 모델의 외부 구동 시계를 elapsedMs 만큼 진행한 뒤 {@link #update(GameModel)} 를 수행한다.
+     * 시계 진행도 스텝 단계에 포함되므로 중력으로 인한 고정/공격 처리 역시 배리어 뒤에 순서대로 병합된다.
+     */
+    public void update(GameModel model, long elapsedMs) {
+        clockAdvanceMs = Math.max(0L, elapsedMs);
+        try {
+            update(model);
+        } finally {
+            clockAdvanceMs = 0L;
+        }
+    }
+
+    /**
+     * 종료 시 화면용 GameModel 상태 전환과 결과 표시를 실행할 Executor를 지정한다. null이면 호출 스레드에서 바로 실행.
+     */
+    public void setUiExecutor(Executor executor) {
+        this.uiExecutor = executor == null ? Runnable::run : executor;
     }
 
     @Override
@@ -65,23 +98,16 @@ public final class NetworkedMultiplayerHandler implements MultiplayerHandler {
             // 서버: 두 플레이어 모두 update
             GameModel player1Model = game.modelOf(1);
             GameModel player2Model = game.modelOf(2);
-            
-            if (player1Model != null) {
-                player1Model.update();
-            }
-            if (player2Model != null) {
-                player2Model.update();
-            }
-            // 매 틱마다 두 플레이어의 스냅샷을 브로드캐스트하여 클라이언트 UI를 실시간 동기화
-            try {
-                if (player1Model != null && player1Model.getCurrentState() == GameState.PLAYING) {
-                    controller.sendGameState(player1Model);
-                }
-                if (player2Model != null && player2Model.getCurrentState() == GameState.PLAYING) {
-                    controller.sendGameState(player2Model);
+
+            // 스텝 단계(병렬): 각자 update 후 자기 스냅샷까지 만든다.
+            tickBarrier.tick(this::stepPlayer);
+            // 매 틱마다 두 플레이어의 스냅샷을 브로드캐스트하여 클라이언트 UI를 실시간 동기화 (항상 P1 → P2 순)
+            for (int playerId = 1; playerId <= 2; playerId++) {
+                tetris.network.protocol.GameSnapshot snapshot = tickSnapshots[playerId];
+                tickSnapshots[playerId] = null;
+                if (snapshot != null) {
+                    controller.publishGameState(snapshot);
                 }
-            } catch (Exception e) {
-                System.err.println("[NetworkedMultiplayerHandler] Failed to broadcast tick snapshots: " + e.getMessage());
             }
 
             if (maybeHandleTimeLimit(model)) {
@@ -135,6 +161,28 @@ public final class NetworkedMultiplayerHandler implements MultiplayerHandler {
         }
     }
 
+    private void stepPlayer(int playerId) {
+        GameModel playerModel = game.modelOf(playerId);
+        if (playerModel == null) {
+            return;
+        }
+        if (clockAdvanceMs > 0) {
+            playerModel.advanceClock(clockAdvanceMs);
+        }
+        playerModel.update();
+        GameState state = playerModel.getCurrentState();
+        // 무너진 틱에도 마지막 보드를 한 번 발행한다. (호스트 화면은 발행된 스냅샷만 그린다)
+        boolean finalSnapshot = state == GameState.GAME_OVER && !finalSnapshotPublished[playerId];
+        if (state == GameState.PLAYING || finalSnapshot) {
+            finalSnapshotPublished[playerId] |= finalSnapshot;
+            try {
+                tickSnapshots[playerId] = controller.buildGameState(playerModel);
+            } catch (Exception e) {
+                System.err.println("[NetworkedMultiplayerHandler] Failed to build tick snapshot: " + e.getMessage());
+            }
+        }
+    }
+
     @Override
     public void exit(tetris.domain.GameModel model) {
         unregisterHookForLocal();
@@ -165,6 +213,11 @@ public final class NetworkedMultiplayerHandler implements MultiplayerHandler {
         return controller.getPendingAttackLines(playerId);
     }
 
+    @Override
+    public tetris.multiplayer.model.AttackQueueView getPendingAttackView(int playerId) {
+        return controller.getPendingAttackView(playerId);
+    }
+
     /**
      * Returns the local player ID (1 or 2) for this networked session.
      */
@@ -203,13 +256,15 @@ public final class NetworkedMultiplayerHandler implements MultiplayerHandler {
             return;
         }
         gameEndHandled = true;
-        model.changeState(GameState.GAME_OVER);
         
         int winnerId = game.getWinnerId() == null ? -1 : game.getWinnerId();
         int loserId = game.getLoserId() == null ? -1 : game.getLoserId();
         
         // 서버(로컬)에게 결과 표시
-        model.showMultiplayerResult(winnerId, localPlayerId);
+        uiExecutor.execute(() -> {
+            model.changeState(GameState.GAME_OVER);
+            model.showMultiplayerResult(winnerId, localPlayerId);
+        });
         
         System.out.println("[NetworkedMultiplayerHandler][SERVER] Game concluded - Winner: " + winnerId + ", Loser: " + loserId + ", LocalPlayer: " + localPlayerId + ", Result: " + (winnerId == localPlayerId ? "WIN" : "LOSE"));
 
@@ -253,11 +308,27 @@ public final class NetworkedMultiplayerHandler implements MultiplayerHandler {
         return new tetris.domain.GameModel.MultiplayerHook() {
             @Override
             public void onPieceLocked(tetris.multiplayer.model.LockedPieceSnapshot snapshot, int[] clearedRows, int boardWidth) {
+                if (!tickBarrier.isStepping()) {
+                    sendAttack(snapshot, clearedRows, boardWidth, -1);
+                    return;
+                }
+                // 병렬 스텝 중: 내 대기 줄 상쇄는 자기 버퍼만 건드리므로 이어지는 스폰 직전 주입보다 먼저 바로 하고,
+                // 상대 버퍼/네트워크 전송은 병합 단계에서 처리한다.
+                int first = game.cancelIncomingAttack(playerId, snapshot, clearedRows, boardWidth);
+                tickBarrier.deferIfStepping(playerId, () -> sendAttack(snapshot, clearedRows, boardWidth, first));
+            }
+
+            /** @param first 이미 상쇄했으면 보낼 첫 줄 인덱스, 아니면 음수 */
+            private void sendAttack(tetris.multiplayer.model.LockedPieceSnapshot snapshot, int[] clearedRows, int boardWidth, int first) {
                 // Hook의 playerId 매개변수를 사용하여 정확한 플레이어의 공격으로 등록합니다.
                 // P1 모델의 Hook이 호출되면 playerId=1로 공격 등록 (상대방 P2 버퍼에 추가)
                 // P2 모델의 Hook이 호출되면 playerId=2로 공격 등록 (상대방 P1 버퍼에 추가)
                 GameModel model = game.modelOf(playerId);
-                game.onPieceLocked(playerId, snapshot, clearedRows, boardWidth);
+                if (first < 0) {
+                    game.onPieceLocked(playerId, snapshot, clearedRows, boardWidth);
+                } else {
+                    game.sendAttack(playerId, snapshot, clearedRows, boardWidth, first);
+                }
                 
                 // 로컬 플레이어만 네트워크로 이벤트 전송
                 if (playerId == localPlayerId) {
@@ -271,7 +342,8 @@ public final class NetworkedMultiplayerHandler implements MultiplayerHandler {
             @Override
             public void beforeNextSpawn() {
                 // 서버(P1)에서 P1 또는 P2의 공격 대기열을 처리합니다.
-                controller.injectAttackBeforeNextSpawn(playerId);
+                // 줄 주입은 스폰 전에 바로 하고, 상태 전송/패배 처리만 병합 단계로 미룬다.
+                controller.injectAttackBeforeNextSpawn(playerId, tickBarrier);
             }
         };
     }
@@ -1,37 +1,82 @@
 package tetris.multiplayer.model;
 
-import java.util.Arrays;
-
 /**
  * 대기 중인 공격 줄 한 줄을 표현하는 값 객체.
- * - holes[x] == true  → 해당 열은 구멍(빈칸)으로 남겨 둔다.
- * - holes[x] == false → 회색 공격 블록을 채워 넣는다.
+ * - 구멍은 열 비트마스크로 보관한다. bit x == 1 → 해당 열은 구멍(빈칸), 0 → 회색 공격 블록.
+ * - 폭은 {@link #MAX_WIDTH} 열까지 (short 마스크).
  */
 public final class AttackLine {
 
-    private final boolean[] holes;
+    public static final int MAX_WIDTH = 16;
+
+    private final short holeMask;
+    private final byte width;
 
     public AttackLine(boolean[] holes) {
         if (holes == null || holes.length == 0) {
             throw new IllegalArgumentException("holes must not be null or empty");
         }
-        this.holes = holes.clone();
+        if (holes.length > MAX_WIDTH) {
+            throw new IllegalArgumentException("width must be <= " + MAX_WIDTH + ": " + holes.length);
+        }
+        int mask = 0;
+        for (int x = 0; x < holes.length; x++) {
+            if (holes[x]) {
+                mask |= 1 << x;
+            }
+        }
+        this.holeMask = (short) mask;
+        this.width = (byte) holes.length;
+    }
+
+    /** @param holeMask 구멍 열 비트마스크 (width 밖의 비트는 버린다) */
+    public AttackLine(int holeMask, int width) {
+        if (width <= 0 || width > MAX_WIDTH) {
+            throw new IllegalArgumentException("width must be 1.." + MAX_WIDTH + ": " + width);
+        }
+        this.holeMask = (short) (holeMask & ((1 << width) - 1));
+        this.width = (byte) width;
     }
 
     public int width() {
-        return holes.length;
+        return width;
     }
 
     public boolean isHole(int x) {
-        return holes[x];
+        if (x < 0 || x >= width) {
+            throw new ArrayIndexOutOfBoundsException(x);
+        }
+        return ((holeMask >>> x) & 1) != 0;
+    }
+
+    /** 구멍 열 비트마스크 (부호 없는 값). */
+    public int holeMask() {
+        return holeMask & 0xFFFF;
     }
 
     public boolean[] copyHoles() {
-        return holes.clone();
+        boolean[] holes = new boolean[width];
+        for (int x = 0; x < width; x++) {
+            holes[x] = isHole(x);
+        }
+        return holes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof AttackLine)) return false;
+        AttackLine that = (AttackLine) o;
+        return holeMask == that.holeMask && width == that.width;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * width + holeMask;
     }
 
     @Override
     public String toString() {
-        return "AttackLine" + Arrays.toString(holes);
+        return "AttackLine" + java.util.Arrays.toString(copyHoles());
     }
 }
@@ -0,0 +1,40 @@
+package tetris.multiplayer.model;
+
+import java.util.List;
+
+/**
+ * 대기 공격 줄을 복사 없이 읽는 보기. index 0이 가장 먼저 들어온(보드 맨 아래로 들어갈) 줄이다.
+ * 화면/스냅샷 인코딩이 그릴 때마다 목록을 복사하지 않도록 버퍼나 수신 스냅샷을 그대로 노출한다.
+ */
+public interface AttackQueueView {
+
+    AttackQueueView EMPTY = new AttackQueueView() {
+        @Override public int size() { return 0; }
+        @Override public int holeMask(int index) { throw new IndexOutOfBoundsException(index); }
+        @Override public int width(int index) { throw new IndexOutOfBoundsException(index); }
+    };
+
+    int size();
+
+    /** index 번째 줄의 구멍 열 비트마스크. */
+    int holeMask(int index);
+
+    /** index 번째 줄의 폭. */
+    int width(int index);
+
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /** AttackLine 목록을 보기로 감싼다. (예전 목록 기반 공급자용) */
+    static AttackQueueView of(List<AttackLine> lines) {
+        if (lines == null || lines.isEmpty()) {
+            return EMPTY;
+        }
+        return new AttackQueueView() {
+            @Override public int size() { return lines.size(); }
+            @Override public int holeMask(int index) { return lines.get(index).holeMask(); }
+            @Override public int width(int index) { return lines.get(index).width(); }
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package tetris.multiplayer.model;
+
+import java.util.Random;
+
+/**
+ * 여러 명이 하는 대전에서 공격을 받을 상대를 고르는 전략.
+ * - {@link VersusRules}가 공격이 생길 때마다 부른다. 살아 있는 상대가 한 명뿐이면 부르지 않는다.
+ * - 잘못된 번호(자기 자신, 탈락자, 범위 밖)를 돌려주면 규칙이 무작위 상대로 바꾼다.
+ */
+@FunctionalInterface
+public interface AttackTargeting {
+
+    /** 살아 있는 상대 중 무작위. */
+    AttackTargeting RANDOM = (rules, attackerId, rng) -> rules.randomOpponent(attackerId, rng);
+
+    /**
+     * 반격: 지금 나를 노리는 상대 중 나에게 가장 많은 줄을 보낸 상대. 나를 노리는 상대가 없으면 무작위.
+     */
+    AttackTargeting MOST_ATTACKERS = (rules, attackerId, rng) -> {
+        int best = 0;
+        int bestLines = -1;
+        for (int pid = 1; pid <= rules.playerCount(); pid++) {
+            if (pid == attackerId || !rules.isAlive(pid) || rules.targetOf(pid) != attackerId) {
+                continue;
+            }
+            int lines = rules.linesSent(pid, attackerId);
+            if (lines > bestLines) {
+                best = pid;
+                bestLines = lines;
+            }
+        }
+        return best != 0 ? best : rules.randomOpponent(attackerId, rng);
+    };
+
+    /** 여유 행이 가장 적은(스택이 가장 높아 먼저 무너질) 상대. 같으면 번호가 작은 쪽. */
+    AttackTargeting LOWEST_BOARD = (rules, attackerId, rng) -> {
+        int best = 0;
+        int bestHeight = -1;
+        for (int pid = 1; pid <= rules.playerCount(); pid++) {
+            if (pid == attackerId || !rules.isAlive(pid)) {
+                continue;
+            }
+            int height = rules.stackHeight(pid);
+            if (height > bestHeight) {
+                best = pid;
+                bestHeight = height;
+            }
+        }
+        return best;
+    };
+
+    /**
+     * @return 공격 받을 플레이어 번호. 고를 상대가 없으면 0
+     */
+    int selectTarget(VersusRules rules, int attackerId, Random rng);
+}
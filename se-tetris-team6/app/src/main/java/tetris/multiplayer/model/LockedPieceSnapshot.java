@@ -1,5 +1,6 @@
 package tetris.multiplayer.model;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -8,24 +9,97 @@ import java.util.Objects;
  * 최근에 잠긴 블록을 {@link Cell} 좌표 리스트로 캡처한 스냅샷.
  * - 블록 종류/회전값 대신 셀 좌표만 보관해 규칙 엔진을 도메인-중립으로 유지.
  * - 공격 규칙이 구멍 패턴을 계산할 때 참조한다.
+ * - 블록이 차지한 행(최대 {@link #MAX_ROWS}행)마다 열 비트마스크를 long 하나에 담아 두어
+ *   {@link #rowMask(int)}가 셀을 훑지 않고 바로 답한다. 행 i(topY + i)의 마스크는 bit 16*i부터 16비트.
  */
 public final class LockedPieceSnapshot {
 
-    private final List<Cell> cells;
+    public static final int MAX_ROWS = 4;
+    private static final int ROW_BITS = 16;
+    private static final int ROW_MASK = (1 << ROW_BITS) - 1;
+
+    private final int topY;
+    private final long rowMasks;
+    private final boolean packed;
+    private volatile List<Cell> cells;
 
     private LockedPieceSnapshot(List<Cell> cells) {
         this.cells = List.copyOf(Objects.requireNonNull(cells, "cells"));
+        int minY = Integer.MAX_VALUE;
+        for (Cell cell : this.cells) {
+            minY = Math.min(minY, cell.y());
+        }
+        long masks = 0L;
+        boolean fits = true;
+        for (Cell cell : this.cells) {
+            int row = cell.y() - minY;
+            if (row >= MAX_ROWS || cell.x() < 0 || cell.x() >= ROW_BITS) {
+                fits = false;
+                break;
+            }
+            masks |= 1L << (row * ROW_BITS + cell.x());
+        }
+        this.topY = this.cells.isEmpty() ? 0 : minY;
+        this.rowMasks = fits ? masks : 0L;
+        this.packed = fits;
+    }
+
+    private LockedPieceSnapshot(int topY, long rowMasks) {
+        this.topY = topY;
+        this.rowMasks = rowMasks;
+        this.packed = true;
     }
 
     public static LockedPieceSnapshot of(List<Cell> cells) {
         return new LockedPieceSnapshot(cells);
     }
 
+    /**
+     * 행별 열 비트마스크로 만든다. (셀 리스트는 {@link #cells()}를 처음 부를 때 만든다)
+     * @param topY     첫 행의 보드 y
+     * @param rowMasks 행 i의 마스크를 bit 16*i부터 담은 값
+     */
+    public static LockedPieceSnapshot ofRowMasks(int topY, long rowMasks) {
+        return new LockedPieceSnapshot(topY, rowMasks);
+    }
+
     public List<Cell> cells() {
-        return Collections.unmodifiableList(cells);
+        List<Cell> list = cells;
+        if (list == null) {
+            List<Cell> built = new ArrayList<>();
+            for (int row = 0; row < MAX_ROWS; row++) {
+                int mask = (int) (rowMasks >>> (row * ROW_BITS)) & ROW_MASK;
+                for (int x = 0; mask != 0; x++, mask >>>= 1) {
+                    if ((mask & 1) != 0) {
+                        built.add(new Cell(x, topY + row));
+                    }
+                }
+            }
+            list = List.copyOf(built);
+            cells = list;
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+    /** 보드 y 행에서 이 블록이 차지한 열 비트마스크. 해당 행을 차지하지 않으면 0. */
+    public int rowMask(int y) {
+        if (!packed) {
+            int mask = 0;
+            for (Cell cell : cells) {
+                if (cell.y() == y && cell.x() >= 0 && cell.x() < Integer.SIZE) {
+                    mask |= 1 << cell.x();
+                }
+            }
+            return mask;
+        }
+        int row = y - topY;
+        if (row < 0 || row >= MAX_ROWS) {
+            return 0;
+        }
+        return (int) (rowMasks >>> (row * ROW_BITS)) & ROW_MASK;
     }
 
     public boolean isEmpty() {
-        return cells.isEmpty();
+        return packed ? rowMasks == 0L : cells.isEmpty();
     }
 }
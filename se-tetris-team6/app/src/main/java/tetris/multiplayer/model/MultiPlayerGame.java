@@ -9,26 +9,67 @@ import tetris.domain.GameModel;
  * 두 명의 {@link PlayerState}와 {@link VersusRules}를 묶어 "2인 대전 한 판"을 표현.
  * - 공격 발생, 대기 공격 줄 조회, 승패 판정을 중앙에서 관리한다.
  * - 컨트롤러/핸들러는 이 객체를 통해 상태를 조회하고 규칙을 실행한다.
+ * - 여러 명 대전(배틀로얄)도 같은 객체로 표현한다. 패배한 플레이어는 탈락시키고 한 명만 남으면 판이 끝난다.
  */
 public final class MultiPlayerGame {
 
     private final PlayerState p1;
     private final PlayerState p2;
+    // 인덱스 = 플레이어 번호 (0은 비움)
+    private final PlayerState[] players;
+    // 탈락 순위 (0 = 아직 살아 있음, 1 = 우승)
+    private final int[] placements;
     private final VersusRules versusRules;
     private Integer loserId;
+    private Integer winnerId;
 
     public MultiPlayerGame(PlayerState p1, PlayerState p2, VersusRules versusRules) {
-        this.p1 = Objects.requireNonNull(p1, "p1");
-        this.p2 = Objects.requireNonNull(p2, "p2");
+        this(List.of(Objects.requireNonNull(p1, "p1"), Objects.requireNonNull(p2, "p2")), versusRules);
+    }
+
+    /**
+     * 여러 명 대전. players의 i번째 원소는 (i + 1)번 플레이어여야 하고, 수는 규칙의 플레이어 수와 같아야 한다.
+     */
+    public MultiPlayerGame(List<PlayerState> players, VersusRules versusRules) {
         this.versusRules = Objects.requireNonNull(versusRules, "versusRules");
+        if (players.size() != versusRules.playerCount()) {
+            throw new IllegalArgumentException("players " + players.size() + " != rules " + versusRules.playerCount());
+        }
+        this.players = new PlayerState[players.size() + 1];
+        for (int i = 0; i < players.size(); i++) {
+            PlayerState player = Objects.requireNonNull(players.get(i), "player");
+            if (player.getId() != i + 1) {
+                throw new IllegalArgumentException("player " + (i + 1) + " has id " + player.getId());
+            }
+            this.players[i + 1] = player;
+        }
+        this.p1 = this.players[1];
+        this.p2 = this.players[2];
+        this.placements = new int[players.size() + 1];
+        versusRules.setStackHeights(pid -> this.players[pid].getModel().getBoard().stackHeight());
+    }
+
+    public int playerCount() {
+        return players.length - 1;
     }
 
     public PlayerState player(int id) {
-        return id == 1 ? p1 : p2;
+        if (players.length == 3) {
+            return id == 1 ? p1 : p2;
+        }
+        if (id < 1 || id >= players.length) {
+            throw new IllegalArgumentException("player id must be 1.." + playerCount() + ": " + id);
+        }
+        return players[id];
     }
 
+    /** 2인 대전은 상대, 여러 명이면 마지막으로 공격한 상대 (없으면 null). */
     public PlayerState opponent(int id) {
-        return id == 1 ? p2 : p1;
+        if (players.length == 3) {
+            return id == 1 ? p2 : p1;
+        }
+        int target = versusRules.targetOf(id);
+        return target == 0 ? null : players[target];
     }
 
     public GameModel modelOf(int id) {
@@ -54,19 +95,52 @@ public final class MultiPlayerGame {
         if (loserId == 0) {
             return -1; // draw
         }
+        if (players.length > 3) {
+            return winnerId;
+        }
         return loserId == 1 ? 2 : 1;
     }
 
+    /** 여러 명 대전의 순위 (1 = 우승). 아직 살아 있으면 0. */
+    public int placementOf(int playerId) {
+        player(playerId);
+        return placements[playerId];
+    }
+
+    public boolean isAlive(int playerId) {
+        return versusRules.isAlive(playerId) && placements[playerId] == 0;
+    }
+
     public boolean isDraw() {
         return loserId != null && loserId == 0;
     }
 
     public void markLoser(int playerId) {
-        if (playerId != 1 && playerId != 2) {
-            throw new IllegalArgumentException("player id must be 1 or 2: " + playerId);
+        if (players.length == 3) {
+            if (playerId != 1 && playerId != 2) {
+                throw new IllegalArgumentException("player id must be 1 or 2: " + playerId);
+            }
+            // 멀티 컨트롤러가 공격 줄 주입 이후 스폰 불가를 감지하면 여기로 들어온다.
+            loserId = playerId;
+            return;
+        }
+        player(playerId);
+        if (isGameOver() || !isAlive(playerId)) {
+            return;
+        }
+        // 여러 명 대전: 탈락시키고 남은 인원 + 1 등으로 기록한다. 한 명만 남으면 그 플레이어가 우승.
+        versusRules.eliminate(playerId);
+        int remaining = versusRules.aliveCount();
+        placements[playerId] = remaining + 1;
+        if (remaining <= 1) {
+            for (int pid = 1; pid < players.length; pid++) {
+                if (versusRules.isAlive(pid)) {
+                    placements[pid] = 1;
+                    winnerId = pid;
+                }
+            }
+            loserId = playerId;
         }
-        // 멀티 컨트롤러가 공격 줄 주입 이후 스폰 불가를 감지하면 여기로 들어온다.
-        loserId = playerId;
     }
 
     public void endWithDraw() {
@@ -81,11 +155,36 @@ public final class MultiPlayerGame {
         versusRules.onPieceLocked(playerId, snapshot, clearedYs, boardWidth);
     }
 
+    /** 내 대기 줄 상쇄만 먼저 한다. 자기 버퍼만 건드린다. @see VersusRules#cancelIncoming */
+    public int cancelIncomingAttack(int playerId,
+                                    LockedPieceSnapshot snapshot,
+                                    int[] clearedYs,
+                                    int boardWidth) {
+        return versusRules.cancelIncoming(playerId, snapshot, clearedYs, boardWidth);
+    }
+
+    /** 상쇄하고 남은 공격을 상대에게 보낸다. @see VersusRules#sendAttack */
+    public void sendAttack(int playerId,
+                           LockedPieceSnapshot snapshot,
+                           int[] clearedYs,
+                           int boardWidth,
+                           int first) {
+        versusRules.sendAttack(playerId, snapshot, clearedYs, boardWidth, first);
+    }
+
     public List<AttackLine> takeAttackLinesForNextSpawn(int playerId) {
         // 다음 블록 스폰 직전에 호출되어야 하며, 반환된 줄은 즉시 보드에 주입한다.
         return versusRules.consumeAttackLinesForNextSpawn(playerId);
     }
 
+    /**
+     * 다음 블록 스폰 직전에 불러, 대기 공격 줄을 그 플레이어 보드에 바로 주입한다.
+     * @return 주입한 줄 수 (0이면 보드는 그대로다)
+     */
+    public int injectAttackLinesForNextSpawn(int playerId) {
+        return versusRules.injectAttackLinesForNextSpawn(playerId, modelOf(playerId));
+    }
+
     /**
      * 점수 우위 플레이어를 반환한다. P1이 높으면 양수, P2가 높으면 음수, 동점이면 0.
      */
@@ -106,6 +205,13 @@ public final class MultiPlayerGame {
         return versusRules.getPendingAttackLines(playerId);
     }
 
+    /**
+     * 특정 플레이어가 받을 공격 줄을 복사 없이 읽는 보기를 반환한다.
+     */
+    public AttackQueueView getPendingAttackView(int playerId) {
+        return versusRules.getPendingAttackView(playerId);
+    }
+
     private static int safePoints(GameModel model) {
         if (model == null) {
             return 0;
@@ -1,55 +1,110 @@
 package tetris.multiplayer.model;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Deque;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * 최대 10줄 제한을 갖는 공격 줄 대기 버퍼.
  * - 새로운 공격이 들어오면 뒤에 붙이고, 초과분은 가장 최신 줄부터 제거한다.
  * - 이미 10줄이 가득 차 있으면 공격 전체를 무시한다.
- * - flushAll() 호출 시 FIFO 순서로 꺼내어 보드에 주입한다.
+ * - 스폰 직전에는 보기 그대로 보드에 주입한 뒤 {@link #clear()}로 비운다. (flushAll()은 목록이 필요한 곳용)
+ * - 줄은 고정 크기 고리 버퍼에 구멍 마스크(short)/폭(byte)으로만 보관한다. 상쇄({@link #cancel(int)})는 head만 옮긴다.
+ * - {@link AttackQueueView}로 복사 없이 읽을 수 있다. 화면 스레드가 읽는 도중 줄이 빠지면 지난 줄을 한 번 더 볼 수 있다.
  */
-final class PendingAttackBuffer {
+final class PendingAttackBuffer implements AttackQueueView {
 
     static final int MAX_LINES = 10;
 
-    private final Deque<AttackLine> queue = new ArrayDeque<>();
+    private final short[] masks = new short[MAX_LINES];
+    private final byte[] widths = new byte[MAX_LINES];
+    private int head;
+    private int count;
 
-    int size() {
-        return queue.size();
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public int holeMask(int index) {
+        return masks[slot(index)] & 0xFFFF;
+    }
+
+    @Override
+    public int width(int index) {
+        return widths[slot(index)];
     }
 
     void enqueue(List<AttackLine> rows) {
         if (rows == null || rows.isEmpty()) {
             return;
         }
-        if (queue.size() >= MAX_LINES) {
+        if (count >= MAX_LINES) {
             return; // already full → ignore entire attack
         }
         for (AttackLine row : rows) {
-            if (row != null) {
-                queue.addLast(row);
+            if (row != null && count < MAX_LINES) {
+                append(row.holeMask(), row.width());
             }
         }
-        while (queue.size() > MAX_LINES) {
-            queue.removeLast();
+    }
+
+    boolean isFull() {
+        return count >= MAX_LINES;
+    }
+
+    /** 한 줄을 뒤에 붙인다. 가득 차 있으면 버린다. */
+    void append(int holeMask, int width) {
+        if (count >= MAX_LINES) {
+            return;
         }
+        int tail = (head + count) % MAX_LINES;
+        masks[tail] = (short) holeMask;
+        widths[tail] = (byte) width;
+        count++;
+    }
+
+    /**
+     * 보내려는 공격 줄 수만큼 먼저 들어온 대기 줄부터 상쇄한다.
+     * @return 상쇄하고 남은 (상대에게 보낼) 줄 수
+     */
+    int cancel(int lines) {
+        int cancelled = Math.min(Math.max(0, lines), count);
+        head = (head + cancelled) % MAX_LINES;
+        count -= cancelled;
+        return lines - cancelled;
     }
 
     List<AttackLine> flushAll() {
-        List<AttackLine> result = new ArrayList<>(queue.size());
-        while (!queue.isEmpty()) {
-            result.add(queue.removeFirst());
+        if (count == 0) {
+            return Collections.emptyList();
         }
+        List<AttackLine> result = peekAll();
+        clear();
         return result;
     }
 
+    void clear() {
+        head = 0;
+        count = 0;
+    }
+
     /**
      * 현재 대기 중인 AttackLine 리스트를 복사하여 반환한다. (버퍼를 비우지 않음)
      */
     List<AttackLine> peekAll() {
-        return new ArrayList<>(queue);
+        List<AttackLine> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(new AttackLine(holeMask(i), width(i)));
+        }
+        return result;
+    }
+
+    private int slot(int index) {
+        if (index < 0 || index >= MAX_LINES) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return (head + index) % MAX_LINES;
     }
 }
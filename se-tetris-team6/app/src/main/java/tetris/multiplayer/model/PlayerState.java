@@ -5,7 +5,7 @@ import tetris.domain.GameModel;
 
 /**
  * 멀티플레이어 도메인에서 한 명의 플레이어를 표현하는 상태 객체.
- * - id: 1 또는 2 (플레이어 식별)
+ * - id: 1 또는 2 (플레이어 식별), 여러 명 대전이면 1..n
  * - model: 실제 게임 진행을 담당하는 {@link GameModel}
  * - local: 로컬 조작 여부 (P2P 확장 시 원격 플레이어 구분 용도)
  */
@@ -17,12 +17,23 @@ public final class PlayerState {
     private boolean ready;
 
     public PlayerState(int id, GameModel model, boolean local) {
-        if (id != 1 && id != 2) {
-            throw new IllegalArgumentException("player id must be 1 or 2: " + id);
+        this(id, model, local, 2);
+    }
+
+    /**
+     * 여러 명 대전용.
+     * @param playerCount 한 판의 플레이어 수 (id는 1..playerCount)
+     */
+    public PlayerState(int id, GameModel model, boolean local, int playerCount) {
+        if (id < 1 || id > playerCount) {
+            throw new IllegalArgumentException(playerCount == 2
+                    ? "player id must be 1 or 2: " + id
+                    : "player id must be 1.." + playerCount + ": " + id);
         }
         this.id = id;
         this.model = Objects.requireNonNull(model, "model");
         this.local = local;
+        model.setPlayerId(id);
     }
 
     public int getId() {
@@ -1,31 +1,80 @@
 package tetris.multiplayer.model;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.function.IntUnaryOperator;
+
+import tetris.domain.GameModel;
 
 /**
  * 멀티 대전 규칙을 계산하는 순수 도메인 컴포넌트.
  * - 공격 발생 조건, 공격 줄 생성, 버퍼 관리까지 책임진다.
  * - Local/P2P 어디서든 동일한 규칙을 재사용할 수 있도록 외부 의존성을 배제했다.
+ * - 플레이어 수는 2..{@link #MAX_PLAYERS}. 플레이어별 상태는 번호(1..n)를 인덱스로 쓰는 평평한 배열에 둔다.
+ *   셋 이상이면 공격마다 {@link AttackTargeting}이 받을 상대를 고른다.
  */
 public final class VersusRules {
 
-    private final PendingAttackBuffer p1Buffer = new PendingAttackBuffer();
-    private final PendingAttackBuffer p2Buffer = new PendingAttackBuffer();
+    public static final int MAX_PLAYERS = 32;
+
+    private final int playerCount;
+    private final PendingAttackBuffer[] buffers;
+    private final boolean[] alive;
+    private final int[] targets;
+    // 보낸 줄 수 [from * (n + 1) + to]
+    private final int[] sentLines;
     private final int minLinesForAttack;
+    private final boolean cancelIncoming;
+    private final AttackTargeting targeting;
     private final Random random = new Random();
+    private IntUnaryOperator stackHeights = playerId -> 0;
 
     public VersusRules() {
         this(2);
     }
 
     public VersusRules(int minLinesForAttack) {
+        this(minLinesForAttack, false);
+    }
+
+    /**
+     * @param cancelIncoming true면 가이드라인 방식으로 보내는 공격이 먼저 내게 쌓인 공격 줄을 상쇄하고 남은 만큼만 상대에게 간다.
+     */
+    public VersusRules(int minLinesForAttack, boolean cancelIncoming) {
+        this(2, minLinesForAttack, cancelIncoming, AttackTargeting.RANDOM);
+    }
+
+    /**
+     * 여러 명 대전 규칙.
+     * @param playerCount 2..{@link #MAX_PLAYERS}
+     * @param targeting   셋 이상일 때 공격 받을 상대를 고르는 전략
+     */
+    public VersusRules(int playerCount, int minLinesForAttack, boolean cancelIncoming, AttackTargeting targeting) {
+        if (playerCount < 2 || playerCount > MAX_PLAYERS) {
+            throw new IllegalArgumentException("playerCount must be 2.." + MAX_PLAYERS + ": " + playerCount);
+        }
+        this.playerCount = playerCount;
+        this.buffers = new PendingAttackBuffer[playerCount + 1];
+        this.alive = new boolean[playerCount + 1];
+        for (int pid = 1; pid <= playerCount; pid++) {
+            buffers[pid] = new PendingAttackBuffer();
+            alive[pid] = true;
+        }
+        this.targets = new int[playerCount + 1];
+        this.sentLines = new int[(playerCount + 1) * (playerCount + 1)];
         this.minLinesForAttack = Math.max(2, minLinesForAttack);
+        this.cancelIncoming = cancelIncoming;
+        this.targeting = targeting == null ? AttackTargeting.RANDOM : targeting;
+    }
+
+    /** 플레이어별 스택 높이를 알려 줄 함수. ({@link AttackTargeting#LOWEST_BOARD}용) */
+    public void setStackHeights(IntUnaryOperator stackHeights) {
+        this.stackHeights = stackHeights == null ? playerId -> 0 : stackHeights;
     }
 
     /**
      * 블록이 잠긴 뒤 라인 삭제가 완료되면 호출된다.
+     * 줄마다 잠긴 블록의 행 마스크를 그대로 구멍 마스크로 써서 버퍼에 바로 넣으므로 할당이 없다.
      * @param playerId   공격을 발생시킨 플레이어 (1 또는 2)
      * @param snapshot   잠긴 블록의 셀 좌표 정보
      * @param clearedYs  삭제된 라인들의 y 인덱스 배열
@@ -35,20 +84,159 @@ public final class VersusRules {
                               LockedPieceSnapshot snapshot,
                               int[] clearedYs,
                               int boardWidth) {
-        if (snapshot == null || snapshot.isEmpty()) {
-            return;
+        sendAttack(playerId, snapshot, clearedYs, boardWidth, cancelIncoming(playerId, snapshot, clearedYs, boardWidth));
+    }
+
+    /**
+     * {@link #onPieceLocked}의 앞 단계: 보내려는 공격으로 내 대기 줄을 먼저 상쇄한다.
+     * 자기 버퍼만 건드리므로 병렬 스텝 안에서 불러도 된다. (다른 플레이어는 병합 단계에서만 이 버퍼에 붙인다)
+     * @return 상쇄하고 남아 상대에게 보낼 첫 줄의 clearedYs 인덱스. 공격이 아니면 clearedYs 길이(보낼 것 없음)
+     */
+    public int cancelIncoming(int playerId,
+                              LockedPieceSnapshot snapshot,
+                              int[] clearedYs,
+                              int boardWidth) {
+        if (!isAttack(snapshot, clearedYs, boardWidth)) {
+            return clearedYs == null ? 0 : clearedYs.length;
         }
-        if (clearedYs == null || clearedYs.length < minLinesForAttack) {
+        int lines = clearedYs.length;
+        // 상쇄하고 남은 줄은 가장 나중 줄들이다.
+        return cancelIncoming ? lines - buffer(playerId).cancel(lines) : 0;
+    }
+
+    /**
+     * {@link #onPieceLocked}의 뒤 단계: 상쇄하고 남은 줄 clearedYs[first..]을 상대에게 보낸다.
+     * 상대 버퍼와 공유 난수를 건드리므로 병렬 스텝 중이면 병합 단계에서 불러야 한다.
+     */
+    public void sendAttack(int playerId,
+                           LockedPieceSnapshot snapshot,
+                           int[] clearedYs,
+                           int boardWidth,
+                           int first) {
+        if (!isAttack(snapshot, clearedYs, boardWidth)) {
             return;
         }
-        List<AttackLine> attack = buildAttackLines(boardWidth, clearedYs, snapshot, random);
-        opponentBuffer(playerId).enqueue(attack);
+        int lines = clearedYs.length;
+        int targetId = first < lines ? selectTarget(playerId) : 0;
+        if (targetId == 0 || buffers[targetId].isFull()) {
+            return; // 모두 상쇄되었거나, 받을 상대가 없거나, 상대 버퍼가 이미 가득 참 → 공격 전체 무시
+        }
+        PendingAttackBuffer target = buffers[targetId];
+        int width = Math.min(boardWidth, AttackLine.MAX_WIDTH);
+        for (int i = first; i < lines; i++) {
+            target.append(holeMask(snapshot, clearedYs[i], width, random), width);
+        }
+        sentLines[playerId * (playerCount + 1) + targetId] += lines - first;
+    }
+
+    private boolean isAttack(LockedPieceSnapshot snapshot, int[] clearedYs, int boardWidth) {
+        return snapshot != null && !snapshot.isEmpty()
+                && clearedYs != null && clearedYs.length >= minLinesForAttack && boardWidth > 0;
+    }
+
+    /** 플레이어를 탈락시킨다. 대기 공격은 버리고, 이후 공격 대상에서 빠진다. */
+    public void eliminate(int playerId) {
+        checkPlayer(playerId);
+        alive[playerId] = false;
+        targets[playerId] = 0;
+        buffers[playerId].clear();
+    }
+
+    public int playerCount() {
+        return playerCount;
+    }
+
+    public boolean isAlive(int playerId) {
+        return playerId >= 1 && playerId <= playerCount && alive[playerId];
+    }
+
+    public int aliveCount() {
+        int count = 0;
+        for (int pid = 1; pid <= playerCount; pid++) {
+            if (alive[pid]) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /** 마지막으로 공격을 보낸 상대. 아직 없으면 0. */
+    public int targetOf(int playerId) {
+        return isAlive(playerId) ? targets[playerId] : 0;
+    }
+
+    /** from이 to에게 지금까지 보낸 공격 줄 수. */
+    public int linesSent(int from, int to) {
+        checkPlayer(from);
+        checkPlayer(to);
+        return sentLines[from * (playerCount + 1) + to];
+    }
+
+    public int stackHeight(int playerId) {
+        return stackHeights.applyAsInt(playerId);
+    }
+
+    /** 살아 있는 상대 중 무작위 한 명. 없으면 0. */
+    public int randomOpponent(int attackerId, Random rng) {
+        int opponents = 0;
+        for (int pid = 1; pid <= playerCount; pid++) {
+            if (pid != attackerId && alive[pid]) {
+                opponents++;
+            }
+        }
+        if (opponents == 0) {
+            return 0;
+        }
+        int pick = rng.nextInt(opponents);
+        for (int pid = 1; pid <= playerCount; pid++) {
+            if (pid != attackerId && alive[pid] && pick-- == 0) {
+                return pid;
+            }
+        }
+        return 0;
+    }
+
+    private int selectTarget(int attackerId) {
+        int only = 0;
+        int opponents = 0;
+        for (int pid = 1; pid <= playerCount; pid++) {
+            if (pid != attackerId && alive[pid]) {
+                opponents++;
+                only = pid;
+            }
+        }
+        if (opponents <= 1) {
+            // 2인 대전(또는 마지막 두 명)은 전략과 난수를 건드리지 않는다.
+            targets[attackerId] = only;
+            return only;
+        }
+        int chosen = targeting.selectTarget(this, attackerId, random);
+        if (chosen == attackerId || !isAlive(chosen)) {
+            chosen = randomOpponent(attackerId, random);
+        }
+        targets[attackerId] = chosen;
+        return chosen;
     }
 
     public List<AttackLine> consumeAttackLinesForNextSpawn(int playerId) {
         return buffer(playerId).flushAll();
     }
 
+    /**
+     * 대기 공격 줄을 target 보드에 바로 밀어 넣고 버퍼를 비운다. 줄 객체나 목록을 만들지 않는다.
+     * @return 주입한 줄 수
+     */
+    public int injectAttackLinesForNextSpawn(int playerId, GameModel target) {
+        PendingAttackBuffer buffer = buffer(playerId);
+        int lines = buffer.size();
+        if (lines == 0) {
+            return 0;
+        }
+        target.insertGarbageRows(buffer);
+        buffer.clear();
+        return lines;
+    }
+
     /**
      * UI에서 대기 중인 공격 줄 수치를 표시할 때 사용한다.
      */
@@ -63,40 +251,31 @@ public final class VersusRules {
         return buffer(playerId).peekAll();
     }
 
+    /**
+     * 대기 중인 공격 줄을 복사 없이 읽는 보기. (화면 갱신/스냅샷 인코딩용)
+     */
+    public AttackQueueView getPendingAttackView(int playerId) {
+        return buffer(playerId);
+    }
+
     private PendingAttackBuffer buffer(int playerId) {
-        return playerId == 1 ? p1Buffer : p2Buffer;
-    }
-
-    private PendingAttackBuffer opponentBuffer(int playerId) {
-        return playerId == 1 ? p2Buffer : p1Buffer;
-    }
-
-    private static List<AttackLine> buildAttackLines(int boardWidth,
-                                                     int[] clearedYs,
-                                                     LockedPieceSnapshot snapshot,
-                                                     Random rng) {
-        List<AttackLine> rows = new ArrayList<>(clearedYs.length);
-        for (int y : clearedYs) {
-            boolean[] holes = new boolean[boardWidth];
-            // 삭제를 완성한 블록 셀 모두를 구멍으로 남긴다. (없으면 폭 전체 중 랜덤 1개)
-            List<Cell> contributors = new ArrayList<>();
-            for (Cell cell : snapshot.cells()) {
-                if (cell.y() == y && cell.x() >= 0 && cell.x() < boardWidth) {
-                    contributors.add(cell);
-                }
-            }
-            if (!contributors.isEmpty()) {
-                // 기여한 모든 셀을 구멍으로 표시
-                for (Cell c : contributors) {
-                    holes[c.x()] = true;
-                }
-            } else {
-                // 안전 장치: 기여 정보가 없으면 최소 한 칸은 구멍으로 처리
-                int holeX = boardWidth <= 0 ? 0 : rng.nextInt(boardWidth);
-                holes[holeX] = true;
-            }
-            rows.add(new AttackLine(holes));
+        checkPlayer(playerId);
+        return buffers[playerId];
+    }
+
+    private void checkPlayer(int playerId) {
+        if (playerId < 1 || playerId > playerCount) {
+            throw new IllegalArgumentException("player id must be 1.." + playerCount + ": " + playerId);
+        }
+    }
+
+    /** 삭제를 완성한 블록 셀 모두를 구멍으로 남긴다. (없으면 폭 전체 중 랜덤 1개) */
+    private static int holeMask(LockedPieceSnapshot snapshot, int y, int width, Random rng) {
+        int mask = snapshot.rowMask(y) & ((1 << width) - 1);
+        if (mask == 0) {
+            // 안전 장치: 기여 정보가 없으면 최소 한 칸은 구멍으로 처리
+            mask = 1 << rng.nextInt(width);
         }
-        return rows;
+        return mask;
     }
 }
@@ -4,6 +4,8 @@ import java.util.Objects;
 
 import tetris.domain.GameMode;
 import tetris.domain.GameModel;
+import tetris.domain.RandomBlockGenerator;
+import tetris.infrastructure.GameModelFactory;
 import tetris.multiplayer.controller.NetworkMultiPlayerController;
 import tetris.multiplayer.handler.MultiplayerHandler;
 import tetris.multiplayer.model.MultiPlayerGame;
@@ -44,6 +46,32 @@ public final class NetworkMultiplayerSession {
         return player2.getModel();
     }
 
+    /**
+     * 화면이 그릴 P1/P2 모델. 호스트가 스냅샷 표시를 켰으면 틱 스냅샷만 적용되는 거울 모델이다.
+     * @see #enableSnapshotDisplay()
+     */
+    public GameModel displayModelOf(int playerId) {
+        return controller.displayModelOf(playerId);
+    }
+
+    /**
+     * 호스트 화면을 플레이어 모델 대신 거울 모델로 그린다. 플레이어 모델은 호스트 시뮬레이션 스레드가 소유하므로
+     * EDT는 그 스레드가 틱마다 발행한 스냅샷만 본다. (클라이언트 화면과 같은 경로)
+     * 시뮬레이션 스레드를 띄우기 전에 EDT에서 호출한다.
+     */
+    public void enableSnapshotDisplay() {
+        GameMode mode = playerOneModel().getCurrentMode();
+        controller.useDisplayModels(createDisplayModel(mode), createDisplayModel(mode));
+    }
+
+    private static GameModel createDisplayModel(GameMode mode) {
+        GameModel view = GameModelFactory.createHeadless(new RandomBlockGenerator());
+        // 스스로 떨어지지 않도록 시계를 외부 구동으로 두고 진행하지 않는다. 상태는 스냅샷으로만 바뀐다.
+        view.setExternalClockDrive(true);
+        view.startGame(mode);
+        return view;
+    }
+
     /** 멀티플레이 상태 머신에 장착할 핸들러 */
     public MultiplayerHandler handler() {
         return handler;
@@ -92,13 +120,12 @@ public final class NetworkMultiplayerSession {
         System.out.println("[NetworkMultiplayerSession] ========================================");
         
         // 게임 시작 직후 초기 스냅샷을 즉시 전송하여 첫 블록과 다음 블록 동기화
+        // (EDT에 미루지 않는다: 헤드리스 서버에는 EDT가 없고, 호스트는 이 호출이 끝난 뒤에 시뮬레이션 스레드를 띄운다)
         if (controller.getLocalPlayerId() == 1) {
             try {
-                javax.swing.SwingUtilities.invokeLater(() -> {
-                    controller.sendGameState(playerOneModel());
-                    controller.sendGameState(playerTwoModel());
-                    System.out.println("[NetworkSession] Initial snapshots sent after game start");
-                });
+                controller.sendGameState(playerOneModel());
+                controller.sendGameState(playerTwoModel());
+                System.out.println("[NetworkSession] Initial snapshots sent after game start");
             } catch (Exception e) {
                 System.err.println("[NetworkSession] Failed to send initial snapshots: " + e.getMessage());
             }
@@ -109,6 +136,12 @@ public final class NetworkMultiplayerSession {
      * 메뉴로 돌아갈 때 플레이어 모델도 MENU 상태로 돌려 놓는다.
      */
     public void shutdown() {
+        controller.stopPlayout();
+        if (displayModelOf(1) != playerOneModel()) {
+            displayModelOf(1).quitToMenu();
+            displayModelOf(2).quitToMenu();
+            controller.useDisplayModels(null, null);
+        }
         playerOneModel().quitToMenu();
         playerTwoModel().quitToMenu();
     }
@@ -0,0 +1,250 @@
+package tetris.network;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import tetris.metrics.GameMetrics;
+import tetris.metrics.TrafficCounter;
+import tetris.network.protocol.PingPayload;
+
+/**
+ * 한 연결의 링크 품질(RTT, 시계 차이, 손실률)을 추정한다. 서버/클라이언트가 같이 쓴다.
+ * <p>
+ * - PING에 순번을 붙여 응답을 기다리지 않고 계속 보낸다. 보낸 시각은 순번 칸의 링 버퍼({@link #HISTORY})에
+ *   {@link System#nanoTime()}으로 적어 두고, 같은 순번의 PONG이 오면 왕복 시간을 잰다.<br>
+ * - RTT는 RFC 6298 방식 EWMA: SRTT += (R - SRTT)/8, RTTVAR += (|SRTT - R| - RTTVAR)/4.<br>
+ * - 시계 차이는 NTP 방식: ((t1 - t0) + (t2 - t3)) / 2. 최근 {@link #OFFSET_FILTER}개 표본 중 RTT가 가장 짧은 것을 쓴다.<br>
+ * - {@link #LOSS_TIMEOUT_NANOS} 안에 응답이 없거나 링 칸이 다시 쓰이면 잃은 것으로 보고, 손실률은 1/16 EWMA로 낸다.
+ * </p>
+ * 기록은 고정 크기 primitive 배열만 쓴다. PING 송신/PONG 수신/조회가 서로 다른 스레드라 메서드를 동기화한다.
+ */
+public final class LinkQualityEstimator {
+
+    /** 응답 대기/측정 기록 링 크기 (2의 거듭제곱). */
+    public static final int HISTORY = 64;
+    public static final long LOSS_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+    static final int OFFSET_FILTER = 8;
+    private static final int MASK = HISTORY - 1;
+    private static final double LOSS_GAIN = 1.0 / 16.0;
+
+    private final TrafficCounter sink;
+
+    // === 응답 대기 중인 PING (순번 & MASK 칸) ===
+    private final int[] pendingSeq = new int[HISTORY];
+    private final long[] pendingSentNanos = new long[HISTORY];
+    private final boolean[] pending = new boolean[HISTORY];
+    private int nextSeq;
+
+    // === 측정 기록 (오래된 것부터 덮어씀) ===
+    private final long[] rttHistoryMicros = new long[HISTORY];
+    private final long[] offsetHistoryMillis = new long[HISTORY];
+    private final boolean[] offsetValid = new boolean[HISTORY];
+    private int historyCount;
+    private int historyNext;
+
+    private long lastRttMicros = -1L;
+    private double srttMicros;
+    private double rttVarMicros;
+    private long clockOffsetMillis;
+    private boolean hasClockOffset;
+    private double lossRatio;
+    private boolean stale;
+    private long lastAnsweredSentNanos;
+    private long sentCount;
+    private long lostCount;
+
+    public LinkQualityEstimator() {
+        this(null);
+    }
+
+    /** @param sink 측정한 RTT를 함께 기록할 트래픽 카운터 (null 가능) */
+    public LinkQualityEstimator(TrafficCounter sink) {
+        this.sink = sink;
+    }
+
+    /** 지금 보낼 PING payload를 만들고 보낸 시각을 기록한다. */
+    public PingPayload newPing() {
+        return newPing(System.nanoTime(), System.currentTimeMillis());
+    }
+
+    public synchronized PingPayload newPing(long nowNanos, long nowMillis) {
+        int seq = nextSeq++;
+        int slot = seq & MASK;
+        if (pending[slot]) {
+            markLost(slot);
+        }
+        pending[slot] = true;
+        pendingSeq[slot] = seq;
+        pendingSentNanos[slot] = nowNanos;
+        sentCount++;
+        return PingPayload.request(seq, nowMillis);
+    }
+
+    /** PONG payload를 반영한다. */
+    public boolean onPong(Object payload) {
+        return onPong(payload, System.nanoTime());
+    }
+
+    /**
+     * @return 기다리던 PING의 응답이면 true. 예전 형식이거나 이미 잃은 것으로 본 순번이면 false.
+     */
+    public synchronized boolean onPong(Object payload, long nowNanos) {
+        if (!(payload instanceof PingPayload pong)) {
+            return false;
+        }
+        int slot = pong.sequence() & MASK;
+        if (!pending[slot] || pendingSeq[slot] != pong.sequence()) {
+            return false;
+        }
+        pending[slot] = false;
+        long sentNanos = pendingSentNanos[slot];
+        long rttNanos = Math.max(0L, nowNanos - sentNanos);
+        long rttMicros = rttNanos / 1_000L;
+
+        if (lastRttMicros < 0) {
+            srttMicros = rttMicros;
+            rttVarMicros = rttMicros / 2.0;
+        } else {
+            rttVarMicros += (Math.abs(srttMicros - rttMicros) - rttVarMicros) / 4.0;
+            srttMicros += (rttMicros - srttMicros) / 8.0;
+        }
+        if (lastRttMicros < 0 || sentNanos - lastAnsweredSentNanos > 0) {
+            lastAnsweredSentNanos = sentNanos;
+            stale = false;
+        }
+        lastRttMicros = rttMicros;
+        lossRatio -= lossRatio * LOSS_GAIN;
+
+        // t3는 로컬 벽시계 대신 t0 + 잰 왕복 시간으로 잡아 측정 중 벽시계가 바뀌어도 흔들리지 않게 한다.
+        boolean replied = pong.receiveMillis() != 0L || pong.transmitMillis() != 0L;
+        long t0 = pong.originMillis();
+        long t3 = t0 + rttNanos / 1_000_000L;
+        rttHistoryMicros[historyNext] = rttMicros;
+        offsetValid[historyNext] = replied;
+        offsetHistoryMillis[historyNext] = replied
+                ? ((pong.receiveMillis() - t0) + (pong.transmitMillis() - t3)) / 2
+                : 0L;
+        historyNext = (historyNext + 1) & MASK;
+        historyCount = Math.min(HISTORY, historyCount + 1);
+        updateClockOffset();
+
+        if (sink != null) {
+            sink.recordRttMicros(rttMicros);
+        }
+        return true;
+    }
+
+    /** 응답 없이 {@link #LOSS_TIMEOUT_NANOS}가 지난 PING을 잃은 것으로 처리한다. */
+    public void expire() {
+        expire(System.nanoTime());
+    }
+
+    public synchronized void expire(long nowNanos) {
+        for (int slot = 0; slot < HISTORY; slot++) {
+            if (pending[slot] && nowNanos - pendingSentNanos[slot] > LOSS_TIMEOUT_NANOS) {
+                markLost(slot);
+            }
+        }
+    }
+
+    /** 연결이 바뀌었을 때 모든 추정을 지운다. */
+    public synchronized void reset() {
+        Arrays.fill(pending, false);
+        historyCount = 0;
+        historyNext = 0;
+        lastRttMicros = -1L;
+        srttMicros = 0.0;
+        rttVarMicros = 0.0;
+        clockOffsetMillis = 0L;
+        hasClockOffset = false;
+        lossRatio = 0.0;
+        stale = false;
+        lastAnsweredSentNanos = 0L;
+        sentCount = 0L;
+        lostCount = 0L;
+    }
+
+    /**
+     * 화면 표시용 핑 (평활 RTT, ms).
+     * @return -1이면 아직 측정 전이거나 마지막 PING이 응답 없이 끝남
+     */
+    public synchronized long pingMillis() {
+        if (lastRttMicros < 0 || stale) {
+            return -1L;
+        }
+        return Math.round(srttMicros / 1_000.0);
+    }
+
+    /** 마지막으로 잰 RTT (ms). 측정 전이면 -1. */
+    public synchronized long lastRttMillis() {
+        return lastRttMicros < 0 ? -1L : lastRttMicros / 1_000L;
+    }
+
+    public synchronized double smoothedRttMillis() {
+        return srttMicros / 1_000.0;
+    }
+
+    /** RTT 평균 편차 (ms). 한쪽 방향 지터는 대략 이 값의 절반이다. */
+    public synchronized double rttVarianceMillis() {
+        return rttVarMicros / 1_000.0;
+    }
+
+    /** 상대 시계 - 내 시계 (ms). {@link #hasClockOffset()}가 false면 0. */
+    public synchronized long clockOffsetMillis() {
+        return clockOffsetMillis;
+    }
+
+    public synchronized boolean hasClockOffset() {
+        return hasClockOffset;
+    }
+
+    /** 최근 PING 손실률 (0..1, EWMA). */
+    public synchronized double lossRatio() {
+        return lossRatio;
+    }
+
+    public synchronized long sentCount() {
+        return sentCount;
+    }
+
+    public synchronized long lostCount() {
+        return lostCount;
+    }
+
+    /**
+     * 최근 RTT 기록(us)을 오래된 것부터 dest에 복사한다.
+     * @return 복사한 개수
+     */
+    public synchronized int copyRttHistoryMicros(long[] dest) {
+        int n = Math.min(historyCount, dest.length);
+        int start = (historyNext - n) & MASK;
+        for (int i = 0; i < n; i++) {
+            dest[i] = rttHistoryMicros[(start + i) & MASK];
+        }
+        return n;
+    }
+
+    private void markLost(int slot) {
+        pending[slot] = false;
+        lostCount++;
+        lossRatio += (1.0 - lossRatio) * LOSS_GAIN;
+        // 이 PING보다 나중에 보낸 것이 이미 응답했다면 링크는 살아 있다.
+        if (lastRttMicros < 0 || pendingSentNanos[slot] - lastAnsweredSentNanos > 0) {
+            stale = true;
+        }
+        GameMetrics.NETWORK_PINGS_LOST.increment();
+    }
+
+    private void updateClockOffset() {
+        long bestRtt = Long.MAX_VALUE;
+        int n = Math.min(historyCount, OFFSET_FILTER);
+        for (int i = 1; i <= n; i++) {
+            int slot = (historyNext - i) & MASK;
+            if (offsetValid[slot] && rttHistoryMicros[slot] < bestRtt) {
+                bestRtt = rttHistoryMicros[slot];
+                clockOffsetMillis = offsetHistoryMillis[slot];
+                hasClockOffset = true;
+            }
+        }
+    }
+}
@@ -6,7 +6,10 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.util.concurrent.CountDownLatch;
 
+import tetris.metrics.PerfRecorders;
+import tetris.metrics.TrafficCounter;
 import tetris.network.protocol.GameMessage;
+import tetris.network.protocol.PingPayload;
 
 /**
  * 클라이언트에서 서버와의 통신을 담당
@@ -31,6 +34,9 @@ public class ClientHandler implements Runnable {
     private final int[] lastAppliedSnapshotSeq = new int[] {-1, -1, -1};
 
     private CountDownLatch handshakeLatch;
+
+    // 메시지 수 통계 (바이트 수는 GameClient가 감싼 스트림에서 집계)
+    private final TrafficCounter traffic;
     
     // === 연결 타임아웃 감지 ===
     private volatile long lastMessageTime;     // 마지막 메시지 수신 시간
@@ -45,6 +51,8 @@ public class ClientHandler implements Runnable {
     this.outputStream = output;
     this.client = client;
     this.handshakeLatch = latch; // Latch 저장
+    TrafficCounter clientTraffic = client != null ? client.getTraffic() : null;
+    this.traffic = clientTraffic != null ? clientTraffic : new TrafficCounter(PerfRecorders.NETWORK);
     this.lastMessageTime = System.currentTimeMillis();
     startTimeoutWatchdog();
 }
@@ -56,6 +64,7 @@ public class ClientHandler implements Runnable {
             while (client.isConnected()) { // 부모 클라이언트의 상태를 따름
                 GameMessage message = (GameMessage) inputStream.readObject();
                 lastMessageTime = System.currentTimeMillis(); // 메시지 수신 시 타임스탬프 갱신
+                traffic.messageReceived();
                 handleMessage(message);
             }
         } catch (EOFException e) {
@@ -101,9 +110,16 @@ public class ClientHandler implements Runnable {
             case GAME_STATE:
                 handleGameState(message);
                 break;
+            case BOARD_OVERVIEW:
+                if (client.getGameStateListener() != null
+                        && message.getPayload() instanceof tetris.network.protocol.BoardOverview overview) {
+                    client.getGameStateListener().onBoardOverview(overview);
+                }
+                break;
             case PING:
                 // 서버로부터 PING 받으면 PONG 응답
-                sendMessage(new GameMessage(tetris.network.protocol.MessageType.PONG, client.getPlayerId(), null));
+                sendMessage(new GameMessage(tetris.network.protocol.MessageType.PONG, client.getPlayerId(),
+                        PingPayload.replyTo(message.getPayload())));
                 break;
             case PONG:
                 handlePong(message);
@@ -131,6 +147,7 @@ public class ClientHandler implements Runnable {
                     // 💡 핵심 수정: 버퍼링된 데이터를 즉시 전송합니다.
                     outputStream.flush(); 
                 }
+                traffic.messageSent();
                 try {
                     int seq = message == null ? -1 : message.getSequenceNumber();
                     System.out.println("ClientHandler sent message: " + message.getType() + " seq=" + seq + " identity=" + System.identityHashCode(message));
@@ -259,7 +276,8 @@ public class ClientHandler implements Runnable {
                 lastAppliedSnapshotSeq[playerId] = seq;
             }
             if (client.getGameStateListener() != null) {
-                javax.swing.SwingUtilities.invokeLater(() -> client.getGameStateListener().onGameStateSnapshot(snapshot));
+                // 수신 스레드에서 바로 넘긴다. 적용 측(SnapshotMailbox)이 최신 것만 EDT로 옮기므로 여기서 한 번 더 예약하면 밀린 작업만 쌓인다.
+                client.getGameStateListener().onGameStateSnapshot(snapshot, message.getTimestamp());
             } else {
                 System.out.println("GameState snapshot received but no listener registered.");
             }
@@ -270,8 +288,8 @@ public class ClientHandler implements Runnable {
 
     // 퐁 처리 - 지연시간 계산
     private void handlePong(GameMessage message){
-        // GameClient의 handlePong 호출하여 RTT 계산
-        client.handlePong();
+        // GameClient의 링크 품질 추정에 반영 (RTT, 시계 차이)
+        client.handlePong(message.getPayload());
     }
 
     // 주기적 핑 전송 - 지연시간 측정 및 연결 확인
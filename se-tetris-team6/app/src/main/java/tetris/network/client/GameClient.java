@@ -10,9 +10,15 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.prefs.Preferences;
+import tetris.metrics.MeteredInputStream;
+import tetris.metrics.MeteredOutputStream;
+import tetris.metrics.PerfRecorders;
+import tetris.metrics.TrafficCounter;
+import tetris.network.LinkQualityEstimator;
 import tetris.network.protocol.AttackLine;
 import tetris.network.protocol.GameMessage;
 import tetris.network.protocol.MessageType;
+import tetris.network.protocol.NetworkProtocol;
 import tetris.network.protocol.PlayerInput;
 
 /**
@@ -51,16 +57,26 @@ public class GameClient {
     private volatile String startMode = null;
     private volatile Long startSeed = null;
     
+    // === 트래픽 통계 (전역 카운터에도 누적) ===
+    private final TrafficCounter traffic = new TrafficCounter(PerfRecorders.NETWORK);
+
     // === 핑 측정 관련 ===
-    private volatile long lastPingTime = 0;        // 마지막 PING 전송 시간
-    private volatile long currentPing = -1;        // 현재 핑 (ms), -1이면 측정 중 또는 연결 안됨
-    private volatile boolean waitingForPong = false; // PONG 응답 대기 중
+    private final LinkQualityEstimator linkQuality = new LinkQualityEstimator(traffic); // RTT/시계 차이/손실률
     private Thread pingThread;                     // 핑 측정 스레드
 
     // === 주요 메서드들 ===
 
     // 서버에 연결 시도
     public boolean connectToServer(String ip, int port, CountDownLatch latch) {
+        return connect(ip, port, latch, null);
+    }
+
+    // 관전자로 연결 시도 - 스냅샷만 받고 입력은 서버가 무시한다
+    public boolean connectAsSpectator(String ip, int port, CountDownLatch latch) {
+        return connect(ip, port, latch, NetworkProtocol.SPECTATOR_ROLE);
+    }
+
+    private boolean connect(String ip, int port, CountDownLatch latch, Object role) {
         this.handshakeLatch = latch;
         this.serverIP = ip;
         this.serverPort = port;
@@ -68,12 +84,12 @@ public class GameClient {
             this.serverSocket = new Socket(ip, port);
         
             // 2. 스트림 초기화 및 flush (이전 단계에서 수정했다고 가정)
-            ObjectOutputStream output = new ObjectOutputStream(serverSocket.getOutputStream());
+            ObjectOutputStream output = new ObjectOutputStream(new MeteredOutputStream(serverSocket.getOutputStream(), traffic));
             output.flush(); // 💡 중요: 헤더 전송
-            ObjectInputStream input = new ObjectInputStream(serverSocket.getInputStream());
+            ObjectInputStream input = new ObjectInputStream(new MeteredInputStream(serverSocket.getInputStream(), traffic));
 
             // 3. CONNECTION_REQUEST 전송 (핸드셰이크 시작)
-            GameMessage request = new GameMessage(MessageType.CONNECTION_REQUEST, "CLIENT", null);
+            GameMessage request = new GameMessage(MessageType.CONNECTION_REQUEST, "CLIENT", role);
             
             // 💡 핵심 수정: 핸들러 스레드를 시작하기 전에 직접 메시지를 보냅니다.
             output.writeObject(request);
@@ -284,21 +300,10 @@ public class GameClient {
         pingThread = new Thread(() -> {
             while (isConnected && !Thread.currentThread().isInterrupted()) {
                 try {
-                    // PING 전송
-                    if (!waitingForPong) {
-                        lastPingTime = System.currentTimeMillis();
-                        waitingForPong = true;
-                        sendMessage(new GameMessage(MessageType.PING, this.playerId, null));
-                    }
-                    
-                    // 2초마다 측정
-                    Thread.sleep(2000);
-                    
-                    // 타임아웃 체크 (5초 이상 응답 없으면)
-                    if (waitingForPong && (System.currentTimeMillis() - lastPingTime) > 5000) {
-                        currentPing = -1; // 연결 불안정
-                        waitingForPong = false;
-                    }
+                    // 응답을 기다리지 않고 순번 붙은 PING을 주기적으로 보낸다.
+                    linkQuality.expire();
+                    sendMessage(new GameMessage(MessageType.PING, this.playerId, linkQuality.newPing()));
+                    Thread.sleep(NetworkProtocol.PING_INTERVAL);
                 } catch (InterruptedException e) {
                     break;
                 }
@@ -316,8 +321,7 @@ public class GameClient {
             pingThread.interrupt();
             pingThread = null;
         }
-        currentPing = -1;
-        waitingForPong = false;
+        linkQuality.reset();
     }
     
     /**
@@ -325,18 +329,24 @@ public class GameClient {
      * @return 핑 값, -1이면 측정 중이거나 연결 안됨
      */
     public long getCurrentPing() {
-        return currentPing;
+        return linkQuality.pingMillis();
     }
     
     /**
      * PONG 응답 처리 - ClientHandler에서 호출
      */
-    public void handlePong() {
-        if (waitingForPong) {
-            long rtt = System.currentTimeMillis() - lastPingTime;
-            currentPing = rtt;
-            waitingForPong = false;
-        }
+    public void handlePong(Object payload) {
+        linkQuality.onPong(payload);
+    }
+
+    /** 서버와의 링크 품질 추정 (RTT, 시계 차이, 손실률) */
+    public LinkQualityEstimator getLinkQuality() {
+        return linkQuality;
+    }
+
+    /** 이 클라이언트 연결의 송수신 통계 */
+    public TrafficCounter getTraffic() {
+        return traffic;
     }
 
 }
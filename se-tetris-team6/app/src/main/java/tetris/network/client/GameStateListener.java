@@ -23,10 +23,27 @@ public interface GameStateListener {
     /**
      * 호스트로부터 권위 있는 게임 상태 스냅샷을 수신했을 때 호출됩니다.
      * 클라이언트는 이 스냅샷을 적용하여 화면을 렌더링합니다.
+     * 수신 스레드에서 호출되므로, 구현은 화면 적용을 직접 EDT로 넘겨야 합니다.
      * @param snapshot 게임 보드, 블록, 점수, 시간 등을 포함하는 스냅샷
      */
     void onGameStateSnapshot(tetris.network.protocol.GameSnapshot snapshot);
+
+    /**
+     * 스냅샷과 함께 보낸 쪽 시계 기준 메시지 생성 시각을 받는다. 지터 버퍼처럼 시각이 필요한 구현만 재정의합니다.
+     * @param sentAtMillis GameMessage 타임스탬프 (보낸 쪽 System.currentTimeMillis)
+     */
+    default void onGameStateSnapshot(tetris.network.protocol.GameSnapshot snapshot, long sentAtMillis) {
+        onGameStateSnapshot(snapshot);
+    }
     
+    /**
+     * 여러 명 대전에서 다른 플레이어 보드 요약을 받았을 때 호출됩니다. 수신 스레드에서 호출됩니다.
+     * @param overview 열 높이만 담은 낮은 해상도 보드 상태
+     */
+    default void onBoardOverview(tetris.network.protocol.BoardOverview overview) {
+        // 기본 구현은 비어있음 (2인 대전 화면은 쓰지 않음)
+    }
+
     /**
      * 네트워크 연결 타임아웃 또는 연결 끊김 시 호출됩니다.
      * @param reason 연결 끊김 이유
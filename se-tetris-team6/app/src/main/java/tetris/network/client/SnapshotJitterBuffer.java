@@ -0,0 +1,210 @@
+package tetris.network.client;
+
+import tetris.network.protocol.GameSnapshot;
+
+/**
+ * 원격 플레이어 스냅샷을 보낸 시각 순으로 잠시 쌓아 두었다가 일정한 지연 뒤에 꺼내는 지터 버퍼.
+ * <p>
+ * - 시계 보정: 받은 시각 - 보낸 시각(전송 시간)의 최근 최솟값을 두 시계 차이 + 최소 지연으로 본다.
+ *   원격 시각 = 로컬 시각 - 최소 전송 시간.<br>
+ * - 재생 지연: 스냅샷 간격 평균 + 지터 × 2 (RFC 3550 방식 평활, PING으로 잰 링크 지터보다 작게 잡지 않는다).
+ *   다음 스냅샷이 도착해 있을 만큼 늦게 재생하므로 떨어지는 블록을 두 상태 사이에서 보간할 수 있다. 지연은 {@link #MIN_DELAY_MS}..{@link #MAX_DELAY_MS} 로 자른다.<br>
+ * - {@link #advance(long)} 는 재생 시각이 지난 스냅샷 중 가장 최신 것 하나만 꺼낸다. (중간 것은 건너뛴다)<br>
+ * - 재생 시각보다 늦게 도착한 스냅샷은 버린다.
+ * </p>
+ * 시각은 모두 밀리초이며 호출자가 넘긴다. offer는 수신 스레드, advance/interpolate는 EDT에서 부르므로 메서드를 동기화한다.
+ */
+public final class SnapshotJitterBuffer {
+
+    static final int CAPACITY = 32;
+    static final long MIN_DELAY_MS = 20;
+    static final long MAX_DELAY_MS = 250;
+    private static final int TRANSIT_WINDOW = 64;
+    /** 보간할 최대 거리(칸). 이보다 멀면(하드 드롭, 순간 이동) 보간하지 않는다. */
+    private static final int MAX_INTERPOLATION_CELLS = 4;
+
+    private final GameSnapshot[] queue = new GameSnapshot[CAPACITY];
+    private final long[] queueTimes = new long[CAPACITY];
+    private int head;
+    private int count;
+
+    private final long[] transits = new long[TRANSIT_WINDOW];
+    private int transitCount;
+    private int transitNext;
+    private long minTransit;
+    private long lastTransit;
+    private double jitterMs;
+    private double linkJitterMs;
+    private double intervalMs = 50.0;
+    private long lastSentAt = Long.MIN_VALUE;
+
+    private GameSnapshot current;
+    private long currentTime = Long.MIN_VALUE;
+    private long late;
+
+    /** 보간된 떨어지는 블록 위치. 칸 단위 실수 좌표. */
+    public static final class PiecePose {
+        public int blockId;
+        public int rotation;
+        public double x;
+        public double y;
+        public boolean valid;
+    }
+
+    /**
+     * @param sentAtMillis 보낸 쪽 시계로 메시지를 만든 시각
+     * @param receivedAtMillis 로컬 시계로 받은 시각
+     */
+    public synchronized void offer(GameSnapshot snapshot, long sentAtMillis, long receivedAtMillis) {
+        if (snapshot == null) {
+            return;
+        }
+        updateEstimates(sentAtMillis, receivedAtMillis - sentAtMillis);
+        if (sentAtMillis <= currentTime) {
+            late++;
+            return;
+        }
+        if (count == CAPACITY) {
+            // 가장 오래된 것을 버린다. (재생이 멈춰 있을 때만 생긴다)
+            queue[head] = null;
+            head = (head + 1) % CAPACITY;
+            count--;
+        }
+        // 대부분 순서대로 오므로 뒤에서부터 자리를 찾는다.
+        int i = count;
+        while (i > 0 && queueTimes[slot(i - 1)] > sentAtMillis) {
+            queue[slot(i)] = queue[slot(i - 1)];
+            queueTimes[slot(i)] = queueTimes[slot(i - 1)];
+            i--;
+        }
+        queue[slot(i)] = snapshot;
+        queueTimes[slot(i)] = sentAtMillis;
+        count++;
+    }
+
+    /**
+     * 재생 시각까지 지난 스냅샷을 꺼낸다.
+     * @return 새로 현재 상태가 된 스냅샷. 바뀐 것이 없으면 null.
+     */
+    public synchronized GameSnapshot advance(long nowMillis) {
+        if (transitCount == 0) {
+            return null;
+        }
+        long playout = playoutTime(nowMillis);
+        GameSnapshot next = null;
+        while (count > 0 && queueTimes[head] <= playout) {
+            next = queue[head];
+            currentTime = queueTimes[head];
+            queue[head] = null;
+            head = (head + 1) % CAPACITY;
+            count--;
+        }
+        if (next != null) {
+            current = next;
+        }
+        return next;
+    }
+
+    /**
+     * 현재 상태와 다음 스냅샷 사이에서 떨어지는 블록 위치를 보간해 out에 채운다.
+     * 두 스냅샷의 블록 종류/회전이 다르거나 다음 스냅샷이 없으면 현재 위치 그대로(valid=false)다.
+     */
+    public synchronized void interpolate(long nowMillis, PiecePose out) {
+        out.valid = false;
+        if (current == null || current.currentBlockId() <= 0) {
+            return;
+        }
+        out.blockId = current.currentBlockId();
+        out.rotation = current.blockRotation();
+        out.x = current.blockX();
+        out.y = current.blockY();
+        if (count == 0) {
+            return;
+        }
+        GameSnapshot next = queue[head];
+        long span = queueTimes[head] - currentTime;
+        if (span <= 0 || next.currentBlockId() != current.currentBlockId()
+                || next.blockRotation() != current.blockRotation()
+                || Math.abs(next.blockX() - current.blockX()) > MAX_INTERPOLATION_CELLS
+                || next.blockY() < current.blockY()
+                || next.blockY() - current.blockY() > MAX_INTERPOLATION_CELLS) {
+            return;
+        }
+        double alpha = Math.max(0.0, Math.min(1.0, (double) (playoutTime(nowMillis) - currentTime) / span));
+        out.x = current.blockX() + (next.blockX() - current.blockX()) * alpha;
+        out.y = current.blockY() + (next.blockY() - current.blockY()) * alpha;
+        out.valid = true;
+    }
+
+    /** 쌓인 것 중 가장 최신 스냅샷을 바로 꺼내고 버퍼를 비운다. (게임 종료 시) */
+    public synchronized GameSnapshot drainLatest() {
+        GameSnapshot latest = null;
+        while (count > 0) {
+            latest = queue[head];
+            currentTime = queueTimes[head];
+            queue[head] = null;
+            head = (head + 1) % CAPACITY;
+            count--;
+        }
+        if (latest != null) {
+            current = latest;
+        }
+        return latest;
+    }
+
+    /**
+     * 링크 품질 추정기가 PING으로 잰 한쪽 방향 지터(ms). 스냅샷이 드문 동안에도 재생 지연의 하한이 된다.
+     */
+    public synchronized void setLinkJitterMillis(double linkJitterMillis) {
+        this.linkJitterMs = Math.max(0.0, linkJitterMillis);
+    }
+
+    /** 현재 재생 지연(ms). 스냅샷 간격과 측정된 지터에 따라 바뀐다. */
+    public synchronized long playoutDelayMillis() {
+        long delay = Math.round(intervalMs + 2.0 * Math.max(jitterMs, linkJitterMs));
+        return Math.max(MIN_DELAY_MS, Math.min(MAX_DELAY_MS, delay));
+    }
+
+    public synchronized double jitterMillis() {
+        return jitterMs;
+    }
+
+    public synchronized int size() {
+        return count;
+    }
+
+    /** 재생 시각보다 늦게 도착해 버린 스냅샷 수. */
+    public synchronized long lateCount() {
+        return late;
+    }
+
+    private long playoutTime(long nowMillis) {
+        return nowMillis - minTransit - playoutDelayMillis();
+    }
+
+    private void updateEstimates(long sentAtMillis, long transit) {
+        if (transitCount > 0) {
+            // RFC 3550: J += (|D| - J) / 16
+            double d = Math.abs(transit - lastTransit);
+            jitterMs += (d - jitterMs) / 16.0;
+        }
+        lastTransit = transit;
+        transits[transitNext] = transit;
+        transitNext = (transitNext + 1) % TRANSIT_WINDOW;
+        transitCount = Math.min(TRANSIT_WINDOW, transitCount + 1);
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < transitCount; i++) {
+            min = Math.min(min, transits[i]);
+        }
+        minTransit = min;
+
+        if (lastSentAt != Long.MIN_VALUE && sentAtMillis > lastSentAt) {
+            intervalMs += ((sentAtMillis - lastSentAt) - intervalMs) / 8.0;
+        }
+        lastSentAt = Math.max(lastSentAt, sentAtMillis);
+    }
+
+    private int slot(int index) {
+        return (head + index) % CAPACITY;
+    }
+}
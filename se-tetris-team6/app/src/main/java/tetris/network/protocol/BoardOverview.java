@@ -0,0 +1,18 @@
+package tetris.network.protocol;
+
+import java.io.Serializable;
+
+/**
+ * 여러 명 대전에서 다른 플레이어 보드를 작게 보여 주기 위한 낮은 해상도 상태. (BOARD_OVERVIEW payload)
+ * - 보드 셀 대신 열마다 스택 높이 하나(byte)만 담는다. 블록/다음 블록/아이템은 담지 않는다.
+ * - 서버가 {@link NetworkProtocol#BATTLE_OVERVIEW_INTERVAL} 마다 플레이어당 한 번 만들어 모든 연결이 같이 쓴다.
+ * 불변이다. 접근자가 돌려준 배열을 고치지 않는다.
+ */
+public record BoardOverview(int playerId, byte[] columnHeights, int pendingLines, int score, boolean alive)
+        implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    public int columnHeight(int x) {
+        return columnHeights[x] & 0xFF;
+    }
+}
@@ -0,0 +1,118 @@
+package tetris.network.protocol;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamException;
+import java.io.OutputStream;
+import java.io.Serializable;
+
+/**
+ * 한 번 직렬화해 둔 메시지. 여러 연결에 같은 메시지를 보낼 때 연결마다 객체 그래프를 다시 직렬화하지 않도록
+ * 바이트 배열 하나를 만들어 모든 송신 대기열이 같이 쓴다.
+ * <p>
+ * - 서버 쪽에서는 원본의 타입/payload를 그대로 보이는 {@link GameMessage}라서 송신 대기열의 덮어쓰기 규칙이 그대로 적용된다.<br>
+ * - {@link #writeTo(ObjectOutputStream)}는 바이트를 블록 데이터로 복사만 하고, unshared로 써서 스트림 참조 표에 남지 않는다.<br>
+ * - 받는 쪽 {@code readObject()}는 readResolve로 원래 {@link GameMessage}를 돌려주므로 클라이언트는 바뀔 것이 없다.
+ * </p>
+ * 따로 직렬화한 스트림이라 클래스 설명이 메시지마다 다시 실린다. 양쪽이 같은 빌드이므로 설명은 클래스 이름만 싣는다.
+ * 그래도 연결의 스트림에 바로 쓰는 것보다 크므로, 받는 연결이 적으면 그냥 보내는 편이 낫다. 불변이다.
+ */
+public final class EncodedMessage extends GameMessage {
+    private static final long serialVersionUID = 1L;
+
+    private final transient Frame frame;
+
+    private EncodedMessage(GameMessage source, byte[] bytes) {
+        super(source);
+        this.frame = new Frame(bytes);
+    }
+
+    /** message를 한 번 직렬화한다. 이미 인코딩된 메시지면 그대로 돌려준다. */
+    public static EncodedMessage encode(GameMessage message) throws IOException {
+        if (message instanceof EncodedMessage encoded) {
+            return encoded;
+        }
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(NetworkProtocol.BUFFER_SIZE);
+        try (ObjectOutputStream out = new CompactOutput(buffer)) {
+            out.writeObject(message);
+        }
+        return new EncodedMessage(message, buffer.toByteArray());
+    }
+
+    /** 연결의 스트림에 인코딩된 바이트를 쓴다. 여러 송신 스레드가 동시에 불러도 된다. */
+    public void writeTo(ObjectOutputStream out) throws IOException {
+        out.writeUnshared(frame);
+    }
+
+    /** 인코딩된 바이트 수. */
+    public int encodedSize() {
+        return frame.bytes.length;
+    }
+
+    /** 스트림에 실리는 형태. 받는 쪽에서 원래 메시지로 풀린다. */
+    private static final class Frame implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private transient byte[] bytes;
+
+        Frame(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        private void writeObject(ObjectOutputStream out) throws IOException {
+            out.defaultWriteObject();
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+            in.defaultReadObject();
+            int length = in.readInt();
+            if (length < 0) {
+                throw new InvalidObjectException("negative frame length: " + length);
+            }
+            bytes = new byte[length];
+            in.readFully(bytes);
+        }
+
+        private Object readResolve() throws ObjectStreamException {
+            try (ObjectInputStream in = new CompactInput(new ByteArrayInputStream(bytes))) {
+                return in.readObject();
+            } catch (IOException | ClassNotFoundException e) {
+                InvalidObjectException invalid = new InvalidObjectException("cannot decode frame: " + e.getMessage());
+                invalid.initCause(e);
+                throw invalid;
+            }
+        }
+    }
+
+    /** 클래스 설명 대신 이름만 쓴다. */
+    private static final class CompactOutput extends ObjectOutputStream {
+        CompactOutput(OutputStream out) throws IOException {
+            super(out);
+        }
+
+        @Override
+        protected void writeClassDescriptor(ObjectStreamClass desc) throws IOException {
+            writeUTF(desc.getName());
+        }
+    }
+
+    /** 이름으로 이 빌드의 클래스 설명을 찾는다. */
+    private static final class CompactInput extends ObjectInputStream {
+        CompactInput(ByteArrayInputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+            Class<?> type = Class.forName(readUTF(), false, EncodedMessage.class.getClassLoader());
+            return ObjectStreamClass.lookupAny(type);
+        }
+    }
+}
@@ -38,6 +38,15 @@ public class GameMessage implements Serializable {
         this.sequenceNumber = sequenceGenerator.getAndIncrement();
     }
 
+    /** 같은 내용(시퀀스 번호/시각 포함)을 가진 메시지. 하위 클래스가 원본을 감쌀 때 쓴다. */
+    protected GameMessage(GameMessage source) {
+        this.type = source.type;
+        this.senderId = source.senderId;
+        this.payload = source.payload;
+        this.timestamp = source.timestamp;
+        this.sequenceNumber = source.sequenceNumber;
+    }
+
     // Getters
     public MessageType getType() { return type; }
     public String getSenderId() { return senderId; }
@@ -1,15 +1,31 @@
 package tetris.network.protocol;
 
 import java.io.Serializable;
+import java.util.Arrays;
+
+import tetris.domain.GameMode;
 
 /**
  * 전체 게임 상태 스냅샷 (네트워크 전송용 DTO)
+ * <p>
+ * 전송 크기를 줄이려고 기본형으로 눌러 담는다.<br>
+ * - 보드: 행 우선(y*너비 + x) byte 배열 하나. 셀 값은 부호 없는 0..255.<br>
+ * - 공격 대기열: 줄마다 short 비트마스크 (비트 x = 1 이면 구멍).<br>
+ * - 게임 모드/아이템: 문자열 대신 번호. 표에 없는 아이템 id만 문자열로 보낸다.<br>
+ * {@link #board()} / {@link #attackLines()} 는 기존 호출부용으로, 처음 부를 때 풀어서 만든다(전송되지 않음).
+ * </p>
+ * 불변이다. 같은 배열을 여러 스냅샷이 공유할 수 있으므로 접근자가 돌려준 배열을 고치지 않는다.
  */
 public final class GameSnapshot implements Serializable {
-    private static final long serialVersionUID = 5L; // 필드 추가로 버전 업
+    private static final long serialVersionUID = 6L; // 압축 배치로 바뀌어 버전 업
+
+    /** 알려진 아이템 id. 번호 = 인덱스 + 1 (0 = 없음, -1 = itemLabel 문자열 사용) */
+    private static final String[] ITEM_LABELS = { "bomb", "double_score", "line_clear", "slow", "weight" };
+    private static final GameMode[] MODES = GameMode.values();
 
     private final int playerId;       // 스냅샷 대상 플레이어 (1 또는 2)
-    private final int[][] board;      // [y][x] 셀 값(0=빈칸, >0=블록 id)
+    private final int boardWidth;     // 보드 너비 (높이 = cells.length / boardWidth)
+    private final byte[] cells;       // [y*W + x] 셀 값(0=빈칸, >0=블록 id)
     private final int currentBlockId; // 현재 블록 유형 id
     private final int nextBlockId;    // 다음 블록 유형 id
     private final int score;
@@ -18,15 +34,19 @@ public final class GameSnapshot implements Serializable {
     private final int blockX;         // 현재 블록 X 위치
     private final int blockY;         // 현재 블록 Y 위치
     private final int blockRotation;  // 현재 블록 회전 상태 (0-3)
-    private final boolean[][] attackLines; // 공격 대기열 [줄 인덱스][x] (true=구멍, false=블록)
-    // 게임 모드 정보
-    private final String gameMode;           // 게임 모드 (STANDARD, ITEM, TIME_LIMIT)
+    private final int attackWidth;    // 공격 줄 너비
+    private final short[] attackMasks; // 공격 대기열 (없으면 null)
+    private final byte mode;          // GameMode 번호 (모르면 -1)
     // 아이템 모드 전송용
-    private final String activeItemLabel;    // 현재 활성 아이템 id (없으면 null)
-    private final int itemCellX;             // 아이템 셀의 블록 내 X (없으면 -1)
-    private final int itemCellY;             // 아이템 셀의 블록 내 Y (없으면 -1)
+    private final byte itemCode;
+    private final String itemLabel;   // 표에 없는 아이템 id (itemCode == -1 일 때만)
+    private final int itemCellX;      // 아이템 셀의 블록 내 X (없으면 -1)
+    private final int itemCellY;      // 아이템 셀의 블록 내 Y (없으면 -1)
     // 라인 클리어 하이라이트용
-    private final int[] clearedLines;        // 방금 제거된 라인들 (없으면 null)
+    private final int[] clearedLines; // 방금 제거된 라인들 (없으면 null)
+
+    private transient int[][] board;
+    private transient boolean[][] attackLines;
 
     public GameSnapshot(int playerId,
                         int[][] board,
@@ -45,7 +65,8 @@ public final class GameSnapshot implements Serializable {
                         int itemCellY,
                         int[] clearedLines) {
         this.playerId = playerId;
-        this.board = board;
+        this.boardWidth = board == null || board.length == 0 ? 0 : board[0].length;
+        this.cells = pack(board, boardWidth);
         this.currentBlockId = currentBlockId;
         this.nextBlockId = nextBlockId;
         this.score = score;
@@ -54,16 +75,73 @@ public final class GameSnapshot implements Serializable {
         this.blockX = blockX;
         this.blockY = blockY;
         this.blockRotation = blockRotation;
-        this.attackLines = attackLines;
-        this.gameMode = gameMode;
-        this.activeItemLabel = activeItemLabel;
+        this.attackWidth = attackLines == null || attackLines.length == 0 ? 0 : attackLines[0].length;
+        this.attackMasks = packAttacks(attackLines);
+        this.mode = modeCode(gameMode);
+        this.itemCode = itemCode(activeItemLabel);
+        this.itemLabel = itemCode < 0 ? activeItemLabel : null;
         this.itemCellX = itemCellX;
         this.itemCellY = itemCellY;
         this.clearedLines = clearedLines;
+        this.board = board;
+        this.attackLines = attackLines;
+    }
+
+    private GameSnapshot(int playerId, Builder b, byte[] cells, short[] attackMasks, int[] clearedLines) {
+        this.playerId = playerId;
+        this.boardWidth = b.boardWidth;
+        this.cells = cells;
+        this.currentBlockId = b.currentBlockId;
+        this.nextBlockId = b.nextBlockId;
+        this.score = b.score;
+        this.elapsedSeconds = b.elapsedSeconds;
+        this.pendingGarbage = b.pendingGarbage;
+        this.blockX = b.blockX;
+        this.blockY = b.blockY;
+        this.blockRotation = b.blockRotation;
+        this.attackWidth = b.attackWidth;
+        this.attackMasks = attackMasks;
+        this.mode = b.mode;
+        this.itemCode = itemCode(b.itemLabel);
+        this.itemLabel = itemCode < 0 ? b.itemLabel : null;
+        this.itemCellX = b.itemCellX;
+        this.itemCellY = b.itemCellY;
+        this.clearedLines = clearedLines;
+    }
+
+    private GameSnapshot(GameSnapshot source, int playerId) {
+        this.playerId = playerId;
+        this.boardWidth = source.boardWidth;
+        this.cells = source.cells;
+        this.currentBlockId = source.currentBlockId;
+        this.nextBlockId = source.nextBlockId;
+        this.score = source.score;
+        this.elapsedSeconds = source.elapsedSeconds;
+        this.pendingGarbage = source.pendingGarbage;
+        this.blockX = source.blockX;
+        this.blockY = source.blockY;
+        this.blockRotation = source.blockRotation;
+        this.attackWidth = source.attackWidth;
+        this.attackMasks = source.attackMasks;
+        this.mode = source.mode;
+        this.itemCode = source.itemCode;
+        this.itemLabel = source.itemLabel;
+        this.itemCellX = source.itemCellX;
+        this.itemCellY = source.itemCellY;
+        this.clearedLines = source.clearedLines;
+        this.board = source.board;
+        this.attackLines = source.attackLines;
+    }
+
+    /** 플레이어 번호만 바꾼 사본. (나머지 필드는 불변이므로 공유) */
+    public GameSnapshot withPlayerId(int newPlayerId) {
+        if (newPlayerId == playerId) {
+            return this;
+        }
+        return new GameSnapshot(this, newPlayerId);
     }
 
     public int playerId() { return playerId; }
-    public int[][] board() { return board; }
     public int currentBlockId() { return currentBlockId; }
     public int nextBlockId() { return nextBlockId; }
     public int score() { return score; }
@@ -72,10 +150,254 @@ public final class GameSnapshot implements Serializable {
     public int blockX() { return blockX; }
     public int blockY() { return blockY; }
     public int blockRotation() { return blockRotation; }
-    public boolean[][] attackLines() { return attackLines; }
-    public String gameMode() { return gameMode; }
-    public String activeItemLabel() { return activeItemLabel; }
     public int itemCellX() { return itemCellX; }
     public int itemCellY() { return itemCellY; }
     public int[] clearedLines() { return clearedLines; }
+
+    public int boardWidth() { return boardWidth; }
+    public int boardHeight() { return boardWidth == 0 ? 0 : cells.length / boardWidth; }
+
+    /** 행 우선 셀 배열 (부호 없는 byte). 보드가 없으면 null. */
+    public byte[] cells() { return cells; }
+
+    public int attackLineCount() { return attackMasks == null ? 0 : attackMasks.length; }
+    public int attackWidth() { return attackWidth; }
+
+    /** i번째 공격 줄의 구멍 비트마스크 (비트 x = 1 이면 구멍). */
+    public int attackMask(int i) { return attackMasks[i] & 0xFFFF; }
+
+    /** 보낸 쪽의 게임 모드. 모르는 값이면 null. */
+    public GameMode mode() {
+        return mode >= 0 && mode < MODES.length ? MODES[mode] : null;
+    }
+
+    public String gameMode() {
+        GameMode m = mode();
+        return m == null ? null : m.name();
+    }
+
+    public String activeItemLabel() {
+        if (itemCode > 0 && itemCode <= ITEM_LABELS.length) {
+            return ITEM_LABELS[itemCode - 1];
+        }
+        return itemLabel;
+    }
+
+    /** [y][x] 보드. 압축 배열을 풀어서 만들고 이후 호출에는 같은 배열을 돌려준다. */
+    public int[][] board() {
+        int[][] b = board;
+        if (b == null && cells != null) {
+            int height = boardHeight();
+            b = new int[height][boardWidth];
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < boardWidth; x++) {
+                    b[y][x] = cells[y * boardWidth + x] & 0xFF;
+                }
+            }
+            board = b;
+        }
+        return b;
+    }
+
+    /** [줄][x] 공격 대기열 (true=구멍). 비트마스크를 풀어서 만든다. */
+    public boolean[][] attackLines() {
+        boolean[][] lines = attackLines;
+        if (lines == null && attackMasks != null) {
+            lines = new boolean[attackMasks.length][attackWidth];
+            for (int i = 0; i < attackMasks.length; i++) {
+                for (int x = 0; x < attackWidth; x++) {
+                    lines[i][x] = (attackMasks[i] & (1 << x)) != 0;
+                }
+            }
+            attackLines = lines;
+        }
+        return lines;
+    }
+
+    private static byte[] pack(int[][] board, int width) {
+        if (board == null) {
+            return null;
+        }
+        byte[] packed = new byte[board.length * width];
+        for (int y = 0; y < board.length; y++) {
+            for (int x = 0; x < width; x++) {
+                packed[y * width + x] = (byte) board[y][x];
+            }
+        }
+        return packed;
+    }
+
+    private static short[] packAttacks(boolean[][] lines) {
+        if (lines == null) {
+            return null;
+        }
+        short[] masks = new short[lines.length];
+        for (int i = 0; i < lines.length; i++) {
+            masks[i] = (short) holeMask(lines[i]);
+        }
+        return masks;
+    }
+
+    /** 구멍 배열을 비트마스크로 바꾼다. 너비는 16칸까지. */
+    private static int holeMask(boolean[] holes) {
+        int mask = 0;
+        for (int x = 0; x < holes.length && x < 16; x++) {
+            if (holes[x]) {
+                mask |= 1 << x;
+            }
+        }
+        return mask;
+    }
+
+    private static byte modeCode(String name) {
+        if (name == null) {
+            return -1;
+        }
+        for (GameMode m : MODES) {
+            if (m.name().equals(name)) {
+                return (byte) m.ordinal();
+            }
+        }
+        return -1;
+    }
+
+    private static byte itemCode(String label) {
+        if (label == null) {
+            return 0;
+        }
+        for (int i = 0; i < ITEM_LABELS.length; i++) {
+            if (ITEM_LABELS[i].equals(label)) {
+                return (byte) (i + 1);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 한 모델이 매 틱 스냅샷을 만들 때 다시 쓰는 빌더.
+     * <p>
+     * 보드/공격 대기열/제거 줄은 뒤쪽 버퍼에 채운 뒤 직전에 내보낸 배열과 비교해, 같으면 그 배열을 그대로 공유한다.
+     * 달라졌을 때만 뒤쪽 버퍼를 내보내고 새 버퍼를 잡는다. (내보낸 배열은 전송 대기 중일 수 있어 다시 쓰지 않는다)
+     * 블록이 떨어지는 동안에는 고정된 보드가 바뀌지 않으므로 대부분의 틱에서 배열을 새로 만들지 않는다.
+     * </p>
+     * 스레드 안전하지 않다. 소유자가 동기화한다.
+     */
+    public static final class Builder {
+        private int boardWidth;
+        private byte[] cellsBack;
+        private byte[] cellsFront;
+        private short[] attacksBack = new short[8];
+        private int attackCount;
+        private short[] attacksFront;
+        private int[] clearedBack = new int[4];
+        private int clearedCount;
+        private int[] clearedFront;
+
+        private int currentBlockId;
+        private int nextBlockId;
+        private int score;
+        private int elapsedSeconds;
+        private int pendingGarbage;
+        private int blockX = -1;
+        private int blockY = -1;
+        private int blockRotation;
+        private int attackWidth;
+        private byte mode = -1;
+        private String itemLabel;
+        private int itemCellX = -1;
+        private int itemCellY = -1;
+
+        /** 행 우선 int 셀 배열을 뒤쪽 버퍼에 눌러 담는다. */
+        public Builder board(int[] rowMajorCells, int width) {
+            if (cellsBack == null || cellsBack.length != rowMajorCells.length) {
+                cellsBack = new byte[rowMajorCells.length];
+            }
+            for (int i = 0; i < rowMajorCells.length; i++) {
+                cellsBack[i] = (byte) rowMajorCells[i];
+            }
+            boardWidth = width;
+            return this;
+        }
+
+        public Builder block(int currentBlockId, int x, int y, int rotation) {
+            this.currentBlockId = currentBlockId;
+            this.blockX = x;
+            this.blockY = y;
+            this.blockRotation = rotation;
+            return this;
+        }
+
+        public Builder nextBlock(int nextBlockId) {
+            this.nextBlockId = nextBlockId;
+            return this;
+        }
+
+        public Builder progress(int score, int elapsedSeconds, int pendingGarbage) {
+            this.score = score;
+            this.elapsedSeconds = elapsedSeconds;
+            this.pendingGarbage = pendingGarbage;
+            return this;
+        }
+
+        public Builder mode(GameMode mode) {
+            this.mode = mode == null ? -1 : (byte) mode.ordinal();
+            return this;
+        }
+
+        public Builder item(String label, int cellX, int cellY) {
+            this.itemLabel = label;
+            this.itemCellX = cellX;
+            this.itemCellY = cellY;
+            return this;
+        }
+
+        /** 공격 대기열과 제거 줄 목록을 비운다. 매 스냅샷 시작 시 부른다. */
+        public Builder clearLists() {
+            attackCount = 0;
+            attackWidth = 0;
+            clearedCount = 0;
+            return this;
+        }
+
+        public Builder addAttackLine(int holeMask, int width) {
+            if (attackCount == attacksBack.length) {
+                attacksBack = Arrays.copyOf(attacksBack, attackCount * 2);
+            }
+            attacksBack[attackCount++] = (short) holeMask;
+            attackWidth = width;
+            return this;
+        }
+
+        public Builder addClearedLine(int row) {
+            if (clearedCount == clearedBack.length) {
+                clearedBack = Arrays.copyOf(clearedBack, clearedCount * 2);
+            }
+            clearedBack[clearedCount++] = row;
+            return this;
+        }
+
+        public GameSnapshot build(int playerId) {
+            if (cellsBack != null && !Arrays.equals(cellsBack, cellsFront)) {
+                cellsFront = cellsBack;
+                cellsBack = null;
+            }
+            short[] attacks = null;
+            if (attackCount > 0) {
+                if (attacksFront == null
+                        || !Arrays.equals(attacksBack, 0, attackCount, attacksFront, 0, attacksFront.length)) {
+                    attacksFront = Arrays.copyOf(attacksBack, attackCount);
+                }
+                attacks = attacksFront;
+            }
+            int[] cleared = null;
+            if (clearedCount > 0) {
+                if (clearedFront == null
+                        || !Arrays.equals(clearedBack, 0, clearedCount, clearedFront, 0, clearedFront.length)) {
+                    clearedFront = Arrays.copyOf(clearedBack, clearedCount);
+                }
+                cleared = clearedFront;
+            }
+            return new GameSnapshot(playerId, this, cellsFront, attacks, cleared);
+        }
+    }
 }
@@ -31,6 +31,7 @@ public enum MessageType {
     SCORE_UPDATE,         // 양방향: 점수 업데이트
     PLAYER_READY,         // 양측 준비 완료 신호
     GAME_STATE,           // 서버 → 클라이언트: 전체 게임 상태 스냅샷 (호스트 권위)
+    BOARD_OVERVIEW,       // 서버 → 클라이언트: 여러 명 대전에서 다른 플레이어 보드 요약 (낮은 주기/해상도)
 
     // === 네트워크 상태 ===
     PING,                 // 지연시간 측정용 핑
@@ -26,10 +26,14 @@ public class NetworkProtocol {
     // === 메시지 크기 제한 ===
     public static final int MAX_MESSAGE_SIZE = 1024 * 10;  // 10KB
     public static final int BUFFER_SIZE = 4096;            // 4KB 버퍼
+    public static final int STREAM_RESET_INTERVAL = 64;    // 송신 객체 스트림의 참조 표를 64개 메시지마다 비움
 
     // === 게임 설정 ===
     public static final int MAX_PLAYERS = 2;               // 최대 2명
     public static final int GAME_SYNC_INTERVAL = 50;       // 50ms마다 동기화
+    public static final int MAX_BATTLE_PLAYERS = 32;       // 여러 명 대전(배틀로얄) 최대 인원
+    public static final int BATTLE_OVERVIEW_INTERVAL = 200; // 다른 플레이어 보드 요약은 200ms마다
+    public static final String SPECTATOR_ROLE = "SPECTATOR"; // CONNECTION_REQUEST payload: 관전자로 접속
 
     // 유틸리티 메서드들
     // - 메시지 유효성 검사
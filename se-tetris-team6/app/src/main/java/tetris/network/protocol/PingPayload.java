@@ -0,0 +1,33 @@
+package tetris.network.protocol;
+
+import java.io.Serializable;
+
+/**
+ * PING/PONG 메시지의 payload.
+ * - 보내는 쪽은 순번과 보낸 시각(벽시계 ms)만 채운다.
+ * - 받는 쪽은 {@link #reply(long, long)}로 받은 시각/보낸 시각을 채워 PONG으로 돌려준다. (NTP 방식 시계 차이 계산용)
+ */
+public record PingPayload(int sequence, long originMillis, long receiveMillis, long transmitMillis)
+        implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    public static PingPayload request(int sequence, long originMillis) {
+        return new PingPayload(sequence, originMillis, 0L, 0L);
+    }
+
+    /** PING을 받은 시각과 PONG을 보내는 시각을 채운 응답 payload. */
+    public PingPayload reply(long receiveMillis, long transmitMillis) {
+        return new PingPayload(sequence, originMillis, receiveMillis, transmitMillis);
+    }
+
+    /**
+     * PING payload에 대한 PONG payload. 예전 형식(null, 시각 Long)은 그대로 돌려준다.
+     */
+    public static Object replyTo(Object pingPayload) {
+        if (pingPayload instanceof PingPayload ping) {
+            long now = System.currentTimeMillis();
+            return ping.reply(now, now);
+        }
+        return pingPayload;
+    }
+}
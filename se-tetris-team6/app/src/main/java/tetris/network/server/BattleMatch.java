@@ -0,0 +1,256 @@
+package tetris.network.server;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import tetris.concurrent.PlayerTickBarrier;
+import tetris.domain.Board;
+import tetris.domain.GameMode;
+import tetris.domain.GameModel;
+import tetris.domain.model.GameState;
+import tetris.infrastructure.GameModelFactory;
+import tetris.multiplayer.controller.LocalMultiPlayerController;
+import tetris.multiplayer.controller.PlayerInputs;
+import tetris.multiplayer.model.AttackTargeting;
+import tetris.multiplayer.model.LockedPieceSnapshot;
+import tetris.multiplayer.model.MultiPlayerGame;
+import tetris.multiplayer.model.PlayerState;
+import tetris.multiplayer.model.VersusRules;
+import tetris.network.protocol.BoardOverview;
+import tetris.network.protocol.GameMessage;
+import tetris.network.protocol.GameSnapshot;
+import tetris.network.protocol.InputType;
+import tetris.network.protocol.MessageType;
+import tetris.network.protocol.NetworkProtocol;
+
+/**
+ * 여러 명 대전 한 판의 서버 권한 시뮬레이션. 소켓과 무관하게 {@link Outbox}로 내보내므로 단독으로 돌려 볼 수 있다.
+ * <p>
+ * - 틱마다 모든 보드를 {@link PlayerTickBarrier}로 병렬 진행하고, 공격/쓰레기 주입/탈락은 병합 단계에서 번호 순으로 적용한다.<br>
+ * - 각 좌석에는 자기 보드의 전체 스냅샷을 매 틱 보내고, 다른 보드는 {@link NetworkProtocol#BATTLE_OVERVIEW_INTERVAL} 마다
+ *   열 높이만 담은 {@link BoardOverview}로 보낸다. 요약 메시지는 플레이어당 하나 만들어 모든 좌석이 같이 쓴다.<br>
+ * - 판 도중 탈락한 좌석에는 그 틱에 GAME_END(loserId, placement)를 보낸다. 판이 끝나면 모든 좌석과 관전자에게
+ *   GAME_END(winnerId, loserId, placements)를 한 번 보낸다. placements[번호]가 순위다. (0번 칸은 비움)
+ * </p>
+ * 시뮬레이션 스레드 하나만 호출한다. (스냅샷 생성만 스텝 워커에서 병렬로 한다)
+ */
+final class BattleMatch {
+
+    /** 플레이어 번호로 메시지를 보낸다. 막히지 않아야 한다. */
+    @FunctionalInterface
+    interface Outbox {
+        void send(int playerId, GameMessage message);
+
+        /** 관전자에게 보낼 메시지. 모든 보드의 스냅샷과 요약이 한 번씩 온다. */
+        default void publish(GameMessage message) {
+        }
+    }
+
+    private static final int MIN_LINES_FOR_ATTACK = 2;
+
+    private final int playerCount;
+    private final Outbox outbox;
+    private final MultiPlayerGame game;
+    private final PlayerTickBarrier barrier;
+    private final LocalMultiPlayerController controller;
+    // 인덱스 = 플레이어 번호 (0은 비움)
+    private final GameModel[] models;
+    private final GameSnapshot[] latest;
+    private final GameMessage[] overviews;
+    // 결과를 알린 좌석 (판 도중 탈락 알림 또는 최종 결과)
+    private final boolean[] reported;
+    private boolean resultSent;
+    private long stepElapsedMs;
+    private long sinceOverviewMs;
+    private long ticks;
+
+    BattleMatch(GameMode mode, long seed, int playerCount, AttackTargeting targeting, Outbox outbox) {
+        if (playerCount < 2 || playerCount > NetworkProtocol.MAX_BATTLE_PLAYERS) {
+            throw new IllegalArgumentException("playerCount must be 2.." + NetworkProtocol.MAX_BATTLE_PLAYERS + ": " + playerCount);
+        }
+        this.playerCount = playerCount;
+        this.outbox = Objects.requireNonNull(outbox, "outbox");
+        this.models = new GameModel[playerCount + 1];
+        this.latest = new GameSnapshot[playerCount + 1];
+        this.overviews = new GameMessage[playerCount + 1];
+        this.reported = new boolean[playerCount + 1];
+        List<PlayerState> players = new ArrayList<>(playerCount);
+        for (int pid = 1; pid <= playerCount; pid++) {
+            // 같은 시드라 모두 같은 블록 순서를 받는다.
+            models[pid] = GameModelFactory.createWithSeed(seed);
+            players.add(new PlayerState(pid, models[pid], false, playerCount));
+        }
+        VersusRules rules = new VersusRules(playerCount, MIN_LINES_FOR_ATTACK, true, targeting);
+        this.game = new MultiPlayerGame(players, rules);
+        this.barrier = new PlayerTickBarrier(playerCount);
+        this.controller = new LocalMultiPlayerController(game, barrier);
+        for (int pid = 1; pid <= playerCount; pid++) {
+            models[pid].addMultiplayerHook(createHook(pid));
+            models[pid].startGame(mode);
+        }
+        // 첫 틱에 바로 요약을 보낸다.
+        this.sinceOverviewMs = NetworkProtocol.BATTLE_OVERVIEW_INTERVAL;
+    }
+
+    /** 한 틱을 진행하고 좌석마다 보낼 것을 내보낸다. */
+    void tick(long elapsedMs) {
+        if (game.isGameOver()) {
+            return;
+        }
+        stepElapsedMs = elapsedMs;
+        barrier.tick(this::step);
+        for (int pid = 1; pid <= playerCount; pid++) {
+            if (game.isAlive(pid) && models[pid].getCurrentState() == GameState.GAME_OVER) {
+                game.markLoser(pid);
+            }
+        }
+        ticks++;
+        for (int pid = 1; pid <= playerCount; pid++) {
+            GameSnapshot snapshot = latest[pid];
+            if (snapshot != null) {
+                GameMessage state = new GameMessage(MessageType.GAME_STATE, "SERVER", snapshot);
+                outbox.send(pid, state);
+                outbox.publish(state);
+                latest[pid] = null;
+            }
+        }
+        reportResults();
+        sinceOverviewMs += elapsedMs;
+        if (sinceOverviewMs >= NetworkProtocol.BATTLE_OVERVIEW_INTERVAL || game.isGameOver()) {
+            sinceOverviewMs = 0;
+            fanOutOverviews();
+        }
+    }
+
+    /** 시뮬레이션 스레드에서 호출한다. 탈락한 플레이어의 입력은 버린다. */
+    void applyInput(int playerId, InputType type) {
+        if (playerId < 1 || playerId > playerCount || !game.isAlive(playerId) || game.isGameOver()) {
+            return;
+        }
+        PlayerInputs.apply(models[playerId], type);
+    }
+
+    /** 틱 밖에서 좌석을 탈락시킨다. (연결 끊김) 시뮬레이션 스레드에서 호출한다. */
+    void eliminate(int playerId) {
+        if (playerId < 1 || playerId > playerCount || !game.isAlive(playerId) || game.isGameOver()) {
+            return;
+        }
+        game.markLoser(playerId);
+        reportResults();
+    }
+
+    boolean isOver() {
+        return game.isGameOver();
+    }
+
+    int playerCount() {
+        return playerCount;
+    }
+
+    long ticks() {
+        return ticks;
+    }
+
+    MultiPlayerGame game() {
+        return game;
+    }
+
+    GameModel modelOf(int playerId) {
+        return models[playerId];
+    }
+
+    /** 판을 끝낼 때 모델을 정리한다. */
+    void close() {
+        for (int pid = 1; pid <= playerCount; pid++) {
+            models[pid].quitToMenu();
+        }
+    }
+
+    /** 스텝 워커에서 불린다. 자기 모델과 자기 칸만 만진다. */
+    private void step(int playerId) {
+        GameModel model = models[playerId];
+        if (!game.isAlive(playerId) || model.getCurrentState() != GameState.PLAYING) {
+            return;
+        }
+        model.advanceClock(stepElapsedMs);
+        model.update();
+        if (model.getCurrentState() == GameState.PLAYING) {
+            // 대기 공격 줄은 병합 단계에서만 바뀌므로 스텝 중에는 복사 없이 읽어도 된다.
+            latest[playerId] = model.toSnapshot(playerId, game.getPendingAttackView(playerId));
+        }
+    }
+
+    /** 새로 탈락한 좌석에 알리고, 판이 끝났으면 최종 결과를 모두에게 한 번 보낸다. */
+    private void reportResults() {
+        boolean over = game.isGameOver();
+        for (int pid = 1; pid <= playerCount; pid++) {
+            if (reported[pid] || game.placementOf(pid) == 0) {
+                continue;
+            }
+            reported[pid] = true;
+            if (!over) {
+                Map<String, Object> data = new HashMap<>();
+                data.put("loserId", pid);
+                data.put("placement", game.placementOf(pid));
+                GameMessage eliminated = new GameMessage(MessageType.GAME_END, "SERVER", data);
+                outbox.send(pid, eliminated);
+                outbox.publish(eliminated);
+            }
+        }
+        if (!over || resultSent) {
+            return;
+        }
+        resultSent = true;
+        int[] placements = new int[playerCount + 1];
+        for (int pid = 1; pid <= playerCount; pid++) {
+            placements[pid] = game.placementOf(pid);
+        }
+        Map<String, Object> data = new HashMap<>();
+        data.put("winnerId", game.getWinnerId());
+        data.put("loserId", game.getLoserId());
+        data.put("placements", placements);
+        GameMessage result = new GameMessage(MessageType.GAME_END, "SERVER", data);
+        for (int seat = 1; seat <= playerCount; seat++) {
+            outbox.send(seat, result);
+        }
+        outbox.publish(result);
+    }
+
+    private void fanOutOverviews() {
+        for (int pid = 1; pid <= playerCount; pid++) {
+            Board board = models[pid].getBoard();
+            byte[] heights = new byte[Board.W];
+            for (int x = 0; x < Board.W; x++) {
+                heights[x] = (byte) board.columnHeight(x);
+            }
+            BoardOverview overview = new BoardOverview(pid, heights, game.getPendingLines(pid),
+                    models[pid].getScore().getPoints(), game.isAlive(pid));
+            overviews[pid] = new GameMessage(MessageType.BOARD_OVERVIEW, "SERVER", overview);
+            outbox.publish(overviews[pid]);
+        }
+        for (int seat = 1; seat <= playerCount; seat++) {
+            for (int pid = 1; pid <= playerCount; pid++) {
+                if (pid != seat) {
+                    outbox.send(seat, overviews[pid]);
+                }
+            }
+        }
+    }
+
+    private GameModel.MultiplayerHook createHook(int playerId) {
+        return new GameModel.MultiplayerHook() {
+            @Override
+            public void onPieceLocked(LockedPieceSnapshot snapshot, int[] clearedRows, int boardWidth) {
+                controller.onPieceLocked(playerId, snapshot, clearedRows, boardWidth);
+            }
+
+            @Override
+            public void beforeNextSpawn() {
+                controller.injectAttackBeforeNextSpawn(playerId);
+            }
+        };
+    }
+}
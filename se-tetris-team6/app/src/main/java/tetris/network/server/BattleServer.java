@@ -0,0 +1,305 @@
+package tetris.network.server;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import tetris.concurrent.SimulationLoop;
+import tetris.domain.model.GameClock;
+import tetris.multiplayer.model.AttackTargeting;
+import tetris.network.protocol.GameMessage;
+import tetris.network.protocol.MessageType;
+import tetris.network.protocol.NetworkProtocol;
+import tetris.network.protocol.PlayerInput;
+
+/**
+ * 여러 명(최대 {@link NetworkProtocol#MAX_BATTLE_PLAYERS}) 대전용 전용 서버.
+ * 실행: {@code --server[=포트] --players=N [--targeting=RANDOM|ATTACKERS|LOWEST] [--mode=...]}
+ * <p>
+ * - N명이 준비하면 {@link BattleMatch}로 서버 권한 시뮬레이션을 시작한다. 준비한 플레이어만 접속 순서대로 1..N번 좌석이다.
+ *   좌석을 받지 못한 플레이어는 그 판 동안 관전자로 돌렸다가 판이 끝나면 되돌린다.<br>
+ * - 좌석마다 자기 보드 스냅샷(GAME_STATE)과 다른 보드 요약(BOARD_OVERVIEW)을 받는다. 송신은 연결별
+ *   {@link ClientSendQueue}가 맡아 느린 연결이 시뮬레이션을 막지 않는다.<br>
+ * - 클라이언트는 자기 스냅샷의 playerId로 자기 번호를 안다. 2인 전용 서버처럼 번호를 뒤집지 않는다.<br>
+ * - 관전자는 모든 보드의 스냅샷과 요약을 받는다. 관전자 몫은 메시지당 한 번만 인코딩해 모든 관전자가 같이 쓴다.<br>
+ * - 탈락과 최종 순위는 {@link BattleMatch}가 GAME_END로 알린다.
+ * </p>
+ */
+public final class BattleServer {
+
+    public static final String PLAYERS_ARG_PREFIX = "--players=";
+    public static final String TARGETING_ARG_PREFIX = "--targeting=";
+    static final long TICK_MS = DedicatedServer.TICK_MS;
+
+    private final int requestedPort;
+    private final String modeName;
+    private final int playerCount;
+    private final AttackTargeting targeting;
+    private final GameServer server = new GameServer();
+    // 클라이언트 핸들러 → 좌석 번호(1..N). 판이 시작될 때 채운다.
+    private final Map<ServerHandler, Integer> seats = new ConcurrentHashMap<>();
+
+    // 아래 필드는 startMatch(준비 신호 스레드)에서 만들고 이후에는 시뮬레이션 스레드만 만진다.
+    private volatile SimulationLoop simulation;
+    // 마지막으로 돌린 루프 (판이 끝난 뒤에도 틱 실패 수를 확인할 수 있게 남겨 둔다)
+    private volatile SimulationLoop lastSimulation;
+    private BattleMatch match;
+    private ServerHandler[] seatHandlers;
+    // 좌석을 받지 못해 이번 판만 관전자로 돌린 플레이어
+    private final List<ServerHandler> benched = new ArrayList<>();
+    private volatile int matchesPlayed;
+
+    public BattleServer(int port, String modeName, int playerCount, AttackTargeting targeting) {
+        if (playerCount < 2 || playerCount > NetworkProtocol.MAX_BATTLE_PLAYERS) {
+            throw new IllegalArgumentException("playerCount must be 2.." + NetworkProtocol.MAX_BATTLE_PLAYERS + ": " + playerCount);
+        }
+        this.requestedPort = port;
+        this.modeName = DedicatedServer.normalizeMode(modeName);
+        this.playerCount = playerCount;
+        this.targeting = targeting == null ? AttackTargeting.RANDOM : targeting;
+    }
+
+    /** --server 와 함께 3명 이상 --players=N 이 있으면 true. (2명은 기존 전용 서버) */
+    public static boolean isRequested(String[] args) {
+        return DedicatedServer.isRequested(args) && resolvePlayers(args) > 2;
+    }
+
+    /** --players=N 의 N (2..최대), 없거나 잘못되면 2. */
+    static int resolvePlayers(String[] args) {
+        int players = 2;
+        if (args == null) {
+            return players;
+        }
+        for (String arg : args) {
+            if (arg != null && arg.startsWith(PLAYERS_ARG_PREFIX)) {
+                String value = arg.substring(PLAYERS_ARG_PREFIX.length()).trim();
+                try {
+                    int parsed = Integer.parseInt(value);
+                    players = parsed >= 2 && parsed <= NetworkProtocol.MAX_BATTLE_PLAYERS ? parsed : 2;
+                } catch (NumberFormatException e) {
+                    System.err.println("[BattleServer] Invalid player count: " + value);
+                    players = 2;
+                }
+            }
+        }
+        return players;
+    }
+
+    static AttackTargeting resolveTargeting(String[] args) {
+        String name = null;
+        if (args != null) {
+            for (String arg : args) {
+                if (arg != null && arg.startsWith(TARGETING_ARG_PREFIX)) {
+                    name = arg.substring(TARGETING_ARG_PREFIX.length());
+                }
+            }
+        }
+        if (name == null) {
+            return AttackTargeting.RANDOM;
+        }
+        return switch (name.trim().toUpperCase(Locale.ROOT)) {
+            case "ATTACKERS" -> AttackTargeting.MOST_ATTACKERS;
+            case "LOWEST" -> AttackTargeting.LOWEST_BOARD;
+            default -> AttackTargeting.RANDOM;
+        };
+    }
+
+    /** App 진입점에서 호출한다. */
+    public static BattleServer launch(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+        BattleServer battle = new BattleServer(DedicatedServer.resolvePort(args), DedicatedServer.resolveMode(args),
+                resolvePlayers(args), resolveTargeting(args));
+        battle.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(battle::stop, "BattleServer-Shutdown"));
+        return battle;
+    }
+
+    public void start() throws IOException {
+        GameClock.setDefaultExternallyDriven(true);
+        server.setSelectedGameMode(modeName);
+        server.setRequiredReadyClients(playerCount);
+        server.setMatchStartListener(this::startMatch);
+        server.setClientMessageListener(this::onClientMessage);
+        server.setGameStateListener(new tetris.network.client.GameStateListener() {
+            @Override
+            public void onOpponentBoardUpdate(GameMessage message) {}
+
+            @Override
+            public void onGameStateSnapshot(tetris.network.protocol.GameSnapshot snapshot) {}
+
+            @Override
+            public void onGameStateChange(GameMessage message) {
+                if (message != null && message.getType() == MessageType.OPPONENT_DISCONNECTED) {
+                    onClientDisconnected(message);
+                }
+            }
+        });
+        server.startServer(requestedPort);
+        server.setHostReady(true);
+        System.out.println("[BattleServer] Listening on port " + server.getPort() + " (mode=" + modeName
+                + "), waiting for " + playerCount + " players");
+    }
+
+    public void stop() {
+        SimulationLoop loop = simulation;
+        if (loop != null) {
+            loop.stop();
+        }
+        server.stopServer();
+    }
+
+    public int getPort() {
+        return server.getPort();
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    public boolean isMatchRunning() {
+        SimulationLoop loop = simulation;
+        return loop != null && loop.isRunning();
+    }
+
+    public int getMatchesPlayed() {
+        return matchesPlayed;
+    }
+
+    GameServer gameServer() {
+        return server;
+    }
+
+    /** 마지막 판의 시뮬레이션 루프에서 잡힌 예외 수. */
+    long simulationFailures() {
+        SimulationLoop loop = lastSimulation;
+        return loop == null ? 0 : loop.getFailureCount();
+    }
+
+    /** GameServer가 N명의 준비를 확인하고 GAME_START를 보내기 직전에 호출한다. */
+    private void startMatch(long seed) {
+        List<ServerHandler> clients = server.getReadyPlayerClients();
+        if (clients.size() < playerCount) {
+            System.err.println("[BattleServer] Not enough players to start: " + clients.size());
+            return;
+        }
+        seats.clear();
+        ServerHandler[] handlers = new ServerHandler[playerCount + 1];
+        for (int pid = 1; pid <= playerCount; pid++) {
+            ServerHandler client = clients.get(pid - 1);
+            client.setOutgoingMapper(null);
+            handlers[pid] = client;
+            seats.put(client, pid);
+        }
+        seatHandlers = handlers;
+        // 준비하지 않았거나 자리가 모자라 앉지 못한 플레이어는 GAME_START 전에 관전자로 돌린다.
+        benched.clear();
+        for (ServerHandler client : server.getPlayerClients()) {
+            if (!seats.containsKey(client)) {
+                client.setSpectator(true);
+                benched.add(client);
+            }
+        }
+        match = new BattleMatch(DedicatedServer.toGameMode(modeName), seed, playerCount, targeting, new BattleMatch.Outbox() {
+            @Override
+            public void send(int playerId, GameMessage message) {
+                sendToSeat(playerId, message);
+            }
+
+            @Override
+            public void publish(GameMessage message) {
+                server.broadcastToSpectators(message);
+            }
+        });
+
+        SimulationLoop loop = new SimulationLoop("BattleServer-Simulation", TICK_MS, this::tick);
+        simulation = loop;
+        lastSimulation = loop;
+        loop.start();
+        System.out.println("[BattleServer] Match started: players=" + playerCount + " mode=" + modeName + " seed=" + seed);
+    }
+
+    private void sendToSeat(int playerId, GameMessage message) {
+        ServerHandler handler = seatHandlers[playerId];
+        if (handler != null && handler.isConnected()) {
+            handler.sendMessage(message);
+        }
+    }
+
+    private void tick(long elapsedMs) {
+        BattleMatch current = match;
+        if (current == null) {
+            return; // 같은 틱의 명령(연결 끊김)이 판을 끝냈다.
+        }
+        current.tick(elapsedMs);
+        if (current.isOver()) {
+            Integer winner = current.game().getWinnerId();
+            finishMatch("winner=" + (winner == null ? "none" : "seat" + winner));
+        }
+    }
+
+    private void onClientMessage(ServerHandler from, GameMessage message) {
+        Integer seat = seats.get(from);
+        SimulationLoop loop = simulation;
+        if (seat == null || loop == null || message == null) {
+            return;
+        }
+        if (message.getType() == MessageType.PLAYER_INPUT && message.getPayload() instanceof PlayerInput input) {
+            // 입력은 시뮬레이션 스레드가 다음 틱 시작 시 적용하고, 결과는 그 틱의 스냅샷으로 나간다.
+            loop.submit(() -> {
+                BattleMatch current = match;
+                if (current != null) {
+                    current.applyInput(seat, input.inputType());
+                }
+            });
+        }
+    }
+
+    private void onClientDisconnected(GameMessage message) {
+        SimulationLoop loop = simulation;
+        if (loop == null) {
+            return;
+        }
+        // 끊긴 좌석만 탈락시키고 나머지는 계속 한다. (payload = 끊긴 클라이언트 id)
+        Object clientId = message.getPayload();
+        loop.submit(() -> {
+            BattleMatch current = match;
+            if (current == null) {
+                return;
+            }
+            for (Map.Entry<ServerHandler, Integer> entry : seats.entrySet()) {
+                if (entry.getKey().getClientId().equals(clientId)) {
+                    current.eliminate(entry.getValue());
+                }
+            }
+            if (current.isOver()) {
+                finishMatch("disconnect " + clientId);
+            }
+        });
+    }
+
+    /** 시뮬레이션 스레드에서 호출된다. */
+    private void finishMatch(String reason) {
+        SimulationLoop loop = simulation;
+        if (loop == null) {
+            return;
+        }
+        simulation = null;
+        loop.stop();
+        if (match != null) {
+            match.close();
+        }
+        seats.clear();
+        for (ServerHandler client : benched) {
+            client.setSpectator(false);
+        }
+        benched.clear();
+        match = null;
+        seatHandlers = null;
+        matchesPlayed++;
+        server.resetMatch();
+        System.out.println("[BattleServer] Match finished (" + reason + "), waiting for players to ready up");
+    }
+}
@@ -0,0 +1,302 @@
+package tetris.network.server;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import tetris.metrics.GameMetrics;
+import tetris.network.LinkQualityEstimator;
+import tetris.network.protocol.BoardOverview;
+import tetris.network.protocol.GameMessage;
+import tetris.network.protocol.GameSnapshot;
+import tetris.network.protocol.MessageType;
+import tetris.network.protocol.NetworkProtocol;
+
+/**
+ * 한 클라이언트 연결의 송신 대기열. 전용 송신 스레드가 소켓에 쓰므로 호스트 시뮬레이션/다른 연결은 막히지 않는다.
+ * <p>
+ * - GAME_STATE 스냅샷과 BOARD_OVERVIEW 요약은 종류/플레이어별 최신 것 하나만 남긴다. 아직 못 보낸 것은 새 것이 덮어쓴다.
+ *   (둘 다 전체 상태라 중간 것을 건너뛰어도 된다)<br>
+ * - 그 밖의 메시지는 순서대로 모두 보낸다. 판 시작/종료 같은 필수 메시지는 기다리던 스냅샷 뒤에 나가야 하므로
+ *   그때만 스냅샷을 먼저 줄에 세운다. PING 같은 나머지는 스냅샷을 앞지르고, 스냅샷은 간격 조절을 그대로 따른다.
+ *   {@link #CONTROL_CAPACITY}를 넘게 쌓이면 따라올 수 없는 연결로 보고 offer가 false를 돌려준다.<br>
+ * - 스냅샷 간격은 AIMD로 조절한다. 쓰기가 {@link #STALL_MS}보다 오래 걸리거나(소켓 송신 버퍼가 참)
+ *   그렇게 오래 쓰는 동안 스냅샷이 덮어써지면 간격을 두 배로({@link #THROTTLED_INTERVAL_MS}..{@link #MAX_INTERVAL_MS}),
+ *   막힘 없이 쓸 때마다 7/8로 줄인다. 링크의 손실률/RTT가 나쁘면 {@link #THROTTLED_INTERVAL_MS}보다 줄이지 않는다.<br>
+ * - 관전자 연결은 {@link #setKeyframesOnly(boolean)}로 키프레임만 보장한다. 쓰기가 막혔거나 줄이 넘치면 판 시작/종료 같은
+ *   필수 메시지가 아닌 것은 버리고, 다음 스냅샷(전체 상태)으로 따라잡게 한다. 관전자 때문에 연결이 끊기지 않는다.
+ * </p>
+ * 시각은 밀리초이며 {@link #poll(long)}/{@link #completed(GameMessage, long)}에 넘긴다. (송신 스레드가 호출)
+ */
+public final class ClientSendQueue {
+
+    /** 소켓에 메시지 하나를 쓴다. 송신 스레드에서만 호출된다. */
+    @FunctionalInterface
+    public interface MessageWriter {
+        void write(GameMessage message) throws IOException;
+    }
+
+    static final int CONTROL_CAPACITY = 256;
+    static final long STALL_MS = 20;
+    static final long THROTTLED_INTERVAL_MS = NetworkProtocol.GAME_SYNC_INTERVAL;
+    static final long MAX_INTERVAL_MS = 400;
+    static final double LOSSY_RATIO = 0.05;
+    // 키프레임 모드에서도 버리지 않는 메시지. 기다리던 스냅샷보다 먼저 나가면 안 되는 메시지이기도 하다.
+    private static final EnumSet<MessageType> ESSENTIAL = EnumSet.of(
+            MessageType.CONNECTION_ACCEPTED, MessageType.CONNECTION_REJECTED, MessageType.DISCONNECT,
+            MessageType.OPPONENT_DISCONNECTED, MessageType.GAME_MODE_SELECT, MessageType.GAME_START,
+            MessageType.GAME_PAUSE, MessageType.GAME_END, MessageType.GAME_RESTART);
+
+    private final MessageWriter writer;
+    private final LinkQualityEstimator link;
+
+    private final ArrayDeque<GameMessage> ordered = new ArrayDeque<>();
+    // 덮어쓰는 메시지 칸: 2 * playerId (+1이면 BOARD_OVERVIEW)
+    private GameMessage[] snapshots = new GameMessage[2 * (NetworkProtocol.MAX_PLAYERS + 1)];
+    private int snapshotCount;
+
+    private boolean writing;
+    private long writeStartedAtMs;
+    private boolean stalledThisWrite;
+    private boolean closed;
+    private long intervalMs;
+    private long nextSnapshotAtMs;
+    private long coalesced;
+    private long throttled;
+    private boolean keyframesOnly;
+    private long dropped;
+    private Thread thread;
+
+    /** @param link 이 연결의 링크 품질 (null이면 송신 상태만 본다) */
+    public ClientSendQueue(MessageWriter writer, LinkQualityEstimator link) {
+        this.writer = Objects.requireNonNull(writer, "writer");
+        this.link = link;
+    }
+
+    /**
+     * 메시지를 대기열에 넣는다. 막히지 않는다.
+     * @return 닫혔거나 제어 메시지가 넘치면 false
+     */
+    public boolean offer(GameMessage message) {
+        return offer(message, System.currentTimeMillis());
+    }
+
+    synchronized boolean offer(GameMessage message, long nowMillis) {
+        if (message == null) {
+            return true;
+        }
+        if (closed) {
+            return false;
+        }
+        int slot = coalesceSlot(message);
+        if (slot >= 0) {
+            offerSnapshot(slot, message, nowMillis);
+        } else {
+            if (keyframesOnly && !ESSENTIAL.contains(message.getType())
+                    && (ordered.size() >= CONTROL_CAPACITY || (writing && nowMillis - writeStartedAtMs > STALL_MS))) {
+                // 느린 관전자: 중간 메시지는 버리고 다음 스냅샷으로 따라잡는다.
+                dropped++;
+                GameMetrics.SERVER_SPECTATOR_DROPS.increment();
+                return true;
+            }
+            if (ordered.size() >= CONTROL_CAPACITY) {
+                return false;
+            }
+            if (ESSENTIAL.contains(message.getType())) {
+                moveSnapshotsToOrdered();
+            }
+            ordered.addLast(message);
+            GameMetrics.SERVER_SEND_QUEUE_DEPTH.increment();
+        }
+        notifyAll();
+        return true;
+    }
+
+    /**
+     * 지금 보낼 메시지를 꺼낸다. 순서 메시지가 먼저이고, 스냅샷은 간격이 지났을 때만 나온다.
+     * @return 보낼 것이 없으면 null
+     */
+    synchronized GameMessage poll(long nowMillis) {
+        GameMessage next = ordered.pollFirst();
+        if (next == null && snapshotCount > 0 && nowMillis >= nextSnapshotAtMs) {
+            next = takeSnapshot();
+            if (snapshotCount == 0) {
+                // 같은 틱에 들어온 다른 플레이어 스냅샷까지 보낸 뒤 다음 간격을 잡는다.
+                nextSnapshotAtMs = nowMillis + effectiveIntervalMillis();
+            }
+        }
+        if (next != null) {
+            writing = true;
+            writeStartedAtMs = nowMillis;
+            stalledThisWrite = false;
+            GameMetrics.SERVER_SEND_QUEUE_DEPTH.decrement();
+        }
+        return next;
+    }
+
+    /** 쓰기를 마쳤다. 걸린 시간으로 간격을 조절한다. */
+    synchronized void completed(GameMessage message, long writeMillis) {
+        writing = false;
+        if (writeMillis > STALL_MS) {
+            if (!stalledThisWrite) {
+                backOff();
+            }
+        } else if (message.getType() == MessageType.GAME_STATE && intervalMs > 0) {
+            intervalMs = intervalMs * 7 / 8;
+        }
+    }
+
+    /** 송신 스레드를 시작한다. 쓰기에 실패하면 onFailure를 부르고 멈춘다. */
+    public synchronized void start(String name, Consumer<IOException> onFailure) {
+        if (thread != null || closed) {
+            return;
+        }
+        thread = new Thread(() -> runWriter(onFailure), name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /** 대기열을 닫고 송신 스레드를 깨운다. 남은 메시지는 버린다. */
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        GameMetrics.SERVER_SEND_QUEUE_DEPTH.add(-(ordered.size() + snapshotCount));
+        ordered.clear();
+        Arrays.fill(snapshots, null);
+        snapshotCount = 0;
+        notifyAll();
+    }
+
+    /** true면 필수 메시지와 스냅샷만 보장하고, 따라오지 못하면 나머지는 버린다. (관전자 연결) */
+    public synchronized void setKeyframesOnly(boolean keyframesOnly) {
+        this.keyframesOnly = keyframesOnly;
+    }
+
+    /** 키프레임 모드에서 버린 메시지 수. */
+    public synchronized long dropCount() {
+        return dropped;
+    }
+
+    /** 지금 스냅샷 사이에 두는 최소 간격(ms). 0이면 들어오는 대로 보낸다. */
+    public synchronized long effectiveIntervalMillis() {
+        long floor = 0L;
+        if (link != null && (link.lossRatio() > LOSSY_RATIO
+                || link.smoothedRttMillis() > NetworkProtocol.MAX_LAG_THRESHOLD)) {
+            floor = THROTTLED_INTERVAL_MS;
+        }
+        return Math.max(intervalMs, floor);
+    }
+
+    /** 보내기 전에 새 스냅샷으로 덮어써 버린 스냅샷 수. */
+    public synchronized long coalescedCount() {
+        return coalesced;
+    }
+
+    /** 느린 연결로 보고 간격을 늘린 횟수. */
+    public synchronized long throttleCount() {
+        return throttled;
+    }
+
+    /** 아직 보내지 않은 메시지 수 (순서 메시지 + 플레이어별 스냅샷). */
+    public synchronized int pendingCount() {
+        return ordered.size() + snapshotCount;
+    }
+
+    private void runWriter(Consumer<IOException> onFailure) {
+        while (true) {
+            GameMessage message;
+            synchronized (this) {
+                while (true) {
+                    if (closed) {
+                        return;
+                    }
+                    long now = System.currentTimeMillis();
+                    message = poll(now);
+                    if (message != null) {
+                        break;
+                    }
+                    long waitMs = snapshotCount > 0 ? Math.max(1L, nextSnapshotAtMs - now) : 0L;
+                    try {
+                        wait(waitMs);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+            long start = System.nanoTime();
+            try {
+                writer.write(message);
+            } catch (IOException e) {
+                close();
+                onFailure.accept(e);
+                return;
+            }
+            completed(message, (System.nanoTime() - start) / 1_000_000L);
+        }
+    }
+
+    /** 덮어써도 되는 메시지면 칸 번호, 아니면 -1. */
+    private static int coalesceSlot(GameMessage message) {
+        if (message.getType() == MessageType.GAME_STATE && message.getPayload() instanceof GameSnapshot snapshot
+                && snapshot.playerId() >= 0) {
+            return 2 * snapshot.playerId();
+        }
+        if (message.getType() == MessageType.BOARD_OVERVIEW && message.getPayload() instanceof BoardOverview overview
+                && overview.playerId() >= 0) {
+            return 2 * overview.playerId() + 1;
+        }
+        return -1;
+    }
+
+    private void offerSnapshot(int slot, GameMessage message, long nowMillis) {
+        if (slot >= snapshots.length) {
+            snapshots = Arrays.copyOf(snapshots, Math.max(slot + 1, snapshots.length * 2));
+        }
+        if (snapshots[slot] != null) {
+            coalesced++;
+            GameMetrics.SERVER_SNAPSHOTS_COALESCED.increment();
+            if (writing && !stalledThisWrite && nowMillis - writeStartedAtMs > STALL_MS) {
+                // 막힌 쓰기 동안 다음 상태가 나왔다: 이 연결은 생산 속도를 못 따라온다. (쓰기 한 번에 한 번만)
+                stalledThisWrite = true;
+                backOff();
+            }
+        } else {
+            snapshotCount++;
+            GameMetrics.SERVER_SEND_QUEUE_DEPTH.increment();
+        }
+        snapshots[slot] = message;
+    }
+
+    private GameMessage takeSnapshot() {
+        for (int i = 0; i < snapshots.length; i++) {
+            GameMessage message = snapshots[i];
+            if (message != null) {
+                snapshots[i] = null;
+                snapshotCount--;
+                return message;
+            }
+        }
+        return null;
+    }
+
+    private void moveSnapshotsToOrdered() {
+        while (snapshotCount > 0) {
+            ordered.addLast(takeSnapshot());
+        }
+    }
+
+    private void backOff() {
+        long next = Math.min(MAX_INTERVAL_MS, Math.max(THROTTLED_INTERVAL_MS, intervalMs * 2));
+        if (next != intervalMs) {
+            throttled++;
+            GameMetrics.SERVER_SNAPSHOT_THROTTLES.increment();
+        }
+        intervalMs = next;
+    }
+}
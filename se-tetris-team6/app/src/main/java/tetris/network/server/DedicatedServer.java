@@ -0,0 +1,309 @@
+package tetris.network.server;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import tetris.concurrent.SimulationLoop;
+import tetris.domain.GameMode;
+import tetris.domain.GameModel;
+import tetris.domain.model.GameClock;
+import tetris.domain.model.GameState;
+import tetris.infrastructure.GameModelFactory;
+import tetris.multiplayer.handler.NetworkedMultiplayerHandler;
+import tetris.multiplayer.session.MultiplayerSessionFactory;
+import tetris.multiplayer.session.NetworkMultiplayerSession;
+import tetris.network.protocol.GameMessage;
+import tetris.network.protocol.MessageType;
+import tetris.network.protocol.PlayerInput;
+
+/**
+ * Swing 없이 도는 전용(헤드리스) 대전 서버. 실행: {@code --server[=포트] [--mode=NORMAL|ITEM|TIME_LIMIT]}
+ * <p>
+ * - 호스트가 직접 플레이하지 않고, 원격 클라이언트 두 명이 준비되면 권한 시뮬레이션을 시작한다.<br>
+ * - 준비한 클라이언트 중 먼저 접속한 쪽이 1번, 다음이 2번 좌석이다. 기존 클라이언트는 자신을 2번으로 가정하므로
+ *   1번 좌석에게 가는 메시지는 {@link SeatPerspective} 로 번호를 뒤집는다.<br>
+ * - 좌석을 받지 못한 플레이어는 그 판 동안 관전자로 돌렸다가 판이 끝나면 되돌린다.<br>
+ * - 시뮬레이션은 {@link SimulationLoop} 한 스레드가 소유하고, 중력/잠금 지연은 외부 구동 시계로 진행한다.
+ *   따라서 AWT/Swing 클래스가 로드되지 않는다.
+ * </p>
+ */
+public final class DedicatedServer {
+
+    public static final String SERVER_ARG = "--server";
+    public static final String MODE_ARG_PREFIX = "--mode=";
+    public static final int DEFAULT_PORT = 5000;
+    static final long TICK_MS = 16;
+
+    private final int requestedPort;
+    private final String modeName;
+    private final GameServer server = new GameServer();
+    // 클라이언트 핸들러 → 좌석 번호(1/2). 판이 시작될 때 채운다.
+    private final Map<ServerHandler, Integer> seats = new ConcurrentHashMap<>();
+
+    // 아래 필드는 startMatch(준비 신호 스레드)에서 만들고 이후에는 시뮬레이션 스레드만 만진다.
+    private volatile SimulationLoop simulation;
+    // 마지막으로 돌린 루프 (판이 끝난 뒤에도 틱 실패 수를 확인할 수 있게 남겨 둔다)
+    private volatile SimulationLoop lastSimulation;
+    private NetworkMultiplayerSession session;
+    private GameModel coordinator;
+    // 좌석을 받지 못해 이번 판만 관전자로 돌린 플레이어
+    private final List<ServerHandler> benched = new ArrayList<>();
+    private NetworkedMultiplayerHandler handler;
+    private volatile int matchesPlayed;
+
+    public DedicatedServer(int port, String modeName) {
+        this.requestedPort = port;
+        this.modeName = normalizeMode(modeName);
+    }
+
+    /** 실행 인자에 --server 가 있으면 true. */
+    public static boolean isRequested(String[] args) {
+        return resolvePort(args) >= 0;
+    }
+
+    /** --server=N 이면 N, --server 만 있으면 기본 포트, 없거나 형식이 잘못되면 -1. */
+    static int resolvePort(String[] args) {
+        if (args == null) {
+            return -1;
+        }
+        int port = -1;
+        for (String arg : args) {
+            if (arg == null) {
+                continue;
+            }
+            if (arg.equals(SERVER_ARG)) {
+                port = DEFAULT_PORT;
+            } else if (arg.startsWith(SERVER_ARG + "=")) {
+                String value = arg.substring(SERVER_ARG.length() + 1).trim();
+                try {
+                    int parsed = Integer.parseInt(value);
+                    port = parsed >= 0 && parsed <= 65535 ? parsed : -1;
+                } catch (NumberFormatException e) {
+                    System.err.println("[DedicatedServer] Invalid port: " + value);
+                    port = -1;
+                }
+            }
+        }
+        return port;
+    }
+
+    static String resolveMode(String[] args) {
+        String mode = null;
+        if (args != null) {
+            for (String arg : args) {
+                if (arg != null && arg.startsWith(MODE_ARG_PREFIX)) {
+                    mode = arg.substring(MODE_ARG_PREFIX.length());
+                }
+            }
+        }
+        return normalizeMode(mode);
+    }
+
+    /** App 진입점에서 호출한다. 서버를 띄운 뒤 프로세스가 끝날 때까지 수락 스레드가 살아 있다. */
+    public static DedicatedServer launch(String[] args) throws IOException {
+        // 모델이 생기기 전에 켜야 Swing 타이머가 만들어지지 않는다.
+        System.setProperty("java.awt.headless", "true");
+        DedicatedServer dedicated = new DedicatedServer(resolvePort(args), resolveMode(args));
+        dedicated.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(dedicated::stop, "DedicatedServer-Shutdown"));
+        return dedicated;
+    }
+
+    public void start() throws IOException {
+        GameClock.setDefaultExternallyDriven(true);
+        server.setSelectedGameMode(modeName);
+        server.setRequiredReadyClients(2);
+        server.setMatchStartListener(this::startMatch);
+        server.setClientMessageListener(this::onClientMessage);
+        server.setGameStateListener(new tetris.network.client.GameStateListener() {
+            @Override
+            public void onOpponentBoardUpdate(GameMessage message) {}
+
+            @Override
+            public void onGameStateSnapshot(tetris.network.protocol.GameSnapshot snapshot) {}
+
+            @Override
+            public void onGameStateChange(GameMessage message) {
+                if (message != null && message.getType() == MessageType.OPPONENT_DISCONNECTED) {
+                    onClientDisconnected(message);
+                }
+            }
+        });
+        server.startServer(requestedPort);
+        server.setHostReady(true);
+        System.out.println("[DedicatedServer] Listening on port " + server.getPort() + " (mode=" + modeName + "), waiting for 2 players");
+    }
+
+    public void stop() {
+        SimulationLoop loop = simulation;
+        if (loop != null) {
+            loop.stop();
+        }
+        server.stopServer();
+    }
+
+    public int getPort() {
+        return server.getPort();
+    }
+
+    public boolean isMatchRunning() {
+        SimulationLoop loop = simulation;
+        return loop != null && loop.isRunning();
+    }
+
+    public int getMatchesPlayed() {
+        return matchesPlayed;
+    }
+
+    GameServer gameServer() {
+        return server;
+    }
+
+    /** 지금 판에서 clientId 연결의 좌석 번호. 앉지 않았으면 0. */
+    int seatOf(String clientId) {
+        for (Map.Entry<ServerHandler, Integer> entry : seats.entrySet()) {
+            if (entry.getKey().getClientId().equals(clientId)) {
+                return entry.getValue();
+            }
+        }
+        return 0;
+    }
+
+    /** 마지막 판의 시뮬레이션 루프에서 잡힌 예외 수. */
+    long simulationFailures() {
+        SimulationLoop loop = lastSimulation;
+        return loop == null ? 0 : loop.getFailureCount();
+    }
+
+    /** GameServer가 두 클라이언트의 준비를 확인하고 GAME_START를 보내기 직전에 호출한다. */
+    private void startMatch(long seed) {
+        List<ServerHandler> clients = server.getReadyPlayerClients();
+        if (clients.size() < 2) {
+            System.err.println("[DedicatedServer] Not enough players to start: " + clients.size());
+            return;
+        }
+        seats.clear();
+        ServerHandler seatOne = clients.get(0);
+        ServerHandler seatTwo = clients.get(1);
+        seats.put(seatOne, 1);
+        seats.put(seatTwo, 2);
+        // 준비하지 않았거나 자리가 모자라 앉지 못한 플레이어는 GAME_START 전에 관전자로 돌린다.
+        benched.clear();
+        for (ServerHandler client : server.getPlayerClients()) {
+            client.setOutgoingMapper(null);
+            if (!seats.containsKey(client)) {
+                client.setSpectator(true);
+                benched.add(client);
+            }
+        }
+        seatOne.setOutgoingMapper(SeatPerspective::swapPlayers);
+
+        GameMode mode = toGameMode(modeName);
+        session = MultiplayerSessionFactory.createNetworkedSession(mode, true, null, seed);
+        session.networkController().attachTransport(null, server);
+        handler = (NetworkedMultiplayerHandler) session.handler();
+        coordinator = GameModelFactory.createWithSeed(seed);
+        coordinator.enableNetworkMultiplayer(session);
+        coordinator.startGame(mode);
+
+        SimulationLoop loop = new SimulationLoop("DedicatedServer-Simulation", TICK_MS, this::tick);
+        simulation = loop;
+        lastSimulation = loop;
+        loop.start();
+        System.out.println("[DedicatedServer] Match started: seat1=" + seatOne.getClientId()
+                + " seat2=" + seatTwo.getClientId() + " mode=" + mode + " seed=" + seed);
+    }
+
+    private void tick(long elapsedMs) {
+        if (handler == null) {
+            return; // 같은 틱의 명령(연결 끊김)이 판을 정리했다.
+        }
+        handler.update(coordinator, elapsedMs);
+        if (coordinator.getCurrentState() == GameState.GAME_OVER) {
+            Integer winner = session.game().getWinnerId();
+            finishMatch("winner=" + (winner == null ? "draw" : "seat" + winner));
+        }
+    }
+
+    private void onClientMessage(ServerHandler from, GameMessage message) {
+        Integer seat = seats.get(from);
+        SimulationLoop loop = simulation;
+        if (seat == null || loop == null || message == null) {
+            return;
+        }
+        if (message.getType() == MessageType.PLAYER_INPUT && message.getPayload() instanceof PlayerInput input) {
+            // 입력도 시뮬레이션 스레드가 다음 틱 시작 시 적용한다.
+            loop.submit(() -> applyInput(seat, input));
+        }
+        // ATTACK_LINES는 무시: 공격은 서버가 줄 삭제 결과로 직접 계산한다.
+    }
+
+    private void applyInput(int seat, PlayerInput input) {
+        if (session == null) {
+            return;
+        }
+        session.networkController().applyRemotePlayerInput(seat, input);
+        // 호스트 경로와 같이, 입력 결과가 다음 틱을 기다리지 않고 바로 보이도록 두 스냅샷을 즉시 보낸다.
+        session.networkController().sendGameState(session.playerOneModel());
+        session.networkController().sendGameState(session.playerTwoModel());
+    }
+
+    private void onClientDisconnected(GameMessage message) {
+        SimulationLoop loop = simulation;
+        if (loop == null) {
+            return;
+        }
+        // 남은 클라이언트는 OPPONENT_DISCONNECTED를 받아 스스로 승리 처리한다. 서버는 판만 정리한다.
+        loop.submit(() -> finishMatch("disconnect " + message.getPayload()));
+    }
+
+    /** 시뮬레이션 스레드에서 호출된다. */
+    private void finishMatch(String reason) {
+        SimulationLoop loop = simulation;
+        if (loop == null) {
+            return;
+        }
+        simulation = null;
+        loop.stop();
+        if (coordinator != null) {
+            coordinator.quitToMenu();
+        }
+        seats.clear();
+        for (ServerHandler client : server.getConnectedClients()) {
+            client.setOutgoingMapper(null);
+        }
+        for (ServerHandler client : benched) {
+            client.setSpectator(false);
+        }
+        benched.clear();
+        session = null;
+        handler = null;
+        coordinator = null;
+        matchesPlayed++;
+        server.resetMatch();
+        System.out.println("[DedicatedServer] Match finished (" + reason + "), waiting for players to ready up");
+    }
+
+    static String normalizeMode(String mode) {
+        if (mode == null || mode.isBlank()) {
+            return "NORMAL";
+        }
+        String upper = mode.trim().toUpperCase(Locale.ROOT);
+        return switch (upper) {
+            case "ITEM", "TIME_LIMIT" -> upper;
+            default -> "NORMAL";
+        };
+    }
+
+    static GameMode toGameMode(String modeName) {
+        return switch (normalizeMode(modeName)) {
+            case "ITEM" -> GameMode.ITEM;
+            case "TIME_LIMIT" -> GameMode.TIME_LIMIT;
+            default -> GameMode.STANDARD;
+        };
+    }
+}
@@ -6,9 +6,15 @@ import java.net.Socket;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import tetris.domain.model.GameState;
+import tetris.metrics.GameMetrics;
+import tetris.network.LinkQualityEstimator;
+import tetris.network.protocol.EncodedMessage;
 import tetris.network.protocol.GameMessage;
+import tetris.network.protocol.MessageType;
+import tetris.network.protocol.NetworkProtocol;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongConsumer;
 
 /**
  * P2P 대전 모드의 서버 역할을 담당
@@ -16,8 +22,18 @@ import java.util.concurrent.CopyOnWriteArrayList;
  * - 연결된 클라이언트들 관리
  * - 게임 상태 동기화 및 메시지 중계
  * - 서버 생명주기 관리 (시작, 정지, 재시작)
+ * - 관전자 연결도 브로드캐스트를 받지만 준비/좌석 계산에서는 빠진다. 관전자에게 가는 메시지는
+ *   {@link EncodedMessage}로 한 번만 직렬화해 모든 관전자 송신 대기열이 같이 쓴다. 플레이어 연결은 자기 스트림에
+ *   이어 쓰는 편이 작으므로(주기적인 reset 사이에는 클래스 설명을 다시 싣지 않음) 예전처럼 보낸다.
  */
 public class GameServer {
+
+    /** 특정 클라이언트가 보낸 입력/공격 메시지를 발신 핸들러와 함께 받는 리스너. (전용 서버용) */
+    @FunctionalInterface
+    public interface ClientMessageListener {
+        void onClientMessage(ServerHandler from, GameMessage message);
+    }
+
     // === 네트워크 관련 ===
     private ServerSocket serverSocket;          // 서버 소켓
     private boolean isRunning;                  // 서버 실행 상태
@@ -32,11 +48,11 @@ public class GameServer {
     private String selectedGameMode;            // 선택된 게임 모드
     private boolean gameInProgress;             // 게임 진행 중 여부
     private tetris.network.client.GameStateListener gameStateListener; // 호스트 UI 리스너
+    private volatile ClientMessageListener clientMessageListener;       // 발신자별 메시지 리스너 (전용 서버)
+    private volatile LongConsumer matchStartListener;                   // GAME_START 직전 시드 통지 (전용 서버)
+    private volatile int requiredReadyClients = 1;                      // 시작에 필요한 준비 완료 클라이언트 수
     
-    // === 핑 측정 관련 ===
-    private volatile long lastPingTime = 0;        // 마지막 PING 전송 시간
-    private volatile long currentPing = -1;        // 현재 핑 (ms), -1이면 측정 중 또는 연결 안됨
-    private volatile boolean waitingForPong = false; // PONG 응답 대기 중
+    // === 핑 측정 관련 (연결별 추정은 ServerHandler.getLinkQuality) ===
     private Thread pingThread;                     // 핑 측정 스레드
 
     // === 주요 메서드들 ===
@@ -53,6 +69,7 @@ public class GameServer {
             while (isRunning) {
                 try {
                     Socket clientSocket = serverSocket.accept();
+                    GameMetrics.SERVER_CONNECTIONS_ACCEPTED.increment();
                     System.out.println("New client connected: " + clientSocket.getInetAddress());
                     acceptClient(clientSocket);
                 } catch (IOException e) {
@@ -64,9 +81,26 @@ public class GameServer {
         }).start();
     }
 
-    // Return number of connected clients
+    /** 실제로 바인딩된 포트 (0으로 시작했으면 OS가 고른 포트). 시작 전이면 요청한 포트. */
+    public int getPort() {
+        ServerSocket socket = serverSocket;
+        return socket != null ? socket.getLocalPort() : port;
+    }
+
+    // Return number of connected players (관전자 제외)
     public int getConnectedCount() {
-        return connectedClients.size();
+        int count = 0;
+        for (ServerHandler handler : connectedClients) {
+            if (!handler.isSpectator()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // 연결된 관전자 수
+    public int getSpectatorCount() {
+        return connectedClients.size() - getConnectedCount();
     }
 
     // Mark host ready (host pressed Start)
@@ -86,13 +120,40 @@ public class GameServer {
         checkAndStartIfReady();
     }
 
-    private void checkAndStartIfReady() {
-        // For simple 1v1: if hostReady and at least one client ready -> start
-        boolean anyClientReady = clientReady.values().stream().anyMatch(Boolean::booleanValue);
-        if (hostReady && anyClientReady && !started) {
+    /**
+     * 시작에 필요한 준비 완료 클라이언트 수. 기본 1(호스트 + 클라이언트 1명),
+     * 호스트가 플레이하지 않는 전용 서버는 2로 둔다.
+     */
+    public void setRequiredReadyClients(int count) {
+        this.requiredReadyClients = Math.max(1, count);
+        checkAndStartIfReady();
+    }
+
+    public void setMatchStartListener(LongConsumer listener) {
+        this.matchStartListener = listener;
+    }
+
+    public void setClientMessageListener(ClientMessageListener listener) {
+        this.clientMessageListener = listener;
+    }
+
+    /** 한 판이 끝난 뒤 다음 판을 다시 준비 신호로 시작할 수 있게 상태를 되돌린다. */
+    public synchronized void resetMatch() {
+        started = false;
+        clientReady.clear();
+    }
+
+    private synchronized void checkAndStartIfReady() {
+        long readyCount = clientReady.values().stream().filter(Boolean::booleanValue).count();
+        if (hostReady && readyCount >= requiredReadyClients && !started) {
             System.out.println("All players ready. Broadcasting GAME_START");
             // Generate a shared RNG seed and broadcast with mode
             long seed = new java.util.Random().nextLong();
+            LongConsumer startListener = matchStartListener;
+            if (startListener != null) {
+                // 권한 시뮬레이션이 클라이언트 입력보다 먼저 준비되도록 브로드캐스트 전에 통지한다.
+                startListener.accept(seed);
+            }
             java.util.Map<String,Object> payload = new java.util.HashMap<>();
             payload.put("mode", selectedGameMode);
             payload.put("seed", seed);
@@ -113,6 +174,9 @@ public class GameServer {
                 System.out.println("GameServer stopped.");
             }
             clientThreadPool.shutdownNow();
+            for (ServerHandler handler : connectedClients) {
+                handler.getSendQueue().close(); // 송신 스레드 종료
+            }
             // 모든 connectedClients에게 DISCONNECT 메시지 전송 및 연결 종료 로직 추가 예정
         } catch (IOException e) {
             System.err.println("Error stopping server: " + e.getMessage());
@@ -134,12 +198,43 @@ public class GameServer {
      */
     public void notifyClientConnected(ServerHandler handler) {
         connectedClients.add(handler);
+        GameMetrics.SERVER_CONNECTIONS_ACTIVE.increment();
         System.out.println("Client connected successfully. Total clients: " + connectedClients.size());
     }
 
+    // 연결 순서대로의 클라이언트 목록 (복사본, 관전자 포함)
+    public List<ServerHandler> getConnectedClients() {
+        return List.copyOf(connectedClients);
+    }
+
+    // 연결 순서대로의 플레이어 목록 (관전자 제외). 좌석 배정에 쓴다.
+    public List<ServerHandler> getPlayerClients() {
+        List<ServerHandler> players = new java.util.ArrayList<>(connectedClients.size());
+        for (ServerHandler handler : connectedClients) {
+            if (!handler.isSpectator()) {
+                players.add(handler);
+            }
+        }
+        return players;
+    }
+
+    // 연결 순서대로의 준비 완료 플레이어 목록. 여러 명 대전의 좌석 배정에 쓴다.
+    public List<ServerHandler> getReadyPlayerClients() {
+        List<ServerHandler> players = new java.util.ArrayList<>(connectedClients.size());
+        for (ServerHandler handler : connectedClients) {
+            if (!handler.isSpectator() && Boolean.TRUE.equals(clientReady.get(handler))) {
+                players.add(handler);
+            }
+        }
+        return players;
+    }
+
     // 클라이언트 연결 해제 처리
     public void removeClient(ServerHandler client) {
-        connectedClients.remove(client);
+        clientReady.remove(client);
+        if (connectedClients.remove(client)) {
+            GameMetrics.SERVER_CONNECTIONS_ACTIVE.decrement();
+        }
         System.out.println("Client disconnected. Current clients: " + connectedClients.size());
     }
 
@@ -162,7 +257,38 @@ public class GameServer {
         }
         
         for (ServerHandler handler : connectedClients) {
-            handler.sendMessage(message);
+            if (!handler.isSpectator()) {
+                handler.sendMessage(message);
+            }
+        }
+        broadcastToSpectators(message);
+    }
+
+    /** 관전자 연결에만 보낸다. 관전자가 여럿이면 한 번만 직렬화한다. */
+    public void broadcastToSpectators(GameMessage message) {
+        GameMessage shared = getSpectatorCount() > 1 ? encodeOnce(message) : message;
+        for (ServerHandler handler : connectedClients) {
+            if (handler.isSpectator()) {
+                handler.sendMessage(shared);
+            }
+        }
+    }
+
+    /**
+     * 여러 연결이 같이 쓸 바이트로 한 번 직렬화한다. 직렬화할 수 없는 payload면 원본을 돌려주어
+     * 연결별 송신 스레드가 예전처럼 처리(실패 시 연결 종료)하게 한다.
+     */
+    static GameMessage encodeOnce(GameMessage message) {
+        if (message == null || message instanceof EncodedMessage) {
+            return message;
+        }
+        try {
+            EncodedMessage encoded = EncodedMessage.encode(message);
+            GameMetrics.SERVER_BROADCAST_ENCODES.increment();
+            return encoded;
+        } catch (IOException e) {
+            System.err.println("[GameServer] Broadcast encode failed for " + message.getType() + ": " + e.getMessage());
+            return message;
         }
     }
 
@@ -187,6 +313,18 @@ public class GameServer {
         this.gameStateListener = listener;
     }
 
+    /**
+     * 발신 핸들러를 아는 경로: 전용 서버 리스너가 있으면 그쪽으로, 없으면 호스트 UI 리스너로 전달한다.
+     */
+    public void notifyHostOfMessage(ServerHandler from, GameMessage message) {
+        ClientMessageListener listener = clientMessageListener;
+        if (listener != null) {
+            listener.onClientMessage(from, message);
+            return;
+        }
+        notifyHostOfMessage(message);
+    }
+
     /**
      * Notify the host of a message from a client.
      */
@@ -260,7 +398,7 @@ public class GameServer {
     // === 핑 측정 메서드 ===
     
     /**
-     * 핑 측정 시작 - 주기적으로 클라이언트에게 PING 메시지 전송
+     * 핑 측정 시작 - 주기적으로 모든 클라이언트에게 순번 붙은 PING 메시지 전송
      */
     public void startPingMeasurement() {
         if (pingThread != null && pingThread.isAlive()) {
@@ -270,22 +408,13 @@ public class GameServer {
         pingThread = new Thread(() -> {
             while (isRunning && !Thread.currentThread().isInterrupted()) {
                 try {
-                    // PING 전송 (첫 번째 클라이언트에게만)
-                    if (!waitingForPong && !connectedClients.isEmpty()) {
-                        lastPingTime = System.currentTimeMillis();
-                        waitingForPong = true;
-                        ServerHandler firstClient = connectedClients.get(0);
-                        firstClient.sendMessage(new GameMessage(tetris.network.protocol.MessageType.PING, "SERVER", null));
-                    }
-                    
-                    // 2초마다 측정
-                    Thread.sleep(2000);
-                    
-                    // 타임아웃 체크 (5초 이상 응답 없으면)
-                    if (waitingForPong && (System.currentTimeMillis() - lastPingTime) > 5000) {
-                        currentPing = -1; // 연결 불안정
-                        waitingForPong = false;
+                    // 응답을 기다리지 않고 연결마다 PING을 보낸다. (응답 없는 PING은 추정기가 손실로 센다)
+                    for (ServerHandler handler : connectedClients) {
+                        LinkQualityEstimator link = handler.getLinkQuality();
+                        link.expire();
+                        handler.sendMessage(new GameMessage(MessageType.PING, "SERVER", link.newPing()));
                     }
+                    Thread.sleep(NetworkProtocol.PING_INTERVAL);
                 } catch (InterruptedException e) {
                     break;
                 }
@@ -303,26 +432,21 @@ public class GameServer {
             pingThread.interrupt();
             pingThread = null;
         }
-        currentPing = -1;
-        waitingForPong = false;
+        for (ServerHandler handler : connectedClients) {
+            handler.getLinkQuality().reset();
+        }
     }
     
     /**
-     * 현재 핑 값 반환 (ms)
+     * 현재 핑 값 반환 (ms) - 첫 번째 클라이언트 기준
      * @return 핑 값, -1이면 측정 중이거나 연결 안됨
      */
     public long getCurrentPing() {
-        return currentPing;
-    }
-    
-    /**
-     * PONG 응답 처리 - ServerHandler에서 호출
-     */
-    public void handlePong() {
-        if (waitingForPong) {
-            long rtt = System.currentTimeMillis() - lastPingTime;
-            currentPing = rtt;
-            waitingForPong = false;
+        for (ServerHandler handler : connectedClients) {
+            if (!handler.isSpectator()) {
+                return handler.getLinkQuality().pingMillis();
+            }
         }
+        return -1;
     }
 }
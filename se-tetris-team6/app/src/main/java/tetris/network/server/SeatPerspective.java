@@ -0,0 +1,58 @@
+package tetris.network.server;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import tetris.network.protocol.GameMessage;
+import tetris.network.protocol.GameSnapshot;
+
+/**
+ * 전용 서버에서 클라이언트별 시점을 맞추는 메시지 변환.
+ * <p>
+ * 기존 클라이언트는 항상 자신을 2번 플레이어, 상대(호스트)를 1번으로 가정한다.
+ * 전용 서버는 두 원격 클라이언트를 1/2번 좌석에 앉히므로, 1번 좌석 클라이언트에게 보내는
+ * 스냅샷과 종료 메시지의 플레이어 번호를 뒤집어 두 클라이언트가 모두 "나 = 2번"으로 보게 한다.
+ * </p>
+ */
+final class SeatPerspective {
+
+    private SeatPerspective() {
+        // util class
+    }
+
+    static int swap(int playerId) {
+        if (playerId == 1) return 2;
+        if (playerId == 2) return 1;
+        return playerId;
+    }
+
+    /** 플레이어 번호가 담긴 메시지(GAME_STATE, GAME_END)만 새 메시지로 바꾸고, 나머지는 그대로 돌려준다. */
+    static GameMessage swapPlayers(GameMessage message) {
+        if (message == null || message.getType() == null) {
+            return message;
+        }
+        switch (message.getType()) {
+            case GAME_STATE:
+                if (message.getPayload() instanceof GameSnapshot snapshot) {
+                    return new GameMessage(message.getType(), message.getSenderId(),
+                            snapshot.withPlayerId(swap(snapshot.playerId())));
+                }
+                return message;
+            case GAME_END:
+                if (message.getPayload() instanceof Map<?, ?> data) {
+                    Map<String, Object> swapped = new HashMap<>();
+                    for (Map.Entry<?, ?> e : data.entrySet()) {
+                        Object value = e.getValue();
+                        if (("winnerId".equals(e.getKey()) || "loserId".equals(e.getKey())) && value instanceof Number n) {
+                            value = swap(n.intValue());
+                        }
+                        swapped.put(String.valueOf(e.getKey()), value);
+                    }
+                    return new GameMessage(message.getType(), message.getSenderId(), swapped);
+                }
+                return message;
+            default:
+                return message;
+        }
+    }
+}
@@ -8,6 +8,17 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.util.concurrent.atomic.AtomicInteger; // 추가: 스레드 안전한 카운터 사용
+import java.util.function.UnaryOperator;
+import tetris.metrics.MeteredInputStream;
+import tetris.metrics.MeteredOutputStream;
+import tetris.metrics.PerfRecorders;
+import tetris.metrics.TrafficCounter;
+import tetris.metrics.jfr.NetworkReceiveEvent;
+import tetris.metrics.jfr.NetworkSendEvent;
+import tetris.network.LinkQualityEstimator;
+import tetris.network.protocol.EncodedMessage;
+import tetris.network.protocol.NetworkProtocol;
+import tetris.network.protocol.PingPayload;
 
 /**
  * 서버에서 개별 클라이언트와의 통신을 담당
@@ -15,11 +26,14 @@ import java.util.concurrent.atomic.AtomicInteger; // 추가: 스레드 안전한
  * - 클라이언트로부터 메시지 수신 및 처리
  * - 클라이언트에게 메시지 전송
  * - 연결 상태 모니터링 및 예외 처리
+ * - CONNECTION_REQUEST payload가 {@link NetworkProtocol#SPECTATOR_ROLE}이면 관전자: 받기만 하고, 준비/입력은 무시하며,
+ *   송신 대기열은 키프레임 모드로 둔다.
  */
     public class ServerHandler implements Runnable {
 
         // 정적 ID 카운터 추가: 클라이언트는 Player-2부터 할당되도록 시작
         private static final AtomicInteger clientCounter = new AtomicInteger(2);
+        private static final AtomicInteger spectatorCounter = new AtomicInteger(1);
 
         // 생성자 - 클라이언트 소켓과 서버 참조 받음
         public ServerHandler(Socket clientSocket, GameServer server) {
@@ -30,8 +44,12 @@ import java.util.concurrent.atomic.AtomicInteger; // 추가: 스레드 안전한
 
         try {
             // ObjectOutputStream을 먼저 초기화하여 Deadlock을 피하고, 필드명 통일
-            this.outputStream = new ObjectOutputStream(clientSocket.getOutputStream());
-            this.inputStream = new ObjectInputStream(clientSocket.getInputStream());
+            this.outputStream = new ObjectOutputStream(new MeteredOutputStream(clientSocket.getOutputStream(), traffic));
+            this.inputStream = new ObjectInputStream(new MeteredInputStream(clientSocket.getInputStream(), traffic));
+            sendQueue.start("ServerHandlerWriter", e -> {
+                System.err.println("Error sending message to client " + clientId + ": " + e.getMessage());
+                disconnect();
+            });
         } catch (IOException e) {
             System.err.println("Error initializing streams for client: " + e.getMessage());
             disconnect();
@@ -42,14 +60,26 @@ import java.util.concurrent.atomic.AtomicInteger; // 추가: 스레드 안전한
     private Socket clientSocket;               // 클라이언트와의 소켓 연결
     private ObjectInputStream inputStream;     // 메시지 수신용 스트림
     private ObjectOutputStream outputStream;   // 메시지 송신용 스트림
+    private int writesSinceReset;              // 마지막 reset 이후 쓴 메시지 수 (outputStream 잠금 안에서만)
 
     // === 클라이언트 정보 ===
     private String clientId;                   // 클라이언트 고유 ID
     private boolean isConnected;               // 연결 상태
+    private volatile boolean spectator;        // 관전자 연결 여부
     private long lastPingTime;                 // 마지막 핑 시간
     // 최근으로 처리한 시퀀스 번호(중복 방지)
     private int lastProcessedSequence = -1;
 
+    // === 트래픽 통계 (연결별, 전역 카운터에도 누적) ===
+    private final TrafficCounter traffic = new TrafficCounter(PerfRecorders.NETWORK);
+    private final LinkQualityEstimator linkQuality = new LinkQualityEstimator(traffic);
+
+    // === 송신 대기열 (전용 송신 스레드, 느린 연결은 스냅샷 간격을 늘림) ===
+    private final ClientSendQueue sendQueue = new ClientSendQueue(this::writeMessage, linkQuality);
+
+    // === 송신 변환 (전용 서버에서 좌석별 시점 변환) ===
+    private volatile UnaryOperator<GameMessage> outgoingMapper;
+
     // === 서버 참조 ===
     private GameServer server;                 // 부모 서버 참조
     
@@ -70,14 +100,22 @@ import java.util.concurrent.atomic.AtomicInteger; // 추가: 스레드 안전한
             // Step 2에서는 연결 수락 후 바로 종료해도 무방하나, 메시지 루프 구조를 잡습니다.
             while (isConnected) {
                 // 클라이언트로부터 메시지 수신 대기
+                long bytesBefore = traffic.getBytesReceived();
                 GameMessage message = (GameMessage) inputStream.readObject();
+                NetworkReceiveEvent event = new NetworkReceiveEvent();
+                event.begin();
                 lastMessageTime = System.currentTimeMillis(); // 메시지 수신 시 타임스탬프 갱신
+                traffic.messageReceived();
                 // Log the raw read for tracing duplicates (identity + seq)
                 try {
                     int seq = message == null ? -1 : message.getSequenceNumber();
                     System.out.println("[ServerHandler.run] readObject: identity=" + System.identityHashCode(message) + ", type=" + (message == null ? "null" : message.getType()) + ", seq=" + seq + ", thread=" + Thread.currentThread().getName());
                 } catch (Exception ignore) {}
                 handleMessage(message); // 메시지 처리 로직 (Step 3에서 상세 구현)
+                if (event.shouldCommit()) {
+                    event.describe("server", clientId, message, traffic.getBytesReceived() - bytesBefore);
+                    event.commit();
+                }
             }
         } catch (EOFException e) {
             System.out.println("Client closed connection gracefully.");
@@ -89,22 +127,50 @@ import java.util.concurrent.atomic.AtomicInteger; // 추가: 스레드 안전한
         }
     }
 
-    // 클라이언트에게 메시지 전송
+    // 클라이언트에게 메시지 전송 - 송신 대기열에 넣고 바로 돌아온다. (느린 클라이언트가 호출자를 막지 않음)
     public void sendMessage(GameMessage message) {
-        try {
-            if (outputStream != null) {
-            synchronized (outputStream) {
+        UnaryOperator<GameMessage> mapper = outgoingMapper;
+        if (mapper != null && message != null) {
+            message = mapper.apply(message);
+        }
+        if (outputStream != null && !sendQueue.offer(message) && isConnected) {
+            System.err.println("Send queue overflow for client " + clientId + ", disconnecting.");
+            disconnect();
+        }
+    }
+
+    // 송신 스레드에서 소켓에 실제로 쓴다.
+    // 객체 스트림은 쓴 객체를 모두 참조 표에 붙잡아 두므로, STREAM_RESET_INTERVAL개마다 reset해 표를 비운다.
+    // (메시지는 매번 새 객체라 참조 표로 얻는 이득은 없다. reset 직후 한 번은 클래스 설명이 다시 실린다)
+    private void writeMessage(GameMessage message) throws IOException {
+        NetworkSendEvent event = new NetworkSendEvent();
+        event.begin();
+        long bytes;
+        synchronized (outputStream) {
+            long bytesBefore = traffic.getBytesSent();
+            if (message instanceof EncodedMessage encoded) {
+                // 브로드캐스트에서 한 번 직렬화한 바이트를 그대로 복사한다.
+                encoded.writeTo(outputStream);
+            } else {
                 outputStream.writeObject(message);
-                outputStream.flush();
             }
-            // System.out.println("ServerHandler sent message: " + message.getType());
+            if (++writesSinceReset >= NetworkProtocol.STREAM_RESET_INTERVAL) {
+                outputStream.reset();
+                writesSinceReset = 0;
             }
-        } catch (IOException e) {
-            System.err.println("Error sending message to client " + clientId + ": " + e.getMessage());
-            disconnect();
+            outputStream.flush();
+            bytes = traffic.getBytesSent() - bytesBefore;
         }
+        if (event.shouldCommit()) {
+            event.describe("server", clientId, message, bytes);
+            event.commit();
+        }
+        traffic.messageSent();
     }
 
+    // 이 연결의 송신 대기열 (스냅샷 간격/적체 확인용)
+    public ClientSendQueue getSendQueue(){return sendQueue;}
+
     // 연결 초기화 - 스트림 설정 및 클라이언트 ID 할당
     private void initializeConnection() throws IOException, ClassNotFoundException {
 
@@ -112,8 +178,14 @@ import java.util.concurrent.atomic.AtomicInteger; // 추가: 스레드 안전한
         GameMessage request = (GameMessage) inputStream.readObject();
 
         if (request.getType() == MessageType.CONNECTION_REQUEST) {
-            // 2. 클라이언트 ID를 할당 (테스트 요구사항에 맞춰 "Player-" 접두사 사용)
-            this.clientId = "Player-" + clientCounter.getAndIncrement(); // MODIFIED
+            // 2. 클라이언트 ID를 할당 (테스트 요구사항에 맞춰 "Player-" 접두사 사용, 관전자는 "Spectator-")
+            if (NetworkProtocol.SPECTATOR_ROLE.equals(request.getPayload())) {
+                this.spectator = true;
+                this.clientId = "Spectator-" + spectatorCounter.getAndIncrement();
+                sendQueue.setKeyframesOnly(true);
+            } else {
+                this.clientId = "Player-" + clientCounter.getAndIncrement(); // MODIFIED
+            }
             
             // 3. CONNECTION_ACCEPTED 메시지를 클라이언트에게 전송합니다.
             GameMessage acceptance = new GameMessage(MessageType.CONNECTION_ACCEPTED, "SERVER", this.clientId);
@@ -134,6 +206,7 @@ import java.util.concurrent.atomic.AtomicInteger; // 추가: 스레드 안전한
 
     // 연결 종료 처리 - 리소스 정리 및 서버에 알림
     public void disconnect() {
+        sendQueue.close();
         if (isConnected) {
             isConnected = false;
             System.out.println("[ServerHandler] Client " + clientId + " disconnecting...");
@@ -141,22 +214,48 @@ import java.util.concurrent.atomic.AtomicInteger; // 추가: 스레드 안전한
                 if (clientSocket != null) clientSocket.close();
             } catch (IOException e) { /* ignore */ }
             
-            // 서버에 클라이언트 연결 해제 알림 및 상대방에게 통보
+            // 서버에 클라이언트 연결 해제 알림 및 상대방에게 통보 (관전자는 판에 영향 없음)
             server.removeClient(this);
-            server.notifyOpponentDisconnected(this.clientId);
+            if (!spectator) {
+                server.notifyOpponentDisconnected(this.clientId);
+            }
         }
     }
 
     // 연결 상태 확인
     public boolean isConnected(){return isConnected;}
 
+    // 관전자 연결이면 true
+    public boolean isSpectator(){return spectator;}
+
+    // 좌석을 받지 못한 플레이어를 한 판 동안 관전자로 돌리거나 되돌린다. (여러 명 대전)
+    void setSpectator(boolean spectator) {
+        this.spectator = spectator;
+        sendQueue.setKeyframesOnly(spectator);
+    }
+
     // 클라이언트 ID 반환
     public String getClientId(){return clientId;}
 
+    /** 이 클라이언트에게 보내는 모든 메시지를 전송 직전에 변환한다. null이면 그대로 보낸다. */
+    public void setOutgoingMapper(UnaryOperator<GameMessage> mapper) {
+        this.outgoingMapper = mapper;
+    }
+
+    // 이 연결의 송수신 통계
+    public TrafficCounter getTraffic(){return traffic;}
+
+    // 이 연결의 링크 품질 추정 (RTT, 시계 차이, 손실률)
+    public LinkQualityEstimator getLinkQuality(){return linkQuality;}
+
 
     // 클라이언트로부터 메시지 수신 및 처리
     private void handleMessage(GameMessage message){
         if (message == null) return;
+        if (spectator && message.getType() != MessageType.DISCONNECT
+                && message.getType() != MessageType.PING && message.getType() != MessageType.PONG) {
+            return; // 관전자는 판에 관여하지 않는다.
+        }
         switch (message.getType()) {
             case PLAYER_READY:
                 System.out.println("ServerHandler: PLAYER_READY from " + clientId);
@@ -168,11 +267,11 @@ import java.util.concurrent.atomic.AtomicInteger; // 추가: 스레드 안전한
                 break;
             case PING:
                 // 클라이언트로부터 PING 받으면 PONG 응답
-                sendMessage(new GameMessage(MessageType.PONG, "SERVER", null));
+                sendMessage(new GameMessage(MessageType.PONG, "SERVER", PingPayload.replyTo(message.getPayload())));
                 break;
             case PONG:
-                // 클라이언트로부터 PONG 받으면 서버의 핑 측정 완료
-                server.handlePong();
+                // 클라이언트로부터 PONG 받으면 이 연결의 링크 품질 추정에 반영
+                linkQuality.onPong(message.getPayload());
                 break;
             case PLAYER_INPUT:
             case ATTACK_LINES:
@@ -185,7 +284,7 @@ import java.util.concurrent.atomic.AtomicInteger; // 추가: 스레드 안전한
                 }
                 System.out.println("[ServerHandler] received " + message.getType() + " from clientId=" + clientId + " senderId=" + message.getSenderId() + " payload=" + message.getPayload() + " seq=" + seq + " identity=" + System.identityHashCode(message));
                 lastProcessedSequence = seq;
-                server.notifyHostOfMessage(message);
+                server.notifyHostOfMessage(this, message);
                 break;
             default:
                 // 기본 동작: 서버가 다른 클라이언트에게 그대로 브로드캐스트
@@ -0,0 +1,135 @@
+package tetris.replay;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import tetris.domain.GameDifficulty;
+import tetris.domain.GameMode;
+
+/**
+ * 한 판의 리플레이. 게임 설정과 플레이어별 트랙({@link ReplayTrack})으로 이뤄진다.
+ * <p>
+ * 파일 구조: MAGIC(4바이트) 뒤는 모두 varint. 버전, 모드/난이도 이름, 아이템 간격, 시작 시각(epoch ms),
+ * 체크포인트 간격, 트랙 수, 트랙마다 [플레이어 번호, 시드, 이벤트 수, 길이 ms, 이벤트 바이트, 체크포인트들].
+ * </p>
+ */
+public record Replay(GameMode mode, GameDifficulty difficulty, int itemSpawnIntervalLines, long startedAtMillis,
+        int checkpointInterval, List<ReplayTrack> tracks) {
+
+    static final int MAGIC = 0x54525031; // "TRP1"
+    static final int VERSION = 1;
+
+    public Replay {
+        tracks = List.copyOf(tracks);
+    }
+
+    public ReplayTrack track(int playerId) {
+        for (ReplayTrack track : tracks) {
+            if (track.playerId() == playerId) {
+                return track;
+            }
+        }
+        throw new IllegalArgumentException("No track for player " + playerId);
+    }
+
+    /** 가장 긴 트랙의 길이. */
+    public long durationMs() {
+        long duration = 0;
+        for (ReplayTrack track : tracks) {
+            duration = Math.max(duration, track.durationMs());
+        }
+        return duration;
+    }
+
+    public byte[] toBytes() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        ByteBuffer magic = ByteBuffer.allocate(4).putInt(MAGIC);
+        out.write(magic.array(), 0, 4);
+        VarInts.writeVarInt(out, VERSION);
+        VarInts.writeString(out, mode.name());
+        VarInts.writeString(out, difficulty.name());
+        VarInts.writeVarInt(out, itemSpawnIntervalLines);
+        VarInts.writeVarLong(out, startedAtMillis);
+        VarInts.writeVarInt(out, checkpointInterval);
+        VarInts.writeVarInt(out, tracks.size());
+        for (ReplayTrack track : tracks) {
+            VarInts.writeVarInt(out, track.playerId());
+            VarInts.writeSignedVarLong(out, track.seed());
+            VarInts.writeVarInt(out, track.eventCount());
+            VarInts.writeVarLong(out, track.durationMs());
+            VarInts.writeVarInt(out, track.events().length);
+            out.write(track.events(), 0, track.events().length);
+            VarInts.writeVarInt(out, track.checkpoints().size());
+            for (ReplayCheckpoint checkpoint : track.checkpoints()) {
+                VarInts.writeVarInt(out, checkpoint.eventIndex());
+                VarInts.writeVarInt(out, checkpoint.byteOffset());
+                VarInts.writeVarLong(out, checkpoint.timeMs());
+                VarInts.writeSignedVarLong(out, checkpoint.points());
+                VarInts.writeVarInt(out, checkpoint.clearedLines());
+                VarInts.writeSignedVarLong(out, checkpoint.stateHash());
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /** @throws IllegalArgumentException 리플레이 파일이 아니거나 손상됐으면 */
+    public static Replay fromBytes(byte[] bytes) {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        if (bytes.length < 4 || in.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a replay file");
+        }
+        int version = VarInts.readVarInt(in);
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported replay version " + version);
+        }
+        GameMode mode = GameMode.valueOf(VarInts.readString(in));
+        GameDifficulty difficulty = GameDifficulty.valueOf(VarInts.readString(in));
+        int itemInterval = VarInts.readVarInt(in);
+        long startedAt = VarInts.readVarLong(in);
+        int checkpointInterval = VarInts.readVarInt(in);
+        int trackCount = VarInts.readVarInt(in);
+        List<ReplayTrack> tracks = new ArrayList<>(trackCount);
+        for (int t = 0; t < trackCount; t++) {
+            int playerId = VarInts.readVarInt(in);
+            long seed = VarInts.readSignedVarLong(in);
+            int eventCount = VarInts.readVarInt(in);
+            long duration = VarInts.readVarLong(in);
+            int length = VarInts.readVarInt(in);
+            if (length < 0 || length > in.remaining()) {
+                throw new IllegalArgumentException("Bad event block length " + length);
+            }
+            byte[] events = new byte[length];
+            in.get(events);
+            int checkpointCount = VarInts.readVarInt(in);
+            List<ReplayCheckpoint> checkpoints = new ArrayList<>(checkpointCount);
+            for (int c = 0; c < checkpointCount; c++) {
+                checkpoints.add(new ReplayCheckpoint(VarInts.readVarInt(in), VarInts.readVarInt(in),
+                        VarInts.readVarLong(in), (int) VarInts.readSignedVarLong(in), VarInts.readVarInt(in),
+                        (int) VarInts.readSignedVarLong(in)));
+            }
+            tracks.add(new ReplayTrack(playerId, seed, eventCount, duration, events, checkpoints));
+        }
+        return new Replay(mode, difficulty, itemInterval, startedAt, checkpointInterval, tracks);
+    }
+
+    /** 임시 파일에 쓴 뒤 이름을 바꿔, 중간에 죽어도 반쯤 쓴 리플레이가 남지 않게 한다. */
+    public void write(Path path) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.write(temp, toBytes());
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    public static Replay read(Path path) throws IOException {
+        try {
+            return fromBytes(Files.readAllBytes(path));
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Corrupt replay " + path + ": " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package tetris.replay;
+
+import tetris.domain.GameModel;
+import tetris.domain.model.Block;
+import tetris.domain.score.Score;
+
+/**
+ * 트랙의 eventIndex번째 이벤트를 적용하기 직전 상태 요약.
+ * 재생기는 같은 위치에서 요약을 다시 계산해 기록과 어긋나는지(desync) 확인하고,
+ * byteOffset/timeMs로 시간 → 이벤트 위치를 찾는 색인으로도 쓴다.
+ */
+public record ReplayCheckpoint(int eventIndex, int byteOffset, long timeMs, int points, int clearedLines,
+        int stateHash) {
+
+    static ReplayCheckpoint capture(GameModel model, int eventIndex, int byteOffset, long timeMs) {
+        Score score = model.getScore();
+        return new ReplayCheckpoint(eventIndex, byteOffset, timeMs, score.getPoints(), score.getClearedLines(),
+                stateHash(model));
+    }
+
+    /** 보드 칸과 활성 블록(종류/위치/회전)의 해시. */
+    static int stateHash(GameModel model) {
+        int hash = 1;
+        for (int[] row : model.getBoard().gridView()) {
+            for (int cell : row) {
+                hash = 31 * hash + cell;
+            }
+        }
+        Block active = model.getActiveBlock();
+        if (active != null) {
+            hash = 31 * hash + active.getKind().ordinal() + 1;
+            hash = 31 * hash + active.getX();
+            hash = 31 * hash + active.getY();
+            hash = 31 * hash + active.getRotation();
+        }
+        return hash;
+    }
+
+    /** 다시 계산한 요약이 기록과 같은지. (위치 정보는 비교하지 않는다) */
+    boolean matches(ReplayCheckpoint other) {
+        return points == other.points && clearedLines == other.clearedLines && stateHash == other.stateHash;
+    }
+}
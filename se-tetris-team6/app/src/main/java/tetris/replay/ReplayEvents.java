@@ -0,0 +1,52 @@
+package tetris.replay;
+
+import tetris.network.protocol.InputType;
+
+/**
+ * 트랙 이벤트 인코딩.
+ * <p>
+ * 이벤트 하나 = varlong((직전 이벤트와의 시간차 ms &lt;&lt; 4) | 코드) 뒤에 코드별 본문.
+ * 대부분의 입력은 시간차가 8ms 미만이거나 수백 ms 이내라 1~2바이트로 끝난다.
+ * </p>
+ * <ul>
+ * <li>0..6 입력 ({@link #INPUTS} 순서)</li>
+ * <li>7 InputState 스텝: varint 입력 마스크</li>
+ * <li>8 중력 한 칸, 9 줄 삭제 확정, 10 일시정지, 11 재개</li>
+ * <li>12 쓰레기 줄: varint((줄 수 &lt;&lt; 1) | 스폰 직전 여부) 뒤에 줄마다 varlong 구멍 비트마스크</li>
+ * </ul>
+ */
+final class ReplayEvents {
+
+    static final int CODE_BITS = 4;
+    static final int CODE_MASK = (1 << CODE_BITS) - 1;
+
+    static final InputType[] INPUTS = {
+            InputType.MOVE_LEFT,
+            InputType.MOVE_RIGHT,
+            InputType.SOFT_DROP,
+            InputType.ROTATE,
+            InputType.ROTATE_CCW,
+            InputType.HARD_DROP,
+            InputType.HOLD,
+    };
+    static final int STEP = 7;
+    static final int GRAVITY = 8;
+    static final int LINE_CLEAR = 9;
+    static final int PAUSE = 10;
+    static final int RESUME = 11;
+    static final int GARBAGE = 12;
+
+    private ReplayEvents() {
+        // util class
+    }
+
+    /** 입력 종류의 이벤트 코드. 기록하지 않는 입력(PAUSE 등)은 -1. */
+    static int inputCode(InputType type) {
+        for (int i = 0; i < INPUTS.length; i++) {
+            if (INPUTS[i] == type) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
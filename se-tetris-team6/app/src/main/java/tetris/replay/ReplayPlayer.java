@@ -0,0 +1,309 @@
+package tetris.replay;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import tetris.domain.Board;
+import tetris.domain.GameModel;
+import tetris.domain.RandomBlockGenerator;
+import tetris.domain.StatefulRandom;
+import tetris.infrastructure.GameModelFactory;
+import tetris.multiplayer.controller.PlayerInputs;
+import tetris.multiplayer.model.AttackLine;
+import tetris.multiplayer.model.LockedPieceSnapshot;
+
+/**
+ * 리플레이를 헤드리스 GameModel로 다시 시뮬레이션한다.
+ * <p>
+ * - 트랙마다 기록 때와 같은 시드/설정으로 모델을 만들고 이벤트를 순서대로 적용한다. 시계는 외부 구동 모드로 두고
+ *   진행시키지 않으므로, 중력과 줄 삭제 확정은 기록된 이벤트로만 일어난다.<br>
+ * - {@link #advanceTo(long)} 는 실제 시간을 기다리지 않는다. 호출 간격에 배속을 곱해 넘기면 원하는 속도로 재생된다.<br>
+ * - 체크포인트 위치를 지날 때 상태 요약을 다시 계산해 기록과 비교한다. 어긋나면 {@link #desyncs()} 에 남긴다.<br>
+ * - 체크포인트를 처음 지날 때 모델 상태({@link GameModel.Memento})를 저장해 둔다. 뒤로 되감는 {@link #seek(long)} 은
+ *   목표 시각 이전의 가장 가까운 저장 지점을 제자리 복원한 뒤 거기서부터만 다시 적용한다.
+ *   (시작 직후 상태도 저장하므로 처음부터 모델을 다시 만드는 일은 없다)
+ * </p>
+ * 스레드 안전하지 않다. 한 스레드에서만 사용한다.
+ */
+public final class ReplayPlayer {
+
+    private final Replay replay;
+    private final Map<Integer, Cursor> cursors = new LinkedHashMap<>();
+    private final List<String> desyncs = new ArrayList<>();
+    private int verifiedCheckpoints;
+    private long positionMs;
+
+    public ReplayPlayer(Replay replay) {
+        this.replay = Objects.requireNonNull(replay, "replay");
+        rewind();
+    }
+
+    public Replay replay() {
+        return replay;
+    }
+
+    public GameModel model(int playerId) {
+        Cursor cursor = cursors.get(playerId);
+        if (cursor == null) {
+            throw new IllegalArgumentException("No track for player " + playerId);
+        }
+        return cursor.model;
+    }
+
+    /** 시작 시각 기준 현재 재생 위치 (ms). */
+    public long positionMs() {
+        return positionMs;
+    }
+
+    public boolean isFinished() {
+        for (Cursor cursor : cursors.values()) {
+            if (cursor.hasNext) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** timeMs까지(포함) 기록된 이벤트를 모든 트랙에 적용한다. 현재 위치보다 앞이면 아무것도 하지 않는다. */
+    public void advanceTo(long timeMs) {
+        for (Cursor cursor : cursors.values()) {
+            while (cursor.hasNext && cursor.nextTimeMs <= timeMs) {
+                cursor.applyNext(false);
+            }
+        }
+        positionMs = Math.max(positionMs, timeMs);
+    }
+
+    public void playToEnd() {
+        advanceTo(Long.MAX_VALUE);
+        positionMs = replay.durationMs();
+    }
+
+    /** 임의 위치로 이동한다. 현재보다 앞쪽이면 그 이전의 가장 가까운 저장 지점에서 다시 시뮬레이션한다. */
+    public void seek(long timeMs) {
+        if (timeMs < positionMs) {
+            for (Cursor cursor : cursors.values()) {
+                cursor.restoreMarkAtOrBefore(timeMs);
+            }
+            positionMs = timeMs;
+        }
+        advanceTo(timeMs);
+    }
+
+    /** 지나온 체크포인트 중 기록과 일치한 수. */
+    public int verifiedCheckpoints() {
+        return verifiedCheckpoints;
+    }
+
+    public List<String> desyncs() {
+        return Collections.unmodifiableList(desyncs);
+    }
+
+    private void rewind() {
+        cursors.clear();
+        positionMs = 0;
+        for (ReplayTrack track : replay.tracks()) {
+            cursors.put(track.playerId(), new Cursor(track));
+        }
+        for (Cursor cursor : cursors.values()) {
+            cursor.model.startGame(replay.mode());
+            cursor.saveMark();
+        }
+    }
+
+    /** 되감기 지점: 그 시점의 커서 위치와 모델 상태. */
+    private static final class Mark {
+        final GameModel.Memento memento = new GameModel.Memento();
+        int index;
+        int position;
+        long timeMs;
+        long nextTimeMs;
+        int nextCode;
+        boolean hasNext;
+        int nextCheckpoint;
+    }
+
+    private final class Cursor implements GameModel.MultiplayerHook {
+        final ReplayTrack track;
+        final GameModel model;
+        final ByteBuffer in;
+        int index;
+        int nextCheckpoint;
+        long timeMs;
+        long nextTimeMs;
+        int nextCode;
+        boolean hasNext;
+        // 비교를 마친 체크포인트 수. 되감은 뒤 다시 지날 때 중복으로 세거나 저장하지 않는다.
+        int checkedCheckpoints;
+        final List<Mark> marks = new ArrayList<>();
+
+        Cursor(ReplayTrack track) {
+            this.track = track;
+            RandomBlockGenerator generator = new RandomBlockGenerator(new StatefulRandom(track.seed()));
+            generator.setDifficulty(replay.difficulty());
+            model = GameModelFactory.createHeadless(generator);
+            model.setExternalClockDrive(true);
+            model.setItemRandomSeed(track.seed());
+            if (replay.itemSpawnIntervalLines() > 0) {
+                model.setItemSpawnIntervalLines(replay.itemSpawnIntervalLines());
+            }
+            model.setPlayerId(track.playerId());
+            model.setTimeSource(() -> replay.startedAtMillis() + timeMs);
+            model.addMultiplayerHook(this);
+            in = ByteBuffer.wrap(track.events());
+            readHead();
+        }
+
+        private void readHead() {
+            hasNext = index < track.eventCount() && in.hasRemaining();
+            if (!hasNext) {
+                return;
+            }
+            long head = VarInts.readVarLong(in);
+            nextCode = (int) (head & ReplayEvents.CODE_MASK);
+            nextTimeMs = timeMs + (head >>> ReplayEvents.CODE_BITS);
+        }
+
+        void applyNext(boolean nested) {
+            timeMs = nextTimeMs;
+            if (!nested) {
+                verifyCheckpoint();
+            }
+            int code = nextCode;
+            index++;
+            if (code < ReplayEvents.INPUTS.length) {
+                readHeadAfter(() -> PlayerInputs.apply(model, ReplayEvents.INPUTS[code]));
+                return;
+            }
+            switch (code) {
+                case ReplayEvents.STEP -> {
+                    int mask = VarInts.readVarInt(in);
+                    readHeadAfter(() -> {
+                        model.getInputState().restoreMask(mask);
+                        model.stepGameplay();
+                    });
+                }
+                case ReplayEvents.GRAVITY -> readHeadAfter(model::applyGravityTick);
+                case ReplayEvents.LINE_CLEAR -> readHeadAfter(model::commitLineClear);
+                case ReplayEvents.PAUSE -> readHeadAfter(model::pauseGame);
+                case ReplayEvents.RESUME -> readHeadAfter(model::resumeGame);
+                case ReplayEvents.GARBAGE -> {
+                    List<AttackLine> lines = readGarbage();
+                    readHeadAfter(() -> model.insertGarbageRows(lines));
+                }
+                default -> throw new IllegalStateException("Unknown replay event code " + code
+                        + " in track " + track.playerId());
+            }
+        }
+
+        /**
+         * 다음 이벤트 머리를 먼저 읽어 두고 적용한다. 적용 중 스폰 직전 훅이 불리면
+         * 바로 뒤에 기록된 쓰레기 줄을 그 자리에서 넣어야 하기 때문이다.
+         */
+        private void readHeadAfter(Runnable apply) {
+            readHead();
+            apply.run();
+        }
+
+        private List<AttackLine> readGarbage() {
+            int header = VarInts.readVarInt(in);
+            int count = header >>> 1;
+            List<AttackLine> lines = new ArrayList<>(count);
+            int width = Board.W;
+            for (int i = 0; i < count; i++) {
+                long bits = VarInts.readVarLong(in);
+                boolean[] holes = new boolean[width];
+                for (int x = 0; x < width; x++) {
+                    holes[x] = (bits & (1L << x)) != 0;
+                }
+                lines.add(new AttackLine(holes));
+            }
+            return lines;
+        }
+
+        private boolean nextIsGarbageBeforeSpawn() {
+            if (!hasNext || nextCode != ReplayEvents.GARBAGE) {
+                return false;
+            }
+            int header = VarInts.readVarInt(in.duplicate());
+            return (header & 1) != 0;
+        }
+
+        /** 다음 이벤트를 적용하기 직전 상태를 되감기 지점으로 저장한다. */
+        void saveMark() {
+            Mark mark = new Mark();
+            model.saveState(mark.memento);
+            mark.index = index;
+            mark.position = in.position();
+            mark.timeMs = timeMs;
+            mark.nextTimeMs = nextTimeMs;
+            mark.nextCode = nextCode;
+            mark.hasNext = hasNext;
+            mark.nextCheckpoint = nextCheckpoint;
+            marks.add(mark);
+        }
+
+        /** timeMs 이전의 가장 늦은 저장 지점으로 돌아간다. 첫 지점(시작 직후)은 항상 조건을 만족한다. */
+        void restoreMarkAtOrBefore(long target) {
+            Mark mark = marks.get(0);
+            for (int i = marks.size() - 1; i > 0; i--) {
+                if (marks.get(i).timeMs <= target) {
+                    mark = marks.get(i);
+                    break;
+                }
+            }
+            index = mark.index;
+            in.position(mark.position);
+            timeMs = mark.timeMs;
+            nextTimeMs = mark.nextTimeMs;
+            nextCode = mark.nextCode;
+            hasNext = mark.hasNext;
+            nextCheckpoint = mark.nextCheckpoint;
+            model.restoreState(mark.memento);
+        }
+
+        private void verifyCheckpoint() {
+            List<ReplayCheckpoint> checkpoints = track.checkpoints();
+            while (nextCheckpoint < checkpoints.size() && checkpoints.get(nextCheckpoint).eventIndex() < index) {
+                nextCheckpoint++;
+            }
+            if (nextCheckpoint >= checkpoints.size() || checkpoints.get(nextCheckpoint).eventIndex() != index) {
+                return;
+            }
+            if (nextCheckpoint < checkedCheckpoints) {
+                nextCheckpoint++;
+                return;
+            }
+            saveMark();
+            checkedCheckpoints = nextCheckpoint + 1;
+            ReplayCheckpoint expected = checkpoints.get(nextCheckpoint++);
+            ReplayCheckpoint actual = ReplayCheckpoint.capture(model, index, in.position(), timeMs);
+            if (expected.matches(actual)) {
+                verifiedCheckpoints++;
+                return;
+            }
+            String message = String.format("player %d event %d (t=%dms): expected points=%d lines=%d hash=%08x, got points=%d lines=%d hash=%08x",
+                    track.playerId(), index, timeMs, expected.points(), expected.clearedLines(), expected.stateHash(),
+                    actual.points(), actual.clearedLines(), actual.stateHash());
+            System.err.println("[Replay] desync " + message);
+            desyncs.add(message);
+        }
+
+        @Override
+        public void onPieceLocked(LockedPieceSnapshot snapshot, int[] clearedRows, int boardWidth) {
+            // 공격은 상대 트랙에 쓰레기 줄 이벤트로 기록돼 있다.
+        }
+
+        @Override
+        public void beforeNextSpawn() {
+            if (nextIsGarbageBeforeSpawn()) {
+                applyNext(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package tetris.replay;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import tetris.domain.GameDifficulty;
+import tetris.domain.GameMode;
+import tetris.domain.GameModel;
+import tetris.domain.RandomBlockGenerator;
+import tetris.domain.StatefulRandom;
+import tetris.multiplayer.model.AttackQueueView;
+import tetris.network.protocol.InputType;
+
+/**
+ * 싱글 또는 멀티 대전의 각 플레이어 모델에 {@link GameModel.ReplayTap}을 붙여 리플레이를 기록한다.
+ * <p>
+ * - attach 시 블록 생성기와 아이템 난수를 기록용 시드로 바꾸고, 시각 공급원을 "마지막 이벤트 시각"으로 고정한다.
+ *   버프/무입력 계산이 이벤트 시각만 보게 되므로 재생 때 같은 값을 넣으면 같은 결과가 나온다.<br>
+ * - 입력뿐 아니라 중력 틱/줄 삭제 확정도 이벤트로 남긴다. 실제 게임의 Swing 타이머 간격은 매번 다르므로
+ *   시계를 다시 돌리는 대신 "언제 한 칸 떨어졌는지"를 그대로 재현한다.<br>
+ * - 대전의 쓰레기 줄은 받은 쪽 트랙에 구멍 모양째 기록한다. 상대 트랙이나 VersusRules 난수 없이도 재생된다.<br>
+ * - 기록 중인 모든 플레이어가 게임 오버가 되면 그 판을 sink로 넘긴다. 같은 모델에서 게임이 다시 시작되면
+ *   (아직 넘기지 않은 기록이 있으면 넘긴 뒤) 새 시드로 다음 판을 기록한다.
+ * </p>
+ * 탭은 모델을 진행하는 스레드에서 불리므로 트랙별로 동기화한다.
+ */
+public final class ReplayRecorder {
+
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 256;
+
+    private final GameDifficulty difficulty;
+    private final int checkpointInterval;
+    private final Consumer<Replay> sink;
+    private final List<Track> tracks = new ArrayList<>();
+    private final LongSupplier clock;
+    private long seed;
+    private GameMode mode = GameMode.STANDARD;
+    private long startedAtMillis;
+    private boolean finished;
+    private boolean emitted;
+
+    public ReplayRecorder(GameDifficulty difficulty, Consumer<Replay> sink) {
+        this(difficulty, DEFAULT_CHECKPOINT_INTERVAL, sink, System::currentTimeMillis);
+    }
+
+    /**
+     * @param checkpointInterval 체크포인트 사이 이벤트 수
+     * @param clock              이벤트 시각 (테스트에서 가짜 시계를 넣는다)
+     */
+    public ReplayRecorder(GameDifficulty difficulty, int checkpointInterval, Consumer<Replay> sink,
+            LongSupplier clock) {
+        if (checkpointInterval <= 0) {
+            throw new IllegalArgumentException("checkpointInterval must be positive");
+        }
+        this.difficulty = difficulty == null ? GameDifficulty.NORMAL : difficulty;
+        this.checkpointInterval = checkpointInterval;
+        this.sink = Objects.requireNonNull(sink, "sink");
+        this.clock = Objects.requireNonNull(clock, "clock");
+        this.seed = ThreadLocalRandom.current().nextLong();
+    }
+
+    /** startGame 전에 호출한다. 모델의 블록 생성기/아이템 난수/시각 공급원을 기록용으로 바꾼다. */
+    public synchronized void attach(int playerId, GameModel model) {
+        Objects.requireNonNull(model, "model");
+        Track track = new Track(playerId, model);
+        tracks.add(track);
+        track.reseed(seed);
+        model.setTimeSource(track::time);
+        model.setReplayTap(track);
+    }
+
+    /** 모델에서 탭을 떼고, 기록한 이벤트가 있으면 마지막 판을 sink로 넘긴다. */
+    public synchronized void finish() {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        for (Track track : tracks) {
+            track.model.setReplayTap(null);
+            track.model.setTimeSource(null);
+        }
+        emit();
+    }
+
+    /** 지금까지 기록한 판. 기록이 아직 없으면 null. */
+    public synchronized Replay snapshot() {
+        boolean any = false;
+        for (Track track : tracks) {
+            any |= track.started;
+        }
+        if (!any) {
+            return null;
+        }
+        List<ReplayTrack> out = new ArrayList<>(tracks.size());
+        for (Track track : tracks) {
+            out.add(track.toReplayTrack());
+        }
+        return new Replay(mode, difficulty, tracks.isEmpty() ? 0 : tracks.get(0).itemInterval,
+                startedAtMillis, checkpointInterval, out);
+    }
+
+    private void emit() {
+        if (emitted) {
+            return;
+        }
+        Replay replay = snapshot();
+        if (replay != null) {
+            emitted = true;
+            sink.accept(replay);
+        }
+    }
+
+    private synchronized void onTrackOver(Track track) {
+        track.over = true;
+        for (Track t : tracks) {
+            if (t.started && !t.over) {
+                return;
+            }
+        }
+        emit();
+    }
+
+    /** 한 플레이어의 게임이 (다시) 시작됐다. 이미 진행 중인 판이 있으면 넘기고 모든 트랙을 새 시드로 비운다. */
+    private synchronized void onTrackStarted(Track track, GameMode startedMode, long now) {
+        if (track.started) {
+            emit();
+            emitted = false;
+            seed = ThreadLocalRandom.current().nextLong();
+            for (Track t : tracks) {
+                t.reset();
+                t.reseed(seed);
+            }
+        }
+        boolean first = true;
+        for (Track t : tracks) {
+            first &= !t.started;
+        }
+        if (first) {
+            mode = startedMode;
+            startedAtMillis = now;
+        }
+        track.started = true;
+        // 모든 트랙이 같은 시작 시각을 기준으로 삼아야 재생 때 시각이 그대로 맞는다.
+        track.latched = startedAtMillis;
+        track.lastEventMs = startedAtMillis;
+        track.itemInterval = track.model.getItemSpawnIntervalLines();
+    }
+
+    private final class Track implements GameModel.ReplayTap {
+        final int playerId;
+        final GameModel model;
+        final ByteArrayOutputStream events = new ByteArrayOutputStream(1024);
+        final List<ReplayCheckpoint> checkpoints = new ArrayList<>();
+        long trackSeed;
+        int itemInterval;
+        volatile long latched;
+        long lastEventMs;
+        int eventCount;
+        volatile boolean started;
+        volatile boolean over;
+
+        Track(int playerId, GameModel model) {
+            this.playerId = playerId;
+            this.model = model;
+            this.latched = clock.getAsLong();
+        }
+
+        long time() {
+            return latched;
+        }
+
+        void reseed(long newSeed) {
+            trackSeed = newSeed;
+            RandomBlockGenerator generator = new RandomBlockGenerator(new StatefulRandom(newSeed));
+            generator.setDifficulty(difficulty);
+            model.setBlockGenerator(generator);
+            model.setItemRandomSeed(newSeed);
+        }
+
+        synchronized void reset() {
+            events.reset();
+            checkpoints.clear();
+            eventCount = 0;
+            started = false;
+            over = false;
+        }
+
+        synchronized ReplayTrack toReplayTrack() {
+            return new ReplayTrack(playerId, trackSeed, eventCount, Math.max(0L, lastEventMs - startedAtMillis),
+                    events.toByteArray(), checkpoints);
+        }
+
+        @Override
+        public void onGameStarted(GameMode startedMode) {
+            onTrackStarted(this, startedMode, clock.getAsLong());
+        }
+
+        @Override
+        public void onInput(InputType type) {
+            int code = ReplayEvents.inputCode(type);
+            if (code >= 0) {
+                begin(code, true);
+            }
+        }
+
+        @Override
+        public void onStep(int inputMask) {
+            synchronized (this) {
+                if (begin(ReplayEvents.STEP, true)) {
+                    VarInts.writeVarInt(events, inputMask);
+                }
+            }
+        }
+
+        @Override
+        public void onGravityTick() {
+            begin(ReplayEvents.GRAVITY, true);
+        }
+
+        @Override
+        public void onLineClearCommit() {
+            begin(ReplayEvents.LINE_CLEAR, true);
+        }
+
+        @Override
+        public void onPauseChanged(boolean paused) {
+            begin(paused ? ReplayEvents.PAUSE : ReplayEvents.RESUME, true);
+        }
+
+        @Override
+        public void onGameOver() {
+            if (started) {
+                onTrackOver(this);
+            }
+        }
+
+        @Override
+        public void onGarbage(AttackQueueView lines, boolean beforeSpawn) {
+            synchronized (this) {
+                // 스폰 직전 훅 안에서 온 것은 다른 이벤트 처리 중간이므로 체크포인트를 잡지 않는다.
+                if (!begin(ReplayEvents.GARBAGE, !beforeSpawn)) {
+                    return;
+                }
+                VarInts.writeVarInt(events, (lines.size() << 1) | (beforeSpawn ? 1 : 0));
+                for (int i = 0; i < lines.size(); i++) {
+                    VarInts.writeVarLong(events, lines.holeMask(i) & ((1L << lines.width(i)) - 1));
+                }
+            }
+        }
+
+        /**
+         * 이벤트 머리를 쓰고, 주기가 되면 이 이벤트 적용 직전 상태를 체크포인트로 남긴다.
+         * @return 기록했으면 true (게임 시작 전이면 false)
+         */
+        private synchronized boolean begin(int code, boolean topLevel) {
+            if (!started) {
+                return false;
+            }
+            long now = Math.max(lastEventMs, clock.getAsLong());
+            latched = now;
+            if (topLevel && eventCount > 0 && eventCount % checkpointInterval == 0) {
+                checkpoints.add(ReplayCheckpoint.capture(model, eventCount, events.size(), now - startedAtMillis));
+            }
+            VarInts.writeVarLong(events, ((now - lastEventMs) << ReplayEvents.CODE_BITS) | code);
+            lastEventMs = now;
+            eventCount++;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package tetris.replay;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Objects;
+
+import tetris.concurrent.WriteBehindExecutor;
+import tetris.domain.GameModel;
+
+/**
+ * 리플레이 파일 저장 위치와 실행 인자 처리.
+ * <p>
+ * - 기록: {@code --record-replays=디렉터리} (또는 -Dtetris.replay.dir). 판이 끝날 때마다
+ *   {@code replay-<시작시각>-<모드>.trp} 로 저장한다. 쓰기는 공용 write-behind 작성기에서 한다.<br>
+ * - 재생: {@code --replay=파일} 은 창 없이 끝까지 재시뮬레이션하고 플레이어별 결과와 체크포인트 검증 결과를 출력한다.
+ * </p>
+ */
+public final class ReplayStore {
+
+    public static final String DIR_ARG_PREFIX = "--record-replays=";
+    public static final String DIR_PROPERTY = "tetris.replay.dir";
+    public static final String PLAY_ARG_PREFIX = "--replay=";
+    public static final String FILE_SUFFIX = ".trp";
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    private final Path directory;
+    private final WriteBehindExecutor writer;
+
+    public ReplayStore(Path directory) {
+        this(directory, WriteBehindExecutor.shared());
+    }
+
+    public ReplayStore(Path directory, WriteBehindExecutor writer) {
+        this.directory = Objects.requireNonNull(directory, "directory");
+        this.writer = Objects.requireNonNull(writer, "writer");
+    }
+
+    /** 실행 인자 또는 시스템 속성에 기록 경로가 있으면 반환하고, 없으면 null. */
+    public static Path resolveDirectory(String[] args) {
+        String value = argValue(args, DIR_ARG_PREFIX);
+        if (value == null) {
+            value = System.getProperty(DIR_PROPERTY);
+        }
+        return value == null || value.isBlank() ? null : Path.of(value.trim());
+    }
+
+    public static boolean isPlaybackRequested(String[] args) {
+        return argValue(args, PLAY_ARG_PREFIX) != null;
+    }
+
+    /** App 진입점에서 호출한다. --replay 파일을 끝까지 재생하고 결과를 출력한다. */
+    public static void playBack(String[] args) throws IOException {
+        Path file = Path.of(argValue(args, PLAY_ARG_PREFIX).trim());
+        Replay replay = Replay.read(file);
+        PrintStream console = System.out;
+        ReplayPlayer player;
+        long startedAt = System.nanoTime();
+        // GameModel은 이벤트마다 로그를 찍으므로 재생 동안 표준 출력을 버린다.
+        System.setOut(new PrintStream(PrintStream.nullOutputStream()));
+        try {
+            player = new ReplayPlayer(replay);
+            player.playToEnd();
+        } finally {
+            System.setOut(console);
+        }
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000L;
+        console.printf(Locale.ROOT, "[Replay] %s mode=%s difficulty=%s length=%.1fs simulated in %dms%n",
+                file, replay.mode(), replay.difficulty(), replay.durationMs() / 1000.0, elapsedMs);
+        for (ReplayTrack track : replay.tracks()) {
+            GameModel model = player.model(track.playerId());
+            console.printf(Locale.ROOT, "[Replay] player %d: events=%d points=%d lines=%d state=%s%n",
+                    track.playerId(), track.eventCount(), model.getScore().getPoints(),
+                    model.getScore().getClearedLines(), model.getCurrentState());
+        }
+        console.printf(Locale.ROOT, "[Replay] checkpoints verified=%d desyncs=%d%n",
+                player.verifiedCheckpoints(), player.desyncs().size());
+    }
+
+    /** 리플레이를 작성기 스레드에서 파일로 쓴다. */
+    public void save(Replay replay) {
+        Path file = directory.resolve(fileName(replay));
+        writer.submit(file, () -> {
+            try {
+                Files.createDirectories(directory);
+                replay.write(file);
+                System.out.println("[Replay] saved " + file);
+            } catch (IOException e) {
+                System.err.println("[Replay] Failed to save " + file + ": " + e.getMessage());
+            }
+        });
+    }
+
+    static String fileName(Replay replay) {
+        LocalDateTime started = LocalDateTime.ofInstant(Instant.ofEpochMilli(replay.startedAtMillis()),
+                ZoneId.systemDefault());
+        return "replay-" + FILE_TIME.format(started) + "-" + replay.mode().name().toLowerCase(Locale.ROOT)
+                + FILE_SUFFIX;
+    }
+
+    private static String argValue(String[] args, String prefix) {
+        String value = null;
+        if (args != null) {
+            for (String arg : args) {
+                if (arg != null && arg.startsWith(prefix)) {
+                    value = arg.substring(prefix.length());
+                }
+            }
+        }
+        return value;
+    }
+}
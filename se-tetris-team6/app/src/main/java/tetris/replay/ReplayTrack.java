@@ -0,0 +1,33 @@
+package tetris.replay;
+
+import java.util.List;
+
+/**
+ * 플레이어 한 명의 기록. 블록/아이템 난수 시드와 인코딩된 이벤트열, 주기적 체크포인트를 담는다.
+ * 멀티 대전에서 받은 쓰레기 줄도 이 플레이어의 이벤트로 들어 있어 상대 트랙 없이 재생할 수 있다.
+ */
+public record ReplayTrack(int playerId, long seed, int eventCount, long durationMs, byte[] events,
+        List<ReplayCheckpoint> checkpoints) {
+
+    public ReplayTrack {
+        checkpoints = List.copyOf(checkpoints);
+    }
+
+    /** timeMs 이전(포함)의 마지막 체크포인트. 없으면 null. */
+    public ReplayCheckpoint checkpointAtOrBefore(long timeMs) {
+        ReplayCheckpoint found = null;
+        int lo = 0;
+        int hi = checkpoints.size() - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            ReplayCheckpoint checkpoint = checkpoints.get(mid);
+            if (checkpoint.timeMs() <= timeMs) {
+                found = checkpoint;
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return found;
+    }
+}
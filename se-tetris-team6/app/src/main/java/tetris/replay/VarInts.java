@@ -0,0 +1,79 @@
+package tetris.replay;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * LEB128 방식 가변 길이 정수 인코딩. 7비트씩 끊어 쓰고 최상위 비트로 다음 바이트가 있는지 표시한다.
+ * 음수가 나올 수 있는 값은 zigzag로 바꿔 작은 절댓값이 짧게 인코딩되게 한다.
+ */
+final class VarInts {
+
+    private VarInts() {
+        // util class
+    }
+
+    static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    static void writeVarInt(ByteArrayOutputStream out, int value) {
+        writeVarLong(out, value & 0xFFFFFFFFL);
+    }
+
+    static void writeSignedVarLong(ByteArrayOutputStream out, long value) {
+        writeVarLong(out, (value << 1) ^ (value >> 63));
+    }
+
+    static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    /** @throws IllegalArgumentException 10바이트를 넘거나 버퍼가 중간에 끝나면 */
+    static long readVarLong(ByteBuffer in) {
+        long result = 0;
+        try {
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = in.get();
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated varint at " + in.position());
+        }
+        throw new IllegalArgumentException("Malformed varint at " + in.position());
+    }
+
+    static int readVarInt(ByteBuffer in) {
+        long value = readVarLong(in);
+        if ((value >>> 32) != 0) {
+            throw new IllegalArgumentException("Varint out of int range at " + in.position());
+        }
+        return (int) value;
+    }
+
+    static long readSignedVarLong(ByteBuffer in) {
+        long raw = readVarLong(in);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    static String readString(ByteBuffer in) {
+        int length = readVarInt(in);
+        if (length < 0 || length > in.remaining()) {
+            throw new IllegalArgumentException("Bad string length " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
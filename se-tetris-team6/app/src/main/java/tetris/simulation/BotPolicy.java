@@ -0,0 +1,17 @@
+package tetris.simulation;
+
+import tetris.domain.GameModel;
+
+/**
+ * 셀프 플레이에서 블록 하나를 어디에 놓을지 정하는 전략.
+ * <p>
+ * 호출 시점에 모델은 PLAYING 상태이고 활성 블록이 있다. 구현은 GameModel의 입력 메서드
+ * (이동/회전/하드 드롭)만 사용해 블록을 고정해야 한다. 게임마다 새 인스턴스를 만들어 쓰므로
+ * 스레드 안전할 필요는 없다.
+ * </p>
+ */
+@FunctionalInterface
+public interface BotPolicy {
+
+    void playPiece(GameModel model);
+}
@@ -0,0 +1,50 @@
+package tetris.simulation;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.function.Consumer;
+
+/**
+ * 판별 통계를 끝나는 대로 CSV 한 줄씩 흘려 쓴다. 열 순서는 {@link #HEADER} 와 같다.
+ * 여러 fork-join 워커가 동시에 호출하므로 한 줄 쓰기 단위로 동기화한다. (판 하나에 비해 비용이 무시할 만큼 작다)
+ */
+public final class CsvResultWriter implements Consumer<GameResult>, Closeable {
+
+    public static final String HEADER = "game,seed,score,lines,pieces,sim_ms,items,topped_out,wall_us";
+
+    private final Writer out;
+    private final StringBuilder line = new StringBuilder(96);
+
+    public CsvResultWriter(Writer out) throws IOException {
+        this.out = out instanceof BufferedWriter ? out : new BufferedWriter(out);
+        this.out.write(HEADER);
+        this.out.write('\n');
+    }
+
+    @Override
+    public synchronized void accept(GameResult r) {
+        line.setLength(0);
+        line.append(r.gameIndex()).append(',')
+            .append(r.seed()).append(',')
+            .append(r.score()).append(',')
+            .append(r.lines()).append(',')
+            .append(r.pieces()).append(',')
+            .append(r.simulatedMs()).append(',')
+            .append(r.itemsSpawned()).append(',')
+            .append(r.toppedOut() ? 1 : 0).append(',')
+            .append(r.wallNanos() / 1_000L).append('\n');
+        try {
+            out.append(line);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        out.close();
+    }
+}
@@ -0,0 +1,25 @@
+package tetris.simulation;
+
+/**
+ * 셀프 플레이 한 판의 통계.
+ *
+ * @param gameIndex   배치 안에서의 순번 (0부터)
+ * @param seed        블록/아이템 난수 시드. 같은 시드와 정책이면 같은 판이 재현된다.
+ * @param score       최종 점수
+ * @param lines       지운 줄 수
+ * @param pieces      놓은 블록 수
+ * @param simulatedMs 게임 시계 기준 진행 시간
+ * @param itemsSpawned 아이템 블록이 나온 횟수 (아이템 모드)
+ * @param toppedOut   블록이 쌓여 끝났으면 true, 블록 수 상한으로 끝났으면 false
+ * @param wallNanos   이 판을 돌리는 데 걸린 실제 시간
+ */
+public record GameResult(int gameIndex,
+                         long seed,
+                         int score,
+                         int lines,
+                         int pieces,
+                         long simulatedMs,
+                         int itemsSpawned,
+                         boolean toppedOut,
+                         long wallNanos) {
+}
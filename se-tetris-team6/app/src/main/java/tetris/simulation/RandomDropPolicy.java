@@ -0,0 +1,38 @@
+package tetris.simulation;
+
+import java.util.Objects;
+import java.util.Random;
+
+import tetris.domain.Board;
+import tetris.domain.GameModel;
+
+/** 무작위 회전/가로 위치로 바로 하드 드롭하는 기준선 정책. */
+public final class RandomDropPolicy implements BotPolicy {
+
+    private final Random random;
+
+    public RandomDropPolicy(long seed) {
+        this(new Random(seed));
+    }
+
+    public RandomDropPolicy(Random random) {
+        this.random = Objects.requireNonNull(random, "random");
+    }
+
+    @Override
+    public void playPiece(GameModel model) {
+        int rotations = random.nextInt(4);
+        for (int i = 0; i < rotations; i++) {
+            model.rotateBlockClockwise();
+        }
+        int shift = random.nextInt(Board.W) - Board.W / 2;
+        for (int i = 0; i < Math.abs(shift); i++) {
+            if (shift < 0) {
+                model.moveBlockLeft();
+            } else {
+                model.moveBlockRight();
+            }
+        }
+        model.hardDropBlock();
+    }
+}
@@ -0,0 +1,44 @@
+package tetris.simulation;
+
+import java.util.Objects;
+
+import tetris.ai.BoardEvaluator;
+import tetris.ai.Placement;
+import tetris.ai.PlacementSearch;
+import tetris.domain.GameModel;
+import tetris.domain.model.Block;
+import tetris.multiplayer.controller.PlayerInputs;
+import tetris.network.protocol.InputType;
+
+/** CPU 플레이어와 같은 착지 탐색으로 블록을 놓는 정책. 탐색 결과의 입력을 한 번에 적용한다. */
+public final class SearchBotPolicy implements BotPolicy {
+
+    private final PlacementSearch search;
+
+    public SearchBotPolicy() {
+        // 게임 단위 병렬화는 러너가 이미 하므로 블록 안 탐색은 호출 스레드에서 시간 제한 없이 돈다.
+        // (제한이 있으면 기기 부하에 따라 결과가 달라져 시드 재현성이 깨진다)
+        this(new PlacementSearch(new BoardEvaluator(), null, 0, true));
+    }
+
+    public SearchBotPolicy(PlacementSearch search) {
+        this.search = Objects.requireNonNull(search, "search");
+    }
+
+    @Override
+    public void playPiece(GameModel model) {
+        Block active = model.getActiveBlock();
+        if (active == null) {
+            return;
+        }
+        Placement best = search.findBest(model.getBoard().gridView(), active.getShape(), active.getKind(),
+                active.getX(), active.getY(), model.getNextBlockKind());
+        if (best == null) {
+            model.hardDropBlock();
+            return;
+        }
+        for (InputType input : best.inputs()) {
+            PlayerInputs.apply(model, input);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package tetris.simulation;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+import tetris.domain.GameDifficulty;
+import tetris.domain.GameMode;
+import tetris.domain.model.GameClock;
+
+/**
+ * 셀프 플레이 배치 실행 진입점. 실행 예:
+ * {@code --simulate=10000 --sim-mode=ITEM --sim-item-interval=5 --sim-out=item5.csv}
+ * <p>
+ * 인자: --simulate=판수, --sim-seed, --sim-mode(NORMAL|ITEM|TIME_LIMIT), --sim-difficulty(EASY|NORMAL|HARD),
+ * --sim-item-interval, --sim-max-pieces, --sim-piece-ms, --sim-threads, --sim-policy(random|search), --sim-out(CSV 경로),
+ * --sim-verbose(게임 로그 출력 유지).
+ * </p>
+ * GameModel은 입력/스폰마다 로그를 찍으므로, 기본적으로 배치 동안 표준 출력을 버린다.
+ * (여러 워커가 동기화된 System.out에서 경합해 처리량이 크게 떨어진다)
+ */
+public final class SelfPlay {
+
+    public static final String SIMULATE_ARG_PREFIX = "--simulate=";
+    public static final String DEFAULT_OUTPUT = "selfplay.csv";
+
+    private SelfPlay() {
+        // util class
+    }
+
+    public static boolean isRequested(String[] args) {
+        return options(args).containsKey("simulate");
+    }
+
+    /** App 진입점에서 호출한다. 배치를 끝까지 돌리고 요약을 출력한다. */
+    public static void run(String[] args) throws IOException {
+        Map<String, String> opts = options(args);
+        SelfPlayConfig config = parseConfig(opts);
+        LongFunction<BotPolicy> policy = policyNamed(opts.getOrDefault("sim-policy", "random"));
+        Path output = Path.of(opts.getOrDefault("sim-out", DEFAULT_OUTPUT));
+        boolean verbose = opts.containsKey("sim-verbose");
+
+        GameClock.setDefaultExternallyDriven(true);
+        PrintStream console = System.out;
+        SelfPlaySummary summary = new SelfPlaySummary();
+        long startedAt;
+        long wallNanos;
+        try (CsvResultWriter csv = new CsvResultWriter(Files.newBufferedWriter(output, StandardCharsets.UTF_8))) {
+            Consumer<GameResult> sink = csv.andThen(summary);
+            console.printf(Locale.ROOT, "[SelfPlay] %d games, mode=%s, difficulty=%s, workers=%d -> %s%n",
+                    config.games(), config.mode(), config.difficulty(), config.parallelism(), output);
+            if (!verbose) {
+                System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+            }
+            startedAt = System.nanoTime();
+            try {
+                new SelfPlayRunner(config, policy).run(sink);
+            } finally {
+                wallNanos = System.nanoTime() - startedAt;
+                System.setOut(console);
+            }
+        }
+        for (String line : summary.format(wallNanos, config.parallelism())) {
+            console.println("[SelfPlay] " + line);
+        }
+    }
+
+    static SelfPlayConfig parseConfig(Map<String, String> opts) {
+        int games = parseInt(opts.get("simulate"), 0);
+        return new SelfPlayConfig(
+                Math.max(0, games),
+                parseLong(opts.get("sim-seed"), 0L),
+                parseMode(opts.get("sim-mode")),
+                parseDifficulty(opts.get("sim-difficulty")),
+                parseInt(opts.get("sim-item-interval"), 0),
+                Math.max(1, parseInt(opts.get("sim-max-pieces"), SelfPlayConfig.DEFAULT_MAX_PIECES)),
+                Math.max(0L, parseLong(opts.get("sim-piece-ms"), SelfPlayConfig.DEFAULT_PIECE_INTERVAL_MS)),
+                parseInt(opts.get("sim-threads"), 0));
+    }
+
+    /** 이름으로 정책 팩토리를 고른다. 모르는 이름이면 무작위 정책. */
+    static LongFunction<BotPolicy> policyNamed(String name) {
+        String key = name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+        switch (key) {
+            case "search":
+                return seed -> new SearchBotPolicy();
+            case "random":
+            default:
+                return RandomDropPolicy::new;
+        }
+    }
+
+    /** "--key=value" / "--flag" 인자를 맵으로. 같은 키는 마지막 값이 이긴다. */
+    static Map<String, String> options(String[] args) {
+        Map<String, String> opts = new HashMap<>();
+        if (args == null) {
+            return opts;
+        }
+        for (String arg : args) {
+            if (arg == null || !arg.startsWith("--")) {
+                continue;
+            }
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                opts.put(arg.substring(2), "");
+            } else {
+                opts.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return opts;
+    }
+
+    private static GameMode parseMode(String value) {
+        if (value == null) {
+            return GameMode.STANDARD;
+        }
+        return switch (value.trim().toUpperCase(Locale.ROOT)) {
+            case "ITEM" -> GameMode.ITEM;
+            case "TIME_LIMIT" -> GameMode.TIME_LIMIT;
+            default -> GameMode.STANDARD;
+        };
+    }
+
+    private static GameDifficulty parseDifficulty(String value) {
+        if (value == null) {
+            return GameDifficulty.NORMAL;
+        }
+        try {
+            return GameDifficulty.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            System.err.println("[SelfPlay] Unknown difficulty: " + value + ", using NORMAL");
+            return GameDifficulty.NORMAL;
+        }
+    }
+
+    private static int parseInt(String value, int fallback) {
+        if (value == null || value.isBlank()) {
+            return fallback;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("[SelfPlay] Invalid number: " + value);
+            return fallback;
+        }
+    }
+
+    private static long parseLong(String value, long fallback) {
+        if (value == null || value.isBlank()) {
+            return fallback;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("[SelfPlay] Invalid number: " + value);
+            return fallback;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package tetris.simulation;
+
+import tetris.domain.GameDifficulty;
+import tetris.domain.GameMode;
+
+/**
+ * 셀프 플레이 배치 설정.
+ *
+ * @param games                 돌릴 판 수
+ * @param baseSeed              판별 시드를 만드는 기준 시드
+ * @param mode                  게임 모드 (STANDARD / ITEM / TIME_LIMIT)
+ * @param difficulty            블록 생성기 난이도
+ * @param itemSpawnIntervalLines 아이템 블록 간격(줄). 0 이하면 GameModel 기본값을 쓴다.
+ * @param maxPiecesPerGame      한 판의 블록 수 상한 (강한 정책이 끝나지 않는 것을 막는다)
+ * @param pieceIntervalMs       블록 하나를 놓을 때마다 게임 시계를 진행할 시간
+ * @param parallelism           fork-join 워커 수
+ */
+public record SelfPlayConfig(int games,
+                             long baseSeed,
+                             GameMode mode,
+                             GameDifficulty difficulty,
+                             int itemSpawnIntervalLines,
+                             int maxPiecesPerGame,
+                             long pieceIntervalMs,
+                             int parallelism) {
+
+    public static final int DEFAULT_MAX_PIECES = 10_000;
+    public static final long DEFAULT_PIECE_INTERVAL_MS = 250L;
+
+    public SelfPlayConfig {
+        if (games < 0) {
+            throw new IllegalArgumentException("games must be >= 0: " + games);
+        }
+        if (maxPiecesPerGame <= 0) {
+            throw new IllegalArgumentException("maxPiecesPerGame must be > 0: " + maxPiecesPerGame);
+        }
+        if (pieceIntervalMs < 0) {
+            throw new IllegalArgumentException("pieceIntervalMs must be >= 0: " + pieceIntervalMs);
+        }
+        mode = mode == null ? GameMode.STANDARD : mode;
+        difficulty = difficulty == null ? GameDifficulty.NORMAL : difficulty;
+        parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    public static SelfPlayConfig defaults(int games, long baseSeed) {
+        return new SelfPlayConfig(games, baseSeed, GameMode.STANDARD, GameDifficulty.NORMAL, 0,
+                DEFAULT_MAX_PIECES, DEFAULT_PIECE_INTERVAL_MS, 0);
+    }
+
+    /**
+     * i번째 판의 시드. 기준 시드와 순번을 섞어 판끼리 상관이 없게 하면서도,
+     * 어떤 스레드가 몇 번째로 돌리든 같은 판은 항상 같은 시드를 받는다.
+     */
+    public long seedFor(int gameIndex) {
+        long z = baseSeed + (gameIndex + 1L) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,123 @@
+package tetris.simulation;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+import tetris.domain.GameModel;
+import tetris.domain.RandomBlockGenerator;
+import tetris.domain.StatefulRandom;
+import tetris.domain.model.GameState;
+import tetris.domain.score.Score;
+import tetris.infrastructure.GameModelFactory;
+
+/**
+ * 헤드리스 GameModel 여러 판을 fork-join 풀에서 병렬로 돌린다.
+ * <p>
+ * - 판마다 GameModel, 블록 생성기, 정책을 새로 만들어 한 워커 스레드에 가둔다. 판끼리 공유하는 상태가 없다.<br>
+ * - 게임 시계는 외부 구동 모드로 두고 블록마다 {@link SelfPlayConfig#pieceIntervalMs()} 만큼 진행한다.
+ *   Swing 타이머를 쓰지 않으므로 실제 시간을 기다리지 않는다.<br>
+ * - 끝난 판의 통계는 즉시 sink로 넘긴다. sink는 여러 워커에서 동시에 호출되므로 스레드 안전해야 한다.
+ * </p>
+ */
+public final class SelfPlayRunner {
+
+    /** 줄 삭제 연출 대기를 넘길 때 한 번에 진행하는 시간. */
+    private static final long LINE_CLEAR_STEP_MS = 50L;
+    /** 줄 삭제 대기가 이 횟수 안에 끝나지 않으면 모델이 멈춘 것으로 보고 판을 끝낸다. */
+    private static final int MAX_IDLE_STEPS = 100;
+
+    private final SelfPlayConfig config;
+    private final LongFunction<BotPolicy> policyFactory;
+
+    public SelfPlayRunner(SelfPlayConfig config, LongFunction<BotPolicy> policyFactory) {
+        this.config = Objects.requireNonNull(config, "config");
+        this.policyFactory = Objects.requireNonNull(policyFactory, "policyFactory");
+    }
+
+    /** 모든 판을 돌리고 끝날 때까지 기다린다. */
+    public void run(Consumer<GameResult> sink) {
+        Objects.requireNonNull(sink, "sink");
+        if (config.games() == 0) {
+            return;
+        }
+        ForkJoinPool pool = new ForkJoinPool(config.parallelism());
+        try {
+            pool.invoke(new GameRange(0, config.games(), sink));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /** i번째 판 하나를 호출 스레드에서 돌린다. */
+    public GameResult playOne(int gameIndex) {
+        long seed = config.seedFor(gameIndex);
+        long startedAt = System.nanoTime();
+
+        RandomBlockGenerator generator = new RandomBlockGenerator(new StatefulRandom(seed));
+        generator.setDifficulty(config.difficulty());
+        GameModel model = GameModelFactory.createHeadless(generator);
+        model.setExternalClockDrive(true);
+        model.setItemRandomSeed(seed);
+        if (config.itemSpawnIntervalLines() > 0) {
+            model.setItemSpawnIntervalLines(config.itemSpawnIntervalLines());
+        }
+        BotPolicy policy = policyFactory.apply(seed);
+        model.startGame(config.mode());
+
+        int pieces = 0;
+        int items = 0;
+        int idleSteps = 0;
+        long simulatedMs = 0;
+        while (model.getCurrentState() == GameState.PLAYING && pieces < config.maxPiecesPerGame()) {
+            if (model.getActiveBlock() == null) {
+                // 줄 삭제 연출 대기 중: 시계를 넘겨 삭제를 확정하고 다음 블록을 스폰시킨다.
+                if (++idleSteps > MAX_IDLE_STEPS) {
+                    break;
+                }
+                model.advanceClock(LINE_CLEAR_STEP_MS);
+                simulatedMs += LINE_CLEAR_STEP_MS;
+                continue;
+            }
+            idleSteps = 0;
+            if (model.getActiveItemInfo() != null) {
+                items++;
+            }
+            policy.playPiece(model);
+            pieces++;
+            if (config.pieceIntervalMs() > 0 && model.getCurrentState() == GameState.PLAYING) {
+                model.advanceClock(config.pieceIntervalMs());
+                simulatedMs += config.pieceIntervalMs();
+            }
+        }
+        boolean toppedOut = model.getCurrentState() == GameState.GAME_OVER;
+        Score score = model.getScore();
+        return new GameResult(gameIndex, seed, score.getPoints(), score.getClearedLines(), pieces,
+                simulatedMs, items, toppedOut, System.nanoTime() - startedAt);
+    }
+
+    /** [from, to) 구간을 반으로 나눠 가며 판 하나 단위까지 쪼갠다. */
+    private final class GameRange extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final Consumer<GameResult> sink;
+
+        GameRange(int from, int to, Consumer<GameResult> sink) {
+            this.from = from;
+            this.to = to;
+            this.sink = sink;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                sink.accept(playOne(from));
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new GameRange(from, mid, sink), new GameRange(mid, to, sink));
+        }
+    }
+}
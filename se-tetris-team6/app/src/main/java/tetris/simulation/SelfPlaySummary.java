@@ -0,0 +1,99 @@
+package tetris.simulation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * 배치가 끝난 뒤 판별 통계의 분포(평균/백분위)를 요약한다.
+ * 판 수만큼만 모으므로(판당 레코드 하나) 메모리는 문제가 되지 않는다.
+ */
+public final class SelfPlaySummary implements Consumer<GameResult> {
+
+    /** 한 지표의 분포 요약. */
+    public record Distribution(int count, double mean, long min, long p50, long p90, long p99, long max) {
+
+        static Distribution of(long[] values) {
+            if (values.length == 0) {
+                return new Distribution(0, 0, 0, 0, 0, 0, 0);
+            }
+            long[] sorted = values.clone();
+            Arrays.sort(sorted);
+            double sum = 0;
+            for (long v : sorted) {
+                sum += v;
+            }
+            return new Distribution(sorted.length, sum / sorted.length, sorted[0],
+                    percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                    sorted[sorted.length - 1]);
+        }
+
+        /** nearest-rank 백분위. */
+        private static long percentile(long[] sorted, double q) {
+            int rank = (int) Math.ceil(q * sorted.length);
+            return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+        }
+    }
+
+    private final List<GameResult> results = new ArrayList<>();
+
+    @Override
+    public synchronized void accept(GameResult result) {
+        results.add(result);
+    }
+
+    public synchronized int gameCount() {
+        return results.size();
+    }
+
+    public synchronized long totalPieces() {
+        long total = 0;
+        for (GameResult r : results) {
+            total += r.pieces();
+        }
+        return total;
+    }
+
+    public synchronized int toppedOutCount() {
+        int n = 0;
+        for (GameResult r : results) {
+            if (r.toppedOut()) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    public synchronized Distribution distribution(ToLongFunction<GameResult> metric) {
+        long[] values = new long[results.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = metric.applyAsLong(results.get(i));
+        }
+        return Distribution.of(values);
+    }
+
+    /** 사람이 읽는 요약. wallNanos는 배치 전체 실제 시간, parallelism은 워커 수. */
+    public List<String> format(long wallNanos, int parallelism) {
+        List<String> out = new ArrayList<>();
+        double seconds = Math.max(1e-9, wallNanos / 1e9);
+        long pieces = totalPieces();
+        out.add(String.format(Locale.ROOT, "games %d (topped out %d)  wall %.2fs  workers %d",
+                gameCount(), toppedOutCount(), seconds, parallelism));
+        out.add(String.format(Locale.ROOT, "pieces %d  %.0f pieces/s  %.0f pieces/s/worker",
+                pieces, pieces / seconds, pieces / seconds / Math.max(1, parallelism)));
+        out.add(line("score", distribution(GameResult::score)));
+        out.add(line("lines", distribution(GameResult::lines)));
+        out.add(line("pieces", distribution(GameResult::pieces)));
+        out.add(line("sim_ms", distribution(GameResult::simulatedMs)));
+        out.add(line("items", distribution(GameResult::itemsSpawned)));
+        return out;
+    }
+
+    private static String line(String name, Distribution d) {
+        return String.format(Locale.ROOT, "%-7s mean %10.1f  min %8d  p50 %8d  p90 %8d  p99 %8d  max %8d",
+                name, d.mean(), d.min(), d.p50(), d.p90(), d.p99(), d.max());
+    }
+}
@@ -0,0 +1,64 @@
+package tetris.view;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.swing.SwingUtilities;
+
+import tetris.metrics.LatencyHistogram;
+import tetris.metrics.PerfRecorders;
+
+/**
+ * 백그라운드 스레드에서 주기적으로 빈 작업을 EDT에 올려, 실행되기까지의 대기 시간을 기록한다.
+ * 성능 오버레이가 켜져 있는 동안에만 동작한다.
+ */
+final class EdtLatencyProbe {
+
+    private static final long PROBE_INTERVAL_MS = 100;
+
+    private final LatencyHistogram histogram;
+    // 직전 프로브가 아직 실행되지 않았으면 새로 올리지 않아 EDT 큐를 더 밀지 않는다.
+    private final AtomicBoolean probeInFlight = new AtomicBoolean();
+    private ScheduledExecutorService executor;
+
+    EdtLatencyProbe() {
+        this(PerfRecorders.EDT_QUEUE_LATENCY);
+    }
+
+    EdtLatencyProbe(LatencyHistogram histogram) {
+        this.histogram = histogram;
+    }
+
+    synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "EdtLatencyProbe");
+            t.setDaemon(true);
+            return t;
+        });
+        executor.scheduleAtFixedRate(this::probe, 0, PROBE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+        probeInFlight.set(false);
+    }
+
+    void probe() {
+        if (!probeInFlight.compareAndSet(false, true)) {
+            return;
+        }
+        long postedAt = System.nanoTime();
+        SwingUtilities.invokeLater(() -> {
+            histogram.recordNanos(System.nanoTime() - postedAt);
+            probeInFlight.set(false);
+        });
+    }
+}
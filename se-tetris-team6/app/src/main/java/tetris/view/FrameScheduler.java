@@ -0,0 +1,154 @@
+package tetris.view;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntConsumer;
+
+import javax.swing.Timer;
+
+/**
+ * 화면 갱신 요청을 디스플레이 프레임 단위로 모아 주는 스케줄러.
+ * - 도메인(UiBridge)은 갱신 원인 비트 마스크와 함께 대상을 dirty로 표시만 한다.
+ * - 한 프레임 안에 들어온 요청은 대상별로 하나의 repaint로 합쳐져 EDT에서 실행된다.
+ * - 합쳐진(생략된) 요청 수를 세어 갱신 비용 절감 효과를 확인할 수 있다.
+ */
+public final class FrameScheduler {
+
+    /** 약 60Hz 디스플레이 프레임 간격. */
+    public static final int DEFAULT_FRAME_INTERVAL_MS = 16;
+
+    /**
+     * 스케줄러에 등록된 갱신 대상(레이아웃 하나).
+     * 여러 스레드에서 markDirty를 호출해도 원인 마스크만 누적된다.
+     */
+    public final class Target {
+        private final String name;
+        private final IntConsumer repaintAction;
+        private final AtomicInteger dirtyMask = new AtomicInteger();
+
+        private Target(String name, IntConsumer repaintAction) {
+            this.name = name;
+            this.repaintAction = repaintAction;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        /** 다음 프레임에 이 대상을 다시 그리도록 표시한다. */
+        public void markDirty(int reasons) {
+            if (reasons == 0) {
+                return;
+            }
+            requested.increment();
+            int previous = dirtyMask.getAndUpdate(mask -> mask | reasons);
+            if (previous != 0) {
+                // 이미 이번 프레임에 repaint가 예약되어 있으므로 원인만 합친다.
+                coalesced.increment();
+                return;
+            }
+            scheduleFrame();
+        }
+
+        public boolean isDirty() {
+            return dirtyMask.get() != 0;
+        }
+
+        private void flush() {
+            int reasons = dirtyMask.getAndSet(0);
+            if (reasons == 0) {
+                return;
+            }
+            repaints.increment();
+            try {
+                repaintAction.accept(reasons);
+            } catch (Exception ex) {
+                System.err.println("[FrameScheduler] repaint failed for " + name + ": " + ex);
+            }
+        }
+    }
+
+    private final List<Target> targets = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean frameScheduled = new AtomicBoolean();
+    private final LongAdder requested = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder repaints = new LongAdder();
+    private final LongAdder frames = new LongAdder();
+    private final Timer frameTimer;
+
+    public FrameScheduler() {
+        this(DEFAULT_FRAME_INTERVAL_MS);
+    }
+
+    public FrameScheduler(int frameIntervalMs) {
+        if (frameIntervalMs <= 0) {
+            throw new IllegalArgumentException("frameIntervalMs must be positive");
+        }
+        frameTimer = new Timer(frameIntervalMs, e -> runFrame());
+        frameTimer.setRepeats(false);
+        frameTimer.setCoalesce(true);
+    }
+
+    /**
+     * 갱신 대상을 등록한다. repaintAction은 EDT에서 해당 프레임에 누적된 원인 마스크와 함께 호출된다.
+     */
+    public Target register(String name, IntConsumer repaintAction) {
+        Target target = new Target(Objects.requireNonNull(name, "name"),
+                Objects.requireNonNull(repaintAction, "repaintAction"));
+        targets.add(target);
+        return target;
+    }
+
+    public void unregister(Target target) {
+        if (target != null) {
+            targets.remove(target);
+        }
+    }
+
+    private void scheduleFrame() {
+        if (frameScheduled.compareAndSet(false, true)) {
+            frameTimer.restart();
+        }
+    }
+
+    /**
+     * 대기 중인 repaint를 즉시 실행한다. 반드시 EDT에서 호출해야 한다.
+     */
+    public void runFrame() {
+        // 플래그를 먼저 내려야 flush 도중 들어온 요청이 다음 프레임을 예약할 수 있다.
+        frameScheduled.set(false);
+        frames.increment();
+        for (Target target : targets) {
+            target.flush();
+        }
+    }
+
+    public void stop() {
+        frameTimer.stop();
+        frameScheduled.set(false);
+    }
+
+    /** 누적된 갱신 요청 수. */
+    public long getRequestedCount() {
+        return requested.sum();
+    }
+
+    /** 이미 예약된 repaint에 합쳐져 생략된 요청 수. */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /** 실제로 실행된 repaint 수. */
+    public long getRepaintCount() {
+        return repaints.sum();
+    }
+
+    /** 실행된 프레임 수. */
+    public long getFrameCount() {
+        return frames.sum();
+    }
+}
@@ -14,6 +14,7 @@ import javax.swing.BorderFactory;
 import javax.swing.JPanel;
 
 import tetris.domain.GameModel;
+import tetris.multiplayer.model.AttackQueueView;
 
 /**
  * AttackQueuePanel
@@ -39,7 +40,7 @@ public class AttackQueuePanel extends JPanel {
     private int[][] grid = new int[BOARD_ROWS][BOARD_COLS];
 
     private IntSupplier pendingLinesSupplier;
-    private java.util.function.Supplier<java.util.List<tetris.multiplayer.model.AttackLine>> attackLinesSupplier;
+    private java.util.function.Supplier<AttackQueueView> attackQueueSupplier;
 
     public AttackQueuePanel() {
         setBackground(BACKGROUND_COLOR);
@@ -58,7 +59,7 @@ public class AttackQueuePanel extends JPanel {
      */
     public void bindPendingLinesSupplier(IntSupplier supplier) {
         this.pendingLinesSupplier = supplier;
-        this.attackLinesSupplier = null;
+        this.attackQueueSupplier = null;
         repaint();
     }
 
@@ -66,7 +67,14 @@ public class AttackQueuePanel extends JPanel {
      * 로컬 멀티 UI에서 공격 대기 줄의 실제 패턴을 공급할 때 사용한다.
      */
     public void bindAttackLinesSupplier(java.util.function.Supplier<java.util.List<tetris.multiplayer.model.AttackLine>> supplier) {
-        this.attackLinesSupplier = supplier;
+        bindAttackQueueSupplier(supplier == null ? null : () -> AttackQueueView.of(supplier.get()));
+    }
+
+    /**
+     * 공격 대기 줄을 복사 없이 읽는 보기를 공급할 때 사용한다. (그릴 때마다 목록을 만들지 않음)
+     */
+    public void bindAttackQueueSupplier(java.util.function.Supplier<AttackQueueView> supplier) {
+        this.attackQueueSupplier = supplier;
         this.pendingLinesSupplier = null;
         repaint();
     }
@@ -149,19 +157,20 @@ public class AttackQueuePanel extends JPanel {
         g2.fillRect(originX, originY, boardWidthPx, boardHeightPx);
 
         int pendingLines = pendingLinesSupplier == null ? -1 : Math.max(0, pendingLinesSupplier.getAsInt());
-        java.util.List<tetris.multiplayer.model.AttackLine> attackLines = attackLinesSupplier == null ? null : attackLinesSupplier.get();
+        AttackQueueView attackLines = attackQueueSupplier == null ? null : attackQueueSupplier.get();
+        int attackCount = attackLines == null ? 0 : Math.min(BOARD_ROWS, attackLines.size());
 
         // 블록 그리기
         for (int r = 0; r < BOARD_ROWS; r++) {
             for (int c = 0; c < BOARD_COLS; c++) {
                 int v;
-                if (attackLines != null && !attackLines.isEmpty()) {
-                    // AttackLine 패턴을 사용하여 정확히 표시 (아래에서부터)
+                if (attackCount > 0) {
+                    // 공격 줄 구멍 마스크를 사용하여 정확히 표시 (아래에서부터)
                     int fromBottom = BOARD_ROWS - 1 - r;
-                    if (fromBottom < attackLines.size()) {
-                        tetris.multiplayer.model.AttackLine line = attackLines.get(fromBottom);
+                    if (fromBottom < attackCount) {
                         // 구멍이면 빈칸, 아니면 채워진 블록
-                        v = (c < line.width() && line.isHole(c)) ? 0 : 1;
+                        boolean hole = c < attackLines.width(fromBottom) && ((attackLines.holeMask(fromBottom) >>> c) & 1) != 0;
+                        v = hole ? 0 : 1;
                     } else {
                         v = 0; // 대기 중인 줄보다 위쪽은 비워둔다
                     }
@@ -186,7 +195,7 @@ public class AttackQueuePanel extends JPanel {
         // 상단 라벨
         g2.setFont(new Font("SansSerif", Font.BOLD, Math.max(10, cellSize / 2)));
         g2.setColor(Color.WHITE);
-        int count = attackLines != null ? attackLines.size() : (pendingLines >= 0 ? pendingLines : 0);
+        int count = attackLines != null ? attackCount : (pendingLines >= 0 ? pendingLines : 0);
         String label = count > 0 ? "Incoming (" + count + ")" : "Incoming";
         int tw = g2.getFontMetrics().stringWidth(label);
         g2.drawString(label, Math.max(4, (getWidth() - tw) / 2), Math.max(12, originY - 6));
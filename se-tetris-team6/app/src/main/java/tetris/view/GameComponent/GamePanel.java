@@ -107,8 +107,11 @@ public class GamePanel extends JPanel {
 
         ActiveItemInfo itemInfo = gameModel.getActiveItemInfo();
         boolean highlightItem = itemInfo != null && (itemInfo.block() == null || itemInfo.block() == active);
-        int blockMinPx = originX + active.getX() * cellSize;
-        int blockMinPy = originY + active.getY() * cellSize;
+        // 보간 중인 원격 블록은 칸 사이 위치에 그린다. (로컬 패널은 항상 0)
+        int shiftPx = (int) Math.round(activeBlockOffsetX(active) * cellSize);
+        int shiftPy = (int) Math.round(activeBlockOffsetY(active) * cellSize);
+        int blockMinPx = originX + active.getX() * cellSize + shiftPx;
+        int blockMinPy = originY + active.getY() * cellSize + shiftPy;
         int blockWidthPx = cellSize * shape.width();
         int blockHeightPx = cellSize * shape.height();
 
@@ -120,8 +123,8 @@ public class GamePanel extends JPanel {
                 int boardY = active.getY() + sy;
                 if (boardX < 0 || boardX >= BOARD_COLS || boardY < 0 || boardY >= BOARD_ROWS)
                     continue;
-                int px = originX + boardX * cellSize;
-                int py = originY + boardY * cellSize;
+                int px = originX + boardX * cellSize + shiftPx;
+                int py = originY + boardY * cellSize + shiftPy;
                 
                 // 먼저 기본 블록 색상으로 칸 채우기
                 g2.fillRect(px, py, cellSize, cellSize);
@@ -201,6 +204,15 @@ public class GamePanel extends JPanel {
         }
     }
 
+    /** 활성 블록을 모델 위치에서 몇 칸(실수) 옮겨 그릴지. 기본은 0. */
+    protected double activeBlockOffsetX(Block active) {
+        return 0.0;
+    }
+
+    protected double activeBlockOffsetY(Block active) {
+        return 0.0;
+    }
+
     private void highlightLines(Graphics2D g2, int cellSize, int originX, int originY) {
         if (gameModel == null)
             return;
@@ -134,9 +134,9 @@ public class NetworkMultiGameLayout extends JPanel {
 
         System.out.println("[NetworkMultiGameLayout] Determined localPlayerId=" + localPlayerId + ", leftId=" + leftPlayerId + ", rightId=" + rightPlayerId);
 
-        // 3. 왼쪽/오른쪽 모델 결정
-        GameModel leftModel = (leftPlayerId == 1) ? session.playerOneModel() : session.playerTwoModel();
-        GameModel rightModel = (rightPlayerId == 1) ? session.playerOneModel() : session.playerTwoModel();
+        // 3. 왼쪽/오른쪽 모델 결정 (호스트는 시뮬레이션 스레드가 발행한 스냅샷만 적용되는 거울 모델을 그린다)
+        GameModel leftModel = session.displayModelOf(leftPlayerId);
+        GameModel rightModel = session.displayModelOf(rightPlayerId);
 
         // 4. 패널 교체: 왼쪽 패널은 로컬, 오른쪽 패널은 원격으로 설정
         if (leftPlayerId == localPlayerId) {
@@ -150,6 +150,11 @@ public class NetworkMultiGameLayout extends JPanel {
 
         // 5. 모델 바인딩 (leftModel -> gamePanel_1, rightModel -> gamePanel_2)
         bindPlayerModels(leftModel, rightModel);
+        // 원격 패널은 지터 버퍼가 보간한 블록 위치로 그린다.
+        GamePanel remotePanel = leftPlayerId == localPlayerId ? gamePanel_2 : gamePanel_1;
+        if (remotePanel instanceof RemotePlayerPanel remote && session.networkController() != null) {
+            remote.bindPiecePose(session.networkController()::remotePiecePose);
+        }
 
         // 6. 공격 대기열 바인딩
         // 서버와 클라이언트 모두 handler를 통해 공격 대기열 가져오기
@@ -159,11 +164,11 @@ public class NetworkMultiGameLayout extends JPanel {
         final int rp = rightPlayerId;
         
         // 서버/클라이언트 모두 동일한 방식으로 바인딩
-        attackQueuePanel_1.bindAttackLinesSupplier(() -> session.handler().getPendingAttackLines(lp));
-        attackQueuePanel_2.bindAttackLinesSupplier(() -> session.handler().getPendingAttackLines(rp));
+        attackQueuePanel_1.bindAttackQueueSupplier(() -> session.handler().getPendingAttackView(lp));
+        attackQueuePanel_2.bindAttackQueueSupplier(() -> session.handler().getPendingAttackView(rp));
 
         System.out.println("[NetworkMultiGameLayout] Session binding complete, repainting");
-        String out = tetris.view.PvPGameRenderer.render(session.playerOneModel(), session.playerTwoModel(), true, true, "상태 메시지");
+        String out = tetris.view.PvPGameRenderer.render(session.displayModelOf(1), session.displayModelOf(2), true, true, "상태 메시지");
         System.out.println(out);
         repaint();
     }
@@ -3,16 +3,57 @@ package tetris.view.GameComponent;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics;
+import java.util.function.Supplier;
+
+import tetris.domain.model.Block;
+import tetris.network.client.SnapshotJitterBuffer.PiecePose;
 
 /**
  * Remote player panel: visual cue for the opponent's board.
+ * 지터 버퍼의 보간 위치가 바인딩되면 떨어지는 블록을 스냅샷 사이에서 부드럽게 옮겨 그린다.
  */
 public class RemotePlayerPanel extends GamePanel {
 
+    private static final double MAX_SHIFT_CELLS = 4.0;
+
+    private Supplier<PiecePose> poseSupplier;
+
     public RemotePlayerPanel() {
         super();
     }
 
+    /** null이면 보간 없이 모델 위치 그대로 그린다. */
+    public void bindPiecePose(Supplier<PiecePose> supplier) {
+        this.poseSupplier = supplier;
+    }
+
+    @Override
+    protected double activeBlockOffsetX(Block active) {
+        PiecePose pose = matchingPose(active);
+        return pose == null ? 0.0 : pose.x - active.getX();
+    }
+
+    @Override
+    protected double activeBlockOffsetY(Block active) {
+        PiecePose pose = matchingPose(active);
+        return pose == null ? 0.0 : pose.y - active.getY();
+    }
+
+    /** 보간 위치가 지금 모델의 블록(종류/회전/칸)에서 출발한 것일 때만 쓴다. */
+    private PiecePose matchingPose(Block active) {
+        PiecePose pose = poseSupplier != null ? poseSupplier.get() : null;
+        if (pose == null || !pose.valid || active.getShape() == null || active.getShape().kind() == null) {
+            return null;
+        }
+        double dx = pose.x - active.getX();
+        double dy = pose.y - active.getY();
+        if (pose.blockId != active.getShape().kind().ordinal() + 1 || pose.rotation != active.getRotation()
+                || Math.abs(dx) > MAX_SHIFT_CELLS || dy < 0 || dy > MAX_SHIFT_CELLS) {
+            return null;
+        }
+        return pose;
+    }
+
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
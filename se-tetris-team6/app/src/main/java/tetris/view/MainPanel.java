@@ -218,20 +218,24 @@ public class MainPanel extends JPanel {
             root.add(modeRow);
             root.add(Box.createVerticalStrut(10));
 
-            // 2) Scope selection (Local / Online)
+            // 2) Scope selection (Local / Online / CPU)
             JPanel scopeRow = new JPanel();
             scopeRow.setLayout(new BoxLayout(scopeRow, BoxLayout.X_AXIS));
             // align the scope row to the left within the vertical BoxLayout
             scopeRow.setAlignmentX(Component.LEFT_ALIGNMENT);
             JRadioButton scopeLocal = new JRadioButton("Local");
             JRadioButton scopeOnline = new JRadioButton("Online");
+            JRadioButton scopeCpu = new JRadioButton("CPU");
             ButtonGroup scopeGroup = new ButtonGroup();
             scopeGroup.add(scopeLocal);
             scopeGroup.add(scopeOnline);
+            scopeGroup.add(scopeCpu);
             scopeLocal.setSelected(true);
             scopeRow.add(scopeLocal);
             scopeRow.add(Box.createHorizontalStrut(8));
             scopeRow.add(scopeOnline);
+            scopeRow.add(Box.createHorizontalStrut(8));
+            scopeRow.add(scopeCpu);
             root.add(scopeRow);
             root.add(Box.createVerticalStrut(10));
 
@@ -272,6 +276,7 @@ public class MainPanel extends JPanel {
             // preserved.
             scopeOnline.addActionListener(ae -> roleRow.setVisible(true));
             scopeLocal.addActionListener(ae -> roleRow.setVisible(false));
+            scopeCpu.addActionListener(ae -> roleRow.setVisible(false));
 
             // Confirm button
             JPanel btnRow = new JPanel(new FlowLayout(FlowLayout.CENTER, 8, 0));
@@ -281,8 +286,12 @@ public class MainPanel extends JPanel {
                         : modeItem.isSelected() ? "ITEM" : "TIME_LIMIT";
                 boolean isOnline = scopeOnline.isSelected();
                 boolean isServer = roleServer.isSelected();
-                // Delegate to handler method (intentionally empty)
-                onMultiPlayConfirmed(mode, isOnline, isServer);
+                if (scopeCpu.isSelected()) {
+                    onCpuMultiPlayConfirmed(mode);
+                } else {
+                    // Delegate to handler method (intentionally empty)
+                    onMultiPlayConfirmed(mode, isOnline, isServer);
+                }
                 dlg.dispose();
             });
             btnRow.add(confirm);
@@ -434,6 +443,11 @@ public class MainPanel extends JPanel {
         // Override to handle continue action
     }
 
+    /** 로컬 대전에서 2P를 CPU가 맡는 경우. */
+    protected void onCpuMultiPlayConfirmed(String mode) {
+        // Override to handle continue action
+    }
+
     protected void onOnlineServerCancelled() {
         // Override to handle continue action
     }
@@ -0,0 +1,188 @@
+package tetris.view;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import javax.swing.JPanel;
+import javax.swing.Timer;
+
+import tetris.metrics.LatencyHistogram;
+import tetris.metrics.PerformanceSampler;
+
+/**
+ * 토글 가능한 성능 HUD 오버레이 (좌측 상단).
+ * - 렌더 FPS/프레임 시간, 시뮬레이션 틱 분포, EDT 대기 시간, GC/할당률, 네트워크 처리량을 표시한다.
+ * - 값은 hot path의 lock-free 기록기를 500ms마다 샘플링해 얻으며, 꺼져 있으면 샘플링도 하지 않는다.
+ * - 마우스 이벤트는 아래 화면으로 그대로 통과시킨다.
+ */
+public class PerformanceOverlay extends JPanel {
+
+    private static final int SAMPLE_INTERVAL_MS = 500;
+    /** 틱 분포 구간 상한 (µs). 마지막 구간은 그 이상 전부. */
+    private static final long[] TICK_BANDS_MICROS = { 100, 1_000, 4_000, 16_000 };
+    private static final String[] TICK_BAND_LABELS = { "<0.1", "<1", "<4", "<16", ">=16" };
+    private static final Color PANEL_COLOR = new Color(0, 0, 0, 170);
+    private static final Color TEXT_COLOR = new Color(160, 255, 160);
+    private static final Font TEXT_FONT = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+
+    private final PerformanceSampler sampler;
+    private final FrameScheduler frameScheduler;
+    private final EdtLatencyProbe edtProbe = new EdtLatencyProbe();
+    private final Timer sampleTimer;
+    private List<String> lines = Collections.emptyList();
+    private long lastRequested;
+    private long lastCoalesced;
+
+    public PerformanceOverlay(FrameScheduler frameScheduler) {
+        this(new PerformanceSampler(), frameScheduler);
+    }
+
+    PerformanceOverlay(PerformanceSampler sampler, FrameScheduler frameScheduler) {
+        this.sampler = sampler;
+        this.frameScheduler = frameScheduler;
+        setOpaque(false);
+        setVisible(false);
+        sampleTimer = new Timer(SAMPLE_INTERVAL_MS, e -> refresh());
+    }
+
+    /** 오버레이 표시 여부를 뒤집는다. 켜질 때 샘플링과 EDT 프로브를 시작한다. */
+    public void toggle() {
+        setActive(!isVisible());
+    }
+
+    public void setActive(boolean active) {
+        if (active) {
+            sampler.reset();
+            if (frameScheduler != null) {
+                lastRequested = frameScheduler.getRequestedCount();
+                lastCoalesced = frameScheduler.getCoalescedCount();
+            }
+            lines = List.of("collecting...");
+            edtProbe.start();
+            sampleTimer.start();
+        } else {
+            sampleTimer.stop();
+            edtProbe.stop();
+        }
+        setVisible(active);
+    }
+
+    void refresh() {
+        lines = formatReport(sampler.sample());
+        repaint();
+    }
+
+    List<String> formatReport(PerformanceSampler.Report report) {
+        List<String> out = new ArrayList<>();
+        LatencyHistogram.Snapshot frames = report.renderFrames();
+        out.add(String.format(Locale.ROOT, "FPS %5.1f  frame p50 %s p99 %s",
+                report.renderFps(), ms(frames.percentileMicros(0.50)), ms(frames.percentileMicros(0.99))));
+
+        LatencyHistogram.Snapshot ticks = report.simulationTicks();
+        out.add(String.format(Locale.ROOT, "tick n=%d p50 %s p99 %s max %s",
+                ticks.count(), ms(ticks.percentileMicros(0.50)), ms(ticks.percentileMicros(0.99)),
+                ms(ticks.maxMicros())));
+        out.add("tick ms " + tickBands(ticks));
+
+        LatencyHistogram.Snapshot edt = report.edtLatency();
+        out.add(String.format(Locale.ROOT, "EDT queue p50 %s p99 %s",
+                ms(edt.percentileMicros(0.50)), ms(edt.percentileMicros(0.99))));
+
+        String alloc = report.allocatedBytesPerSecond() < 0
+                ? "n/a"
+                : String.format(Locale.ROOT, "%.1f MB/s", report.allocatedBytesPerSecond() / (1024.0 * 1024.0));
+        out.add(String.format(Locale.ROOT, "GC %.1f ms/s  alloc %s", report.gcPauseMillisPerSecond(), alloc));
+
+        out.add(String.format(Locale.ROOT, "net out %.1f KB/s %.0f msg/s  in %.1f KB/s %.0f msg/s",
+                report.bytesSentPerSecond() / 1024.0, report.messagesSentPerSecond(),
+                report.bytesReceivedPerSecond() / 1024.0, report.messagesReceivedPerSecond()));
+        out.add(report.rttMicros() < 0
+                ? "rtt --"
+                : String.format(Locale.ROOT, "rtt %s jitter %s", ms(report.rttMicros()), ms(report.rttJitterMicros())));
+
+        if (frameScheduler != null) {
+            long requested = frameScheduler.getRequestedCount();
+            long coalesced = frameScheduler.getCoalescedCount();
+            out.add(String.format(Locale.ROOT, "repaint req %d coalesced %d",
+                    requested - lastRequested, coalesced - lastCoalesced));
+            lastRequested = requested;
+            lastCoalesced = coalesced;
+        }
+        return out;
+    }
+
+    private static String tickBands(LatencyHistogram.Snapshot ticks) {
+        long[] bands = new long[TICK_BAND_LABELS.length];
+        for (int i = 0; i < ticks.bucketCount(); i++) {
+            long count = ticks.bucketCountAt(i);
+            if (count == 0) {
+                continue;
+            }
+            long upper = ticks.bucketUpperBoundMicrosAt(i);
+            int band = TICK_BANDS_MICROS.length;
+            for (int b = 0; b < TICK_BANDS_MICROS.length; b++) {
+                if (upper < TICK_BANDS_MICROS[b]) {
+                    band = b;
+                    break;
+                }
+            }
+            bands[band] += count;
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < bands.length; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(TICK_BAND_LABELS[i]).append(':').append(bands[i]);
+        }
+        return sb.toString();
+    }
+
+    private static String ms(long micros) {
+        return String.format(Locale.ROOT, "%.2fms", micros / 1000.0);
+    }
+
+    List<String> getLines() {
+        return lines;
+    }
+
+    @Override
+    public boolean contains(int x, int y) {
+        // 클릭/호버가 아래 메뉴와 게임 화면에 전달되도록 히트 테스트에서 제외한다.
+        return false;
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        List<String> snapshot = lines;
+        if (snapshot.isEmpty()) {
+            return;
+        }
+        Graphics2D g2 = (Graphics2D) g.create();
+        g2.setFont(TEXT_FONT);
+        FontMetrics fm = g2.getFontMetrics();
+        int lineHeight = fm.getHeight();
+        int width = 0;
+        for (String line : snapshot) {
+            width = Math.max(width, fm.stringWidth(line));
+        }
+        int padding = 6;
+        g2.setColor(PANEL_COLOR);
+        g2.fillRect(8, 8, width + padding * 2, lineHeight * snapshot.size() + padding * 2);
+        g2.setColor(TEXT_COLOR);
+        int y = 8 + padding + fm.getAscent();
+        for (String line : snapshot) {
+            g2.drawString(line, 8 + padding, y);
+            y += lineHeight;
+        }
+        g2.dispose();
+    }
+}
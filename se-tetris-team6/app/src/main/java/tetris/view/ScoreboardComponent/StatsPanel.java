@@ -0,0 +1,94 @@
+package tetris.view.ScoreboardComponent;
+
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Font;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+
+import javax.swing.BorderFactory;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTextArea;
+
+import tetris.domain.stats.DayBucket;
+import tetris.domain.stats.MatchRecord;
+import tetris.domain.stats.MatchStats;
+
+/**
+ * 모드별 누적 통계(판 수, 평균/중앙값/상위 10% 점수, 분당 줄 수, 최고 기록, 최근 7일)를 보여 주는 패널.
+ */
+public class StatsPanel extends JPanel {
+
+	private static final int RECENT_DAYS = 7;
+
+	private final JTextArea text = new JTextArea();
+
+	public StatsPanel() {
+		super(new BorderLayout());
+		setOpaque(false);
+
+		JLabel label = new JLabel("STATISTICS", JLabel.CENTER);
+		label.setFont(new Font("SansSerif", Font.BOLD, 22));
+		label.setForeground(Color.WHITE);
+		label.setBorder(BorderFactory.createEmptyBorder(8, 8, 8, 8));
+		add(label, BorderLayout.NORTH);
+
+		text.setEditable(false);
+		text.setFocusable(false);
+		text.setOpaque(true);
+		text.setBackground(new Color(24, 24, 24));
+		text.setForeground(Color.WHITE);
+		text.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 15));
+		text.setBorder(BorderFactory.createEmptyBorder(8, 12, 8, 12));
+
+		JScrollPane scroll = new JScrollPane(text);
+		scroll.getViewport().setOpaque(false);
+		scroll.setOpaque(false);
+		scroll.setBorder(BorderFactory.createEmptyBorder());
+		add(scroll, BorderLayout.CENTER);
+	}
+
+	/** stats가 비어 있으면(보관소 없음) 안내 문구만 보여 준다. */
+	public void render(List<MatchStats> stats) {
+		if (stats == null || stats.isEmpty()) {
+			text.setText("Match history is not available.");
+			return;
+		}
+		StringBuilder sb = new StringBuilder();
+		LocalDate since = LocalDate.now().minusDays(RECENT_DAYS - 1);
+		for (MatchStats s : stats) {
+			sb.append(s.mode()).append('\n');
+			if (s.games() == 0) {
+				sb.append("  No games yet.\n\n");
+				continue;
+			}
+			sb.append(String.format(Locale.ROOT, "  games %d   avg %.0f   median %d   top10%% %d   best %d%n",
+					s.games(), s.averagePoints(), s.medianPoints(), s.p90Points(), s.bestPoints()));
+			sb.append(String.format(Locale.ROOT, "  lines %d   lines/min %.1f   play time %s%n",
+					s.totalLines(), s.linesPerMinute(), formatDuration(s.totalDurationMs())));
+			int recentGames = 0;
+			for (DayBucket day : s.days()) {
+				if (!day.day().isBefore(since)) {
+					recentGames += day.games();
+				}
+			}
+			sb.append(String.format(Locale.ROOT, "  last %d days: %d games%n", RECENT_DAYS, recentGames));
+			int rank = 1;
+			for (MatchRecord run : s.topRuns()) {
+				sb.append(String.format(Locale.ROOT, "  %d. %d pts  %d lines  %s%n",
+						rank++, run.points(), run.clearedLines(), formatDuration(run.durationMs())));
+			}
+			sb.append('\n');
+		}
+		text.setText(sb.toString());
+		text.setCaretPosition(0);
+	}
+
+	private static String formatDuration(long ms) {
+		long seconds = ms / 1000;
+		return String.format(Locale.ROOT, "%d:%02d", seconds / 60, seconds % 60);
+	}
+}
@@ -1,6 +1,7 @@
 package tetris.view;
 
 import java.awt.BorderLayout;
+import java.awt.CardLayout;
 import java.awt.Color;
 import java.awt.Component;
 import java.awt.Font;
@@ -24,8 +25,10 @@ import javax.swing.JList;
 import tetris.domain.GameMode;
 import tetris.domain.leaderboard.LeaderboardEntry;
 import tetris.domain.score.Score;
+import tetris.domain.stats.MatchStats;
 import tetris.view.ScoreboardComponent.StandardModePanel;
 import tetris.view.ScoreboardComponent.ItemModePanel;
+import tetris.view.ScoreboardComponent.StatsPanel;
 
 public class ScoreboardPanel extends JPanel implements ScoreView {
 
@@ -35,6 +38,12 @@ public class ScoreboardPanel extends JPanel implements ScoreView {
     private final JList<String> itemList = new JList<>(itemModel);
     private final JButton backButton = new JButton("Back to Menu");
     private final JButton resetButton = new JButton("Reset Scores");
+    private final JButton statsButton = new JButton("Stats");
+    private final CardLayout cards = new CardLayout();
+    private final JPanel body = new JPanel(cards);
+    private final StatsPanel statsPanel = new StatsPanel();
+    private ActionListener statsAction;
+    private boolean showingStats;
     private int standardHighlight = -1;
     private int itemHighlight = -1;
 
@@ -69,7 +78,22 @@ public class ScoreboardPanel extends JPanel implements ScoreView {
         gbc.insets = new Insets(12, 12, 12, 12);
         center.add(new ItemModePanel(itemList), gbc);
 
-        add(center, BorderLayout.CENTER);
+        // 가운데 영역은 리더보드와 통계 화면을 번갈아 보여 준다.
+        body.setOpaque(false);
+        body.add(center, "leaderboard");
+        JPanel statsWrapper = new JPanel(new BorderLayout());
+        statsWrapper.setOpaque(false);
+        statsWrapper.setBorder(BorderFactory.createEmptyBorder(12, 12, 12, 12));
+        statsWrapper.add(statsPanel, BorderLayout.CENTER);
+        body.add(statsWrapper, "stats");
+        add(body, BorderLayout.CENTER);
+        statsButton.addActionListener(e -> {
+            if (showingStats) {
+                showLeaderboard();
+            } else if (statsAction != null) {
+                statsAction.actionPerformed(e);
+            }
+        });
 
         // 커스텀 하이라이트 렌더러 및 선택 방지 설정
         installNoSelection(standardList);
@@ -121,6 +145,8 @@ public class ScoreboardPanel extends JPanel implements ScoreView {
         wrapper.add(left, BorderLayout.WEST);
         JPanel right = new JPanel(new java.awt.FlowLayout(java.awt.FlowLayout.RIGHT));
         right.setOpaque(false);
+        styleStatsButton(statsButton);
+        right.add(statsButton);
         styleResetButton(resetButton);
         right.add(resetButton);
         wrapper.add(right, BorderLayout.EAST);
@@ -154,6 +180,33 @@ public class ScoreboardPanel extends JPanel implements ScoreView {
         button.setBorder(BorderFactory.createEmptyBorder(8, 16, 8, 16));
     }
 
+    private void styleStatsButton(JButton button) {
+        button.setFont(new Font("SansSerif", Font.BOLD, 16));
+        button.setFocusPainted(false);
+        button.setBackground(new Color(0, 70, 120));
+        button.setForeground(Color.WHITE);
+        button.setBorder(BorderFactory.createEmptyBorder(8, 16, 8, 16));
+    }
+
+    /** 통계 버튼을 눌렀을 때 호출된다. 호출자는 통계를 모아 {@link #showStats(List)} 로 넘긴다. */
+    public void setStatsAction(ActionListener listener) {
+        this.statsAction = listener;
+    }
+
+    /** 가운데 영역을 모드별 통계로 바꾼다. 빈 목록이면 기록 보관소가 없다는 안내를 보여 준다. */
+    public void showStats(List<MatchStats> stats) {
+        statsPanel.render(stats);
+        showingStats = true;
+        statsButton.setText("Leaderboard");
+        cards.show(body, "stats");
+    }
+
+    public void showLeaderboard() {
+        showingStats = false;
+        statsButton.setText("Stats");
+        cards.show(body, "leaderboard");
+    }
+
     public void setBackAction(ActionListener listener) {
         for (ActionListener l : backButton.getActionListeners()) {
             backButton.removeActionListener(l);
@@ -179,6 +232,7 @@ public class ScoreboardPanel extends JPanel implements ScoreView {
 
     public void renderLeaderboard(GameMode mode, List<LeaderboardEntry> entries, int highlightIndex) {
         DefaultListModel<String> target = mode == GameMode.ITEM ? itemModel : standardModel;
+        showLeaderboard();
         target.clear();
         if (mode == GameMode.ITEM) {
             itemHighlight = highlightIndex;
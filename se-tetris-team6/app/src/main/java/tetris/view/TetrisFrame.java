@@ -81,9 +81,17 @@ public class TetrisFrame extends JFrame {
     private NetworkStatusOverlay networkStatusOverlay;
     // 네트워크 상태 업데이트 타이머
     private javax.swing.Timer networkUpdateTimer;
+    // refreshBoard 요청을 프레임 단위로 합쳐 레이아웃별 repaint를 한 번만 수행한다.
+    private final FrameScheduler frameScheduler = new FrameScheduler();
+    private FrameScheduler.Target mainRepaintTarget;
+    private FrameScheduler.Target localMultiRepaintTarget;
+    private FrameScheduler.Target onlineMultiRepaintTarget;
+    // F3으로 켜고 끄는 성능 HUD
+    private PerformanceOverlay performanceOverlay;
 
     public TetrisFrame(GameModel gameModel) {
         super(FRAME_TITLE);
+        TimedRepaintManager.install();
         this.gameModel = Objects.requireNonNull(gameModel, "gameModel");
         initializeControllers();
         initializeFrame();
@@ -99,6 +107,8 @@ public class TetrisFrame extends JFrame {
         setupSingleGameLayout();
         setupLocalMultiGameLayout();
         setupOnlineMultiGameLayout();
+        setupFrameScheduler();
+        setupPerformanceOverlay();
 
         gameModel.bindUiBridge(new GameModel.UiBridge() {
             @Override
@@ -113,15 +123,12 @@ public class TetrisFrame extends JFrame {
 
             @Override
             public void refreshBoard() {
-                SwingUtilities.invokeLater(() -> {
-                    ensureLocalSessionUiBridges();
-                    if (singleGameLayout != null)
-                        singleGameLayout.repaint();
-                    if (localMultiGameLayout != null)
-                        localMultiGameLayout.repaint();
-                    if (onlineMultiGameLayout != null)
-                        onlineMultiGameLayout.repaint();
-                });
+                mainRepaintTarget.markDirty(GameModel.UiBridge.DIRTY_ALL);
+            }
+
+            @Override
+            public void markDirty(int reasons) {
+                mainRepaintTarget.markDirty(reasons);
             }
 
             @Override
@@ -196,6 +203,55 @@ public class TetrisFrame extends JFrame {
         applyScreenSize(Setting.ScreenSize.MEDIUM);
     }
 
+    /**
+     * 레이아웃별 repaint 대상을 프레임 스케줄러에 등록한다.
+     * UiBridge 구현들은 직접 invokeLater(repaint)를 올리지 않고 이 대상들을 dirty로 표시한다.
+     */
+    private void setupFrameScheduler() {
+        mainRepaintTarget = frameScheduler.register("main", reasons -> {
+            ensureLocalSessionUiBridges();
+            if (singleGameLayout != null)
+                singleGameLayout.repaint();
+            if (localMultiGameLayout != null)
+                localMultiGameLayout.repaint();
+            if (onlineMultiGameLayout != null)
+                onlineMultiGameLayout.repaint();
+        });
+        localMultiRepaintTarget = frameScheduler.register("localMulti", reasons -> {
+            if (localMultiGameLayout != null)
+                localMultiGameLayout.repaint();
+        });
+        onlineMultiRepaintTarget = frameScheduler.register("onlineMulti", reasons -> {
+            if (onlineMultiGameLayout != null)
+                onlineMultiGameLayout.repaint();
+        });
+    }
+
+    public FrameScheduler getFrameScheduler() {
+        return frameScheduler;
+    }
+
+    private void setupPerformanceOverlay() {
+        performanceOverlay = new PerformanceOverlay(frameScheduler);
+        performanceOverlay.setBounds(0, 0, 800, 600); // changeResolution에서 프레임 크기로 맞춰진다
+        layeredPane.add(performanceOverlay, JLayeredPane.POPUP_LAYER);
+    }
+
+    public void togglePerformanceOverlay() {
+        if (performanceOverlay != null) {
+            performanceOverlay.toggle();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        if (performanceOverlay != null) {
+            performanceOverlay.setActive(false);
+        }
+        frameScheduler.stop();
+        super.dispose();
+    }
+
     private void setupGameOverPanel() {
         gameOverPanel = new GameOverPanel();
         layeredPane.add(gameOverPanel, JLayeredPane.PALETTE_LAYER);
@@ -347,6 +403,10 @@ public class TetrisFrame extends JFrame {
         System.out.println("[TetrisFrame] Game ended due to opponent disconnect. You win!");
     }
 
+    public GameController getGameController() {
+        return gameController;
+    }
+
     private void initializeControllers() {
         gameController = new GameController(gameModel);
         scoreController = null;
@@ -588,6 +648,14 @@ public class TetrisFrame extends JFrame {
                 displayPanel(localMultiGameLayout);
             }
 
+            @Override
+            protected void onCpuMultiPlayConfirmed(String mode) {
+                GameMode selectedMode = TetrisFrame.this.resolveMenuMode(mode);
+                gameController.startCpuMultiplayerGame(selectedMode);
+                TetrisFrame.this.bindMultiPanelToCurrentSession();
+                displayPanel(localMultiGameLayout);
+            }
+
             @Override
             protected void onOnlineServerCancelled() {
                 showMainPanel();
@@ -856,6 +924,57 @@ public class TetrisFrame extends JFrame {
         layeredPane.add(pausePanel, JLayeredPane.PALETTE_LAYER);
     }
 
+    /**
+     * 클라이언트(P2)의 PLAYER_INPUT을 상대 모델에 적용하고 즉시 스냅샷을 브로드캐스트한다.
+     * 호스트 시뮬레이션 스레드에서 실행된다.
+     */
+    private void applyHostRemoteInput(NetworkMultiplayerSession session, tetris.network.protocol.GameMessage message) {
+        tetris.domain.GameModel opponent = session.playerTwoModel();
+        Object payload = message.getPayload();
+        System.out.println("[Host][Listener] Received PLAYER_INPUT from sender=" + message.getSenderId() + ", seq=" + message.getSequenceNumber());
+        if (payload instanceof tetris.network.protocol.PlayerInput pi) {
+            // Log opponent active block before applying input
+            tetris.domain.model.Block before = opponent.getActiveBlock();
+            String beforeInfo = before == null ? "<no-active>" : (before.getKind().name() + "(id=" + (before.getKind().ordinal()+1) + ")@x=" + before.getX() + ",y=" + before.getY() + ",rot=" + before.getRotation());
+            System.out.println("[Host][Listener] Opponent BEFORE input -> " + beforeInfo + " | input=" + pi.inputType());
+
+            switch (pi.inputType()) {
+                case MOVE_LEFT -> opponent.moveBlockLeft();
+                case MOVE_RIGHT -> opponent.moveBlockRight();
+                case SOFT_DROP -> opponent.moveBlockDown();
+                case ROTATE -> opponent.rotateBlockClockwise();
+                case ROTATE_CCW -> opponent.rotateBlockCounterClockwise();
+                case HARD_DROP -> opponent.hardDropBlock();
+                case HOLD -> opponent.holdCurrentBlock();
+                default -> {}
+            }
+
+            // Log opponent active block after applying input
+            tetris.domain.model.Block after = opponent.getActiveBlock();
+            String afterInfo = after == null ? "<no-active>" : (after.getKind().name() + "(id=" + (after.getKind().ordinal()+1) + ")@x=" + after.getX() + ",y=" + after.getY() + ",rot=" + after.getRotation());
+            System.out.println("[Host][Listener] Opponent AFTER input  -> " + afterInfo);
+
+            // Repaint to show opponent's updated state
+            if (onlineMultiGameLayout != null) {
+                onlineMultiGameLayout.repaint();
+            }
+
+            // Immediately broadcast authoritative snapshots so client sees its own input reflected without waiting for next tick.
+            // 틱과 같은 발행 경로를 타야 호스트의 거울 모델(화면)에도 같은 스냅샷이 들어간다.
+            if (hostedServer != null && session != null) {
+                try {
+                    tetris.multiplayer.controller.NetworkMultiPlayerController controller = session.networkController();
+                    tetris.network.protocol.GameSnapshot s1 = controller.buildGameState(session.playerOneModel());
+                    tetris.network.protocol.GameSnapshot s2 = controller.buildGameState(session.playerTwoModel());
+                    controller.publishGameState(s1);
+                    controller.publishGameState(s2);
+                } catch (Exception ex) {
+                    System.err.println("[Host] Failed to broadcast snapshots after remote input: " + ex.getMessage());
+                }
+            }
+        }
+    }
+
     /**
      * Setup network listener for the host to receive client messages.
      */
@@ -884,60 +1003,20 @@ public class TetrisFrame extends JFrame {
                 tetris.domain.GameModel opponent = session.playerTwoModel();
                 switch (message.getType()) {
                     case PLAYER_INPUT:
-                        Object payload = message.getPayload();
-                        System.out.println("[Host][Listener] Received PLAYER_INPUT from sender=" + message.getSenderId() + ", seq=" + message.getSequenceNumber());
-                        if (payload instanceof tetris.network.protocol.PlayerInput pi) {
-                            // Log opponent active block before applying input
-                            tetris.domain.model.Block before = opponent.getActiveBlock();
-                            String beforeInfo = before == null ? "<no-active>" : (before.getKind().name() + "(id=" + (before.getKind().ordinal()+1) + ")@x=" + before.getX() + ",y=" + before.getY() + ",rot=" + before.getRotation());
-                            System.out.println("[Host][Listener] Opponent BEFORE input -> " + beforeInfo + " | input=" + pi.inputType());
-
-                            switch (pi.inputType()) {
-                                case MOVE_LEFT -> opponent.moveBlockLeft();
-                                case MOVE_RIGHT -> opponent.moveBlockRight();
-                                case SOFT_DROP -> opponent.moveBlockDown();
-                                case ROTATE -> opponent.rotateBlockClockwise();
-                                case ROTATE_CCW -> opponent.rotateBlockCounterClockwise();
-                                case HARD_DROP -> opponent.hardDropBlock();
-                                case HOLD -> opponent.holdCurrentBlock();
-                                default -> {}
-                            }
-
-                            // Log opponent active block after applying input
-                            tetris.domain.model.Block after = opponent.getActiveBlock();
-                            String afterInfo = after == null ? "<no-active>" : (after.getKind().name() + "(id=" + (after.getKind().ordinal()+1) + ")@x=" + after.getX() + ",y=" + after.getY() + ",rot=" + after.getRotation());
-                            System.out.println("[Host][Listener] Opponent AFTER input  -> " + afterInfo);
-
-                            // Repaint to show opponent's updated state
-                            if (onlineMultiGameLayout != null) {
-                                onlineMultiGameLayout.repaint();
-                            }
-
-                            // Immediately broadcast authoritative snapshots so client sees its own input reflected without waiting for next tick.
-                            if (hostedServer != null && session != null) {
-                                try {
-                                    tetris.domain.GameModel p1Model = session.playerOneModel();
-                                    tetris.domain.GameModel p2Model = session.playerTwoModel();
-                                    tetris.network.protocol.GameSnapshot s1 = p1Model.toSnapshot(1);
-                                    tetris.network.protocol.GameSnapshot s2 = p2Model.toSnapshot(2);
-                                    // System.out.println("[Host][Listener] Broadcasting snapshots -> p1(currentId=" + s1.currentBlockId() + ",nextId=" + s1.nextBlockId() + ") p2(currentId=" + s2.currentBlockId() + ",nextId=" + s2.nextBlockId() + ")");
-                                    hostedServer.broadcastDualSnapshots(s1, s2);
-                                } catch (Exception ex) {
-                                    System.err.println("[Host] Failed to broadcast snapshots after remote input: " + ex.getMessage());
-                                }
-                            }
-                        }
+                        // 상대 모델은 호스트 시뮬레이션 스레드가 소유하므로 입력 적용은 그 스레드의 다음 틱으로 넘긴다.
+                        gameController.runOnHostSimulation(() -> applyHostRemoteInput(session, message));
                         break;
                     case ATTACK_LINES:
                         Object pl = message.getPayload();
                         if (pl instanceof tetris.network.protocol.AttackLine[] networkLines) {
-                            // Apply network attack lines directly to opponent
-                            opponent.applyAttackLines(networkLines);
-                            
-                                    // Repaint to show attack lines
-                                    if (onlineMultiGameLayout != null) {
-                                        onlineMultiGameLayout.repaint();
-                                    }
+                            gameController.runOnHostSimulation(() -> {
+                                // Apply network attack lines directly to opponent
+                                opponent.applyAttackLines(networkLines);
+                                // Repaint to show attack lines
+                                if (onlineMultiGameLayout != null) {
+                                    onlineMultiGameLayout.repaint();
+                                }
+                            });
                         }
                         break;
                     case GAME_END:
@@ -1103,6 +1182,16 @@ public class TetrisFrame extends JFrame {
                 scoreboardPanel.renderLeaderboard(GameMode.ITEM, java.util.Collections.emptyList(), -1);
             }
         });
+        scoreboardPanel.setStatsAction(e -> {
+            tetris.domain.stats.MatchHistoryRepository history = gameModel.getMatchHistory();
+            java.util.List<tetris.domain.stats.MatchStats> stats = new java.util.ArrayList<>();
+            if (history != null) {
+                for (GameMode mode : GameMode.values()) {
+                    stats.add(history.stats(mode));
+                }
+            }
+            scoreboardPanel.showStats(stats);
+        });
     }
 
     public void displayPanel(JPanel panel) {
@@ -1333,6 +1422,26 @@ public class TetrisFrame extends JFrame {
             }
         });
 
+        // 성능 HUD 토글
+        im.put(KeyStroke.getKeyStroke(KeyEvent.VK_F3, 0), "togglePerformanceOverlay");
+        am.put("togglePerformanceOverlay", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                togglePerformanceOverlay();
+            }
+        });
+
+        // 온라인 대전 자동 조작(CPU) 토글
+        im.put(KeyStroke.getKeyStroke(KeyEvent.VK_F4, 0), "toggleNetworkAutopilot");
+        am.put("toggleNetworkAutopilot", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                if (currPanel != null && currPanel == onlineMultiGameLayout) {
+                    gameController.toggleNetworkAutopilot();
+                }
+            }
+        });
+
         // 방향키로 버튼 이동 및 엔터로 클릭
         im.put(KeyStroke.getKeyStroke(KeyEvent.VK_UP, 0), "moveUpButton");
         am.put("moveUpButton", new AbstractAction() {
@@ -1472,14 +1581,14 @@ public class TetrisFrame extends JFrame {
         boundOnlineSession = session;
         onlineP1UiBridge = createOnlineUiBridge();
         onlineP2UiBridge = createOnlineUiBridge();
-        try { session.playerOneModel().bindUiBridge(onlineP1UiBridge); } catch (Exception ignore) {}
-        try { session.playerTwoModel().bindUiBridge(onlineP2UiBridge); } catch (Exception ignore) {}
+        try { session.displayModelOf(1).bindUiBridge(onlineP1UiBridge); } catch (Exception ignore) {}
+        try { session.displayModelOf(2).bindUiBridge(onlineP2UiBridge); } catch (Exception ignore) {}
     }
 
     private void clearOnlineSessionUiBridges() {
         if (boundOnlineSession != null) {
-            try { boundOnlineSession.playerOneModel().clearUiBridge(); } catch (Exception ignore) {}
-            try { boundOnlineSession.playerTwoModel().clearUiBridge(); } catch (Exception ignore) {}
+            try { boundOnlineSession.displayModelOf(1).clearUiBridge(); } catch (Exception ignore) {}
+            try { boundOnlineSession.displayModelOf(2).clearUiBridge(); } catch (Exception ignore) {}
         }
         boundOnlineSession = null;
         onlineP1UiBridge = null;
@@ -1496,8 +1605,12 @@ public class TetrisFrame extends JFrame {
 
             @Override
             public void refreshBoard() {
-                if (onlineMultiGameLayout == null) return;
-                SwingUtilities.invokeLater(() -> onlineMultiGameLayout.repaint());
+                onlineMultiRepaintTarget.markDirty(GameModel.UiBridge.DIRTY_ALL);
+            }
+
+            @Override
+            public void markDirty(int reasons) {
+                onlineMultiRepaintTarget.markDirty(reasons);
             }
 
             @Override
@@ -1564,15 +1677,13 @@ public class TetrisFrame extends JFrame {
 
     /**
      * 로컬 멀티 전용 UiBridge 구현.
-     * - GameModel이 refreshBoard를 호출하면 Swing EDT에서 MultiGameLayout.repaint()만 수행한다.
+     * - GameModel이 refreshBoard/markDirty를 호출하면 다음 프레임에 MultiGameLayout.repaint()만 수행한다.
      * - 나머지 오버레이 관련 메서드는 싱글 주 GameModel이 이미 처리하므로 비워 둔다.
      */
     private GameModel.UiBridge createLocalUiBridge() {
         return new GameModel.UiBridge() {
-            private void requestMultiRepaint() {
-                if (localMultiGameLayout == null)
-                    return;
-                SwingUtilities.invokeLater(() -> localMultiGameLayout.repaint());
+            private void requestMultiRepaint(int reasons) {
+                localMultiRepaintTarget.markDirty(reasons);
             }
 
             @Override
@@ -1587,7 +1698,12 @@ public class TetrisFrame extends JFrame {
 
             @Override
             public void refreshBoard() {
-                requestMultiRepaint();
+                requestMultiRepaint(GameModel.UiBridge.DIRTY_ALL);
+            }
+
+            @Override
+            public void markDirty(int reasons) {
+                requestMultiRepaint(reasons);
             }
 
             @Override
@@ -0,0 +1,34 @@
+package tetris.view;
+
+import javax.swing.RepaintManager;
+
+import tetris.metrics.LatencyHistogram;
+import tetris.metrics.PerfRecorders;
+
+/**
+ * 실제 페인트 패스(dirty 영역 그리기) 한 번을 렌더 프레임 한 번으로 보고 소요 시간을 기록한다.
+ * 성능 오버레이의 FPS/프레임 시간은 이 기록을 바탕으로 계산된다.
+ */
+public final class TimedRepaintManager extends RepaintManager {
+
+    private final LatencyHistogram frameHistogram;
+
+    TimedRepaintManager(LatencyHistogram frameHistogram) {
+        this.frameHistogram = frameHistogram;
+    }
+
+    /** 현재 스레드 그룹의 RepaintManager를 타이밍 측정 버전으로 교체한다. (중복 설치 시 무시) */
+    public static void install() {
+        if (RepaintManager.currentManager(null) instanceof TimedRepaintManager) {
+            return;
+        }
+        RepaintManager.setCurrentManager(new TimedRepaintManager(PerfRecorders.RENDER_FRAME));
+    }
+
+    @Override
+    public void paintDirtyRegions() {
+        long startedAt = System.nanoTime();
+        super.paintDirtyRegions();
+        frameHistogram.recordNanos(System.nanoTime() - startedAt);
+    }
+}
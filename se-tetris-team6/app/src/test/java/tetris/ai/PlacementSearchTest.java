@@ -0,0 +1,129 @@
+/**
+ * 대상: tetris.ai.PlacementTable, PlacementSearch, CpuPlayer
+ *
+ * 목적:
+ * - 회전 테이블이 대칭 블록의 중복 회전을 걸러내고, 현재 모양의 회전 번호를 찾는지 확인한다.
+ * - 탐색이 줄을 완성하는 착지를 고르고, 병렬/순차 계산 결과가 같은지 검증한다.
+ * - CPU 플레이어가 하드 드롭으로 끝나는 입력열을 내보내고, 보드가 그대로면 다시 계획하지 않는지 확인한다.
+ */
+package tetris.ai;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import tetris.domain.Board;
+import tetris.domain.BlockKind;
+import tetris.domain.BlockShape;
+import tetris.domain.GameMode;
+import tetris.domain.GameModel;
+import tetris.domain.RandomBlockGenerator;
+import tetris.infrastructure.GameModelFactory;
+import tetris.network.protocol.InputType;
+
+class PlacementSearchTest {
+
+    private static final int SPAWN_X = Board.W / 2 - 1;
+
+    @Test
+    void distinctTurns_skipsSymmetricRotations() {
+        assertArrayEquals(new int[] { 0 }, PlacementTable.distinctTurns(BlockKind.O));
+        assertArrayEquals(new int[] { 0, 1 }, PlacementTable.distinctTurns(BlockKind.I));
+        assertEquals(4, PlacementTable.distinctTurns(BlockKind.T).length);
+    }
+
+    @Test
+    void turnsOf_findsRotationIndexOfShape() {
+        BlockShape i = BlockShape.of(BlockKind.I);
+        assertEquals(0, PlacementTable.turnsOf(BlockKind.I, i));
+        assertEquals(1, PlacementTable.turnsOf(BlockKind.I, i.rotatedCW()));
+        assertEquals(3, PlacementTable.turnsOf(BlockKind.T,
+                BlockShape.of(BlockKind.T).rotatedCW().rotatedCW().rotatedCW()));
+        assertEquals(-1, PlacementTable.turnsOf(BlockKind.T, i));
+    }
+
+    @Test
+    void findBest_completesLineWhenPossible() {
+        int[][] grid = new int[Board.H][Board.W];
+        for (int x = 4; x < Board.W; x++) {
+            grid[Board.H - 1][x] = 1;
+        }
+        PlacementSearch search = new PlacementSearch(new BoardEvaluator(), null, 0, false);
+
+        Placement best = search.findBest(grid, BlockShape.of(BlockKind.I), BlockKind.I, SPAWN_X, 0, null);
+
+        assertNotNull(best);
+        assertEquals(1, best.linesCleared());
+        assertEquals(0, best.x());
+        assertEquals(Board.H - 1, best.y());
+        List<InputType> inputs = best.inputs();
+        assertEquals(InputType.HARD_DROP, inputs.get(inputs.size() - 1));
+        assertEquals(SPAWN_X, inputs.stream().filter(t -> t == InputType.MOVE_LEFT).count());
+    }
+
+    @Test
+    void findBest_parallelMatchesSequential() {
+        Random random = new Random(7);
+        PlacementSearch sequential = new PlacementSearch(new BoardEvaluator(), null, 0, true);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            PlacementSearch parallel = new PlacementSearch(new BoardEvaluator(), pool, 0, true);
+            BlockKind[] kinds = { BlockKind.I, BlockKind.J, BlockKind.L, BlockKind.O, BlockKind.S, BlockKind.T, BlockKind.Z };
+            for (int round = 0; round < 20; round++) {
+                int[][] grid = randomGarbage(random);
+                BlockKind kind = kinds[random.nextInt(kinds.length)];
+                BlockKind next = kinds[random.nextInt(kinds.length)];
+
+                Placement a = sequential.findBest(grid, BlockShape.of(kind), kind, SPAWN_X, 0, next);
+                Placement b = parallel.findBest(grid, BlockShape.of(kind), kind, SPAWN_X, 0, next);
+
+                assertEquals(a, b, "round " + round);
+                assertTrue(a.lookahead());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void cpuPlayer_emitsPlanEndingInHardDropOnce() {
+        GameModel model = GameModelFactory.createHeadless(new RandomBlockGenerator(new Random(3)));
+        model.setExternalClockDrive(true);
+        model.startGame(GameMode.STANDARD);
+        List<InputType> sent = new ArrayList<>();
+        CpuPlayer cpu = new CpuPlayer(new PlacementSearch(new BoardEvaluator(), null, 0, true), 0, sent::add);
+
+        cpu.update(model, 16);
+
+        assertFalse(sent.isEmpty());
+        assertEquals(InputType.HARD_DROP, sent.get(sent.size() - 1));
+        int count = sent.size();
+        // 입력을 모델에 적용하지 않았으므로 보드가 그대로다 → 같은 블록에 대해 다시 보내지 않는다.
+        cpu.update(model, 16);
+        assertEquals(count, sent.size());
+        assertEquals(0, cpu.pendingInputs());
+    }
+
+    private static int[][] randomGarbage(Random random) {
+        int[][] grid = new int[Board.H][Board.W];
+        int rows = 2 + random.nextInt(6);
+        for (int y = Board.H - rows; y < Board.H; y++) {
+            int hole = random.nextInt(Board.W);
+            for (int x = 0; x < Board.W; x++) {
+                if (x != hole && random.nextInt(4) != 0) {
+                    grid[y][x] = 1;
+                }
+            }
+        }
+        return grid;
+    }
+}
@@ -0,0 +1,131 @@
+package tetris.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/*
+ * 테스트 대상: tetris.concurrent.PlayerTickBarrier
+ *
+ * 역할 요약:
+ * - 플레이어별 스텝을 병렬로 실행하고 배리어 이후 미뤄 둔 상호작용을 결정적 순서로 병합한다.
+ *
+ * 테스트 전략:
+ * - 전용 풀을 주입해 스텝이 실제로 다른 스레드에서 동시에 도는지 확인한다.
+ * - 래치로 P2가 먼저 끝나게 만들어도 병합 순서가 P1 → P2인지 검증한다.
+ * - 스텝 밖 호출은 미루지 않고, 스텝 예외는 병합 뒤에 전파되는지 확인한다.
+ */
+class PlayerTickBarrierTest {
+
+    private ExecutorService pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void stepsRunConcurrently_onCallerAndWorker() throws Exception {
+        PlayerTickBarrier barrier = new PlayerTickBarrier(2, pool);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+
+        barrier.tick(pid -> {
+            threads.add(Thread.currentThread().getName());
+            bothStarted.countDown();
+            try {
+                // 둘 다 진입해야만 통과: 순차 실행이면 타임아웃
+                assertTrue(bothStarted.await(2, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        assertEquals(2, threads.size());
+        assertTrue(threads.contains(Thread.currentThread().getName()), "player 1 runs on the caller thread");
+    }
+
+    @Test
+    void deferredActions_mergeInPlayerOrder_regardlessOfFinishOrder() {
+        PlayerTickBarrier barrier = new PlayerTickBarrier(2, pool);
+        CountDownLatch p2Done = new CountDownLatch(1);
+        List<String> merged = new ArrayList<>();
+
+        barrier.tick(pid -> {
+            if (pid == 1) {
+                try {
+                    p2Done.await(2, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                assertTrue(barrier.deferIfStepping(1, () -> merged.add("p1-a")));
+                assertTrue(barrier.deferIfStepping(1, () -> merged.add("p1-b")));
+            } else {
+                assertTrue(barrier.deferIfStepping(2, () -> merged.add("p2-a")));
+                p2Done.countDown();
+            }
+            assertTrue(merged.isEmpty(), "nothing merges before the barrier");
+        });
+
+        assertEquals(List.of("p1-a", "p1-b", "p2-a"), merged);
+        assertFalse(barrier.isStepping());
+    }
+
+    @Test
+    void outsideTick_doesNotDefer() {
+        PlayerTickBarrier barrier = new PlayerTickBarrier(2, pool);
+        assertFalse(barrier.deferIfStepping(1, () -> { }));
+    }
+
+    @Test
+    void stepFailure_isRethrownAfterMerge() {
+        PlayerTickBarrier barrier = new PlayerTickBarrier(2, pool);
+        IllegalStateException boom = new IllegalStateException("boom");
+        AtomicReference<String> merged = new AtomicReference<>();
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> barrier.tick(pid -> {
+            if (pid == 1) {
+                barrier.deferIfStepping(1, () -> merged.set("merged"));
+            } else {
+                throw boom;
+            }
+        }));
+
+        assertSame(boom, thrown);
+        assertEquals("merged", merged.get());
+    }
+
+    @Test
+    void withoutPool_runsSequentiallyOnCaller() {
+        PlayerTickBarrier barrier = new PlayerTickBarrier(3, null);
+        List<Integer> order = new ArrayList<>();
+        String caller = Thread.currentThread().getName();
+
+        barrier.tick(pid -> {
+            assertEquals(caller, Thread.currentThread().getName());
+            order.add(pid);
+        });
+
+        assertEquals(List.of(1, 2, 3), order);
+    }
+}
@@ -0,0 +1,128 @@
+package tetris.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/*
+ * 테스트 대상: tetris.concurrent.SimulationLoop
+ *
+ * 역할 요약:
+ * - 전용 스레드에서 고정 주기로 "명령 큐 비우기 → 틱"을 반복하는 호스트 시뮬레이션 루프.
+ *
+ * 테스트 전략:
+ * - runOnce()를 직접 호출해 명령이 틱보다 먼저, 넣은 순서대로 실행되는지 동기적으로 확인한다.
+ * - 실제로 start()하여 틱이 이름 붙은 전용 스레드에서 도는지, stop() 이후 명령을 거절하는지 검증한다.
+ * - 명령/틱 예외가 루프를 멈추지 않고 실패 수로만 남는지 확인한다.
+ * - 명령이 루프를 멈추면 같은 runOnce의 틱은 건너뛰는지 확인한다.
+ */
+class SimulationLoopTest {
+
+    private SimulationLoop loop;
+
+    @AfterEach
+    void tearDown() {
+        if (loop != null) {
+            loop.stop();
+        }
+    }
+
+    @Test
+    void runOnce_drainsCommandsInOrderBeforeTick() {
+        List<String> log = new CopyOnWriteArrayList<>();
+        loop = new SimulationLoop("SimTest", 1000, elapsed -> log.add("tick"));
+        loop.start();
+
+        loop.submit(() -> log.add("a"));
+        loop.submit(() -> log.add("b"));
+        loop.runOnce();
+
+        assertEquals(List.of("a", "b", "tick"), log);
+    }
+
+    @Test
+    void submit_rejectedWhenNotRunning() {
+        loop = new SimulationLoop("SimTest", 16, elapsed -> { });
+
+        assertFalse(loop.submit(() -> { }));
+        loop.start();
+        assertTrue(loop.submit(() -> { }));
+        loop.stop();
+        assertFalse(loop.isRunning());
+        assertFalse(loop.submit(() -> { }));
+    }
+
+    @Test
+    void start_runsTicksOnDedicatedThread() throws Exception {
+        CountDownLatch ticks = new CountDownLatch(3);
+        AtomicReference<String> threadName = new AtomicReference<>();
+        AtomicReference<Boolean> onSimThread = new AtomicReference<>();
+        loop = new SimulationLoop("HostSimulation-Test", 5, elapsed -> {
+            threadName.set(Thread.currentThread().getName());
+            onSimThread.set(loop.isSimulationThread());
+            ticks.countDown();
+        });
+        loop.start();
+
+        assertTrue(ticks.await(2, TimeUnit.SECONDS));
+        assertEquals("HostSimulation-Test", threadName.get());
+        assertTrue(onSimThread.get());
+        assertFalse(loop.isSimulationThread());
+    }
+
+    @Test
+    void failingCommandOrTick_doesNotStopLoop() {
+        AtomicInteger ticks = new AtomicInteger();
+        AtomicInteger commands = new AtomicInteger();
+        loop = new SimulationLoop("SimTest", 1000, elapsed -> {
+            if (ticks.incrementAndGet() == 1) {
+                throw new IllegalStateException("boom");
+            }
+        });
+        loop.start();
+        loop.submit(() -> { throw new IllegalStateException("bad command"); });
+        loop.submit(commands::incrementAndGet);
+
+        loop.runOnce();
+        loop.runOnce();
+
+        assertEquals(1, commands.get());
+        assertEquals(2, ticks.get());
+        assertEquals(2, loop.getFailureCount());
+    }
+
+    @Test
+    void commandStoppingTheLoop_skipsThatTick() {
+        AtomicInteger ticks = new AtomicInteger();
+        loop = new SimulationLoop("SimTest", 1000, elapsed -> ticks.incrementAndGet());
+        loop.start();
+        loop.submit(loop::stop);
+
+        loop.runOnce();
+
+        assertEquals(0, ticks.get());
+        assertEquals(0, loop.getFailureCount());
+    }
+
+    @Test
+    void elapsedIsClampedToMaxStep() throws Exception {
+        AtomicReference<Long> elapsed = new AtomicReference<>();
+        loop = new SimulationLoop("SimTest", 1000, elapsed::set);
+        loop.start();
+        Thread.sleep(SimulationLoop.MAX_STEP_MS + 50);
+
+        loop.runOnce();
+
+        assertEquals(SimulationLoop.MAX_STEP_MS, elapsed.get());
+    }
+}
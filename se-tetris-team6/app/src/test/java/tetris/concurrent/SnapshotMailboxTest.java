@@ -0,0 +1,114 @@
+package tetris.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import tetris.network.protocol.GameSnapshot;
+
+/*
+ * 테스트 대상: tetris.concurrent.SnapshotMailbox
+ *
+ * 역할 요약:
+ * - 네트워크 스레드가 받은 스냅샷을 플레이어별 최신 값 하나로 덮어쓰고, 예약된 적용 작업 하나가 최신 것만 적용한다.
+ *
+ * 테스트 전략:
+ * - 실행기를 큐로 바꿔, 적용 전에 여러 번 offer해도 작업은 하나만 예약되고 플레이어마다 마지막 스냅샷만 적용되는지 확인한다.
+ * - 적용 중에 도착한 스냅샷이 다음 작업으로 빠짐없이 넘어가는지, 범위 밖 번호는 버린 것으로 세는지 검증한다.
+ * - 여러 스레드가 동시에 offer해도 (적용 수 + 버린 수) 가 보낸 수와 같은지 확인한다.
+ */
+class SnapshotMailboxTest {
+
+    @Test
+    void offer_coalescesToLatestPerPlayerWithSingleTask() {
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        List<GameSnapshot> applied = new ArrayList<>();
+        SnapshotMailbox mailbox = new SnapshotMailbox(2, applied::add, tasks::add);
+
+        GameSnapshot latestOne = null;
+        for (int i = 0; i < 50; i++) {
+            latestOne = snapshot(1, i);
+            mailbox.offer(latestOne);
+            mailbox.offer(snapshot(2, i));
+        }
+        GameSnapshot latestTwo = snapshot(2, 99);
+        mailbox.offer(latestTwo);
+
+        assertEquals(1, tasks.size());
+        tasks.poll().run();
+        assertEquals(2, applied.size());
+        assertSame(latestOne, applied.get(0));
+        assertSame(latestTwo, applied.get(1));
+        assertEquals(49 + 50, mailbox.droppedCount());
+    }
+
+    @Test
+    void offerDuringApply_isAppliedByNextTask() {
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        List<Integer> scores = new ArrayList<>();
+        SnapshotMailbox[] box = new SnapshotMailbox[1];
+        box[0] = new SnapshotMailbox(2, s -> {
+            scores.add(s.score());
+            if (s.score() == 1) {
+                box[0].offer(snapshot(1, 2));
+            }
+        }, tasks::add);
+
+        box[0].offer(snapshot(1, 1));
+        tasks.poll().run();
+        assertEquals(1, tasks.size());
+        tasks.poll().run();
+        assertEquals(List.of(1, 2), scores);
+        assertTrue(tasks.isEmpty());
+        assertEquals(0, box[0].droppedCount());
+    }
+
+    @Test
+    void outOfRangePlayer_isDropped() {
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        SnapshotMailbox mailbox = new SnapshotMailbox(2, s -> { throw new AssertionError("applied"); }, tasks::add);
+        mailbox.offer(snapshot(3, 0));
+        mailbox.offer(null);
+        assertTrue(tasks.isEmpty());
+        assertEquals(1, mailbox.droppedCount());
+    }
+
+    @Test
+    void concurrentOffers_areAppliedOrCounted() throws Exception {
+        ExecutorService applyThread = Executors.newSingleThreadExecutor();
+        AtomicInteger applied = new AtomicInteger();
+        SnapshotMailbox mailbox = new SnapshotMailbox(2, s -> applied.incrementAndGet(), applyThread);
+        int perThread = 5_000;
+        CountDownLatch done = new CountDownLatch(2);
+        for (int p = 1; p <= 2; p++) {
+            int playerId = p;
+            Thread t = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    mailbox.offer(snapshot(playerId, i));
+                }
+                done.countDown();
+            });
+            t.start();
+        }
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        applyThread.shutdown();
+        assertTrue(applyThread.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(2L * perThread, applied.get() + mailbox.droppedCount());
+    }
+
+    private static GameSnapshot snapshot(int playerId, int score) {
+        return new GameSnapshot(playerId, null, 0, 0, score, 0, 0, -1, -1, 0, null, "STANDARD", null, -1, -1, null);
+    }
+}
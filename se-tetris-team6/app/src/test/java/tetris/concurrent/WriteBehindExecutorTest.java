@@ -0,0 +1,120 @@
+package tetris.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.prefs.Preferences;
+
+import org.junit.jupiter.api.Test;
+
+import tetris.data.leaderboard.PreferencesLeaderboardRepository;
+import tetris.domain.GameMode;
+import tetris.domain.leaderboard.LeaderboardEntry;
+
+/*
+ * 테스트 대상: tetris.concurrent.WriteBehindExecutor
+ *
+ * 역할 요약:
+ * - 저장소 쓰기를 단일 작성 스레드로 넘기고, 같은 키의 대기 중 쓰기를 마지막 것 하나로 합친다.
+ *
+ * 테스트 전략:
+ * - 작성 스레드를 래치로 붙잡아 둔 채 같은 키로 여러 번 제출해, 마지막 쓰기만 실행되는지 확인한다.
+ * - awaitFlush가 제출된 쓰기가 끝난 뒤에 반환되고, 실패한 쓰기가 뒤의 쓰기를 막지 않는지 검증한다.
+ * - Preferences 리더보드가 캐시로 즉시 응답하고, flush 후에는 새 인스턴스에서도 같은 내용이 보이는지 확인한다.
+ */
+class WriteBehindExecutorTest {
+
+    @Test
+    void submit_coalescesPendingWritesWithSameKey() throws Exception {
+        WriteBehindExecutor executor = new WriteBehindExecutor("WriteBehind-Test");
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        List<String> log = new CopyOnWriteArrayList<>();
+        executor.submit("block", () -> {
+            started.countDown();
+            awaitQuietly(blocker);
+        });
+        assertTrue(started.await(2, TimeUnit.SECONDS));
+
+        executor.submit("settings", () -> log.add("settings-1"));
+        executor.submit("leaderboard", () -> log.add("leaderboard"));
+        executor.submit("settings", () -> log.add("settings-2"));
+        executor.submit("settings", () -> log.add("settings-3"));
+        assertEquals(2, executor.pendingCount());
+        blocker.countDown();
+
+        assertTrue(executor.awaitFlush(2, TimeUnit.SECONDS));
+        assertEquals(List.of("leaderboard", "settings-3"), log);
+    }
+
+    @Test
+    void awaitFlush_waitsForWritesAndSurvivesFailures() {
+        WriteBehindExecutor executor = new WriteBehindExecutor("WriteBehind-Test");
+        AtomicReference<String> thread = new AtomicReference<>();
+        executor.submit("a", () -> { throw new IllegalStateException("disk full"); });
+        executor.submit("b", () -> {
+            sleepQuietly(50);
+            thread.set(Thread.currentThread().getName());
+        });
+
+        assertTrue(executor.awaitFlush(2, TimeUnit.SECONDS));
+        assertEquals("WriteBehind-Test", thread.get());
+        assertEquals(0, executor.pendingCount());
+    }
+
+    @Test
+    void awaitFlush_timesOutWhileWriterIsBusy() {
+        WriteBehindExecutor executor = new WriteBehindExecutor("WriteBehind-Test");
+        CountDownLatch blocker = new CountDownLatch(1);
+        executor.submit("slow", () -> awaitQuietly(blocker));
+
+        assertFalse(executor.awaitFlush(30, TimeUnit.MILLISECONDS));
+        blocker.countDown();
+        assertTrue(executor.awaitFlush(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void preferencesLeaderboard_servesFromCacheAndPersistsAfterFlush() throws Exception {
+        Preferences prefs = Preferences.userRoot().node("se-tetris-team6/test-write-behind/" + java.util.UUID.randomUUID());
+        WriteBehindExecutor executor = new WriteBehindExecutor("WriteBehind-Test");
+        try {
+            PreferencesLeaderboardRepository repo = new PreferencesLeaderboardRepository(prefs, 10, executor);
+            repo.saveEntry(new LeaderboardEntry("Alice", 100, GameMode.STANDARD));
+            repo.saveEntry(new LeaderboardEntry("Bob", 200, GameMode.STANDARD));
+            assertEquals("Bob", repo.loadTop(10, GameMode.STANDARD).get(0).getName());
+
+            assertTrue(executor.awaitFlush(2, TimeUnit.SECONDS));
+            PreferencesLeaderboardRepository reopened = new PreferencesLeaderboardRepository(prefs, 10, executor);
+            assertEquals(2, reopened.loadTop(10, GameMode.STANDARD).size());
+
+            reopened.reset();
+            assertTrue(reopened.loadTop(10, GameMode.STANDARD).isEmpty());
+            assertTrue(executor.awaitFlush(2, TimeUnit.SECONDS));
+            assertTrue(new PreferencesLeaderboardRepository(prefs, 10, executor).loadTop(10, GameMode.STANDARD).isEmpty());
+        } finally {
+            prefs.removeNode();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleepQuietly(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/**
+ * 대상: tetris.data.leaderboard.FileLeaderboardRepository, LeaderboardFile, RankIndex
+ *
+ * 목적:
+ * - 모든 기록을 보관하면서 상위 n개/순위 조회가 정렬 기준(점수 내림차순, 동점이면 먼저 기록한 쪽)과 일치하는지 검증한다.
+ * - 다시 열 때 파일에서 색인이 복원되고, 손상된 꼬리 레코드는 버려지는지 확인한다.
+ * - 압축이 상위 기록만 남기고 원자적으로 파일을 교체하며, 남은 임시 파일은 다음 열 때 지워지는지 확인한다.
+ */
+package tetris.data.leaderboard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tetris.domain.GameMode;
+import tetris.domain.leaderboard.LeaderboardEntry;
+import tetris.domain.leaderboard.LeaderboardResult;
+
+public class FileLeaderboardRepositoryTest {
+
+    private Path dir;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("tetris-lb-test");
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    @Test
+    public void saveAndHighlight_keepsEveryEntryAndOrdersTiesByArrival() {
+        FileLeaderboardRepository repo = new FileLeaderboardRepository(dir, 3, 0);
+        repo.saveEntry(new LeaderboardEntry("A", 100, GameMode.STANDARD));
+        repo.saveEntry(new LeaderboardEntry("B", 300, GameMode.STANDARD));
+        repo.saveEntry(new LeaderboardEntry("C", 200, GameMode.STANDARD));
+        repo.saveEntry(new LeaderboardEntry("D", 50, GameMode.STANDARD));
+
+        LeaderboardResult result = repo.saveAndHighlight(new LeaderboardEntry("E", 200, GameMode.STANDARD));
+
+        assertEquals(List.of("B", "C", "E"), names(result.entries()));
+        assertEquals(2, result.highlightIndex());
+        assertEquals(5, repo.size(GameMode.STANDARD));
+        assertEquals(List.of("B", "C", "E", "A", "D"), names(repo.loadTop(10, GameMode.STANDARD)));
+        assertTrue(repo.loadTop(10, GameMode.ITEM).isEmpty());
+
+        LeaderboardResult low = repo.saveAndHighlight(new LeaderboardEntry("F", 1, GameMode.STANDARD));
+        assertEquals(-1, low.highlightIndex());
+        assertEquals(3, low.entries().size());
+        repo.close();
+    }
+
+    @Test
+    public void reopen_rebuildsIndexFromFile() {
+        FileLeaderboardRepository repo = new FileLeaderboardRepository(dir);
+        repo.saveEntry(new LeaderboardEntry("한글이름", 700, GameMode.ITEM));
+        repo.saveEntry(new LeaderboardEntry("Bob", 900, GameMode.ITEM));
+        repo.saveEntry(new LeaderboardEntry("Cat", 10, GameMode.STANDARD));
+        repo.close();
+
+        FileLeaderboardRepository reopened = new FileLeaderboardRepository(dir);
+        List<LeaderboardEntry> item = reopened.loadTop(10, GameMode.ITEM);
+        assertEquals(List.of("Bob", "한글이름"), names(item));
+        assertEquals(GameMode.ITEM, item.get(0).getMode());
+        assertEquals(1, reopened.size(GameMode.STANDARD));
+        assertEquals(2, reopened.rankOf(800, GameMode.ITEM));
+        assertEquals(3, reopened.rankOf(700, GameMode.ITEM));
+        reopened.close();
+    }
+
+    @Test
+    public void tornTail_isDiscardedOnOpen() throws IOException {
+        FileLeaderboardRepository repo = new FileLeaderboardRepository(dir);
+        repo.saveEntry(new LeaderboardEntry("Keep", 100, GameMode.STANDARD));
+        repo.saveEntry(new LeaderboardEntry("Torn", 200, GameMode.STANDARD));
+        Path file = repo.fileFor(GameMode.STANDARD);
+        repo.close();
+
+        // 두 번째 레코드의 이름 마지막 바이트를 망가뜨린다 → CRC 불일치
+        int secondRecordEnd = LeaderboardFile.HEADER_BYTES + 2 * (LeaderboardFile.RECORD_HEADER_BYTES + 4 + 4);
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.seek(secondRecordEnd - 1);
+            raf.write('X');
+        }
+
+        FileLeaderboardRepository reopened = new FileLeaderboardRepository(dir);
+        assertEquals(List.of("Keep"), names(reopened.loadTop(10, GameMode.STANDARD)));
+        reopened.saveEntry(new LeaderboardEntry("Next", 50, GameMode.STANDARD));
+        reopened.close();
+
+        FileLeaderboardRepository again = new FileLeaderboardRepository(dir);
+        assertEquals(List.of("Keep", "Next"), names(again.loadTop(10, GameMode.STANDARD)));
+        again.close();
+    }
+
+    @Test
+    public void compaction_keepsTopEntriesAndReplacesFileAtomically() throws IOException {
+        FileLeaderboardRepository repo = new FileLeaderboardRepository(dir, 10, 3);
+        int[] points = { 5, 60, 20, 60, 1, 40 };
+        for (int i = 0; i < points.length; i++) {
+            repo.saveEntry(new LeaderboardEntry("P" + i, points[i], GameMode.STANDARD));
+        }
+        // 6번째 기록에서 보관 상한(3)의 두 배에 도달해 압축된다.
+        assertEquals(3, repo.size(GameMode.STANDARD));
+        assertEquals(List.of("P1", "P3", "P5"), names(repo.loadTop(10, GameMode.STANDARD)));
+        Path file = repo.fileFor(GameMode.STANDARD);
+        assertFalse(Files.exists(LeaderboardFile.compactionTemp(file)));
+        repo.close();
+
+        // 교체 직전에 죽어 임시 파일만 남은 상황: 원본이 유지되고 임시 파일은 지워진다.
+        Files.write(LeaderboardFile.compactionTemp(file), new byte[] { 1, 2, 3 });
+        FileLeaderboardRepository reopened = new FileLeaderboardRepository(dir, 10, 3);
+        assertEquals(List.of("P1", "P3", "P5"), names(reopened.loadTop(10, GameMode.STANDARD)));
+        assertFalse(Files.exists(LeaderboardFile.compactionTemp(file)));
+        reopened.close();
+    }
+
+    @Test
+    public void reset_clearsAllModes() {
+        FileLeaderboardRepository repo = new FileLeaderboardRepository(dir);
+        repo.saveEntry(new LeaderboardEntry("X", 1, GameMode.STANDARD));
+        repo.saveEntry(new LeaderboardEntry("Y", 2, GameMode.ITEM));
+        repo.reset();
+        assertTrue(repo.loadTop(10, GameMode.STANDARD).isEmpty());
+        assertTrue(repo.loadTop(10, GameMode.ITEM).isEmpty());
+        repo.close();
+
+        FileLeaderboardRepository reopened = new FileLeaderboardRepository(dir);
+        assertEquals(0, reopened.size(GameMode.ITEM));
+        reopened.close();
+    }
+
+    @Test
+    public void rankIndex_matchesSortedReference() {
+        RankIndex index = new RankIndex();
+        Random random = new Random(11);
+        List<int[]> reference = new ArrayList<>();
+        for (int id = 0; id < 5000; id++) {
+            int score = random.nextInt(500);
+            // 새 기록은 점수가 같거나 높은 기존 기록 뒤에 선다.
+            long ahead = reference.stream().filter(r -> r[0] >= score).count();
+            assertEquals(ahead, index.add(score), "id " + id);
+            reference.add(new int[] { score, id });
+        }
+        reference.sort((a, b) -> a[0] != b[0] ? Integer.compare(b[0], a[0]) : Integer.compare(a[1], b[1]));
+        List<Integer> order = new ArrayList<>();
+        index.forEachInRankOrder(id -> order.add(id) || true);
+        for (int i = 0; i < reference.size(); i++) {
+            assertEquals(reference.get(i)[1], (int) order.get(i));
+        }
+        assertEquals(reference.stream().filter(r -> r[0] >= 250).count(), index.countAtLeast(250));
+    }
+
+    private static List<String> names(List<LeaderboardEntry> entries) {
+        List<String> names = new ArrayList<>();
+        for (LeaderboardEntry e : entries) {
+            names.add(e.getName());
+        }
+        return names;
+    }
+}
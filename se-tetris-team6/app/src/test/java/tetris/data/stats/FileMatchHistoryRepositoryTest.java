@@ -0,0 +1,191 @@
+/**
+ * 대상: tetris.data.stats.FileMatchHistoryRepository, MatchColumns
+ *
+ * 목적:
+ * - 모드별 집계(판 수, 합계, 평균, 최고, 중앙값/상위 10% 점수, 분당 줄 수, 최고 기록, 일별 묶음)가 직접 계산한 값과 같은지 검증한다.
+ * - 작성 스레드가 내린 뒤 다시 열면 같은 기록이 보이고, 반쯤 쓴 꼬리 레코드는 버려지는지 확인한다.
+ * - 새 판을 기록하면 그 모드의 보관된 집계가 갱신되고, reset 후에는 파일까지 비워지는지 확인한다.
+ * - 파일에 쓰지 못한 기록은 버려지지 않고 다음 쓰기 때 함께 내려가는지 확인한다.
+ */
+package tetris.data.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tetris.concurrent.WriteBehindExecutor;
+import tetris.domain.GameMode;
+import tetris.domain.stats.DayBucket;
+import tetris.domain.stats.MatchRecord;
+import tetris.domain.stats.MatchStats;
+
+public class FileMatchHistoryRepositoryTest {
+
+    private static final ZoneId UTC = ZoneId.of("UTC");
+    private static final long DAY_MS = 24L * 60 * 60 * 1000;
+    private static final long BASE = LocalDate.of(2026, 3, 1).atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli();
+
+    private Path dir;
+    private WriteBehindExecutor writer;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("tetris-stats-test");
+        writer = new WriteBehindExecutor("Stats-Test");
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    @Test
+    public void stats_matchesDirectComputation() {
+        FileMatchHistoryRepository repo = new FileMatchHistoryRepository(dir, writer, UTC);
+        int[] points = { 500, 100, 900, 300, 700, 200, 800, 400, 600, 1000 };
+        for (int i = 0; i < points.length; i++) {
+            repo.record(record(BASE + (i % 3) * DAY_MS, GameMode.STANDARD, points[i], i, 60_000));
+        }
+        repo.record(record(BASE, GameMode.ITEM, 5000, 40, 120_000));
+
+        MatchStats stats = repo.stats(GameMode.STANDARD);
+        assertEquals(10, stats.games());
+        assertEquals(5500, stats.totalPoints());
+        assertEquals(550.0, stats.averagePoints(), 1e-9);
+        assertEquals(1000, stats.bestPoints());
+        assertEquals(500, stats.medianPoints());
+        assertEquals(900, stats.p90Points());
+        assertEquals(45, stats.totalLines());
+        assertEquals(600_000, stats.totalDurationMs());
+        assertEquals(4.5, stats.linesPerMinute(), 1e-9);
+        assertEquals(List.of(1000, 900, 800, 700, 600),
+                stats.topRuns().stream().map(MatchRecord::points).toList());
+
+        List<DayBucket> days = stats.days();
+        assertEquals(3, days.size());
+        assertEquals(LocalDate.of(2026, 3, 1), days.get(0).day());
+        assertEquals(4, days.get(0).games());
+        assertEquals(500 + 300 + 800 + 1000, days.get(0).points());
+        assertEquals(1000, days.get(0).bestPoints());
+        assertEquals(Arrays.stream(points).sum(), days.stream().mapToLong(DayBucket::points).sum());
+
+        MatchStats item = repo.stats(GameMode.ITEM);
+        assertEquals(1, item.games());
+        assertEquals(5000, item.medianPoints());
+        assertEquals(20.0, item.linesPerMinute(), 1e-9);
+        assertEquals(0, repo.stats(GameMode.TIME_LIMIT).games());
+        repo.close();
+    }
+
+    @Test
+    public void reopen_readsFlushedRecordsAndDropsTornTail() throws IOException {
+        FileMatchHistoryRepository repo = new FileMatchHistoryRepository(dir, writer, UTC);
+        for (int i = 0; i < 5; i++) {
+            repo.record(record(BASE + i, GameMode.STANDARD, 100 * (i + 1), i, 30_000));
+        }
+        assertTrue(writer.awaitFlush(2, TimeUnit.SECONDS));
+        repo.close();
+
+        Path file = dir.resolve(FileMatchHistoryRepository.FILE_NAME);
+        long expected = FileMatchHistoryRepository.HEADER_BYTES + 5L * FileMatchHistoryRepository.RECORD_BYTES;
+        assertEquals(expected, Files.size(file));
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.setLength(expected + FileMatchHistoryRepository.RECORD_BYTES / 2);
+        }
+
+        FileMatchHistoryRepository reopened = new FileMatchHistoryRepository(dir, writer, UTC);
+        assertEquals(5, reopened.size());
+        assertEquals(1500, reopened.stats(GameMode.STANDARD).totalPoints());
+        assertEquals(expected, Files.size(file));
+
+        reopened.record(record(BASE + 10, GameMode.STANDARD, 50, 1, 30_000));
+        reopened.close();
+        assertEquals(6, new FileMatchHistoryRepository(dir, writer, UTC).size());
+    }
+
+    @Test
+    public void record_invalidatesOnlyThatModesMemo() {
+        FileMatchHistoryRepository repo = new FileMatchHistoryRepository(dir, writer, UTC);
+        repo.record(record(BASE, GameMode.STANDARD, 100, 1, 10_000));
+        repo.record(record(BASE, GameMode.ITEM, 200, 2, 10_000));
+
+        MatchStats standard = repo.stats(GameMode.STANDARD);
+        MatchStats item = repo.stats(GameMode.ITEM);
+        assertSame(standard, repo.stats(GameMode.STANDARD));
+
+        repo.record(record(BASE + 1, GameMode.STANDARD, 300, 3, 10_000));
+        MatchStats updated = repo.stats(GameMode.STANDARD);
+        assertEquals(2, updated.games());
+        assertEquals(300, updated.bestPoints());
+        assertSame(item, repo.stats(GameMode.ITEM));
+        repo.close();
+    }
+
+    @Test
+    public void reset_clearsMemoryAndFile() {
+        FileMatchHistoryRepository repo = new FileMatchHistoryRepository(dir, writer, UTC);
+        repo.record(record(BASE, GameMode.STANDARD, 100, 1, 10_000));
+        repo.record(record(BASE, GameMode.ITEM, 200, 2, 10_000));
+        assertEquals(2, repo.stats(GameMode.STANDARD).games() + repo.stats(GameMode.ITEM).games());
+
+        repo.reset();
+        assertEquals(0, repo.stats(GameMode.STANDARD).games());
+        assertTrue(writer.awaitFlush(2, TimeUnit.SECONDS));
+        repo.close();
+
+        assertEquals(0, new FileMatchHistoryRepository(dir, writer, UTC).size());
+    }
+
+    @Test
+    public void failedWrite_keepsRecordsForTheNextFlush() throws IOException {
+        // 저장 폴더 자리에 파일이 있어 폴더를 만들 수 없다.
+        Path blocker = dir.resolve("blocked");
+        Files.writeString(blocker, "x");
+        Path target = blocker.resolve("stats");
+        FileMatchHistoryRepository repo = new FileMatchHistoryRepository(target, writer, UTC);
+        repo.record(record(BASE, GameMode.STANDARD, 100, 1, 10_000));
+        repo.record(record(BASE + 1, GameMode.STANDARD, 200, 2, 10_000));
+        assertTrue(writer.awaitFlush(2, TimeUnit.SECONDS));
+        assertEquals(2, repo.size(), "못 쓴 기록도 조회에는 보인다");
+
+        Files.delete(blocker);
+        repo.record(record(BASE + 2, GameMode.STANDARD, 300, 3, 10_000));
+        assertTrue(writer.awaitFlush(2, TimeUnit.SECONDS));
+        repo.close();
+
+        FileMatchHistoryRepository reopened = new FileMatchHistoryRepository(target, writer, UTC);
+        assertEquals(3, reopened.size());
+        assertEquals(600, reopened.stats(GameMode.STANDARD).totalPoints());
+    }
+
+    @Test
+    public void percentile_usesNearestRank() {
+        int[] sorted = { 10, 20, 30, 40 };
+        assertEquals(20, MatchColumns.percentile(sorted, 50));
+        assertEquals(40, MatchColumns.percentile(sorted, 90));
+        assertEquals(10, MatchColumns.percentile(new int[] { 10 }, 90));
+    }
+
+    private static MatchRecord record(long endedAt, GameMode mode, int points, int lines, long durationMs) {
+        return new MatchRecord(endedAt, mode, points, lines, lines * 3, durationMs, 1);
+    }
+}
@@ -1,5 +1,10 @@
 package tetris.domain;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -28,4 +33,84 @@ class BoardTest {
         assertNotNull(b.gridView());
         b.setCell(-1, -1, 5); // no exception
     }
+
+    @Test
+    void pushGarbageRow_shiftsUpAndReportsOverflow() {
+        Board b = new Board();
+        b.setCell(3, Board.H - 1, 2);
+        assertFalse(b.pushGarbageRow(1 << 4, 8));
+        int[][] grid = b.gridView();
+        assertEquals(2, grid[Board.H - 2][3]);
+        assertEquals(0, grid[Board.H - 1][4]);
+        assertEquals(8, grid[Board.H - 1][0]);
+
+        b.setCell(0, 0, 5);
+        assertTrue(b.pushGarbageRow(0, 8), "맨 위 블록이 밀려 나감");
+        assertEquals(0, b.gridView()[0][0]);
+
+        int[] cells = new int[Board.W * Board.H];
+        b.copyTo(cells);
+        Board restored = new Board();
+        restored.copyFrom(cells);
+        assertTrue(Arrays.deepEquals(b.gridView(), restored.gridView()));
+    }
+
+    @Test
+    void ringBoard_matchesPlainGridUnderRandomPushesAndClears() {
+        Random random = new Random(46);
+        Board b = new Board();
+        int[][] expected = new int[Board.H][Board.W];
+        for (int step = 0; step < 2_000; step++) {
+            int op = random.nextInt(4);
+            if (op == 0) {
+                int hole = random.nextInt(Board.W);
+                b.pushGarbageRow(1 << hole, 8);
+                System.arraycopy(expected, 1, expected, 0, Board.H - 1);
+                int[] bottom = new int[Board.W];
+                Arrays.fill(bottom, 8);
+                bottom[hole] = 0;
+                expected[Board.H - 1] = bottom;
+            } else if (op == 1) {
+                int x = random.nextInt(Board.W), y = random.nextInt(Board.H), v = 1 + random.nextInt(7);
+                b.setCell(x, y, v);
+                expected[y][x] = v;
+            } else if (op == 2) {
+                int y = random.nextInt(Board.H);
+                for (int x = 0; x < Board.W; x++) {
+                    b.setCell(x, y, 1);
+                    expected[y][x] = 1;
+                }
+                assertEquals(fullRows(expected), b.clearLinesAndGetRows());
+                collapse(expected, fullRows(expected));
+            } else {
+                List<Integer> rows = List.of(random.nextInt(Board.H), random.nextInt(Board.H));
+                b.clearRows(rows);
+                collapse(expected, rows);
+            }
+            assertTrue(Arrays.deepEquals(expected, b.gridView()), "step " + step);
+        }
+    }
+
+    private static List<Integer> fullRows(int[][] grid) {
+        List<Integer> rows = new ArrayList<>();
+        for (int y = Board.H - 1; y >= 0; y--) {
+            if (Arrays.stream(grid[y]).allMatch(v -> v != 0)) {
+                rows.add(y);
+            }
+        }
+        return rows;
+    }
+
+    private static void collapse(int[][] grid, List<Integer> rows) {
+        int[][] next = new int[Board.H][Board.W];
+        int write = Board.H - 1;
+        for (int y = Board.H - 1; y >= 0; y--) {
+            if (!rows.contains(y)) {
+                next[write--] = grid[y].clone();
+            }
+        }
+        for (int y = 0; y < Board.H; y++) {
+            grid[y] = next[y];
+        }
+    }
 }
@@ -0,0 +1,146 @@
+package tetris.domain;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import tetris.domain.model.Block;
+import tetris.domain.model.GameState;
+import tetris.infrastructure.GameModelFactory;
+import tetris.simulation.SearchBotPolicy;
+
+/*
+ * 테스트 대상: GameModel.saveState / restoreState, GameModel.Memento, StatefulRandom
+ *
+ * 역할 요약:
+ * - 보드, 활성 블록, 블록/아이템 난수 위치, 점수, 아이템, 버프, 진행도를 memento에 복사하고 제자리 복원한다.
+ *
+ * 테스트 전략:
+ * - StatefulRandom이 같은 시드의 java.util.Random과 같은 수열을 내고, setState로 위치를 되돌리는지 확인한다.
+ * - 아이템 모드에서 저장 → 진행 → 복원 후 같은 입력을 다시 적용하면 처음 진행과 같은 결과가 나오는지 검증한다.
+ * - 같은 memento를 여러 번 재사용해도 복원 결과가 같고, 상태를 꺼낼 수 없는 생성기는 거부하는지 확인한다.
+ */
+class GameModelMementoTest {
+
+    @Test
+    void statefulRandom_matchesJavaUtilRandomAndRewinds() {
+        Random reference = new Random(42);
+        StatefulRandom random = new StatefulRandom(42);
+        for (int i = 0; i < 200; i++) {
+            assertEquals(reference.nextInt(7), random.nextInt(7));
+            assertEquals(reference.nextDouble(), random.nextDouble());
+        }
+        long state = random.getState();
+        long a = random.nextLong();
+        int b = random.nextInt(100);
+        random.setState(state);
+        assertEquals(a, random.nextLong());
+        assertEquals(b, random.nextInt(100));
+    }
+
+    @Test
+    void restore_replaysIdenticallyFromSavedPoint() {
+        GameModel model = itemModel(11);
+        model.startGame(GameMode.ITEM);
+        play(model, new Random(1), 120);
+
+        GameModel.Memento memento = new GameModel.Memento();
+        model.saveState(memento);
+        int[][] savedGrid = model.getBoard().gridView();
+        int savedPoints = model.getScore().getPoints();
+
+        play(model, new Random(2), 200);
+        int[][] firstGrid = model.getBoard().gridView();
+        int firstPoints = model.getScore().getPoints();
+        int firstLines = model.getScore().getClearedLines();
+        BlockKind firstNext = model.getNextBlockKind();
+        GameState firstState = model.getCurrentState();
+
+        model.restoreState(memento);
+        assertGridEquals(savedGrid, model.getBoard().gridView());
+        assertEquals(savedPoints, model.getScore().getPoints());
+
+        play(model, new Random(2), 200);
+        assertGridEquals(firstGrid, model.getBoard().gridView());
+        assertEquals(firstPoints, model.getScore().getPoints());
+        assertEquals(firstLines, model.getScore().getClearedLines());
+        assertEquals(firstNext, model.getNextBlockKind());
+        assertEquals(firstState, model.getCurrentState());
+    }
+
+    @Test
+    void memento_canBeReusedAcrossSaves() {
+        GameModel model = itemModel(5);
+        model.startGame(GameMode.STANDARD);
+        GameModel.Memento memento = new GameModel.Memento();
+
+        for (int round = 0; round < 5; round++) {
+            play(model, new Random(round), 20);
+            if (model.getCurrentState() != GameState.PLAYING) {
+                break;
+            }
+            model.saveState(memento);
+            Block block = model.getActiveBlock();
+            int x = block.getX();
+            int y = block.getY();
+            int rotation = block.getRotation();
+            int[][] grid = model.getBoard().gridView();
+            for (int i = 0; i < 3; i++) {
+                model.hardDropBlock();
+                model.restoreState(memento);
+            }
+            assertSame(block, model.getActiveBlock());
+            assertEquals(x, block.getX());
+            assertEquals(y, block.getY());
+            assertEquals(rotation, block.getRotation());
+            assertGridEquals(grid, model.getBoard().gridView());
+        }
+    }
+
+    @Test
+    void saveState_rejectsGeneratorWithoutCapturableRandom() {
+        GameModel model = GameModelFactory.createHeadless(new RandomBlockGenerator(new Random(1)));
+        model.startGame(GameMode.STANDARD);
+        assertThrows(IllegalStateException.class, () -> model.saveState(new GameModel.Memento()));
+        assertThrows(IllegalArgumentException.class, () -> model.restoreState(new GameModel.Memento()));
+    }
+
+    private static GameModel itemModel(long seed) {
+        GameModel model = GameModelFactory.createHeadless(new RandomBlockGenerator(new StatefulRandom(seed)));
+        model.setExternalClockDrive(true);
+        model.setItemRandomSeed(seed);
+        model.setItemSpawnIntervalLines(1);
+        model.setTimeSource(() -> 1_000L);
+        return model;
+    }
+
+    /** 탐색 봇 배치와 이동/중력을 섞어 진행한다. 줄 삭제 대기는 바로 확정한다. */
+    private static void play(GameModel model, Random random, int steps) {
+        SearchBotPolicy bot = new SearchBotPolicy();
+        for (int i = 0; i < steps && model.getCurrentState() == GameState.PLAYING; i++) {
+            switch (random.nextInt(6)) {
+                case 0 -> model.moveBlockLeft();
+                case 1 -> model.moveBlockRight();
+                case 2 -> model.rotateBlockClockwise();
+                case 3 -> model.applyGravityTick();
+                default -> {
+                    if (model.getActiveBlock() != null) {
+                        bot.playPiece(model);
+                    }
+                }
+            }
+            model.commitLineClear();
+        }
+    }
+
+    private static void assertGridEquals(int[][] expected, int[][] actual) {
+        for (int y = 0; y < expected.length; y++) {
+            assertArrayEquals(expected[y], actual[y], "row " + y);
+        }
+    }
+}
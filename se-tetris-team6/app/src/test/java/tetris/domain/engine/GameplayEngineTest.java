@@ -120,6 +120,23 @@ class GameplayEngineTest {
         assertTrue(repo.load().getPoints() >= startScore);
     }
 
+    @Test
+    void hardDrop_recordsLockedRowMasks() {
+        Board board = new Board();
+        GameplayEngine engine = new GameplayEngine(board, new InputState(), new ConstantGenerator(BlockKind.T),
+                new ScoreRuleEngine(new FakeRepo()), null);
+
+        engine.spawnIfNeeded();
+        Block locked = engine.getActiveBlock();
+        int x = locked.getX();
+        engine.hardDropBlock();
+
+        // T: 윗줄 세 칸, 아랫줄 가운데 한 칸
+        assertSame(locked, engine.getLastLockedBlock());
+        assertEquals(locked.getY(), engine.getLockedTopY());
+        assertEquals((0b111L << x) | ((0b10L << x) << 16), engine.getLockedRowMasks());
+    }
+
     @Test
     void setSpeedModifier_andGravityLevel_affectClock() {
         GameplayEngine engine = new GameplayEngine(new Board(), new InputState(),
@@ -33,6 +33,7 @@ import org.junit.jupiter.api.Test;
  * - 속도 보정 0.5 배 적용 시 딜레이가 반으로(45→23ms) 조정된다.
  * - armLockDelay(0) 호출 시 즉시 onLockDelayTimeout 콜백이 발생한다.
  * - 기본 잠금 지연 arm 후 cancel 시 타이머가 중지 상태가 된다.
+ * - 외부 구동 모드에서는 Swing 타이머가 돌지 않고 advance() 누적 시간으로만 중력/잠금 콜백이 발생한다.
  */
 class GameClockTest {
 
@@ -122,6 +123,52 @@ class GameClockTest {
         assertFalse(lockTimer.isRunning());
     }
 
+    @Test
+    void externallyDriven_advanceFiresGravityOnlyAfterDelay() throws Exception {
+        clock.setLevel(10); // 45ms
+        clock.setExternallyDriven(true);
+        clock.start();
+
+        assertFalse(getGravityTimer(clock).isRunning());
+        clock.advance(30);
+        assertEquals(0, listener.gravityTicks);
+        clock.advance(20); // 누적 50ms >= 45ms
+        assertEquals(1, listener.gravityTicks);
+        // 한 번에 큰 시간이 지나도 Swing coalesce처럼 한 번만 발생한다.
+        clock.advance(500);
+        assertEquals(2, listener.gravityTicks);
+    }
+
+    @Test
+    void externallyDriven_lockDelayCountsDownAndPauseFreezesIt() {
+        clock.setExternallyDriven(true);
+        clock.start();
+        clock.armLockDelay(100);
+
+        clock.advance(60);
+        assertEquals(0, listener.lockTimeouts);
+        clock.pause();
+        clock.advance(1000);
+        assertEquals(0, listener.lockTimeouts);
+        clock.resume();
+        clock.advance(40);
+        assertEquals(1, listener.lockTimeouts);
+
+        clock.armLockDelay(100);
+        clock.cancelLockDelay();
+        clock.advance(200);
+        assertEquals(1, listener.lockTimeouts);
+    }
+
+    @Test
+    void externallyDriven_advanceIgnoredWhenNotDriven() {
+        clock.start();
+        clock.advance(5000);
+        clock.stop();
+
+        assertEquals(0, listener.gravityTicks);
+        assertTrue(!clock.isExternallyDriven());
+    }
 
     private Timer getGravityTimer(GameClock target) throws Exception {
         Field f = GameClock.class.getDeclaredField("gravityTimer");
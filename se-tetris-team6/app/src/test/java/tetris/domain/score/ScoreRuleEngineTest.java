@@ -2,6 +2,8 @@ package tetris.domain.score;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -71,4 +73,49 @@ class ScoreRuleEngineTest {
         assertNotNull(last.get());
         assertEquals(0, last.get().getPoints());
     }
+
+    @Test
+    void batch_coalescesDescentsAndLinesIntoOneUpdate() {
+        FakeRepo repo = new FakeRepo();
+        ScoreRuleEngine engine = new ScoreRuleEngine(repo);
+        List<Score> seen = new ArrayList<>();
+        engine.addListener(seen::add);
+
+        engine.beginBatch();
+        engine.beginBatch();
+        for (int i = 0; i < 18; i++) {
+            engine.onBlockDescend();
+        }
+        engine.endBatch();
+        engine.onLinesCleared(2);
+        assertEquals(0, repo.load().getPoints());
+        assertTrue(seen.isEmpty());
+        engine.endBatch();
+
+        assertEquals(1, seen.size());
+        assertEquals(318, repo.load().getPoints());
+        assertEquals(2, repo.load().getClearedLines());
+    }
+
+    @Test
+    void batch_penaltyAppliesAfterPendingPointsAndResetDiscardsThem() {
+        FakeRepo repo = new FakeRepo();
+        ScoreRuleEngine engine = new ScoreRuleEngine(repo);
+
+        engine.beginBatch();
+        engine.onBlockDescend();
+        engine.onBlockDescend();
+        // 0점 하한: 가산점이 먼저 반영돼야 2 - 10 → 0, 이후 가산점 1
+        engine.applyPenalty(10);
+        engine.onBlockDescend();
+        engine.endBatch();
+        assertEquals(1, repo.load().getPoints());
+
+        engine.beginBatch();
+        engine.onLinesCleared(1);
+        engine.resetScore();
+        engine.endBatch();
+        assertEquals(0, repo.load().getPoints());
+        assertEquals(0, repo.load().getClearedLines());
+    }
 }
@@ -0,0 +1,79 @@
+package tetris.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/*
+ * 테스트 대상: tetris.metrics.LatencyHistogram
+ *
+ * 역할 요약:
+ * - 지연시간을 고정 로그 버킷에 누적하고, 스냅샷 차이로 구간별 분위수를 계산한다.
+ *
+ * 테스트 전략:
+ * - 버킷 경계가 값을 포함하며 상대 오차 25% 이내인지 확인한다.
+ * - 알려진 분포로 p50/p99, since()로 얻은 구간 통계를 검증한다.
+ */
+class LatencyHistogramTest {
+
+    @Test
+    void bucketUpperBound_containsValue_withinQuarterError() {
+        long[] samples = { 0, 1, 3, 4, 5, 7, 8, 15, 16, 100, 999, 1_000, 16_667, 1_000_000 };
+        for (long v : samples) {
+            int idx = LatencyHistogram.bucketIndex(v);
+            long upper = LatencyHistogram.bucketUpperBoundMicros(idx);
+            assertTrue(upper >= v, "upper bound must include " + v);
+            assertTrue(upper <= v + Math.max(1, v / 4), "bucket too wide for " + v + ": " + upper);
+            if (idx > 0) {
+                assertTrue(LatencyHistogram.bucketUpperBoundMicros(idx - 1) < v, "previous bucket must exclude " + v);
+            }
+        }
+    }
+
+    @Test
+    void hugeValues_goToLastBucket() {
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+    }
+
+    @Test
+    void percentiles_followRecordedDistribution() {
+        LatencyHistogram h = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            h.recordMicros(100);
+        }
+        h.recordMicros(10_000);
+
+        LatencyHistogram.Snapshot s = h.snapshot();
+        assertEquals(100, s.count());
+        assertEquals(10_000, s.maxMicros());
+        long p50 = s.percentileMicros(0.50);
+        assertTrue(p50 >= 100 && p50 < 125, "p50=" + p50);
+        long p99 = s.percentileMicros(0.99);
+        assertTrue(p99 >= 100 && p99 < 125, "p99=" + p99);
+        long p100 = s.percentileMicros(1.0);
+        assertTrue(p100 >= 10_000 && p100 < 12_500, "p100=" + p100);
+    }
+
+    @Test
+    void since_returnsOnlyNewRecords() {
+        LatencyHistogram h = new LatencyHistogram();
+        h.recordMicros(50);
+        h.recordMicros(50);
+        LatencyHistogram.Snapshot before = h.snapshot();
+        h.recordNanos(2_000_000L);
+
+        LatencyHistogram.Snapshot window = h.snapshot().since(before);
+        assertEquals(1, window.count());
+        assertEquals(2_000, window.totalMicros());
+        assertTrue(window.percentileMicros(0.5) >= 2_000);
+    }
+
+    @Test
+    void emptySnapshot_reportsZero() {
+        LatencyHistogram.Snapshot s = new LatencyHistogram().snapshot();
+        assertEquals(0, s.count());
+        assertEquals(0L, s.percentileMicros(0.99));
+        assertEquals(0.0, s.meanMicros(), 0.0);
+    }
+}
@@ -0,0 +1,60 @@
+package tetris.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/*
+ * 테스트 대상: tetris.metrics.MetricsHttpServer
+ *
+ * 역할 요약:
+ * - 루프백 주소에서 GET /metrics 요청에 Prometheus 텍스트를 응답한다.
+ *
+ * 테스트 전략:
+ * - 포트 0으로 띄워 충돌을 피하고, 실제 HTTP 요청으로 상태 코드/헤더/본문을 확인한다.
+ */
+class MetricsHttpServerTest {
+
+    private MetricsHttpServer server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Test
+    void get_returnsPrometheusText() throws Exception {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("http_test_total", "test").add(42);
+        server = new MetricsHttpServer(registry);
+        server.start(0);
+        assertTrue(server.getPort() > 0);
+
+        HttpURLConnection conn = (HttpURLConnection) new URL(
+                "http://127.0.0.1:" + server.getPort() + MetricsHttpServer.PATH).openConnection();
+        assertEquals(200, conn.getResponseCode());
+        assertTrue(conn.getContentType().startsWith("text/plain"));
+        String body;
+        try (InputStream in = conn.getInputStream()) {
+            body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertTrue(body.contains("http_test_total 42"), body);
+    }
+
+    @Test
+    void stop_releasesPort() throws Exception {
+        server = new MetricsHttpServer(new MetricsRegistry());
+        server.start(0);
+        server.stop();
+        assertEquals(-1, server.getPort());
+    }
+}
@@ -0,0 +1,101 @@
+package tetris.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.AttributeNotFoundException;
+
+import org.junit.jupiter.api.Test;
+
+/*
+ * 테스트 대상: tetris.metrics.MetricsRegistry, PrometheusTextFormat, MetricsMBean, MetricsExporter
+ *
+ * 역할 요약:
+ * - 이름 기반 카운터/게이지/히스토그램을 등록하고 JMX와 Prometheus 텍스트로 내보낸다.
+ *
+ * 테스트 전략:
+ * - 전역 레지스트리 대신 테스트 전용 레지스트리를 만들어 서로 간섭하지 않게 한다.
+ * - 같은 이름 재등록/타입 충돌, 텍스트 출력 형식, MBean 속성 조회, 포트 인자 해석을 확인한다.
+ */
+class MetricsRegistryTest {
+
+    @Test
+    void sameName_returnsSameInstance_andTypeConflictFails() {
+        MetricsRegistry registry = new MetricsRegistry();
+        MetricsRegistry.Counter first = registry.counter("test_events_total", "events");
+        assertSame(first, registry.counter("test_events_total", "events"));
+        assertThrows(IllegalArgumentException.class, () -> registry.gauge("test_events_total", "oops"));
+        assertThrows(IllegalArgumentException.class, () -> registry.counter("bad-name", "dash"));
+    }
+
+    @Test
+    void counterIgnoresNegative_gaugeGoesBothWays() {
+        MetricsRegistry registry = new MetricsRegistry();
+        MetricsRegistry.Counter counter = registry.counter("c_total", "c");
+        counter.add(3);
+        counter.add(-5);
+        counter.increment();
+        assertEquals(4, counter.get());
+
+        MetricsRegistry.Gauge gauge = registry.gauge("g", "g");
+        gauge.increment();
+        gauge.increment();
+        gauge.decrement();
+        assertEquals(1, gauge.get());
+
+        AtomicLong source = new AtomicLong(7);
+        MetricsRegistry.Gauge fn = registry.gauge("g_fn", "fn", source::get);
+        source.set(9);
+        assertEquals(9, fn.get());
+    }
+
+    @Test
+    void prometheusText_containsTypesAndSummary() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("a_total", "first counter").add(2);
+        registry.gauge("b_depth", "depth").add(5);
+        MetricsRegistry.Histogram h = registry.histogram("c_seconds", "latency");
+        h.recordMicros(1_000);
+        h.recordMicros(3_000);
+
+        String text = PrometheusTextFormat.format(registry);
+        assertTrue(text.contains("# TYPE a_total counter\na_total 2\n"), text);
+        assertTrue(text.contains("# TYPE b_depth gauge\nb_depth 5\n"), text);
+        assertTrue(text.contains("# TYPE c_seconds summary\n"), text);
+        assertTrue(text.contains("c_seconds_sum 0.004\n"), text);
+        assertTrue(text.contains("c_seconds_count 2\n"), text);
+        assertTrue(text.indexOf("a_total") < text.indexOf("b_depth"), "metrics should be sorted by name");
+    }
+
+    @Test
+    void mbean_exposesCountersAndHistogramParts() throws Exception {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("x_total", "x").add(11);
+        registry.histogram("y_seconds", "y").recordMicros(500);
+        MetricsMBean bean = new MetricsMBean(registry);
+
+        assertEquals(11L, bean.getAttribute("x_total"));
+        assertEquals(1L, bean.getAttribute("y_seconds_count"));
+        assertEquals(500L, bean.getAttribute("y_seconds_max_micros"));
+        assertEquals(5, bean.getMBeanInfo().getAttributes().length);
+        assertThrows(AttributeNotFoundException.class, () -> bean.getAttribute("missing"));
+    }
+
+    @Test
+    void exporter_registersGlobalMBean_andParsesPortArgument() throws Exception {
+        MetricsExporter.install(new String[0]);
+        javax.management.ObjectName name = new javax.management.ObjectName(MetricsExporter.OBJECT_NAME);
+        assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+        Object ticks = ManagementFactory.getPlatformMBeanServer().getAttribute(name, "tetris_engine_ticks_total");
+        assertTrue(ticks instanceof Long);
+
+        assertEquals(9404, MetricsExporter.resolvePort(new String[] { "--metrics-port=9404" }));
+        assertEquals(-1, MetricsExporter.resolvePort(new String[] { "--metrics-port=abc" }));
+        assertEquals(-1, MetricsExporter.resolvePort(new String[] { "--other" }));
+    }
+}
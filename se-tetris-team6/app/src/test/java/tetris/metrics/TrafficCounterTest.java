@@ -0,0 +1,84 @@
+package tetris.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+import tetris.concurrent.NetworkStats;
+
+/*
+ * 테스트 대상: tetris.metrics.TrafficCounter, MeteredInputStream, MeteredOutputStream
+ *
+ * 역할 요약:
+ * - 연결별 송수신 바이트/메시지 수와 RTT 지터를 집계하고 상위 카운터로 전파한다.
+ *
+ * 테스트 전략:
+ * - 계량 스트림으로 실제 바이트를 흘려 양방향 카운트와 parent 합산을 확인한다.
+ * - RTT 변동이 지터 추정치에 반영되는지, NetworkStats 변환 값이 일치하는지 검증한다.
+ */
+class TrafficCounterTest {
+
+    @Test
+    void meteredStreams_countBytes_andPropagateToParent() throws IOException {
+        TrafficCounter global = new TrafficCounter();
+        TrafficCounter conn = new TrafficCounter(global);
+
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        try (MeteredOutputStream out = new MeteredOutputStream(sink, conn)) {
+            out.write(new byte[10]);
+            out.write(1);
+        }
+        try (MeteredInputStream in = new MeteredInputStream(new ByteArrayInputStream(new byte[7]), conn)) {
+            in.read(new byte[4]);
+            in.read();
+            in.read(new byte[4]);
+            assertEquals(-1, in.read());
+        }
+        conn.messageSent();
+        conn.messageReceived();
+
+        assertEquals(11, conn.getBytesSent());
+        assertEquals(7, conn.getBytesReceived());
+        assertEquals(11, global.getBytesSent());
+        assertEquals(7, global.getBytesReceived());
+        assertEquals(1, global.getMessagesSent());
+        assertEquals(1, global.getMessagesReceived());
+    }
+
+    @Test
+    void rtt_updatesJitterEstimate() {
+        TrafficCounter counter = new TrafficCounter();
+        assertEquals(-1L, counter.getLastRttMicros());
+
+        counter.recordRttMillis(20);
+        assertEquals(0L, counter.getJitterMicros());
+        counter.recordRttMillis(36);
+        assertEquals(36_000L, counter.getLastRttMicros());
+        assertEquals(1_000L, counter.getJitterMicros()); // 16000 / 16
+        counter.recordRttMillis(36);
+        assertTrue(counter.getJitterMicros() < 1_000L);
+    }
+
+    @Test
+    void toNetworkStats_convertsUnits() {
+        TrafficCounter counter = new TrafficCounter();
+        counter.addBytesSent(100);
+        counter.addBytesReceived(40);
+        counter.messageSent();
+        counter.recordRttMillis(10);
+        counter.recordRttMillis(42);
+
+        NetworkStats stats = counter.toNetworkStats();
+        assertEquals(1, stats.getMessagesSent());
+        assertEquals(0, stats.getMessagesReceived());
+        assertEquals(42, stats.getCurrentLatency());
+        assertEquals(100, stats.getBytesSent());
+        assertEquals(40, stats.getBytesReceived());
+        assertEquals(2, stats.getLatencyJitter());
+    }
+}
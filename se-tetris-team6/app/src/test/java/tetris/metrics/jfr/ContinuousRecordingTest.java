@@ -0,0 +1,77 @@
+package tetris.metrics.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.jupiter.api.Test;
+
+import tetris.network.protocol.GameMessage;
+import tetris.network.protocol.GameSnapshot;
+import tetris.network.protocol.MessageType;
+
+/*
+ * 테스트 대상: tetris.metrics.jfr.ContinuousRecording, NetworkSendEvent
+ *
+ * 역할 요약:
+ * - --jfr 실행 인자로 JDK 기본 설정 + tetris.jfc를 합친 상시 녹화를 시작한다.
+ * - 게임 이벤트는 플레이어/메시지 타입/크기 정보를 담아 JFR에 기록된다.
+ *
+ * 테스트 전략:
+ * - 인자 해석과 설정 병합 결과(키 우선순위)를 직접 확인한다.
+ * - 임시 Recording으로 이벤트를 실제 기록한 뒤 파일을 읽어 필드 값을 검증한다.
+ */
+class ContinuousRecordingTest {
+
+    @Test
+    void resolveDirectory_parsesFlag() {
+        assertNull(ContinuousRecording.resolveDirectory(new String[] { "--metrics-port=1" }));
+        assertEquals("recordings", ContinuousRecording.resolveDirectory(new String[] { "--jfr" }));
+        assertEquals("/tmp/x", ContinuousRecording.resolveDirectory(new String[] { "--jfr=/tmp/x" }));
+    }
+
+    @Test
+    void loadSettings_overlaysTetrisProfileOnDefault() throws Exception {
+        Map<String, String> settings = ContinuousRecording.loadSettings();
+        assertEquals("true", settings.get("tetris.GravityTick#enabled"));
+        assertEquals("1 ms", settings.get("tetris.GravityTick#threshold"));
+        assertTrue(settings.containsKey("jdk.GarbageCollection#enabled"), "JDK default events must be kept");
+    }
+
+    @Test
+    void networkSendEvent_recordsMessageDetails() throws Exception {
+        Path file = Files.createTempFile("tetris-jfr-test", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(NetworkSendEvent.class).withoutThreshold();
+            recording.start();
+
+            GameSnapshot snapshot = new GameSnapshot(2, new int[1][1], 0, 0, 0, 0, 0, -1, -1, 0,
+                    null, "STANDARD", null, -1, -1, null);
+            NetworkSendEvent event = new NetworkSendEvent();
+            event.begin();
+            event.describe("server", "Player-2", new GameMessage(MessageType.GAME_STATE, "SERVER", snapshot), 321);
+            event.commit();
+
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.deleteIfExists(file);
+        RecordedEvent recorded = events.stream()
+                .filter(e -> e.getEventType().getName().equals("tetris.NetworkSend"))
+                .findFirst().orElseThrow();
+        assertEquals(2, recorded.getInt("playerId"));
+        assertEquals("GAME_STATE", recorded.getString("messageType"));
+        assertEquals(321L, recorded.getLong("bytes"));
+        assertEquals("Player-2", recorded.getString("peer"));
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * 대상: tetris.multiplayer.controller.LocalMultiPlayerController (PlayerTickBarrier 경로)
+ *
+ * 목적:
+ * - 병렬 스텝 안에서 블록이 잠기면 대기 공격이 다음 블록 스폰 전에 들어가는지 확인한다.
+ * - 주입으로 스택이 넘치면 병합 단계에서 그 플레이어가 패배 처리되는지 확인한다.
+ */
+package tetris.multiplayer.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import tetris.concurrent.PlayerTickBarrier;
+import tetris.domain.Board;
+import tetris.domain.GameMode;
+import tetris.domain.GameModel;
+import tetris.domain.model.GameClock;
+import tetris.infrastructure.GameModelFactory;
+import tetris.multiplayer.model.Cell;
+import tetris.multiplayer.model.LockedPieceSnapshot;
+import tetris.multiplayer.model.MultiPlayerGame;
+import tetris.multiplayer.model.PlayerState;
+import tetris.multiplayer.model.VersusRules;
+import tetris.network.protocol.InputType;
+
+class LocalMultiPlayerControllerBarrierTest {
+
+    private GameModel p1;
+    private GameModel p2;
+
+    @AfterEach
+    void tearDown() {
+        if (p1 != null) {
+            p1.quitToMenu();
+        }
+        if (p2 != null) {
+            p2.quitToMenu();
+        }
+        GameClock.setDefaultExternallyDriven(false);
+    }
+
+    @Test
+    void injectionOverflowingTheStack_marksLoserInsideBarrierTick() {
+        GameClock.setDefaultExternallyDriven(true);
+        p1 = GameModelFactory.createWithSeed(7L);
+        p2 = GameModelFactory.createWithSeed(7L);
+        MultiPlayerGame game = new MultiPlayerGame(
+                new PlayerState(1, p1, true), new PlayerState(2, p2, false), new VersusRules(2));
+        PlayerTickBarrier barrier = new PlayerTickBarrier(2, null);
+        LocalMultiPlayerController controller = new LocalMultiPlayerController(game, barrier);
+        hook(p1, 1, controller);
+        hook(p2, 2, controller);
+        p1.startGame(GameMode.STANDARD);
+        p2.startGame(GameMode.STANDARD);
+
+        // 2번 보드: 아래 12줄을 오른쪽 끝 한 칸만 비워 채운다. (지워지지 않음)
+        Board board = p2.getBoard();
+        for (int y = Board.H - 12; y < Board.H; y++) {
+            for (int x = 0; x < Board.W - 1; x++) {
+                board.setCell(x, y, 8);
+            }
+        }
+        // 1번이 4줄 공격을 세 번 보내 2번 대기열을 10줄로 채운다.
+        LockedPieceSnapshot attack = LockedPieceSnapshot.of(List.of(new Cell(0, 0)));
+        for (int i = 0; i < 3; i++) {
+            game.onPieceLocked(1, attack, new int[] {0, 1, 2, 3}, Board.W);
+        }
+        assertEquals(10, game.getPendingLines(2));
+
+        barrier.tick(pid -> {
+            if (pid == 2) {
+                PlayerInputs.apply(p2, InputType.HARD_DROP);
+            }
+        });
+
+        assertEquals(0, game.getPendingLines(2), "스텝 안에서 스폰 전에 주입된다");
+        assertTrue(game.isGameOver(), "넘친 보드는 병합 단계에서 패배 처리된다");
+        assertEquals(2, game.getLoserId());
+    }
+
+    private static void hook(GameModel model, int playerId, LocalMultiPlayerController controller) {
+        model.addMultiplayerHook(new GameModel.MultiplayerHook() {
+            @Override
+            public void onPieceLocked(LockedPieceSnapshot snapshot, int[] clearedRows, int boardWidth) {
+                controller.onPieceLocked(playerId, snapshot, clearedRows);
+            }
+
+            @Override
+            public void beforeNextSpawn() {
+                controller.injectAttackBeforeNextSpawn(playerId);
+            }
+        });
+    }
+}
@@ -5,7 +5,6 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.util.Collections;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -73,8 +72,8 @@ class LocalMultiPlayerControllerTest {
 
     @Test
     void injectAttackBeforeNextSpawn_noPendingLines_noBoardTouch() {
-        when(game.takeAttackLinesForNextSpawn(1)).thenReturn(Collections.emptyList());
+        when(game.injectAttackLinesForNextSpawn(1)).thenReturn(0);
         controller.injectAttackBeforeNextSpawn(1);
-        verify(game).takeAttackLinesForNextSpawn(1);
+        verify(game).injectAttackLinesForNextSpawn(1);
     }
 }
@@ -0,0 +1,65 @@
+/**
+ * 대상: tetris.multiplayer.controller.NetworkMultiPlayerController (호스트 화면용 거울 모델)
+ *
+ * 목적:
+ * - 거울 모델을 켜면 화면이 플레이어 모델 대신 거울 모델을 받는지 확인한다.
+ * - 플레이어 모델이 바뀌어도 거울 모델은 발행된 스냅샷이 EDT에서 적용될 때만 바뀌는지 확인한다.
+ */
+package tetris.multiplayer.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import javax.swing.SwingUtilities;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import tetris.domain.Board;
+import tetris.domain.GameMode;
+import tetris.domain.GameModel;
+import tetris.domain.RandomBlockGenerator;
+import tetris.domain.model.GameClock;
+import tetris.infrastructure.GameModelFactory;
+import tetris.multiplayer.model.MultiPlayerGame;
+import tetris.multiplayer.model.PlayerState;
+import tetris.multiplayer.model.VersusRules;
+
+class NetworkMultiPlayerControllerDisplayTest {
+
+    @AfterEach
+    void tearDown() {
+        GameClock.setDefaultExternallyDriven(false);
+    }
+
+    @Test
+    void displayModels_changeOnlyWhenPublishedSnapshotIsApplied() throws Exception {
+        GameClock.setDefaultExternallyDriven(true);
+        GameModel p1 = started();
+        GameModel p2 = started();
+        MultiPlayerGame game = new MultiPlayerGame(new PlayerState(1, p1, true), new PlayerState(2, p2, false), new VersusRules());
+        NetworkMultiPlayerController controller = new NetworkMultiPlayerController(game, 1);
+        GameModel view1 = started();
+        GameModel view2 = started();
+
+        assertSame(p1, controller.displayModelOf(1));
+        SwingUtilities.invokeAndWait(() -> controller.useDisplayModels(view1, view2));
+        assertSame(view1, controller.displayModelOf(1));
+        assertSame(view2, controller.displayModelOf(2));
+
+        // 시뮬레이션 스레드 역할: 플레이어 모델을 바꾸고 스냅샷을 발행한다.
+        p1.getBoard().setCell(0, Board.H - 1, 3);
+        assertEquals(0, view1.getBoard().gridView()[Board.H - 1][0], "발행 전에는 거울 모델이 그대로다");
+        controller.publishGameState(controller.buildGameState(p1));
+        SwingUtilities.invokeAndWait(() -> { });
+        SwingUtilities.invokeAndWait(() -> { });
+        assertEquals(3, view1.getBoard().gridView()[Board.H - 1][0]);
+        assertSame(view1.getSnapshotAttackView(), controller.getPendingAttackView(1));
+    }
+
+    private static GameModel started() {
+        GameModel model = GameModelFactory.createHeadless(new RandomBlockGenerator());
+        model.startGame(GameMode.STANDARD);
+        return model;
+    }
+}
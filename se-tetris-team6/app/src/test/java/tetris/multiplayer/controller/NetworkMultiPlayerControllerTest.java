@@ -7,7 +7,6 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.util.Collections;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -76,11 +75,11 @@ class NetworkMultiPlayerControllerTest {
 
     @Test
     void injectAttackBeforeNextSpawn_emptyQueue_noSnapshotSend() {
-        when(game.takeAttackLinesForNextSpawn(1)).thenReturn(Collections.emptyList());
+        when(game.injectAttackLinesForNextSpawn(1)).thenReturn(0);
 
         controller.injectAttackBeforeNextSpawn(1);
 
-        verify(game).takeAttackLinesForNextSpawn(1);
+        verify(game).injectAttackLinesForNextSpawn(1);
         // no sendGameState because no attack lines
         verify(controller, times(0)).sendGameState(any());
     }
@@ -0,0 +1,68 @@
+/**
+ * 대상: tetris.multiplayer.handler.NetworkedMultiplayerHandler (호스트 틱과 화면용 거울 모델)
+ *
+ * 목적:
+ * - 호스트 화면은 발행된 스냅샷만 그리므로, 플레이어가 무너진 틱에도 마지막 보드가 발행되어
+ *   거울 모델이 실제 보드와 같아지는지 확인한다.
+ */
+package tetris.multiplayer.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import javax.swing.SwingUtilities;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import tetris.domain.GameMode;
+import tetris.domain.GameModel;
+import tetris.domain.model.GameClock;
+import tetris.domain.model.GameState;
+import tetris.infrastructure.GameModelFactory;
+import tetris.multiplayer.controller.PlayerInputs;
+import tetris.multiplayer.session.MultiplayerSessionFactory;
+import tetris.multiplayer.session.NetworkMultiplayerSession;
+import tetris.network.protocol.InputType;
+
+class NetworkedMultiplayerHandlerDisplayTest {
+
+    private NetworkMultiplayerSession session;
+    private GameModel coordinator;
+
+    @AfterEach
+    void tearDown() {
+        if (coordinator != null) {
+            coordinator.quitToMenu();
+        }
+        if (session != null) {
+            session.shutdown();
+        }
+        GameClock.setDefaultExternallyDriven(false);
+    }
+
+    @Test
+    void toppedOutTick_publishesFinalBoardToDisplayModel() throws Exception {
+        GameClock.setDefaultExternallyDriven(true);
+        session = MultiplayerSessionFactory.createNetworkedSession(GameMode.STANDARD, true, null, 11L);
+        SwingUtilities.invokeAndWait(session::enableSnapshotDisplay);
+        NetworkedMultiplayerHandler handler = (NetworkedMultiplayerHandler) session.handler();
+        coordinator = GameModelFactory.createWithSeed(11L);
+        coordinator.enableNetworkMultiplayer(session);
+        coordinator.startGame(GameMode.STANDARD);
+
+        GameModel p1 = session.playerOneModel();
+        for (int i = 0; i < 200 && p1.getCurrentState() == GameState.PLAYING; i++) {
+            PlayerInputs.apply(p1, InputType.HARD_DROP);
+            handler.update(coordinator, 16);
+        }
+        assertEquals(GameState.GAME_OVER, p1.getCurrentState());
+
+        SwingUtilities.invokeAndWait(() -> { });
+        SwingUtilities.invokeAndWait(() -> { });
+        assertTrue(Arrays.deepEquals(p1.getBoard().gridView(), session.displayModelOf(1).getBoard().gridView()),
+                "무너진 틱의 마지막 보드가 화면에 반영된다");
+    }
+}
@@ -18,6 +18,7 @@ import org.junit.jupiter.api.Test;
  * 테스트 전략:
  * - null/빈 배열 생성 시 예외 발생 여부 확인.
  * - width/ isHole/ copyHoles가 원본 패턴을 그대로 유지하면서 복사본을 반환하는지 검증.
+ * - 마스크 생성자와 배열 생성자가 같은 값이 되고, 16열을 넘으면 예외인지 확인.
  */
 class AttackLineTest {
 
@@ -42,4 +43,16 @@ class AttackLineTest {
         copy[0] = false; // 수정해도 원본 불변
         assertTrue(line.isHole(0));
     }
+
+    @Test
+    void maskConstructor_matchesBooleanPattern() {
+        AttackLine fromMask = new AttackLine(0b101 | (1 << 7), 3);
+        AttackLine fromArray = new AttackLine(new boolean[] { true, false, true });
+
+        assertEquals(0b101, fromMask.holeMask());
+        assertEquals(fromArray, fromMask);
+        assertEquals(fromArray.hashCode(), fromMask.hashCode());
+        assertThrows(IllegalArgumentException.class, () -> new AttackLine(0, AttackLine.MAX_WIDTH + 1));
+        assertThrows(IllegalArgumentException.class, () -> new AttackLine(new boolean[AttackLine.MAX_WIDTH + 1]));
+    }
 }
@@ -19,6 +19,7 @@ import org.junit.jupiter.api.Test;
  * 테스트 전략:
  * - 빈 리스트 제공 시 isEmpty가 true인 스냅샷을 생성한다.
  * - 리스트가 복사/불변으로 유지되어 외부 변경이 내부에 영향 주지 않는지 검증한다.
+ * - 셀 리스트와 행 마스크 중 어느 쪽으로 만들어도 rowMask/cells가 같은 블록을 가리키는지 확인한다.
  */
 class LockedPieceSnapshotTest {
 
@@ -44,4 +45,22 @@ class LockedPieceSnapshotTest {
         assertEquals(1, snap.cells().size());
         assertThrows(UnsupportedOperationException.class, () -> snap.cells().add(new Cell(5, 6)));
     }
+
+    @Test
+    void rowMasks_matchCellsEitherWay() {
+        // T 블록: (3,5) (4,5) (5,5) (4,6)
+        List<Cell> tCells = List.of(new Cell(3, 5), new Cell(4, 5), new Cell(5, 5), new Cell(4, 6));
+        LockedPieceSnapshot fromCells = LockedPieceSnapshot.of(tCells);
+        LockedPieceSnapshot fromMasks = LockedPieceSnapshot.ofRowMasks(5, 0b111000L | (0b10000L << 16));
+
+        for (LockedPieceSnapshot snap : List.of(fromCells, fromMasks)) {
+            assertFalse(snap.isEmpty());
+            assertEquals(0, snap.rowMask(4));
+            assertEquals(0b111000, snap.rowMask(5));
+            assertEquals(0b10000, snap.rowMask(6));
+            assertEquals(0, snap.rowMask(7));
+        }
+        assertEquals(new java.util.HashSet<>(tCells), new java.util.HashSet<>(fromMasks.cells()));
+        assertTrue(LockedPieceSnapshot.ofRowMasks(0, 0L).isEmpty());
+    }
 }
@@ -3,8 +3,10 @@ package tetris.multiplayer.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -25,6 +27,7 @@ import tetris.infrastructure.GameModelFactory;
  * - markLoser/endWithDraw로 승패/무승부 상태가 설정되는지 확인.
  * - onPieceLocked → takeAttackLines로 VersusRules 위임이 동작하는지 검증.
  * - compareScores가 플레이어 점수에 따라 양수/음수/0을 반환하는지 확인.
+ * - 여러 명이면 패배가 탈락으로 기록되고 순위가 매겨지며, 한 명만 남을 때 판이 끝나는지 확인.
  */
 class MultiPlayerGameTest {
 
@@ -83,6 +86,42 @@ class MultiPlayerGameTest {
         assertTrue(game.getPendingAttackLines(2).isEmpty());
     }
 
+    @Test
+    void battle_eliminatesUntilOneRemains() {
+        List<PlayerState> players = new ArrayList<>();
+        for (int pid = 1; pid <= 4; pid++) {
+            players.add(new PlayerState(pid, GameModelFactory.createDefault(), false, 4));
+        }
+        MultiPlayerGame battle = new MultiPlayerGame(players, new VersusRules(4, 2, true, AttackTargeting.RANDOM));
+        assertEquals(4, battle.playerCount());
+
+        battle.markLoser(3);
+        assertFalse(battle.isGameOver());
+        assertFalse(battle.isAlive(3));
+        assertEquals(4, battle.placementOf(3));
+        battle.markLoser(3);
+        assertEquals(4, battle.placementOf(3), "이미 탈락한 플레이어는 다시 세지 않는다");
+
+        battle.markLoser(1);
+        assertEquals(3, battle.placementOf(1));
+        assertEquals(0, battle.placementOf(2));
+        battle.markLoser(4);
+        assertTrue(battle.isGameOver());
+        assertEquals(2, battle.placementOf(4));
+        assertEquals(1, battle.placementOf(2));
+        assertEquals(2, battle.getWinnerId());
+        assertThrows(IllegalArgumentException.class, () -> battle.player(5));
+    }
+
+    @Test
+    void battle_rejectsMismatchedPlayers() {
+        List<PlayerState> players = List.of(
+                new PlayerState(1, GameModelFactory.createDefault(), false, 3),
+                new PlayerState(2, GameModelFactory.createDefault(), false, 3));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MultiPlayerGame(players, new VersusRules(3, 2, false, AttackTargeting.RANDOM)));
+    }
+
     @Test
     void accessors_returnInjectedComponents() {
         assertNotNull(game.player(1));
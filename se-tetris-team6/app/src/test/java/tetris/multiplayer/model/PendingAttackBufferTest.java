@@ -19,6 +19,7 @@ import org.junit.jupiter.api.Test;
  * - 12줄 enqueue 시 앞의 10줄만 남고 최신 2줄이 제거되는지 확인.
  * - 버퍼가 이미 꽉 찼을 때 추가 enqueue를 무시하는지 확인.
  * - flushAll 이후 버퍼가 비워지는지 확인.
+ * - cancel이 먼저 들어온 줄부터 지우고 남은 수를 돌려주는지, 고리를 돌아도 보기가 FIFO 순서인지 확인.
  */
 class PendingAttackBufferTest {
 
@@ -74,4 +75,29 @@ class PendingAttackBufferTest {
         assertEquals(0, buffer.size());
         assertTrue(buffer.peekAll().isEmpty());
     }
+
+    @Test
+    void cancel_removesOldestAndViewWrapsAround() {
+        PendingAttackBuffer buffer = new PendingAttackBuffer();
+        for (int i = 0; i < 8; i++) {
+            buffer.append(1 << (i % 4), 4);
+        }
+        assertEquals(0, buffer.cancel(6));
+        assertEquals(2, buffer.size());
+        for (int i = 8; i < 14; i++) {
+            buffer.append(1 << (i % 4), 4);
+        }
+
+        AttackQueueView view = buffer;
+        assertEquals(8, view.size());
+        for (int i = 0; i < view.size(); i++) {
+            assertEquals(1 << ((i + 6) % 4), view.holeMask(i));
+            assertEquals(4, view.width(i));
+        }
+        assertEquals(new AttackLine(1 << 2, 4), buffer.peekAll().get(0));
+
+        assertEquals(3, buffer.cancel(11), "대기 줄보다 많이 보내면 남은 만큼 돌려준다");
+        assertEquals(0, buffer.size());
+        assertTrue(buffer.flushAll().isEmpty());
+    }
 }
@@ -1,12 +1,20 @@
 package tetris.multiplayer.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
+import tetris.domain.Board;
+import tetris.domain.GameModel;
+import tetris.domain.RandomBlockGenerator;
+import tetris.infrastructure.GameModelFactory;
+
 /*
  * 테스트 대상: tetris.multiplayer.model.VersusRules
  *
@@ -18,6 +26,10 @@ import org.junit.jupiter.api.Test;
  * - clearedYs가 최소치보다 작거나 스냅샷이 비면 공격이 생성되지 않는지 확인.
  * - 스냅샷의 기여 셀을 구멍으로 표시한 공격 줄이 상대 버퍼에 쌓이는지 검증.
  * - consume 호출 후 버퍼가 비워지는지 확인.
+ * - inject 호출 시 대기 줄이 그 구멍대로 보드 바닥에 들어가고 버퍼가 비워지는지 확인.
+ * - 상쇄를 켜면 보내는 공격이 내 대기 줄을 먼저 지우고 남은 줄만 상대에게 가는지 확인.
+ * - 상쇄(cancelIncoming)와 전송(sendAttack)을 나눠 불러도 한 번에 부른 것과 같은지 확인.
+ * - 여러 명이면 대상 전략(가장 높은 보드, 반격)대로 공격이 가고, 탈락자는 대상에서 빠지는지 확인.
  */
 class VersusRulesTest {
 
@@ -52,6 +64,101 @@ class VersusRulesTest {
         assertEquals(0, rules.getPendingLineCount(2));
     }
 
+    @Test
+    void cancelIncoming_offsetsOwnQueueBeforeAttacking() {
+        VersusRules rules = new VersusRules(2, true);
+        rules.onPieceLocked(2, sampleSnap(), new int[] { 0, 1 }, 5);
+        assertEquals(2, rules.getPendingLineCount(1));
+
+        LockedPieceSnapshot triple = LockedPieceSnapshot.of(List.of(new Cell(0, 0), new Cell(3, 1), new Cell(4, 2)));
+        rules.onPieceLocked(1, triple, new int[] { 0, 1, 2 }, 5);
+
+        assertEquals(0, rules.getPendingLineCount(1));
+        AttackQueueView sent = rules.getPendingAttackView(2);
+        assertEquals(1, sent.size());
+        assertEquals(1 << 4, sent.holeMask(0), "상쇄 후 남은 마지막 줄만 보낸다");
+    }
+
+    @Test
+    void cancelThenSend_splitMatchesOnPieceLocked() {
+        VersusRules rules = new VersusRules(2, true);
+        rules.onPieceLocked(2, sampleSnap(), new int[] { 0, 1 }, 5);
+
+        LockedPieceSnapshot triple = LockedPieceSnapshot.of(List.of(new Cell(0, 0), new Cell(3, 1), new Cell(4, 2)));
+        int first = rules.cancelIncoming(1, triple, new int[] { 0, 1, 2 }, 5);
+        assertEquals(2, first);
+        assertEquals(0, rules.getPendingLineCount(1), "상쇄는 앞 단계에서 바로 끝난다");
+        assertEquals(0, rules.getPendingLineCount(2));
+
+        rules.sendAttack(1, triple, new int[] { 0, 1, 2 }, 5, first);
+        assertEquals(1, rules.getPendingLineCount(2));
+        assertEquals(1 << 4, rules.getPendingAttackView(2).holeMask(0));
+        assertEquals(1, rules.cancelIncoming(1, triple, new int[] { 0 }, 5), "공격이 아니면 보낼 줄이 없다");
+    }
+
+    @Test
+    void lowestBoard_targetsHighestStackAmongAlive() {
+        VersusRules rules = new VersusRules(4, 2, false, AttackTargeting.LOWEST_BOARD);
+        int[] heights = {0, 0, 3, 9, 5};
+        rules.setStackHeights(pid -> heights[pid]);
+
+        rules.onPieceLocked(1, sampleSnap(), new int[] { 0, 1 }, 10);
+        assertEquals(2, rules.getPendingLineCount(3));
+        assertEquals(3, rules.targetOf(1));
+        assertEquals(2, rules.linesSent(1, 3));
+
+        rules.eliminate(3);
+        assertFalse(rules.isAlive(3));
+        assertEquals(0, rules.getPendingLineCount(3), "탈락하면 대기 공격을 버린다");
+        rules.onPieceLocked(1, sampleSnap(), new int[] { 0, 1 }, 10);
+        assertEquals(2, rules.getPendingLineCount(4));
+        assertEquals(3, rules.aliveCount());
+    }
+
+    @Test
+    void mostAttackers_retaliatesAgainstHeaviestAttacker() {
+        // 2, 3번이 1번을 노리게 만든 뒤 1번이 반격할 상대를 고른다.
+        VersusRules rules = new VersusRules(4, 2, false, (r, attacker, rng) -> 1);
+        rules.onPieceLocked(2, sampleSnap(), new int[] { 0, 1 }, 10);
+        rules.onPieceLocked(3, sampleSnap(), new int[] { 0, 1 }, 10);
+        rules.onPieceLocked(3, sampleSnap(), new int[] { 0, 1 }, 10);
+        assertEquals(1, rules.targetOf(2));
+        assertEquals(4, rules.linesSent(3, 1));
+        assertEquals(6, rules.getPendingLineCount(1));
+
+        assertEquals(3, AttackTargeting.MOST_ATTACKERS.selectTarget(rules, 1, new Random(1)));
+        rules.eliminate(3);
+        assertEquals(2, AttackTargeting.MOST_ATTACKERS.selectTarget(rules, 1, new Random(1)));
+    }
+
+    @Test
+    void invalidStrategyChoice_fallsBackToRandomOpponent() {
+        VersusRules rules = new VersusRules(3, 2, false, (r, attacker, rng) -> attacker);
+        rules.onPieceLocked(1, sampleSnap(), new int[] { 0, 1 }, 10);
+        int target = rules.targetOf(1);
+        assertTrue(target == 2 || target == 3, "target=" + target);
+        assertEquals(2, rules.getPendingLineCount(target));
+        assertThrows(IllegalArgumentException.class, () -> rules.getPendingLineCount(4));
+    }
+
+    @Test
+    void injectAttackLines_pushesMasksOntoBoardAndClears() {
+        VersusRules rules = new VersusRules(2);
+        rules.onPieceLocked(1, sampleSnap(), new int[] { 0, 1 }, Board.W);
+        GameModel target = GameModelFactory.createHeadless(new RandomBlockGenerator());
+
+        assertEquals(2, rules.injectAttackLinesForNextSpawn(2, target));
+
+        assertEquals(0, rules.getPendingLineCount(2));
+        int[][] grid = target.getBoard().gridView();
+        // 먼저 들어온 y=0 줄(구멍 x=1)이 위, y=1 줄(구멍 x=2)이 맨 바닥
+        assertEquals(0, grid[Board.H - 2][1]);
+        assertTrue(grid[Board.H - 2][2] != 0);
+        assertEquals(0, grid[Board.H - 1][2]);
+        assertTrue(grid[Board.H - 1][1] != 0);
+        assertEquals(0, rules.injectAttackLinesForNextSpawn(2, target));
+    }
+
     private LockedPieceSnapshot sampleSnap() {
         return LockedPieceSnapshot.of(List.of(new Cell(1, 0), new Cell(2, 1)));
     }
@@ -0,0 +1,115 @@
+package tetris.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import tetris.metrics.TrafficCounter;
+import tetris.network.protocol.PingPayload;
+
+/*
+ * 테스트 대상: tetris.network.LinkQualityEstimator
+ *
+ * 역할 요약:
+ * - 순번 붙은 PING을 응답 없이 연달아 보내고, 같은 순번의 PONG으로 RTT(EWMA)와 NTP 방식 시계 차이를 추정한다.
+ * - 제한 시간 안에 응답이 없거나 링 칸이 다시 쓰인 PING은 잃은 것으로 세어 손실률을 낸다.
+ *
+ * 테스트 전략:
+ * - 시각을 직접 넘겨, 겹쳐 보낸 PING이 순서가 바뀌어 응답해도 각자 맞는 RTT로 계산되는지 확인한다.
+ * - 상대 시계가 앞선 대칭 경로에서 시계 차이가 맞게 나오고, 비대칭 표본보다 RTT가 짧은 표본을 고르는지 검증한다.
+ * - 시간 초과/링 덮어쓰기가 손실로 세어지고 그 뒤 늦은 PONG은 무시되는지, 예전 payload는 무시되는지 확인한다.
+ */
+class LinkQualityEstimatorTest {
+
+    private static final long MS = 1_000_000L;
+    private static final long REMOTE_AHEAD = 1_000L;
+
+    @Test
+    void pipelinedPings_matchBySequenceAndFeedEwma() {
+        TrafficCounter traffic = new TrafficCounter();
+        LinkQualityEstimator link = new LinkQualityEstimator(traffic);
+        PingPayload a = link.newPing(0, 10_000);
+        PingPayload b = link.newPing(10 * MS, 10_010);
+        assertEquals(a.sequence() + 1, b.sequence());
+
+        // 두 번째가 먼저 돌아온다.
+        assertTrue(link.onPong(b, 50 * MS));
+        assertTrue(link.onPong(a, 80 * MS));
+        assertFalse(link.onPong(a, 90 * MS), "이미 받은 순번");
+
+        // 첫 표본 40ms, 두 번째 80ms: SRTT = 40 + (80 - 40)/8 = 45, RTTVAR = 20 + (40 - 20)/4 = 25
+        assertEquals(80, link.lastRttMillis());
+        assertEquals(45.0, link.smoothedRttMillis(), 1e-6);
+        assertEquals(25.0, link.rttVarianceMillis(), 1e-6);
+        assertEquals(45, link.pingMillis());
+        assertEquals(80_000, traffic.getLastRttMicros());
+        assertEquals(0.0, link.lossRatio(), 1e-9);
+        assertFalse(link.hasClockOffset(), "응답 시각이 없는 PONG은 시계 차이를 내지 않는다");
+
+        long[] history = new long[LinkQualityEstimator.HISTORY];
+        assertEquals(2, link.copyRttHistoryMicros(history));
+        assertEquals(40_000, history[0]);
+        assertEquals(80_000, history[1]);
+    }
+
+    @Test
+    void clockOffset_usesShortestRoundTripSample() {
+        LinkQualityEstimator link = new LinkQualityEstimator();
+
+        // 대칭 경로 20ms + 20ms, 상대 시계가 1초 앞선다.
+        PingPayload ping = link.newPing(0, 50_000);
+        assertTrue(link.onPong(ping.reply(50_000 + 20 + REMOTE_AHEAD, 50_000 + 20 + REMOTE_AHEAD), 40 * MS));
+        assertTrue(link.hasClockOffset());
+        assertEquals(REMOTE_AHEAD, link.clockOffsetMillis());
+
+        // 돌아오는 길만 200ms 밀린 표본은 시계 차이를 틀리게 내지만 RTT가 길어 채택되지 않는다.
+        PingPayload slow = link.newPing(1_000 * MS, 51_000);
+        assertTrue(link.onPong(slow.reply(51_000 + 20 + REMOTE_AHEAD, 51_000 + 20 + REMOTE_AHEAD), 1_240 * MS));
+        assertEquals(REMOTE_AHEAD, link.clockOffsetMillis());
+    }
+
+    @Test
+    void timeoutAndOverrun_countAsLoss() {
+        LinkQualityEstimator link = new LinkQualityEstimator();
+        PingPayload answered = link.newPing(0, 0);
+        assertTrue(link.onPong(answered, 20 * MS));
+        assertEquals(20, link.pingMillis());
+
+        PingPayload lost = link.newPing(1_000 * MS, 1_000);
+        link.expire(1_000 * MS + LinkQualityEstimator.LOSS_TIMEOUT_NANOS + 1);
+        assertEquals(1, link.lostCount());
+        assertEquals(-1, link.pingMillis(), "마지막 PING이 응답 없이 끝나면 -1");
+        assertEquals(1.0 / 16.0, link.lossRatio(), 1e-9);
+        assertFalse(link.onPong(lost, 7_000 * MS), "잃은 것으로 센 뒤 온 PONG은 무시");
+
+        PingPayload recovered = link.newPing(8_000 * MS, 8_000);
+        assertTrue(link.onPong(recovered, 8_030 * MS));
+        assertTrue(link.pingMillis() >= 0);
+        assertTrue(link.lossRatio() < 1.0 / 16.0);
+
+        // 응답 없이 링을 한 바퀴 돌면 가장 오래된 것부터 잃은 것으로 센다.
+        for (int i = 0; i <= LinkQualityEstimator.HISTORY; i++) {
+            link.newPing(9_000 * MS + i, 9_000);
+        }
+        assertEquals(2, link.lostCount());
+        assertEquals(3 + LinkQualityEstimator.HISTORY + 1, link.sentCount());
+    }
+
+    @Test
+    void legacyPayloads_areIgnoredAndEchoed() {
+        LinkQualityEstimator link = new LinkQualityEstimator();
+        link.newPing(0, 0);
+        assertFalse(link.onPong(null, MS));
+        assertFalse(link.onPong(123L, MS));
+        assertEquals(-1, link.pingMillis());
+        assertEquals(-1, link.lastRttMillis());
+
+        assertEquals(123L, PingPayload.replyTo(123L));
+        PingPayload reply = (PingPayload) PingPayload.replyTo(PingPayload.request(7, 100));
+        assertEquals(7, reply.sequence());
+        assertEquals(100, reply.originMillis());
+        assertTrue(reply.receiveMillis() > 0 && reply.transmitMillis() >= reply.receiveMillis());
+    }
+}
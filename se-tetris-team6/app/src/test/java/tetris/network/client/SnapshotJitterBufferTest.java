@@ -0,0 +1,119 @@
+package tetris.network.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import tetris.network.protocol.GameSnapshot;
+
+/*
+ * 테스트 대상: tetris.network.client.SnapshotJitterBuffer
+ *
+ * 역할 요약:
+ * - 원격 스냅샷을 보낸 시각(시계 차이 보정) 순으로 쌓아 두고, 간격/지터에 맞춘 지연 뒤에 최신 것만 꺼낸다.
+ * - 현재 상태와 다음 스냅샷 사이에서 떨어지는 블록 위치를 보간한다.
+ *
+ * 테스트 전략:
+ * - 시계 차이가 큰 일정한 전송에서 재생 지연 뒤에야 스냅샷이 나오고, 그 사이 블록 y가 선형 보간되는지 확인한다.
+ * - 도착 시간이 흔들리면 재생 지연이 늘어나는지, 순서가 바뀐 도착은 제자리에 끼우고 늦은 도착은 버리는지 검증한다.
+ * - 블록이 바뀌면 보간하지 않고, drainLatest가 쌓인 것 중 최신을 바로 꺼내는지 확인한다.
+ */
+class SnapshotJitterBufferTest {
+
+    private static final long CLOCK_OFFSET = 5_000_000L; // 보낸 쪽 시계가 한참 앞서 있다
+    private static final long TRANSIT = 30L;
+
+    @Test
+    void steadyStream_isDelayedAndInterpolated() {
+        SnapshotJitterBuffer buffer = new SnapshotJitterBuffer();
+        long interval = 50;
+        for (int i = 0; i < 20; i++) {
+            long sent = CLOCK_OFFSET + i * interval;
+            buffer.offer(snapshot(1, 4, i), sent, sent - CLOCK_OFFSET + TRANSIT);
+        }
+        long delay = buffer.playoutDelayMillis();
+        assertTrue(delay >= 45 && delay <= 55, "delay=" + delay);
+
+        // 로컬 시각 t에 재생되는 원격 시각 = t + CLOCK_OFFSET - TRANSIT - delay
+        long localForFive = 5 * interval + TRANSIT + delay;
+        GameSnapshot due = buffer.advance(localForFive);
+        assertEquals(5, due.blockY());
+        assertNull(buffer.advance(localForFive + 1));
+
+        SnapshotJitterBuffer.PiecePose pose = new SnapshotJitterBuffer.PiecePose();
+        buffer.interpolate(localForFive + interval / 2, pose);
+        assertTrue(pose.valid);
+        assertEquals(1, pose.blockId);
+        assertEquals(5.5, pose.y, 0.05);
+        assertEquals(4.0, pose.x, 1e-9);
+    }
+
+    @Test
+    void advance_skipsToNewestDueSnapshot() {
+        SnapshotJitterBuffer buffer = new SnapshotJitterBuffer();
+        for (int i = 0; i < 10; i++) {
+            buffer.offer(snapshot(1, 4, i), 1_000 + i * 50L, 1_000 + i * 50L);
+        }
+        GameSnapshot due = buffer.advance(10_000);
+        assertEquals(9, due.blockY());
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void jitter_increasesPlayoutDelay() {
+        SnapshotJitterBuffer steady = new SnapshotJitterBuffer();
+        SnapshotJitterBuffer jittery = new SnapshotJitterBuffer();
+        for (int i = 0; i < 200; i++) {
+            long sent = i * 50L;
+            steady.offer(snapshot(1, 4, 0), sent, sent + TRANSIT);
+            jittery.offer(snapshot(1, 4, 0), sent, sent + TRANSIT + (i % 2 == 0 ? 0 : 40));
+        }
+        assertTrue(jittery.jitterMillis() > 20, "jitter=" + jittery.jitterMillis());
+        assertTrue(jittery.playoutDelayMillis() > steady.playoutDelayMillis() + 40);
+        assertTrue(jittery.playoutDelayMillis() <= SnapshotJitterBuffer.MAX_DELAY_MS);
+    }
+
+    @Test
+    void outOfOrder_isSortedAndLate_isDropped() {
+        SnapshotJitterBuffer buffer = new SnapshotJitterBuffer();
+        buffer.offer(snapshot(1, 4, 0), 0, 10);
+        buffer.offer(snapshot(1, 4, 2), 100, 110);
+        buffer.offer(snapshot(1, 4, 1), 50, 115);
+
+        long delay = buffer.playoutDelayMillis();
+        GameSnapshot first = buffer.advance(10 + 50 + delay);
+        assertEquals(1, first.blockY());
+        assertEquals(1, buffer.size());
+
+        buffer.offer(snapshot(1, 4, 0), 20, 130);
+        assertEquals(1, buffer.lateCount());
+        assertEquals(1, buffer.size());
+    }
+
+    @Test
+    void differentPiece_isNotInterpolatedAndDrainReturnsLatest() {
+        SnapshotJitterBuffer buffer = new SnapshotJitterBuffer();
+        buffer.offer(snapshot(1, 4, 18), 0, 10);
+        buffer.offer(snapshot(2, 4, 0), 50, 60);
+        buffer.offer(snapshot(2, 4, 1), 100, 110);
+        buffer.advance(10 + buffer.playoutDelayMillis());
+
+        SnapshotJitterBuffer.PiecePose pose = new SnapshotJitterBuffer.PiecePose();
+        buffer.interpolate(10 + buffer.playoutDelayMillis() + 25, pose);
+        assertFalse(pose.valid);
+        assertEquals(18.0, pose.y, 1e-9);
+
+        GameSnapshot latest = buffer.drainLatest();
+        assertEquals(1, latest.blockY());
+        assertEquals(2, latest.currentBlockId());
+        assertEquals(0, buffer.size());
+        assertNull(buffer.drainLatest());
+    }
+
+    private static GameSnapshot snapshot(int blockId, int x, int y) {
+        return new GameSnapshot(1, null, blockId, 0, 0, 0, 0, x, y, 0, null, "STANDARD", null, -1, -1, null);
+    }
+}
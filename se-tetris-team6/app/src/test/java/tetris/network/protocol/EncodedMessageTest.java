@@ -0,0 +1,92 @@
+package tetris.network.protocol;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+/*
+ * 테스트 대상: tetris.network.protocol.EncodedMessage
+ *
+ * 역할 요약:
+ * - 브로드캐스트 메시지를 한 번 직렬화해 여러 연결이 같은 바이트를 쓰게 하고, 받는 쪽에서는 원래 GameMessage로 풀린다.
+ *
+ * 테스트 전략:
+ * - 인코딩한 메시지가 서버 쪽에서 원본과 같은 타입/payload/시퀀스를 보이는지 확인한다.
+ * - 이미 다른 메시지가 오간 두 스트림에 같은 인코딩을 써도, 평범한 readObject가 같은 내용의 GameMessage를 돌려주는지 검증한다.
+ * - 같은 스트림에 두 번 써도 참조가 아니라 새 메시지로 읽히는지, 직렬화할 수 없는 payload는 인코딩 단계에서 실패하는지 확인한다.
+ */
+class EncodedMessageTest {
+
+    @Test
+    void encoded_keepsOriginalHeaderOnServerSide() throws IOException {
+        GameSnapshot snapshot = snapshot(3, 120);
+        GameMessage original = new GameMessage(MessageType.GAME_STATE, "SERVER", snapshot);
+        EncodedMessage encoded = EncodedMessage.encode(original);
+
+        assertEquals(MessageType.GAME_STATE, encoded.getType());
+        assertSame(snapshot, encoded.getPayload());
+        assertEquals(original.getSequenceNumber(), encoded.getSequenceNumber());
+        assertEquals(original.getTimestamp(), encoded.getTimestamp());
+        assertTrue(encoded.encodedSize() > 0);
+        assertSame(encoded, EncodedMessage.encode(encoded));
+    }
+
+    @Test
+    void sharedBytes_decodeAsPlainGameMessageOnEveryStream() throws Exception {
+        GameMessage original = new GameMessage(MessageType.GAME_STATE, "SERVER", snapshot(2, 500));
+        EncodedMessage encoded = EncodedMessage.encode(original);
+
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+        try (ObjectOutputStream a = new ObjectOutputStream(first); ObjectOutputStream b = new ObjectOutputStream(second)) {
+            a.writeObject(new GameMessage(MessageType.PING, "SERVER", PingPayload.request(1, 1)));
+            encoded.writeTo(a);
+            encoded.writeTo(a);
+            encoded.writeTo(b);
+        }
+
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(first.toByteArray()))) {
+            assertEquals(MessageType.PING, ((GameMessage) in.readObject()).getType());
+            GameMessage once = (GameMessage) in.readObject();
+            GameMessage twice = (GameMessage) in.readObject();
+            assertSameContent(original, once);
+            assertSameContent(original, twice);
+            assertNotSame(once, twice, "unshared로 써서 두 번째도 새 객체로 읽힌다");
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(second.toByteArray()))) {
+            GameMessage decoded = (GameMessage) in.readObject();
+            assertSameContent(original, decoded);
+        }
+    }
+
+    @Test
+    void unserializablePayload_failsAtEncode() {
+        GameMessage bad = new GameMessage(MessageType.ERROR, "SERVER", new Object());
+        assertThrows(NotSerializableException.class, () -> EncodedMessage.encode(bad));
+    }
+
+    private static void assertSameContent(GameMessage expected, GameMessage actual) {
+        assertEquals(GameMessage.class, actual.getClass());
+        assertEquals(expected.getType(), actual.getType());
+        assertEquals(expected.getSequenceNumber(), actual.getSequenceNumber());
+        GameSnapshot want = (GameSnapshot) expected.getPayload();
+        GameSnapshot got = (GameSnapshot) actual.getPayload();
+        assertEquals(want.playerId(), got.playerId());
+        assertEquals(want.score(), got.score());
+    }
+
+    private static GameSnapshot snapshot(int playerId, int score) {
+        return new GameSnapshot(playerId, null, 0, 0, score, 0, 0, -1, -1, 0, null, "STANDARD", null, -1, -1, null);
+    }
+}
@@ -2,10 +2,19 @@ package tetris.network.protocol;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
 import org.junit.jupiter.api.Test;
 
+import tetris.domain.GameMode;
+
 /*
  * 테스트 대상: tetris.network.protocol.GameSnapshot
  *
@@ -15,6 +24,8 @@ import org.junit.jupiter.api.Test;
  * 테스트 전략:
  * - 생성자에 전달한 모든 값이 getter로 그대로 노출되는지 확인한다.
  * - 배열 필드는 같은 참조를 유지하는지(assertSame)와 내용이 동일한지(assertArrayEquals) 검증한다.
+ * - 직렬화 후 압축 배치(byte 보드, 비트마스크 공격 줄, 모드/아이템 번호)에서 같은 값이 복원되는지 확인한다.
+ * - 빌더가 바뀌지 않은 보드/공격 줄 배열을 직전 스냅샷과 공유하고, 바뀌면 새 배열을 내보내는지 검증한다.
  */
 class GameSnapshotTest {
 
@@ -62,4 +73,74 @@ class GameSnapshotTest {
 
         assertArrayEquals(new int[] {0,1}, snap.clearedLines());
     }
+
+    @Test
+    void serializedSnapshot_unpacksToSameValues() throws Exception {
+        int[][] board = new int[20][10];
+        board[19][0] = 8;
+        board[5][9] = 200;
+        boolean[][] attacks = new boolean[][] { new boolean[10], new boolean[10] };
+        attacks[0][3] = true;
+        attacks[1][9] = true;
+        GameSnapshot snap = new GameSnapshot(2, board, 1, 2, 10, 3, 1, 4, 0, 2, attacks, "TIME_LIMIT", "custom",
+                -1, -1, null);
+
+        GameSnapshot copy = roundTrip(snap);
+
+        assertEquals(10, copy.boardWidth());
+        assertEquals(20, copy.boardHeight());
+        for (int y = 0; y < 20; y++) {
+            assertArrayEquals(board[y], copy.board()[y]);
+        }
+        assertSame(copy.board(), copy.board());
+        assertEquals(2, copy.attackLineCount());
+        assertEquals(1 << 3, copy.attackMask(0));
+        assertArrayEquals(attacks[1], copy.attackLines()[1]);
+        assertEquals(GameMode.TIME_LIMIT, copy.mode());
+        assertEquals("TIME_LIMIT", copy.gameMode());
+        assertEquals("custom", copy.activeItemLabel());
+    }
+
+    @Test
+    void unknownModeName_mapsToNull() {
+        GameSnapshot snap = new GameSnapshot(1, new int[1][1], 0, 0, 0, 0, 0, -1, -1, 0, null, "NORMAL", null, -1, -1, null);
+        assertNull(snap.mode());
+        assertNull(snap.activeItemLabel());
+        assertEquals(0, snap.attackLineCount());
+    }
+
+    @Test
+    void builder_sharesUnchangedArraysWithPreviousSnapshot() {
+        GameSnapshot.Builder builder = new GameSnapshot.Builder();
+        int[] cells = new int[200];
+        cells[199] = 3;
+
+        GameSnapshot first = builder.board(cells, 10).clearLists().addAttackLine(0b101, 10)
+                .mode(GameMode.ITEM).item("weight", 1, 0).build(1);
+        GameSnapshot second = builder.board(cells, 10).clearLists().addAttackLine(0b101, 10).build(1);
+        assertSame(first.cells(), second.cells());
+        assertEquals(3, second.board()[19][9]);
+        assertEquals(0b101, second.attackMask(0));
+        assertEquals("weight", second.activeItemLabel());
+        assertEquals(GameMode.ITEM, second.mode());
+
+        cells[0] = 7;
+        GameSnapshot third = builder.board(cells, 10).clearLists().addClearedLine(19).build(2);
+        assertNotSame(second.cells(), third.cells());
+        assertEquals(0, second.board()[0][0]);
+        assertEquals(7, third.board()[0][0]);
+        assertEquals(0, third.attackLineCount());
+        assertArrayEquals(new int[] { 19 }, third.clearedLines());
+        assertSame(third.cells(), third.withPlayerId(1).cells());
+    }
+
+    private static GameSnapshot roundTrip(GameSnapshot snap) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(snap);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (GameSnapshot) in.readObject();
+        }
+    }
 }
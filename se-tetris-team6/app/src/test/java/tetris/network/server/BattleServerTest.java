@@ -0,0 +1,347 @@
+/**
+ * 대상: tetris.network.server.BattleServer, tetris.network.server.BattleMatch
+ *
+ * 목적:
+ * - --players / --targeting 인자 해석을 검증한다.
+ * - 소켓 없이 32명 판을 틱마다 돌려, 좌석마다 자기 전체 스냅샷과 다른 31명의 요약만 받는지,
+ *   요약은 간격마다만 나가는지, 쌓다가 무너진 플레이어가 탈락 처리되는지 확인한다.
+ * - 실제 소켓 클라이언트 세 명이 준비하면 판이 시작되고 각자 자기 번호 스냅샷과 남의 요약을 받는지 본다.
+ * - 먼저 들어온 관전자는 좌석/준비 수에 들지 않고, 한 번 인코딩된 모든 보드의 스냅샷을 평범한 메시지로 받는지 본다.
+ * - 탈락한 좌석은 그 자리에서 GAME_END를 받고, 판이 끝나면 모든 좌석과 관전자가 순위가 담긴 GAME_END를 받는지 본다.
+ * - 준비하지 않은 플레이어는 좌석을 받지 않고 그 판 동안 관전자로 모든 보드를 받는지 본다.
+ * - 연결이 끊겨 판이 끝나면 그 뒤 틱이 실패하지 않고 판이 정리되는지 본다.
+ */
+package tetris.network.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import tetris.domain.GameMode;
+import tetris.domain.model.GameClock;
+import tetris.multiplayer.model.AttackTargeting;
+import tetris.network.protocol.BoardOverview;
+import tetris.network.protocol.GameMessage;
+import tetris.network.protocol.GameSnapshot;
+import tetris.network.protocol.InputType;
+import tetris.network.protocol.MessageType;
+import tetris.network.protocol.NetworkProtocol;
+
+class BattleServerTest {
+
+    private static final int SEATS = NetworkProtocol.MAX_BATTLE_PLAYERS;
+
+    private BattleServer battle;
+
+    @AfterEach
+    void tearDown() {
+        if (battle != null) {
+            battle.stop();
+        }
+        GameClock.setDefaultExternallyDriven(false);
+    }
+
+    @Test
+    void resolveArgs_parsesPlayersAndTargeting() {
+        assertEquals(2, BattleServer.resolvePlayers(new String[] {"--server"}));
+        assertEquals(8, BattleServer.resolvePlayers(new String[] {"--server", "--players=8"}));
+        assertEquals(2, BattleServer.resolvePlayers(new String[] {"--players=99"}));
+        assertEquals(2, BattleServer.resolvePlayers(new String[] {"--players=x"}));
+        assertTrue(BattleServer.isRequested(new String[] {"--server=0", "--players=3"}));
+        assertFalse(BattleServer.isRequested(new String[] {"--server", "--players=2"}));
+        assertFalse(BattleServer.isRequested(new String[] {"--players=3"}));
+
+        assertSame(AttackTargeting.RANDOM, BattleServer.resolveTargeting(new String[] {}));
+        assertSame(AttackTargeting.MOST_ATTACKERS, BattleServer.resolveTargeting(new String[] {"--targeting=attackers"}));
+        assertSame(AttackTargeting.LOWEST_BOARD, BattleServer.resolveTargeting(new String[] {"--targeting=LOWEST"}));
+        assertThrows(IllegalArgumentException.class, () -> new BattleServer(0, "NORMAL", SEATS + 1, null));
+    }
+
+    @Test
+    void fullMatch_fansOutOwnSnapshotsAndOthersOverviews() {
+        GameClock.setDefaultExternallyDriven(true);
+        int[] states = new int[SEATS + 1];
+        int[] overviews = new int[SEATS + 1];
+        boolean[] wrongRecipient = new boolean[1];
+        BattleMatch match = new BattleMatch(GameMode.STANDARD, 42L, SEATS, AttackTargeting.LOWEST_BOARD, (pid, message) -> {
+            if (message.getType() == MessageType.GAME_STATE) {
+                states[pid]++;
+                wrongRecipient[0] |= ((GameSnapshot) message.getPayload()).playerId() != pid;
+            } else if (message.getType() == MessageType.BOARD_OVERVIEW) {
+                overviews[pid]++;
+                wrongRecipient[0] |= ((BoardOverview) message.getPayload()).playerId() == pid;
+            }
+        });
+        try {
+            match.tick(BattleServer.TICK_MS);
+            for (int pid = 1; pid <= SEATS; pid++) {
+                assertEquals(1, states[pid], "seat " + pid);
+                assertEquals(SEATS - 1, overviews[pid], "seat " + pid);
+            }
+
+            // 요약 간격보다 짧은 동안은 자기 스냅샷만 더 나간다.
+            long interval = NetworkProtocol.BATTLE_OVERVIEW_INTERVAL;
+            int ticksPerOverview = (int) ((interval + BattleServer.TICK_MS - 1) / BattleServer.TICK_MS);
+            for (int i = 0; i < ticksPerOverview - 1; i++) {
+                match.tick(BattleServer.TICK_MS);
+            }
+            assertEquals(ticksPerOverview, states[1]);
+            assertEquals(SEATS - 1, overviews[1]);
+            match.tick(BattleServer.TICK_MS);
+            assertEquals(2 * (SEATS - 1), overviews[1]);
+            assertFalse(wrongRecipient[0]);
+
+            // 1번만 계속 떨어뜨리면 먼저 무너져 꼴찌로 탈락한다.
+            for (int i = 0; i < 200 && match.game().isAlive(1); i++) {
+                match.applyInput(1, InputType.HARD_DROP);
+                match.tick(BattleServer.TICK_MS);
+            }
+            assertFalse(match.game().isAlive(1));
+            assertEquals(SEATS, match.game().placementOf(1));
+            assertFalse(match.isOver());
+            int sentBefore = states[1];
+            match.tick(BattleServer.TICK_MS);
+            assertEquals(sentBefore, states[1], "탈락한 좌석에는 스냅샷을 더 보내지 않는다");
+        } finally {
+            match.close();
+        }
+    }
+
+    @Test
+    void eliminatedSeat_receivesGameEndAndMatchEndIsBroadcast() {
+        GameClock.setDefaultExternallyDriven(true);
+        List<List<GameMessage>> ends = new ArrayList<>();
+        for (int pid = 0; pid <= 3; pid++) {
+            ends.add(new ArrayList<>());
+        }
+        List<GameMessage> published = new ArrayList<>();
+        BattleMatch match = new BattleMatch(GameMode.STANDARD, 42L, 3, AttackTargeting.RANDOM, new BattleMatch.Outbox() {
+            @Override
+            public void send(int playerId, GameMessage message) {
+                if (message.getType() == MessageType.GAME_END) {
+                    ends.get(playerId).add(message);
+                }
+            }
+
+            @Override
+            public void publish(GameMessage message) {
+                if (message.getType() == MessageType.GAME_END) {
+                    published.add(message);
+                }
+            }
+        });
+        try {
+            for (int i = 0; i < 200 && match.game().isAlive(1); i++) {
+                match.applyInput(1, InputType.HARD_DROP);
+                match.tick(BattleServer.TICK_MS);
+            }
+            assertFalse(match.game().isAlive(1));
+            assertEquals(1, ends.get(1).size(), "탈락한 좌석은 바로 GAME_END를 받는다");
+            Map<?, ?> eliminated = (Map<?, ?>) ends.get(1).get(0).getPayload();
+            assertEquals(1, eliminated.get("loserId"));
+            assertEquals(3, eliminated.get("placement"));
+            assertTrue(ends.get(2).isEmpty());
+            assertTrue(ends.get(3).isEmpty());
+
+            // 연결이 끊긴 2번이 탈락하면 판이 끝나고 모두가 최종 결과를 받는다.
+            match.eliminate(2);
+            assertTrue(match.isOver());
+            for (int seat = 1; seat <= 3; seat++) {
+                GameMessage last = ends.get(seat).get(ends.get(seat).size() - 1);
+                Map<?, ?> result = (Map<?, ?>) last.getPayload();
+                assertEquals(3, result.get("winnerId"), "seat " + seat);
+                int[] placements = (int[]) result.get("placements");
+                assertEquals(3, placements[1]);
+                assertEquals(2, placements[2]);
+                assertEquals(1, placements[3]);
+            }
+            assertEquals(1, ends.get(3).size());
+            assertEquals(2, published.size());
+            match.tick(BattleServer.TICK_MS);
+            assertEquals(1, ends.get(3).size(), "최종 결과는 한 번만 보낸다");
+        } finally {
+            match.close();
+        }
+    }
+
+    @Test
+    void unreadyPlayer_isNotSeatedAndWatchesTheMatch() throws Exception {
+        battle = new BattleServer(0, "NORMAL", 3, AttackTargeting.RANDOM);
+        battle.start();
+
+        try (RawClient one = RawClient.connect(battle.getPort());
+             RawClient idle = RawClient.connect(battle.getPort());
+             RawClient two = RawClient.connect(battle.getPort());
+             RawClient three = RawClient.connect(battle.getPort())) {
+            one.send(MessageType.PLAYER_READY, null);
+            two.send(MessageType.PLAYER_READY, null);
+            three.send(MessageType.PLAYER_READY, null);
+
+            RawClient[] seated = {one, two, three};
+            for (int seat = 1; seat <= seated.length; seat++) {
+                GameSnapshot own = (GameSnapshot) seated[seat - 1].awaitType(MessageType.GAME_STATE).getPayload();
+                assertEquals(seat, own.playerId());
+            }
+            idle.awaitType(MessageType.GAME_START);
+            Set<Integer> boards = new HashSet<>();
+            while (boards.size() < 3) {
+                boards.add(((GameSnapshot) idle.awaitType(MessageType.GAME_STATE).getPayload()).playerId());
+            }
+            assertEquals(Set.of(1, 2, 3), boards);
+            assertTrue(battle.isMatchRunning());
+        }
+    }
+
+    @Test
+    void disconnectsEndingTheMatch_leaveNoTickFailure() throws Exception {
+        battle = new BattleServer(0, "NORMAL", 3, AttackTargeting.RANDOM);
+        battle.start();
+
+        try (RawClient one = RawClient.connect(battle.getPort());
+             RawClient two = RawClient.connect(battle.getPort());
+             RawClient three = RawClient.connect(battle.getPort())) {
+            for (RawClient client : new RawClient[] {one, two, three}) {
+                client.send(MessageType.PLAYER_READY, null);
+            }
+            three.awaitType(MessageType.GAME_STATE);
+
+            one.send(MessageType.DISCONNECT, null);
+            two.send(MessageType.DISCONNECT, null);
+            Map<?, ?> result = (Map<?, ?>) three.awaitType(MessageType.GAME_END).getPayload();
+            assertEquals(3, result.get("winnerId"));
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (battle.getMatchesPlayed() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            assertEquals(1, battle.getMatchesPlayed());
+            Thread.sleep(100);
+            assertEquals(0, battle.simulationFailures(), "판을 정리한 뒤 같은 틱이 돌면 안 된다");
+        }
+    }
+
+    @Test
+    void threeReadyClients_startBattleWithOwnIds() throws Exception {
+        battle = new BattleServer(0, "NORMAL", 3, AttackTargeting.RANDOM);
+        battle.start();
+
+        try (RawClient one = RawClient.connect(battle.getPort());
+             RawClient two = RawClient.connect(battle.getPort());
+             RawClient three = RawClient.connect(battle.getPort())) {
+            RawClient[] clients = {one, two, three};
+            for (RawClient client : clients) {
+                client.send(MessageType.PLAYER_READY, null);
+            }
+            for (int seat = 1; seat <= clients.length; seat++) {
+                RawClient client = clients[seat - 1];
+                client.awaitType(MessageType.GAME_START);
+                GameSnapshot own = (GameSnapshot) client.awaitType(MessageType.GAME_STATE).getPayload();
+                assertEquals(seat, own.playerId());
+                BoardOverview other = (BoardOverview) client.awaitType(MessageType.BOARD_OVERVIEW).getPayload();
+                assertNotEquals(seat, other.playerId());
+            }
+            assertTrue(battle.isMatchRunning());
+        }
+    }
+
+    @Test
+    void spectator_isNotSeatedAndReceivesEveryBoard() throws Exception {
+        battle = new BattleServer(0, "NORMAL", 3, AttackTargeting.RANDOM);
+        battle.start();
+
+        try (RawClient spectator = RawClient.connect(battle.getPort(), NetworkProtocol.SPECTATOR_ROLE);
+             RawClient one = RawClient.connect(battle.getPort());
+             RawClient two = RawClient.connect(battle.getPort());
+             RawClient three = RawClient.connect(battle.getPort())) {
+            GameServer server = battle.gameServer();
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (server.getConnectedClients().size() < 4 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(3, server.getConnectedCount());
+            assertEquals(1, server.getSpectatorCount());
+
+            spectator.send(MessageType.PLAYER_READY, null);
+            one.send(MessageType.PLAYER_READY, null);
+            two.send(MessageType.PLAYER_READY, null);
+            Thread.sleep(100);
+            assertFalse(battle.isMatchRunning(), "관전자의 준비는 세지 않는다");
+            three.send(MessageType.PLAYER_READY, null);
+
+            spectator.awaitType(MessageType.GAME_START);
+            assertEquals(1, ((GameSnapshot) one.awaitType(MessageType.GAME_STATE).getPayload()).playerId());
+            Set<Integer> boards = new HashSet<>();
+            while (boards.size() < 3) {
+                GameMessage message = spectator.awaitType(MessageType.GAME_STATE);
+                assertEquals(GameMessage.class, message.getClass());
+                boards.add(((GameSnapshot) message.getPayload()).playerId());
+            }
+            assertEquals(Set.of(1, 2, 3), boards);
+
+            spectator.send(MessageType.DISCONNECT, null);
+            Thread.sleep(100);
+            assertTrue(battle.isMatchRunning(), "관전자가 나가도 판은 계속된다");
+        }
+    }
+
+    /** GameClient 없이 프로토콜만 흉내 내는 최소 클라이언트. */
+    private static final class RawClient implements AutoCloseable {
+        private final Socket socket;
+        private final ObjectOutputStream out;
+        private final ObjectInputStream in;
+
+        private RawClient(Socket socket) throws IOException {
+            this.socket = socket;
+            socket.setSoTimeout(5_000);
+            this.out = new ObjectOutputStream(socket.getOutputStream());
+            out.flush();
+            this.in = new ObjectInputStream(socket.getInputStream());
+        }
+
+        static RawClient connect(int port) throws Exception {
+            return connect(port, null);
+        }
+
+        static RawClient connect(int port, Object role) throws Exception {
+            RawClient client = new RawClient(new Socket("localhost", port));
+            client.send(MessageType.CONNECTION_REQUEST, role);
+            // 접속 순서가 좌석 순서이므로 수락을 받은 뒤 반환한다.
+            client.awaitType(MessageType.CONNECTION_ACCEPTED);
+            return client;
+        }
+
+        void send(MessageType type, Object payload) throws IOException {
+            out.writeObject(new GameMessage(type, "CLIENT", payload));
+            out.flush();
+        }
+
+        GameMessage awaitType(MessageType type) throws Exception {
+            while (true) {
+                GameMessage message = (GameMessage) in.readObject();
+                if (message.getType() == type) {
+                    return message;
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package tetris.network.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import tetris.network.LinkQualityEstimator;
+import tetris.network.protocol.BoardOverview;
+import tetris.network.protocol.GameMessage;
+import tetris.network.protocol.GameSnapshot;
+import tetris.network.protocol.MessageType;
+import tetris.network.protocol.NetworkProtocol;
+import tetris.network.protocol.PingPayload;
+
+/*
+ * 테스트 대상: tetris.network.server.ClientSendQueue
+ *
+ * 역할 요약:
+ * - 연결마다 송신 스레드를 두고, 스냅샷/보드 요약은 플레이어별 최신 것만 남기며 느린 연결의 스냅샷 간격을 늘린다.
+ *
+ * 테스트 전략:
+ * - 시각을 직접 넘겨 poll/completed를 불러, 덮어쓴 스냅샷은 최신 것만 나가고 제어 메시지와의 순서가 지켜지는지 확인한다.
+ * - PING처럼 순서가 상관없는 메시지는 보류된 스냅샷을 끌고 나가지 않는지 확인한다.
+ * - 오래 걸린 쓰기 뒤에는 간격이 늘어 그 사이 스냅샷이 보류되고, 빠른 쓰기가 이어지면 다시 줄어드는지 검증한다.
+ * - 링크 손실률이 높으면 간격 하한이 생기는지, 제어 메시지가 넘치면 offer가 false인지 확인한다.
+ * - 키프레임 모드(관전자)에서는 막히거나 넘칠 때 필수가 아닌 메시지만 버리는지 확인한다.
+ * - 실제 송신 스레드가 막혀 있어도 offer는 바로 돌아오는지 확인한다.
+ */
+class ClientSendQueueTest {
+
+    @Test
+    void snapshots_coalescePerPlayerAndKeepOrderWithControl() {
+        ClientSendQueue queue = new ClientSendQueue(m -> { }, null);
+        GameMessage start = new GameMessage(MessageType.GAME_START, "SERVER", null);
+        queue.offer(start, 0);
+        queue.offer(state(1, 1), 0);
+        GameMessage latestOne = state(1, 2);
+        queue.offer(latestOne, 0);
+        GameMessage two = state(2, 1);
+        queue.offer(two, 0);
+        GameMessage end = new GameMessage(MessageType.GAME_END, "SERVER", null);
+        queue.offer(end, 0);
+
+        assertEquals(1, queue.coalescedCount());
+        assertEquals(4, queue.pendingCount());
+        assertSame(start, drain(queue, 0));
+        assertSame(latestOne, drain(queue, 0));
+        assertSame(two, drain(queue, 0));
+        assertSame(end, drain(queue, 0));
+        assertNull(queue.poll(0));
+    }
+
+    @Test
+    void ping_passesHeldSnapshotWithoutFlushingIt() {
+        ClientSendQueue queue = new ClientSendQueue(m -> { }, null);
+        queue.offer(state(1, 0), 0);
+        queue.completed(queue.poll(0), 40);
+        assertEquals(ClientSendQueue.THROTTLED_INTERVAL_MS, queue.effectiveIntervalMillis());
+        // 늦춘 간격으로 다음 스냅샷 시각을 잡는다.
+        queue.offer(state(1, 1), 40);
+        drain(queue, 40);
+
+        GameMessage held = state(1, 2);
+        queue.offer(held, 41);
+        GameMessage ping = new GameMessage(MessageType.PING, "SERVER", null);
+        queue.offer(ping, 41);
+
+        assertSame(ping, drain(queue, 41));
+        assertNull(queue.poll(41), "PING 때문에 보류된 스냅샷이 간격을 어기고 나가지 않는다");
+        assertSame(held, drain(queue, 40 + ClientSendQueue.THROTTLED_INTERVAL_MS));
+    }
+
+    @Test
+    void boardOverviews_coalescePerPlayerApartFromSnapshots() {
+        ClientSendQueue queue = new ClientSendQueue(m -> { }, null);
+        queue.offer(state(3, 1), 0);
+        queue.offer(overview(3, 1), 0);
+        GameMessage latest = overview(3, 2);
+        queue.offer(latest, 0);
+        queue.offer(overview(NetworkProtocol.MAX_BATTLE_PLAYERS, 1), 0);
+
+        assertEquals(1, queue.coalescedCount());
+        assertEquals(3, queue.pendingCount());
+        assertEquals(MessageType.GAME_STATE, drain(queue, 0).getType());
+        assertSame(latest, drain(queue, 0));
+        assertEquals(NetworkProtocol.MAX_BATTLE_PLAYERS, ((BoardOverview) drain(queue, 0).getPayload()).playerId());
+        assertNull(queue.poll(0));
+    }
+
+    @Test
+    void stalledWrite_raisesIntervalAndFastWritesRecover() {
+        ClientSendQueue queue = new ClientSendQueue(m -> { }, null);
+        queue.offer(state(1, 0), 0);
+        GameMessage first = queue.poll(0);
+        // 쓰는 중(막힘)에 새 상태가 두 번 나와도 한 번만 물러난다.
+        queue.offer(state(1, 1), 30);
+        queue.offer(state(1, 2), 31);
+        queue.completed(first, 40);
+        assertEquals(ClientSendQueue.THROTTLED_INTERVAL_MS, queue.effectiveIntervalMillis());
+        assertEquals(1, queue.throttleCount());
+
+        GameMessage next = queue.poll(40);
+        assertEquals(2, ((GameSnapshot) next.getPayload()).score());
+        queue.completed(next, 0);
+        long interval = queue.effectiveIntervalMillis();
+        assertTrue(interval < ClientSendQueue.THROTTLED_INTERVAL_MS && interval > 0, "interval=" + interval);
+
+        queue.offer(state(1, 3), 41);
+        assertNull(queue.poll(41), "간격이 지나기 전에는 보류");
+        assertEquals(1, queue.pendingCount());
+        GameMessage held = queue.poll(40 + ClientSendQueue.THROTTLED_INTERVAL_MS);
+        assertEquals(3, ((GameSnapshot) held.getPayload()).score());
+
+        for (int i = 0; i < 40; i++) {
+            queue.completed(held, 0);
+        }
+        assertEquals(0, queue.effectiveIntervalMillis());
+    }
+
+    @Test
+    void lossyLink_setsIntervalFloor() {
+        LinkQualityEstimator link = new LinkQualityEstimator();
+        ClientSendQueue queue = new ClientSendQueue(m -> { }, link);
+        assertEquals(0, queue.effectiveIntervalMillis());
+        for (int i = 0; i < 4; i++) {
+            link.newPing(0, 0);
+        }
+        link.expire(LinkQualityEstimator.LOSS_TIMEOUT_NANOS + 1);
+        assertTrue(link.lossRatio() > ClientSendQueue.LOSSY_RATIO);
+        assertEquals(ClientSendQueue.THROTTLED_INTERVAL_MS, queue.effectiveIntervalMillis());
+
+        PingPayload ping = link.newPing(0, 0);
+        link.onPong(ping, 1_000_000L);
+        assertEquals(ClientSendQueue.THROTTLED_INTERVAL_MS, queue.effectiveIntervalMillis(), "손실률은 천천히 회복");
+    }
+
+    @Test
+    void controlOverflow_isRejected() {
+        ClientSendQueue queue = new ClientSendQueue(m -> { }, null);
+        for (int i = 0; i < ClientSendQueue.CONTROL_CAPACITY; i++) {
+            assertTrue(queue.offer(new GameMessage(MessageType.ATTACK_LINES, "SERVER", i), 0));
+        }
+        assertFalse(queue.offer(new GameMessage(MessageType.GAME_END, "SERVER", null), 0));
+        assertTrue(queue.offer(state(1, 0), 0), "스냅샷은 덮어쓰므로 넘치지 않는다");
+        queue.close();
+        assertFalse(queue.offer(state(1, 1), 0));
+        assertEquals(0, queue.pendingCount());
+    }
+
+    @Test
+    void keyframesOnly_dropsNonEssentialWhileStalledButKeepsSnapshots() {
+        ClientSendQueue queue = new ClientSendQueue(m -> { }, null);
+        queue.setKeyframesOnly(true);
+        queue.offer(state(1, 0), 0);
+        GameMessage writing = queue.poll(0);
+
+        // 쓰기가 막힌 동안 들어온 중간 메시지는 버리고, 스냅샷과 판 종료는 남긴다.
+        assertTrue(queue.offer(new GameMessage(MessageType.ATTACK_LINES, "SERVER", 1), 30));
+        assertTrue(queue.offer(state(1, 1), 30));
+        GameMessage end = new GameMessage(MessageType.GAME_END, "SERVER", null);
+        assertTrue(queue.offer(end, 30));
+        assertEquals(1, queue.dropCount());
+        assertEquals(2, queue.pendingCount());
+        queue.completed(writing, 40);
+
+        assertEquals(1, ((GameSnapshot) drain(queue, 40).getPayload()).score());
+        assertSame(end, drain(queue, 40));
+
+        // 넘쳐도 끊지 않고 버린다.
+        for (int i = 0; i < ClientSendQueue.CONTROL_CAPACITY + 10; i++) {
+            assertTrue(queue.offer(new GameMessage(MessageType.ATTACK_LINES, "SERVER", i), 50));
+        }
+        assertEquals(11, queue.dropCount());
+        assertEquals(ClientSendQueue.CONTROL_CAPACITY, queue.pendingCount());
+    }
+
+    @Test
+    void blockedWriter_doesNotBlockOffer() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch writing = new CountDownLatch(1);
+        ClientSendQueue queue = new ClientSendQueue(m -> {
+            writing.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, null);
+        queue.start("test-writer", e -> { });
+        try {
+            queue.offer(state(1, 0));
+            assertTrue(writing.await(5, TimeUnit.SECONDS));
+            long begin = System.nanoTime();
+            for (int i = 1; i <= 1_000; i++) {
+                queue.offer(state(1, i));
+                queue.offer(state(2, i));
+            }
+            assertTrue(System.nanoTime() - begin < TimeUnit.SECONDS.toNanos(1));
+            assertEquals(2, queue.pendingCount());
+        } finally {
+            release.countDown();
+            queue.close();
+        }
+    }
+
+    private static GameMessage drain(ClientSendQueue queue, long now) {
+        GameMessage message = queue.poll(now);
+        queue.completed(message, 0);
+        return message;
+    }
+
+    private static GameMessage overview(int playerId, int score) {
+        return new GameMessage(MessageType.BOARD_OVERVIEW, "SERVER", new BoardOverview(playerId, new byte[10], 0, score, true));
+    }
+
+    private static GameMessage state(int playerId, int score) {
+        GameSnapshot snapshot = new GameSnapshot(playerId, null, 0, 0, score, 0, 0, -1, -1, 0, null, "STANDARD", null, -1, -1, null);
+        return new GameMessage(MessageType.GAME_STATE, "SERVER", snapshot);
+    }
+}
@@ -0,0 +1,241 @@
+/**
+ * 대상: tetris.network.server.DedicatedServer
+ *
+ * 목적:
+ * - --server / --mode 인자 해석을 검증한다.
+ * - 실제 소켓 클라이언트 두 개가 준비하면 서버 권한 시뮬레이션이 시작되고, 1번 좌석 클라이언트는 자신의 보드를
+ *   2번으로 받는지(시점 뒤집기) 확인한다. 한쪽이 끊기면 판이 정리되고, 그 뒤 틱이 실패하지 않는지도 본다.
+ * - 한 좌석만 블록을 떨어뜨려, 각 좌석이 자기/상대 보드를 시점에 맞는 번호로 받는지 보고,
+ *   무너진 좌석의 GAME_END 승패 번호도 같은 규칙으로 뒤집히는지 본다.
+ * - 먼저 접속했어도 준비하지 않은 클라이언트는 좌석을 받지 않고 그 판 동안 관전자가 되는지 본다.
+ */
+package tetris.network.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.Socket;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import tetris.domain.GameMode;
+import tetris.domain.model.GameClock;
+import tetris.network.protocol.GameMessage;
+import tetris.network.protocol.GameSnapshot;
+import tetris.network.protocol.InputType;
+import tetris.network.protocol.MessageType;
+import tetris.network.protocol.PlayerInput;
+
+class DedicatedServerTest {
+
+    private DedicatedServer dedicated;
+
+    @AfterEach
+    void tearDown() {
+        if (dedicated != null) {
+            dedicated.stop();
+        }
+        // 전역 기본값이므로 다른 테스트에 새지 않게 되돌린다.
+        GameClock.setDefaultExternallyDriven(false);
+    }
+
+    @Test
+    void resolvePort_parsesServerArgument() {
+        assertEquals(-1, DedicatedServer.resolvePort(new String[] {}));
+        assertEquals(DedicatedServer.DEFAULT_PORT, DedicatedServer.resolvePort(new String[] {"--server"}));
+        assertEquals(6000, DedicatedServer.resolvePort(new String[] {"--jfr", "--server=6000"}));
+        assertEquals(-1, DedicatedServer.resolvePort(new String[] {"--server=abc"}));
+        assertEquals(-1, DedicatedServer.resolvePort(new String[] {"--server=70000"}));
+        assertFalse(DedicatedServer.isRequested(null));
+    }
+
+    @Test
+    void resolveMode_defaultsToNormal() {
+        assertEquals("NORMAL", DedicatedServer.resolveMode(new String[] {"--server"}));
+        assertEquals("ITEM", DedicatedServer.resolveMode(new String[] {"--mode=item"}));
+        assertEquals("NORMAL", DedicatedServer.resolveMode(new String[] {"--mode=bogus"}));
+        assertEquals(GameMode.TIME_LIMIT, DedicatedServer.toGameMode("TIME_LIMIT"));
+    }
+
+    @Test
+    void twoReadyClients_startAuthoritativeMatch() throws Exception {
+        dedicated = new DedicatedServer(0, "NORMAL");
+        dedicated.start();
+
+        try (RawClient seatOne = RawClient.connect(dedicated.getPort());
+             RawClient seatTwo = RawClient.connect(dedicated.getPort())) {
+            seatOne.send(MessageType.PLAYER_READY, null);
+            seatTwo.send(MessageType.PLAYER_READY, null);
+
+            seatOne.awaitType(MessageType.GAME_START);
+            seatTwo.awaitType(MessageType.GAME_START);
+            assertTrue(dedicated.isMatchRunning());
+
+            // 스냅샷은 양쪽 보드 모두 오므로, 두 번호가 다 보일 때까지 받는다.
+            Set<Integer> seen = new HashSet<>();
+            while (seen.size() < 2) {
+                GameSnapshot snapshot = (GameSnapshot) seatOne.awaitType(MessageType.GAME_STATE).getPayload();
+                seen.add(snapshot.playerId());
+            }
+            assertEquals(Set.of(1, 2), seen);
+
+            // 1번 좌석만 블록을 떨어뜨린다. 두 클라이언트 모두 자기를 2번으로 알므로,
+            // 1번 좌석은 자기 보드를 2번으로, 2번 좌석은 상대(1번 좌석) 보드를 1번으로 받아야 한다.
+            seatOne.send(MessageType.PLAYER_INPUT, new PlayerInput(InputType.HARD_DROP));
+            GameSnapshot[] seatOneView = seatOne.awaitBottomRowFilled();
+            assertEquals(2, seatOneView[0].playerId(), "1번 좌석은 자기 보드를 2번으로 받는다");
+            assertFalse(hasBottomRow(seatOneView[1]), "상대 보드는 1번으로 오고 비어 있다");
+            GameSnapshot[] seatTwoView = seatTwo.awaitBottomRowFilled();
+            assertEquals(1, seatTwoView[0].playerId(), "2번 좌석은 상대 보드를 1번으로 받는다");
+            assertFalse(hasBottomRow(seatTwoView[1]), "자기 보드는 2번으로 오고 비어 있다");
+
+            seatTwo.send(MessageType.DISCONNECT, null);
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (dedicated.getMatchesPlayed() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            assertEquals(1, dedicated.getMatchesPlayed());
+            assertFalse(dedicated.isMatchRunning());
+            Thread.sleep(100);
+            assertEquals(0, dedicated.simulationFailures(), "판을 정리한 뒤 같은 틱이 돌면 안 된다");
+        }
+    }
+
+    @Test
+    void unreadyClient_isNotSeatedAndWatchesUntilMatchEnds() throws Exception {
+        dedicated = new DedicatedServer(0, "NORMAL");
+        dedicated.start();
+
+        try (RawClient idle = RawClient.connect(dedicated.getPort());
+             RawClient first = RawClient.connect(dedicated.getPort());
+             RawClient second = RawClient.connect(dedicated.getPort())) {
+            first.send(MessageType.PLAYER_READY, null);
+            second.send(MessageType.PLAYER_READY, null);
+
+            first.awaitType(MessageType.GAME_START);
+            idle.awaitType(MessageType.GAME_START);
+            assertTrue(dedicated.isMatchRunning());
+            assertEquals(1, dedicated.seatOf(first.clientId));
+            assertEquals(2, dedicated.seatOf(second.clientId));
+            assertEquals(0, dedicated.seatOf(idle.clientId));
+            GameServer server = dedicated.gameServer();
+            assertEquals(1, server.getSpectatorCount());
+            idle.awaitType(MessageType.GAME_STATE);
+
+            second.send(MessageType.DISCONNECT, null);
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (dedicated.getMatchesPlayed() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            assertEquals(1, dedicated.getMatchesPlayed());
+            assertEquals(0, server.getSpectatorCount(), "판이 끝나면 다시 플레이어로 돌아온다");
+        }
+    }
+
+    @Test
+    void toppedOutSeat_gameEndIdsFollowSeatPerspective() throws Exception {
+        dedicated = new DedicatedServer(0, "NORMAL");
+        dedicated.start();
+
+        try (RawClient seatOne = RawClient.connect(dedicated.getPort());
+             RawClient seatTwo = RawClient.connect(dedicated.getPort())) {
+            seatOne.send(MessageType.PLAYER_READY, null);
+            seatTwo.send(MessageType.PLAYER_READY, null);
+            seatOne.awaitType(MessageType.GAME_START);
+            seatTwo.awaitType(MessageType.GAME_START);
+
+            // 1번 좌석만 계속 떨어뜨려 무너뜨린다.
+            for (int i = 0; i < 60 && dedicated.getMatchesPlayed() == 0; i++) {
+                seatOne.send(MessageType.PLAYER_INPUT, new PlayerInput(InputType.HARD_DROP));
+                Thread.sleep(30);
+            }
+            Map<?, ?> seatOneEnd = (Map<?, ?>) seatOne.awaitType(MessageType.GAME_END).getPayload();
+            Map<?, ?> seatTwoEnd = (Map<?, ?>) seatTwo.awaitType(MessageType.GAME_END).getPayload();
+            // 진 쪽(1번 좌석)은 자기를 2번으로 알므로 번호가 뒤집혀 온다.
+            assertEquals(1, seatOneEnd.get("winnerId"));
+            assertEquals(2, seatOneEnd.get("loserId"));
+            assertEquals(2, seatTwoEnd.get("winnerId"));
+            assertEquals(1, seatTwoEnd.get("loserId"));
+            assertEquals(0, dedicated.simulationFailures());
+        }
+    }
+
+    private static boolean hasBottomRow(GameSnapshot snapshot) {
+        int[][] board = snapshot.board();
+        for (int cell : board[board.length - 1]) {
+            if (cell != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** GameClient 없이 프로토콜만 흉내 내는 최소 클라이언트. */
+    private static final class RawClient implements AutoCloseable {
+        private final Socket socket;
+        private final ObjectOutputStream out;
+        private final ObjectInputStream in;
+        private String clientId;
+
+        private RawClient(Socket socket) throws IOException {
+            this.socket = socket;
+            socket.setSoTimeout(5_000);
+            this.out = new ObjectOutputStream(socket.getOutputStream());
+            out.flush();
+            this.in = new ObjectInputStream(socket.getInputStream());
+        }
+
+        static RawClient connect(int port) throws Exception {
+            RawClient client = new RawClient(new Socket("localhost", port));
+            client.send(MessageType.CONNECTION_REQUEST, null);
+            // 접속 순서가 좌석 순서이므로 수락을 받은 뒤 반환한다.
+            client.clientId = (String) client.awaitType(MessageType.CONNECTION_ACCEPTED).getPayload();
+            return client;
+        }
+
+        void send(MessageType type, Object payload) throws IOException {
+            out.writeObject(new GameMessage(type, "CLIENT", payload));
+            out.flush();
+        }
+
+        GameMessage awaitType(MessageType type) throws Exception {
+            while (true) {
+                GameMessage message = (GameMessage) in.readObject();
+                if (message.getType() == type) {
+                    return message;
+                }
+            }
+        }
+
+        /**
+         * 바닥 줄이 찬 보드 스냅샷을 받을 때까지 읽는다.
+         * @return [0] 바닥이 찬 스냅샷, [1] 그 직전에 받은 다른 번호의 스냅샷
+         */
+        GameSnapshot[] awaitBottomRowFilled() throws Exception {
+            GameSnapshot other = null;
+            while (true) {
+                GameSnapshot snapshot = (GameSnapshot) awaitType(MessageType.GAME_STATE).getPayload();
+                if (hasBottomRow(snapshot)) {
+                    if (other != null && other.playerId() != snapshot.playerId()) {
+                        return new GameSnapshot[] {snapshot, other};
+                    }
+                } else {
+                    other = snapshot;
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+}
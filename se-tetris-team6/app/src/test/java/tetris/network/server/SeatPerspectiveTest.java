@@ -0,0 +1,60 @@
+/**
+ * 대상: tetris.network.server.SeatPerspective
+ *
+ * 목적:
+ * - 전용 서버가 1번 좌석 클라이언트에게 보내는 메시지의 플레이어 번호가 뒤집히는지 검증한다.
+ * - 번호가 없는 메시지는 같은 인스턴스 그대로 통과하는지 확인한다.
+ */
+package tetris.network.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import tetris.network.protocol.GameMessage;
+import tetris.network.protocol.GameSnapshot;
+import tetris.network.protocol.MessageType;
+
+class SeatPerspectiveTest {
+
+    @Test
+    void swap_exchangesOneAndTwoOnly() {
+        assertEquals(2, SeatPerspective.swap(1));
+        assertEquals(1, SeatPerspective.swap(2));
+        assertEquals(3, SeatPerspective.swap(3));
+    }
+
+    @Test
+    void gameState_snapshotPlayerIdIsSwapped() {
+        GameSnapshot snapshot = new GameSnapshot(1, new int[20][10], 3, 4, 1200, 0, 0, 4, 0, 0, null, "NORMAL", null, -1, -1, null);
+        GameMessage message = new GameMessage(MessageType.GAME_STATE, "Player-1", snapshot);
+
+        GameMessage mapped = SeatPerspective.swapPlayers(message);
+
+        GameSnapshot out = (GameSnapshot) mapped.getPayload();
+        assertEquals(2, out.playerId());
+        assertEquals(1200, out.score());
+        assertEquals(1, snapshot.playerId(), "원본 스냅샷은 바뀌지 않아야 함");
+    }
+
+    @Test
+    void gameEnd_winnerAndLoserAreSwapped() {
+        GameMessage message = new GameMessage(MessageType.GAME_END, "SERVER",
+                Map.of("winnerId", 1, "loserId", 2, "reason", "KO"));
+
+        Map<?, ?> out = (Map<?, ?>) SeatPerspective.swapPlayers(message).getPayload();
+
+        assertEquals(2, out.get("winnerId"));
+        assertEquals(1, out.get("loserId"));
+        assertEquals("KO", out.get("reason"));
+    }
+
+    @Test
+    void otherMessages_passThroughUnchanged() {
+        GameMessage start = new GameMessage(MessageType.GAME_START, "SERVER", null);
+        assertSame(start, SeatPerspective.swapPlayers(start));
+    }
+}
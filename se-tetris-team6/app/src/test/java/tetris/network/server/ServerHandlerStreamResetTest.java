@@ -0,0 +1,60 @@
+package tetris.network.server;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+import org.junit.jupiter.api.Test;
+
+import tetris.network.protocol.GameMessage;
+import tetris.network.protocol.MessageType;
+import tetris.network.protocol.NetworkProtocol;
+
+/*
+ * 테스트 대상: tetris.network.server.ServerHandler (송신 스트림)
+ *
+ * 역할 요약:
+ * - 송신 스레드가 객체 스트림에 메시지를 쓰고, 일정 개수마다 reset해 스트림의 참조 표를 비운다.
+ *
+ * 테스트 전략:
+ * - 같은 메시지 객체를 여러 번 보내면 reset 전까지는 받는 쪽에서 같은 객체(역참조)로 풀린다.
+ * - STREAM_RESET_INTERVAL개를 쓴 뒤에는 참조 표가 비워져 같은 객체도 새로 실려 다른 객체로 풀리는지 확인한다.
+ */
+class ServerHandlerStreamResetTest {
+
+    @Test
+    void stream_isResetAfterInterval() throws Exception {
+        try (ServerSocket listener = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+             Socket client = new Socket(InetAddress.getLoopbackAddress(), listener.getLocalPort());
+             Socket accepted = listener.accept()) {
+            client.setSoTimeout(5000);
+            ObjectOutputStream clientOut = new ObjectOutputStream(client.getOutputStream());
+            clientOut.flush();
+            ServerHandler handler = new ServerHandler(accepted, null);
+            try {
+                ObjectInputStream clientIn = new ObjectInputStream(client.getInputStream());
+                GameMessage message = new GameMessage(MessageType.LAG_WARNING, "SERVER", null);
+                int total = NetworkProtocol.STREAM_RESET_INTERVAL + 1;
+                for (int i = 0; i < total; i++) {
+                    handler.sendMessage(message);
+                }
+                Object[] received = new Object[total];
+                for (int i = 0; i < total; i++) {
+                    received[i] = clientIn.readObject();
+                }
+
+                assertSame(received[0], received[NetworkProtocol.STREAM_RESET_INTERVAL - 1],
+                        "reset 전에는 같은 객체가 역참조로 실린다");
+                assertNotSame(received[0], received[NetworkProtocol.STREAM_RESET_INTERVAL],
+                        "reset 뒤에는 참조 표가 비워져 새로 실린다");
+            } finally {
+                handler.disconnect();
+            }
+        }
+    }
+}
@@ -0,0 +1,245 @@
+/**
+ * 대상: tetris.replay.ReplayRecorder, ReplayPlayer, Replay, VarInts
+ *
+ * 목적:
+ * - 가짜 시계로 기록한 판을 헤드리스로 다시 시뮬레이션하면 점수/보드/활성 블록이 원본과 같고, 체크포인트가 모두 일치하는지 검증한다.
+ * - 대전의 쓰레기 줄(스폰 직전 주입과 바깥 주입 모두)이 받은 쪽 트랙만으로 재현되는지 확인한다.
+ * - 파일 왕복, 뒤로 되감는 seek, 게임 재시작 시 판 분리를 확인한다.
+ */
+package tetris.replay;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import tetris.domain.Board;
+import tetris.domain.GameDifficulty;
+import tetris.domain.GameMode;
+import tetris.domain.GameModel;
+import tetris.domain.RandomBlockGenerator;
+import tetris.domain.model.Block;
+import tetris.domain.model.GameState;
+import tetris.infrastructure.GameModelFactory;
+import tetris.multiplayer.model.AttackLine;
+import tetris.multiplayer.model.LockedPieceSnapshot;
+import tetris.simulation.SearchBotPolicy;
+
+public class ReplayPlayerTest {
+
+    private static final long START_MS = 1_700_000_000_000L;
+
+    @Test
+    public void varInts_roundTripEdgeValues() {
+        long[] values = { 0, 1, 127, 128, 300, Integer.MAX_VALUE, -1, Long.MIN_VALUE, Long.MAX_VALUE };
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (long v : values) {
+            VarInts.writeSignedVarLong(out, v);
+            VarInts.writeVarLong(out, v);
+        }
+        ByteBuffer in = ByteBuffer.wrap(out.toByteArray());
+        for (long v : values) {
+            assertEquals(v, VarInts.readSignedVarLong(in));
+            assertEquals(v, VarInts.readVarLong(in));
+        }
+        assertEquals(0, in.remaining());
+    }
+
+    @Test
+    public void singlePlayer_replayMatchesLiveGame() {
+        AtomicLong clock = new AtomicLong(START_MS);
+        List<Replay> saved = new ArrayList<>();
+        ReplayRecorder recorder = new ReplayRecorder(GameDifficulty.HARD, 64, saved::add, clock::get);
+        GameModel live = headlessModel();
+        live.setItemSpawnIntervalLines(1);
+        recorder.attach(1, live);
+        live.startGame(GameMode.ITEM);
+        drive(live, clock, new Random(7), 4000);
+        recorder.finish();
+
+        assertEquals(1, saved.size());
+        Replay replay = Replay.fromBytes(saved.get(0).toBytes());
+        assertEquals(GameMode.ITEM, replay.mode());
+        assertEquals(GameDifficulty.HARD, replay.difficulty());
+        ReplayTrack track = replay.track(1);
+        assertTrue(track.checkpoints().size() > 5, "checkpoints=" + track.checkpoints().size());
+
+        ReplayPlayer player = new ReplayPlayer(replay);
+        player.playToEnd();
+        assertTrue(player.isFinished());
+        assertTrue(player.desyncs().isEmpty(), player.desyncs().toString());
+        assertEquals(track.checkpoints().size(), player.verifiedCheckpoints());
+        assertSameState(live, player.model(1));
+    }
+
+    @Test
+    public void versus_garbageIsReplayedFromEachTrack() {
+        AtomicLong clock = new AtomicLong(START_MS);
+        List<Replay> saved = new ArrayList<>();
+        ReplayRecorder recorder = new ReplayRecorder(GameDifficulty.NORMAL, 32, saved::add, clock::get);
+        GameModel p1 = headlessModel();
+        GameModel p2 = headlessModel();
+        recorder.attach(1, p1);
+        recorder.attach(2, p2);
+        // 2P는 스폰 직전 훅 안에서 쓰레기 줄을 받는다. (다른 이벤트 처리 중간)
+        Random holes = new Random(3);
+        p2.addMultiplayerHook(new GameModel.MultiplayerHook() {
+            int spawns;
+
+            @Override
+            public void onPieceLocked(LockedPieceSnapshot snapshot, int[] clearedRows, int boardWidth) {
+            }
+
+            @Override
+            public void beforeNextSpawn() {
+                if (++spawns % 4 == 0) {
+                    p2.insertGarbageRows(List.of(line(holes.nextInt(Board.W))));
+                }
+            }
+        });
+        p1.startGame(GameMode.STANDARD);
+        p2.startGame(GameMode.STANDARD);
+
+        Random r1 = new Random(11);
+        Random r2 = new Random(12);
+        for (int round = 0; round < 40; round++) {
+            drive(p1, clock, r1, 50);
+            drive(p2, clock, r2, 50);
+            if (round % 5 == 0 && p1.getCurrentState() == GameState.PLAYING) {
+                p1.insertGarbageRows(List.of(line(holes.nextInt(Board.W)), line(holes.nextInt(Board.W))));
+            }
+        }
+        recorder.finish();
+
+        ReplayPlayer player = new ReplayPlayer(saved.get(0));
+        player.playToEnd();
+        assertTrue(player.desyncs().isEmpty(), player.desyncs().toString());
+        assertSameState(p1, player.model(1));
+        assertSameState(p2, player.model(2));
+    }
+
+    @Test
+    public void seekBackwards_resimulatesToSameState() throws Exception {
+        AtomicLong clock = new AtomicLong(START_MS);
+        List<Replay> saved = new ArrayList<>();
+        ReplayRecorder recorder = new ReplayRecorder(GameDifficulty.NORMAL, 16, saved::add, clock::get);
+        GameModel live = headlessModel();
+        recorder.attach(1, live);
+        live.startGame(GameMode.STANDARD);
+        drive(live, clock, new Random(5), 1500);
+        recorder.finish();
+
+        Path dir = Files.createTempDirectory("tetris-replay-test");
+        Path file = dir.resolve("game" + ReplayStore.FILE_SUFFIX);
+        try {
+            saved.get(0).write(file);
+            Replay replay = Replay.read(file);
+            long middle = replay.durationMs() / 2;
+
+            ReplayPlayer reference = new ReplayPlayer(replay);
+            reference.advanceTo(middle);
+
+            ReplayPlayer player = new ReplayPlayer(replay);
+            player.playToEnd();
+            player.seek(middle);
+            assertEquals(middle, player.positionMs());
+            assertSameState(reference.model(1), player.model(1));
+            assertNotNull(replay.track(1).checkpointAtOrBefore(middle));
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    @Test
+    public void restart_emitsFinishedGameAndRecordsNextWithNewSeed() {
+        AtomicLong clock = new AtomicLong(START_MS);
+        List<Replay> saved = new ArrayList<>();
+        ReplayRecorder recorder = new ReplayRecorder(GameDifficulty.NORMAL, 16, saved::add, clock::get);
+        GameModel live = headlessModel();
+        recorder.attach(1, live);
+        live.startGame(GameMode.STANDARD);
+        drive(live, clock, new Random(1), 200);
+        live.restartGame();
+        assertEquals(1, saved.size());
+        drive(live, clock, new Random(2), 300);
+        recorder.finish();
+
+        assertEquals(2, saved.size());
+        ReplayPlayer player = new ReplayPlayer(saved.get(1));
+        player.playToEnd();
+        assertTrue(player.desyncs().isEmpty(), player.desyncs().toString());
+        assertSameState(live, player.model(1));
+    }
+
+    private static GameModel headlessModel() {
+        GameModel model = GameModelFactory.createHeadless(new RandomBlockGenerator(new Random(0)));
+        model.setExternalClockDrive(true);
+        return model;
+    }
+
+    /** 임의 입력과 시계 진행, 탐색 봇의 블록 배치를 섞어 steps번 진행한다. 게임 오버면 멈춘다. */
+    private static void drive(GameModel model, AtomicLong clock, Random random, int steps) {
+        SearchBotPolicy bot = new SearchBotPolicy();
+        for (int i = 0; i < steps && model.getCurrentState() == GameState.PLAYING; i++) {
+            clock.addAndGet(random.nextInt(40));
+            switch (random.nextInt(12)) {
+                case 0 -> model.moveBlockLeft();
+                case 1 -> model.moveBlockRight();
+                case 2 -> model.rotateBlockClockwise();
+                case 3 -> model.rotateBlockCounterClockwise();
+                case 4 -> model.moveBlockDown();
+                case 5 -> {
+                    if (model.getActiveBlock() != null) {
+                        bot.playPiece(model);
+                    }
+                }
+                case 6 -> {
+                    model.getInputState().setLeft(true);
+                    model.stepGameplay();
+                    model.getInputState().setLeft(false);
+                }
+                default -> {
+                }
+            }
+            model.advanceClock(16 + random.nextInt(40));
+        }
+    }
+
+    private static AttackLine line(int hole) {
+        boolean[] holes = new boolean[Board.W];
+        holes[hole] = true;
+        return new AttackLine(holes);
+    }
+
+    private static void assertSameState(GameModel expected, GameModel actual) {
+        assertEquals(expected.getScore().getPoints(), actual.getScore().getPoints(), "points");
+        assertEquals(expected.getScore().getClearedLines(), actual.getScore().getClearedLines(), "lines");
+        assertEquals(expected.getCurrentState(), actual.getCurrentState(), "state");
+        int[][] a = expected.getBoard().gridView();
+        int[][] b = actual.getBoard().gridView();
+        for (int y = 0; y < a.length; y++) {
+            assertArrayEquals(a[y], b[y], "row " + y);
+        }
+        Block ea = expected.getActiveBlock();
+        Block aa = actual.getActiveBlock();
+        assertEquals(ea == null, aa == null, "active block presence");
+        if (ea != null) {
+            assertEquals(ea.getKind(), aa.getKind());
+            assertEquals(ea.getX(), aa.getX());
+            assertEquals(ea.getY(), aa.getY());
+            assertEquals(ea.getRotation(), aa.getRotation());
+        }
+    }
+}
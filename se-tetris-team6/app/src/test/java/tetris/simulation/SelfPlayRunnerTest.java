@@ -0,0 +1,105 @@
+/**
+ * 대상: tetris.simulation.SelfPlayRunner, CsvResultWriter, SelfPlaySummary
+ *
+ * 목적:
+ * - 같은 시드/정책이면 같은 판이 재현되는지(워커 수와 무관하게) 검증한다.
+ * - 배치의 모든 판이 sink로 한 번씩 전달되고, CSV/요약이 판별 통계를 올바르게 담는지 확인한다.
+ */
+package tetris.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tetris.domain.GameDifficulty;
+import tetris.domain.GameMode;
+
+class SelfPlayRunnerTest {
+
+    private static SelfPlayConfig config(int games, int parallelism) {
+        return new SelfPlayConfig(games, 42L, GameMode.STANDARD, GameDifficulty.NORMAL, 0, 200, 250L, parallelism);
+    }
+
+    @Test
+    void playOne_isDeterministicForSameSeed() {
+        SelfPlayRunner runner = new SelfPlayRunner(config(1, 1), RandomDropPolicy::new);
+
+        GameResult first = runner.playOne(3);
+        GameResult second = runner.playOne(3);
+
+        assertEquals(first.seed(), second.seed());
+        assertEquals(first.score(), second.score());
+        assertEquals(first.pieces(), second.pieces());
+        assertEquals(first.lines(), second.lines());
+        assertTrue(first.pieces() > 0);
+    }
+
+    @Test
+    void run_deliversEveryGameOnce_regardlessOfWorkerCount() {
+        List<GameResult> serial = collect(new SelfPlayRunner(config(8, 1), RandomDropPolicy::new));
+        List<GameResult> parallel = collect(new SelfPlayRunner(config(8, 4), RandomDropPolicy::new));
+
+        assertEquals(8, serial.size());
+        assertEquals(8, parallel.size());
+        for (int i = 0; i < 8; i++) {
+            assertEquals(i, parallel.get(i).gameIndex());
+            assertEquals(serial.get(i).score(), parallel.get(i).score(), "game " + i);
+            assertEquals(serial.get(i).pieces(), parallel.get(i).pieces(), "game " + i);
+        }
+    }
+
+    @Test
+    void maxPieces_capsLongGames() {
+        SelfPlayConfig capped = new SelfPlayConfig(1, 7L, GameMode.STANDARD, GameDifficulty.NORMAL, 0, 3, 0L, 1);
+        GameResult result = new SelfPlayRunner(capped, RandomDropPolicy::new).playOne(0);
+
+        assertEquals(3, result.pieces());
+        assertEquals(false, result.toppedOut());
+    }
+
+    @Test
+    void csvWriter_writesHeaderAndOneRowPerGame() throws Exception {
+        StringWriter text = new StringWriter();
+        try (CsvResultWriter csv = new CsvResultWriter(text)) {
+            csv.accept(new GameResult(0, 11L, 1200, 4, 30, 7500, 2, true, 12_345_000L));
+        }
+        String[] lines = text.toString().split("\n");
+        assertEquals(CsvResultWriter.HEADER, lines[0]);
+        assertEquals("0,11,1200,4,30,7500,2,1,12345", lines[1]);
+    }
+
+    @Test
+    void summary_reportsNearestRankPercentiles() {
+        SelfPlaySummary summary = new SelfPlaySummary();
+        for (int i = 1; i <= 100; i++) {
+            summary.accept(new GameResult(i - 1, i, i * 10, 0, i, 0, 0, i % 2 == 0, 0));
+        }
+
+        SelfPlaySummary.Distribution score = summary.distribution(GameResult::score);
+        assertEquals(100, score.count());
+        assertEquals(10, score.min());
+        assertEquals(500, score.p50());
+        assertEquals(900, score.p90());
+        assertEquals(990, score.p99());
+        assertEquals(1000, score.max());
+        assertEquals(5050, summary.totalPieces());
+        assertEquals(50, summary.toppedOutCount());
+    }
+
+    private static List<GameResult> collect(SelfPlayRunner runner) {
+        List<GameResult> results = new ArrayList<>();
+        runner.run(r -> {
+            synchronized (results) {
+                results.add(r);
+            }
+        });
+        results.sort(Comparator.comparingInt(GameResult::gameIndex));
+        return results;
+    }
+}
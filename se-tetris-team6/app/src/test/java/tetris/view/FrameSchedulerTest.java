@@ -0,0 +1,97 @@
+package tetris.view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.SwingUtilities;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tetris.domain.GameModel.UiBridge;
+
+/*
+ * 테스트 대상: tetris.view.FrameScheduler
+ *
+ * 역할 요약:
+ * - 여러 번의 갱신 요청을 프레임 단위로 합쳐 대상별 repaint를 한 번만 실행한다.
+ *
+ * 테스트 전략:
+ * - 타이머 대기 대신 runFrame을 EDT에서 직접 호출해 결정적으로 검증한다.
+ * - 원인 마스크 누적, 생략(coalesced) 카운트, 대상 간 독립성을 확인한다.
+ */
+class FrameSchedulerTest {
+
+    private FrameScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트 중 타이머가 먼저 발화하지 않도록 긴 프레임 간격을 사용한다.
+        scheduler = new FrameScheduler(60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.stop();
+    }
+
+    @Test
+    void repeatedRequests_areCoalescedIntoSingleRepaint() throws Exception {
+        List<Integer> painted = new ArrayList<>();
+        FrameScheduler.Target target = scheduler.register("board", painted::add);
+
+        target.markDirty(UiBridge.DIRTY_ACTIVE_BLOCK);
+        target.markDirty(UiBridge.DIRTY_SCORE);
+        target.markDirty(UiBridge.DIRTY_ACTIVE_BLOCK);
+        assertTrue(target.isDirty());
+
+        SwingUtilities.invokeAndWait(scheduler::runFrame);
+
+        assertEquals(List.of(UiBridge.DIRTY_ACTIVE_BLOCK | UiBridge.DIRTY_SCORE), painted);
+        assertFalse(target.isDirty());
+        assertEquals(3, scheduler.getRequestedCount());
+        assertEquals(2, scheduler.getCoalescedCount());
+        assertEquals(1, scheduler.getRepaintCount());
+    }
+
+    @Test
+    void cleanTargets_areNotRepainted() throws Exception {
+        List<Integer> first = new ArrayList<>();
+        List<Integer> second = new ArrayList<>();
+        FrameScheduler.Target a = scheduler.register("a", first::add);
+        scheduler.register("b", second::add);
+
+        a.markDirty(UiBridge.DIRTY_BOARD);
+        SwingUtilities.invokeAndWait(scheduler::runFrame);
+
+        assertEquals(1, first.size());
+        assertTrue(second.isEmpty());
+    }
+
+    @Test
+    void requestAfterFrame_schedulesNextRepaint() throws Exception {
+        List<Integer> painted = new ArrayList<>();
+        FrameScheduler.Target target = scheduler.register("board", painted::add);
+
+        target.markDirty(UiBridge.DIRTY_BOARD);
+        SwingUtilities.invokeAndWait(scheduler::runFrame);
+        target.markDirty(UiBridge.DIRTY_BOARD);
+        SwingUtilities.invokeAndWait(scheduler::runFrame);
+
+        assertEquals(2, painted.size());
+        assertEquals(0, scheduler.getCoalescedCount());
+    }
+
+    @Test
+    void zeroMask_isIgnored() {
+        FrameScheduler.Target target = scheduler.register("board", reasons -> { });
+        target.markDirty(0);
+        assertFalse(target.isDirty());
+        assertEquals(0, scheduler.getRequestedCount());
+    }
+}